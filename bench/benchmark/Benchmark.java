@@ -0,0 +1,40 @@
+package benchmark;
+
+/**
+ * Um caso de benchmark parametrizado pelo tamanho do mapa
+ * O harness chama setup() uma vez por tamanho e depois run() em laço,
+ * medindo o tempo médio por operação.
+ */
+public interface Benchmark {
+
+    /**
+     * Nome do caso (ex: "farm.getTileType")
+     */
+    String getName();
+
+    /**
+     * True quando o resultado depende do tamanho do mapa
+     */
+    default boolean isSizeDependent() {
+        return true;
+    }
+
+    /**
+     * Quantas operações cada run() executa (laços internos diluem o custo do relógio)
+     */
+    default int getOperationsPerRun() {
+        return 1;
+    }
+
+    /**
+     * Prepara o estado para o tamanho pedido (fora da medição)
+     */
+    void setup(int size);
+
+    /**
+     * Executa getOperationsPerRun() operações
+     * @return Valor qualquer derivado do trabalho (consumido pelo harness para
+     *         impedir que o JIT elimine o código medido)
+     */
+    long run();
+}
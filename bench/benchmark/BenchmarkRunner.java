@@ -0,0 +1,165 @@
+package benchmark;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Harness de micro-benchmarks dos caminhos quentes do jogo
+ * Segue o modelo do JMH: iterações de aquecimento descartadas, iterações de
+ * medição com tempo fixo, média e desvio padrão em ns/op, e o resultado de
+ * cada operação consumido para o JIT não eliminar o código medido.
+ *
+ * Uso: java -cp build;build_bench benchmark.BenchmarkRunner [opções]
+ *   --sizes=50,150,500      Tamanhos de mapa (padrão: 50,150,500,1000,2000)
+ *   --filter=texto          Só casos cujo nome contém o texto
+ *   --warmup=N              Iterações de aquecimento (padrão 3)
+ *   --iterations=N          Iterações medidas (padrão 5)
+ *   --time=ms               Duração de cada iteração (padrão 500)
+ *   --save=arquivo.csv      Grava os resultados como linha de base
+ *   --baseline=arquivo.csv  Compara com uma linha de base gravada antes
+ */
+public class BenchmarkRunner {
+    private static final int[] DEFAULT_SIZES = {50, 150, 500, 1000, 2000};
+
+    private static long sink; // Resultado acumulado (impede eliminação de código morto)
+
+    private int warmup = 3;
+    private int iterations = 5;
+    private long iterationNanos = 500_000_000L;
+
+    public static void main(String[] args) throws IOException {
+        BenchmarkRunner runner = new BenchmarkRunner();
+        int[] sizes = DEFAULT_SIZES;
+        String filter = null;
+        String savePath = null;
+        String baselinePath = null;
+
+        for (String arg : args) {
+            if (arg.startsWith("--sizes=")) {
+                String[] parts = arg.substring("--sizes=".length()).split(",");
+                sizes = new int[parts.length];
+                for (int i = 0; i < parts.length; i++) {
+                    sizes[i] = Integer.parseInt(parts[i].trim());
+                }
+            } else if (arg.startsWith("--filter=")) {
+                filter = arg.substring("--filter=".length());
+            } else if (arg.startsWith("--warmup=")) {
+                runner.warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+            } else if (arg.startsWith("--iterations=")) {
+                runner.iterations = Integer.parseInt(arg.substring("--iterations=".length()));
+            } else if (arg.startsWith("--time=")) {
+                runner.iterationNanos = Long.parseLong(arg.substring("--time=".length())) * 1_000_000L;
+            } else if (arg.startsWith("--save=")) {
+                savePath = arg.substring("--save=".length());
+            } else if (arg.startsWith("--baseline=")) {
+                baselinePath = arg.substring("--baseline=".length());
+            } else {
+                System.out.println("⚠️ Argumento inválido: " + arg);
+            }
+        }
+
+        Map<String, Double> baseline = baselinePath != null ? loadBaseline(baselinePath) : new HashMap<>();
+        List<String[]> results = new ArrayList<>();
+
+        System.out.println(String.format("%-32s %6s %14s %12s %10s", "Benchmark", "Mapa", "ns/op", "± desvio", "vs base"));
+        for (Benchmark benchmark : GameBenchmarks.all()) {
+            if (filter != null && !benchmark.getName().contains(filter)) {
+                continue;
+            }
+            int[] caseSizes = benchmark.isSizeDependent() ? sizes : new int[] {0};
+            for (int size : caseSizes) {
+                double[] stats = runner.measure(benchmark, size);
+                String key = benchmark.getName() + "@" + size;
+                Double base = baseline.get(key);
+                String delta = base != null ? String.format("%+.1f%%", (stats[0] - base) / base * 100) : "";
+                System.out.println(String.format("%-32s %6s %14.1f %12.1f %10s",
+                    benchmark.getName(), size > 0 ? String.valueOf(size) : "-", stats[0], stats[1], delta));
+                results.add(new String[] {key, String.valueOf(stats[0]), String.valueOf(stats[1])});
+            }
+        }
+
+        if (savePath != null) {
+            try (PrintWriter out = new PrintWriter(new FileWriter(savePath))) {
+                out.println("benchmark,ns_op,desvio");
+                for (String[] r : results) {
+                    out.println(String.join(",", r));
+                }
+            }
+            System.out.println("💾 Linha de base gravada em " + savePath);
+        }
+        if (sink == 42) {
+            System.out.println(); // Nunca acontece na prática; só mantém o sink vivo
+        }
+    }
+
+    /**
+     * Mede um caso em um tamanho
+     * @return {média ns/op, desvio padrão ns/op}
+     */
+    private double[] measure(Benchmark benchmark, int size) {
+        // Preparar sem o console poluído pelos logs da geração do mundo
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            benchmark.setup(size);
+        } finally {
+            System.setOut(console);
+        }
+
+        for (int i = 0; i < warmup; i++) {
+            runIteration(benchmark);
+        }
+        double[] samples = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            samples[i] = runIteration(benchmark);
+        }
+
+        double mean = 0;
+        for (double s : samples) mean += s;
+        mean /= samples.length;
+        double variance = 0;
+        for (double s : samples) variance += (s - mean) * (s - mean);
+        double stddev = samples.length > 1 ? Math.sqrt(variance / (samples.length - 1)) : 0;
+        return new double[] {mean, stddev};
+    }
+
+    /**
+     * Roda operações até completar o tempo da iteração
+     * @return ns/op da iteração
+     */
+    private double runIteration(Benchmark benchmark) {
+        long start = System.nanoTime();
+        long deadline = start + iterationNanos;
+        long ops = 0;
+        long acc = 0;
+        long now;
+        do {
+            acc += benchmark.run();
+            ops++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        sink += acc;
+        return (double) (now - start) / (ops * benchmark.getOperationsPerRun());
+    }
+
+    private static Map<String, Double> loadBaseline(String path) throws IOException {
+        Map<String, Double> baseline = new HashMap<>();
+        List<String> lines = Files.readAllLines(Paths.get(path));
+        for (int i = 1; i < lines.size(); i++) {
+            String[] parts = lines.get(i).split(",");
+            if (parts.length >= 2) {
+                baseline.put(parts[0], Double.parseDouble(parts[1]));
+            }
+        }
+        return baseline;
+    }
+}
@@ -0,0 +1,325 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import systems.DecorationManager;
+import systems.EntityManager;
+import systems.ParticleSystem;
+import types.CropType;
+import utils.GameClock;
+import utils.GameRandom;
+import utils.TimerWheel;
+import world.Farm;
+import world.Tile;
+import world.TileType;
+import world.WorldGenerator;
+
+/**
+ * Casos de benchmark dos caminhos quentes do mundo, entidades, decorações e partículas
+ */
+public class GameBenchmarks {
+    private static final long SEED = 12345L;
+    private static final int LOOKUPS = 1024; // Consultas por run() nos casos de acesso a tile
+
+    // Mapas são caros de gerar: reaproveitados entre casos do mesmo tamanho
+    private static final Map<Integer, Farm> farms = new HashMap<>();
+
+    private static Farm farm(int size) {
+        return farms.computeIfAbsent(size, k -> {
+            GameRandom.setSeed(SEED);
+            return new Farm(size, size);
+        });
+    }
+
+    /**
+     * Coordenadas aleatórias fixas dentro do mapa
+     */
+    private static int[] coords(int size) {
+        Random random = new Random(SEED);
+        int[] xy = new int[LOOKUPS * 2];
+        for (int i = 0; i < xy.length; i++) {
+            xy[i] = random.nextInt(size);
+        }
+        return xy;
+    }
+
+    public static List<Benchmark> all() {
+        List<Benchmark> list = new ArrayList<>();
+        list.add(new GetTile());
+        list.add(new GetTileType());
+        list.add(new IsWalkable());
+        list.add(new DecorationWalkable());
+        list.add(new EntityUpdate());
+        list.add(new ParticleUpdate());
+        list.add(new TimerCascade());
+        list.add(new GenerateTerrain(false));
+        list.add(new GenerateTerrain(true));
+        list.add(new GrowAllCrops());
+        return list;
+    }
+
+    // ===== MUNDO =====
+
+    static class GetTile implements Benchmark {
+        private Farm farm;
+        private int[] xy;
+
+        public String getName() { return "farm.getTile"; }
+        public int getOperationsPerRun() { return LOOKUPS; }
+
+        public void setup(int size) {
+            farm = farm(size);
+            xy = coords(size);
+        }
+
+        public long run() {
+            long acc = 0;
+            for (int i = 0; i < xy.length; i += 2) {
+                Tile tile = farm.getTile(xy[i], xy[i + 1]);
+                acc += tile.getX();
+            }
+            return acc;
+        }
+    }
+
+    static class GetTileType implements Benchmark {
+        private Farm farm;
+        private int[] xy;
+
+        public String getName() { return "farm.getTileType"; }
+        public int getOperationsPerRun() { return LOOKUPS; }
+
+        public void setup(int size) {
+            farm = farm(size);
+            xy = coords(size);
+        }
+
+        public long run() {
+            long acc = 0;
+            for (int i = 0; i < xy.length; i += 2) {
+                acc += farm.getTileType(xy[i], xy[i + 1]).ordinal();
+            }
+            return acc;
+        }
+    }
+
+    static class IsWalkable implements Benchmark {
+        private Farm farm;
+        private int[] xy;
+
+        public String getName() { return "farm.isWalkable"; }
+        public int getOperationsPerRun() { return LOOKUPS; }
+
+        public void setup(int size) {
+            farm = farm(size);
+            xy = coords(size);
+        }
+
+        public long run() {
+            long acc = 0;
+            for (int i = 0; i < xy.length; i += 2) {
+                if (farm.isWalkable(xy[i], xy[i + 1])) acc++;
+            }
+            return acc;
+        }
+    }
+
+    static class DecorationWalkable implements Benchmark {
+        private DecorationManager decorations;
+        private int[] xy;
+
+        public String getName() { return "decorations.isPositionWalkable"; }
+        public int getOperationsPerRun() { return LOOKUPS; }
+
+        public void setup(int size) {
+            decorations = farm(size).getDecorationManager();
+            xy = coords(size);
+        }
+
+        public long run() {
+            long acc = 0;
+            for (int i = 0; i < xy.length; i += 2) {
+                if (decorations.isPositionWalkable(xy[i], xy[i + 1])) acc++;
+            }
+            return acc;
+        }
+    }
+
+    /**
+     * Mapa inteiro no pool comum e em uma thread só: a razão entre os dois é o ganho do
+     * paralelismo (o pool comum tem availableProcessors() - 1 threads mais a que chama)
+     */
+    static class GenerateTerrain implements Benchmark {
+        private final boolean serial;
+        private final ForkJoinPool pool;
+        private int size;
+
+        GenerateTerrain(boolean serial) {
+            this.serial = serial;
+            this.pool = serial ? new ForkJoinPool(1) : ForkJoinPool.commonPool();
+        }
+
+        public String getName() { return serial ? "worldgen.generateTerrain.serial" : "worldgen.generateTerrain"; }
+
+        public void setup(int size) { this.size = size; }
+
+        public long run() {
+            TileType[][] terrain = new WorldGenerator(SEED, pool).generateTerrain(size, size);
+            return terrain[size / 2][size / 2].ordinal();
+        }
+    }
+
+    /**
+     * Um ciclo completo das plantações: cresce até todas ficarem maduras, colhe e replanta
+     * Sem replantar, depois de getGrowthTime() dias só o caminho de plantação madura (sem
+     * trabalho) seria medido. O custo de colher e replantar entra diluído nos dias do ciclo.
+     */
+    static class GrowAllCrops implements Benchmark {
+        private static final CropType CROP = CropType.TOMATO;
+
+        private Farm farm;
+        private int[] planted; // x, y de cada plantação
+
+        public String getName() { return "farm.growAllCrops"; }
+
+        public int getOperationsPerRun() { return CROP.getGrowthTime(); }
+
+        public void setup(int size) {
+            // Mapa próprio: plantações em 1 de cada 16 tiles de grama
+            GameRandom.setSeed(SEED);
+            farm = new Farm(size, size);
+            int[] xy = new int[((size + 3) / 4) * ((size + 3) / 4) * 2];
+            int count = 0;
+            for (int x = 0; x < size; x += 4) {
+                for (int y = 0; y < size; y += 4) {
+                    farm.tillSoil(x, y);
+                    if (farm.plantCrop(x, y, CROP)) {
+                        xy[count++] = x;
+                        xy[count++] = y;
+                    }
+                }
+            }
+            planted = Arrays.copyOf(xy, count);
+        }
+
+        public long run() {
+            for (int day = 0; day < CROP.getGrowthTime(); day++) {
+                farm.growAllCrops();
+            }
+            long harvested = 0;
+            for (int i = 0; i < planted.length; i += 2) {
+                if (farm.harvestCrop(planted[i], planted[i + 1]) != null) {
+                    harvested++;
+                }
+                farm.plantCrop(planted[i], planted[i + 1], CROP);
+            }
+            return harvested;
+        }
+    }
+
+    // ===== ENTIDADES E EFEITOS =====
+
+    static class EntityUpdate implements Benchmark {
+        private EntityManager entities;
+        private GameClock clock;
+        private int center;
+
+        public String getName() { return "entities.update"; }
+
+        public void setup(int size) {
+            // A quantidade de NPCs e inimigos cresce com a área do mapa
+            Farm farm = farm(size);
+            clock = new GameClock();
+            GameRandom.setSeed(SEED);
+            entities = new EntityManager(farm, clock);
+            entities.generateEntities();
+            center = size / 2;
+        }
+
+        public long run() {
+            clock.advance(1.0 / 60);
+            entities.update(center, center);
+            return entities.getEnemyCount();
+        }
+    }
+
+    static class ParticleUpdate implements Benchmark {
+        private ParticleSystem particles;
+
+        public String getName() { return "particles.update"; }
+        public boolean isSizeDependent() { return false; }
+
+        public void setup(int size) {
+            GameRandom.setSeed(SEED);
+            particles = new ParticleSystem();
+        }
+
+        public long run() {
+            // Manter o sistema perto do limite de partículas
+            while (particles.getParticleCount() < 400) {
+                particles.spawnHarvestEffect(10, 10);
+            }
+            particles.update();
+            return particles.getParticleCount();
+        }
+    }
+
+    /**
+     * Timers com prazo perto do alcance de cada nível da TimerWheel (pior caso da cascata)
+     * Também confere o resultado: cada timer dispara no primeiro avanço a partir do prazo.
+     * Uma cascata que devolve timers ao slot que está esvaziando trava aqui.
+     */
+    static class TimerCascade implements Benchmark {
+        private static final long SLOT_MILLIS = 16;
+        private static final long STEP_MILLIS = 1000; // Avanço do relógio por advanceTo()
+        private static final long[] SPANS = {64, 64 * 64, 64 * 64 * 64, 64L * 64 * 64 * 64}; // Em slots
+
+        private TimerWheel wheel;
+        private TimerWheel.Timer[] timers;
+        private long[] deadlines;
+        private long now;
+        private long previous;
+
+        public String getName() { return "timerWheel.cascade"; }
+        public boolean isSizeDependent() { return false; }
+        public int getOperationsPerRun() { return timers.length; }
+
+        public void setup(int size) {
+            now = 167; // Fora do começo de um bloco
+            wheel = new TimerWheel(now);
+            timers = new TimerWheel.Timer[SPANS.length * 3];
+            deadlines = new long[timers.length];
+            for (int i = 0; i < timers.length; i++) {
+                int id = i;
+                timers[i] = new TimerWheel.Timer(() -> fire(id));
+            }
+        }
+
+        public long run() {
+            // Um slot antes, no alcance e um slot depois, para cada nível
+            for (int i = 0; i < timers.length; i++) {
+                deadlines[i] = now + (SPANS[i / 3] + i % 3 - 1) * SLOT_MILLIS;
+                wheel.schedule(timers[i], deadlines[i]);
+            }
+            while (wheel.size() > 0) {
+                previous = now;
+                now += STEP_MILLIS;
+                wheel.advanceTo(now);
+            }
+            return now;
+        }
+
+        private void fire(int id) {
+            if (deadlines[id] > now || deadlines[id] <= previous) {
+                throw new IllegalStateException("Timer com prazo " + deadlines[id] +
+                    " disparou em advanceTo(" + now + ")");
+            }
+        }
+    }
+}
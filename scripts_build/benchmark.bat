@@ -0,0 +1,37 @@
+@echo off
+chcp 65001 >nul
+echo ================================================
+echo ⏱️  FARM VALLEY - BENCHMARKS
+echo ================================================
+echo.
+
+:: Mudar para o diretório raiz do projeto (onde está o build/)
+cd /d "%~dp0.."
+
+:: Verificar se está compilado
+if not exist "build\core\GameEngine.class" (
+    echo ⚠️  Projeto não compilado!
+    echo.
+    echo Compilando automaticamente...
+    call "scripts_build\compile.bat"
+    if %ERRORLEVEL% NEQ 0 (
+        echo ❌ Erro na compilação!
+        pause
+        exit /b 1
+    )
+)
+
+:: Compilar os benchmarks contra o build do jogo
+echo Compilando benchmarks...
+javac -d build_bench -cp build bench/benchmark/*.java
+if %ERRORLEVEL% NEQ 0 (
+    echo ❌ Erro na compilação dos benchmarks!
+    pause
+    exit /b 1
+)
+echo.
+
+:: Uso: benchmark.bat [--sizes=50,500] [--filter=getTile] [--save=base.csv] [--baseline=base.csv]
+java -cp build;build_bench benchmark.BenchmarkRunner %*
+
+pause
@@ -14,6 +14,10 @@ del /Q build\systems\*.class 2>nul
 del /Q build\items\*.class 2>nul
 del /Q build\types\*.class 2>nul
 del /Q build\utils\*.class 2>nul
+del /Q build\render\*.class 2>nul
+del /Q build\events\*.class 2>nul
+del /Q build\diagnostics\*.class 2>nul
+del /Q build_bench\benchmark\*.class 2>nul
 
 echo Limpando arquivos temporários...
 del /Q temp\logs\*.log 2>nul
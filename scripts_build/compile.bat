@@ -30,7 +30,10 @@ javac -d build ^
     src/systems/*.java ^
     src/items/*.java ^
     src/types/*.java ^
-    src/utils/*.java
+    src/utils/*.java ^
+    src/events/*.java ^
+    src/diagnostics/*.java ^
+    src/render/*.java
 
 if %ERRORLEVEL% EQU 0 (
     echo.
@@ -25,7 +25,7 @@ if not exist "build\*.class" (
 echo 🚀 Iniciando jogo...
 echo.
 
-java -cp build core.GameWindow
+java -cp build core.GameWindow %*
 
 if %ERRORLEVEL% NEQ 0 (
     echo.
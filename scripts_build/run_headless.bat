@@ -0,0 +1,27 @@
+@echo off
+chcp 65001 >nul
+echo ================================================
+echo 🖥️  FARM VALLEY - MODO HEADLESS (SEM JANELA)
+echo ================================================
+echo.
+
+:: Mudar para o diretório raiz do projeto (onde está o build/)
+cd /d "%~dp0.."
+
+:: Verificar se está compilado
+if not exist "build\core\HeadlessRunner.class" (
+    echo ⚠️  Projeto não compilado!
+    echo.
+    echo Compilando automaticamente...
+    call "scripts_build\compile.bat"
+    if %ERRORLEVEL% NEQ 0 (
+        echo ❌ Erro na compilação!
+        pause
+        exit /b 1
+    )
+)
+
+:: Uso: run_headless.bat [ticks] [--seed=N] [--replay=arquivo.fvr] [--days=N] [--profile]
+java -cp build core.HeadlessRunner %*
+
+pause
@@ -0,0 +1,30 @@
+@echo off
+chcp 65001 >nul
+echo ================================================
+echo 🎬 FARM VALLEY - CENÁRIOS DE DESEMPENHO
+echo ================================================
+echo.
+
+:: Mudar para o diretório raiz do projeto (onde está o build/)
+cd /d "%~dp0.."
+
+:: Verificar se está compilado
+if not exist "build\core\ScenarioRunner.class" (
+    echo ⚠️  Projeto não compilado!
+    echo.
+    echo Compilando automaticamente...
+    call "scripts_build\compile.bat"
+    if %ERRORLEVEL% NEQ 0 (
+        echo ❌ Erro na compilação!
+        pause
+        exit /b 1
+    )
+)
+
+:: Uso: scenario.bat [--scenario=nome] [--list]
+:: Com renderização (orçamentos de frame): java -cp build core.GameWindow --scenario=nome
+java -cp build core.ScenarioRunner %*
+set SCENARIO_RESULT=%ERRORLEVEL%
+
+pause
+exit /b %SCENARIO_RESULT%
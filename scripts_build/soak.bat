@@ -0,0 +1,29 @@
+@echo off
+chcp 65001 >nul
+echo ================================================
+echo 🧪 FARM VALLEY - TESTE DE RESISTÊNCIA (SOAK)
+echo ================================================
+echo.
+
+:: Mudar para o diretório raiz do projeto (onde está o build/)
+cd /d "%~dp0.."
+
+:: Verificar se está compilado
+if not exist "build\core\SoakRunner.class" (
+    echo ⚠️  Projeto não compilado!
+    echo.
+    echo Compilando automaticamente...
+    call "scripts_build\compile.bat"
+    if %ERRORLEVEL% NEQ 0 (
+        echo ❌ Erro na compilação!
+        pause
+        exit /b 1
+    )
+)
+
+:: Uso: soak.bat [--ticks=N] [--interval=N] [--warmup=N] [--threshold=PCT] [--seed=N]
+java -cp build core.SoakRunner %*
+set SOAK_RESULT=%ERRORLEVEL%
+
+pause
+exit /b %SOAK_RESULT%
@@ -0,0 +1,151 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Inicialização em estágios
+ *
+ * Cada estágio roda no pool assim que as suas dependências terminam, então estágios
+ * independentes (terreno, diálogos, sprites) rodam ao mesmo tempo. Guarda o início e
+ * o fim de cada estágio para o relatório de tempos e o progresso para a tela de carregamento.
+ */
+public class Bootstrap {
+
+    /**
+     * Um estágio registrado (use como dependência de outros estágios)
+     */
+    public static class Stage {
+        private final String name;
+        private CompletableFuture<Void> future;
+        private volatile long startNanos;
+        private volatile long endNanos;
+
+        private Stage(String name) {
+            this.name = name;
+        }
+
+        public String getName() { return name; }
+        public boolean isRunning() { return startNanos != 0 && endNanos == 0; }
+        public boolean isDone() { return future.isDone(); }
+
+        /** Duração em nanossegundos (0 enquanto não termina) */
+        public long getDurationNanos() {
+            return endNanos == 0 ? 0 : endNanos - startNanos;
+        }
+    }
+
+    private final Executor executor;
+    private final List<Stage> stages;
+    private final long createdNanos;
+
+    public Bootstrap() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public Bootstrap(Executor executor) {
+        this.executor = executor;
+        this.stages = new CopyOnWriteArrayList<>();
+        this.createdNanos = System.nanoTime();
+    }
+
+    /**
+     * Registra um estágio e já o agenda
+     * @param work Trabalho do estágio (roda numa thread do pool)
+     * @param dependencies Estágios que precisam terminar antes
+     */
+    public Stage stage(String name, Runnable work, Stage... dependencies) {
+        Stage stage = new Stage(name);
+        CompletableFuture<?>[] waits = new CompletableFuture<?>[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            waits[i] = dependencies[i].future;
+        }
+        stage.future = CompletableFuture.allOf(waits).thenRunAsync(() -> {
+            stage.startNanos = System.nanoTime();
+            try {
+                work.run();
+            } finally {
+                stage.endNanos = System.nanoTime();
+            }
+        }, executor);
+        stages.add(stage);
+        return stage;
+    }
+
+    /**
+     * Espera os estágios informados (exceções do estágio são relançadas aqui)
+     */
+    public void await(Stage... toWait) {
+        for (Stage stage : toWait) {
+            try {
+                stage.future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Espera todos os estágios registrados até agora
+     */
+    public void awaitAll() {
+        await(stages.toArray(new Stage[0]));
+    }
+
+    /**
+     * Fração de estágios concluídos (0.0 a 1.0)
+     */
+    public double getProgress() {
+        if (stages.isEmpty()) {
+            return 0;
+        }
+        int done = 0;
+        for (Stage stage : stages) {
+            if (stage.isDone()) done++;
+        }
+        return (double) done / stages.size();
+    }
+
+    /**
+     * Nomes dos estágios em execução (para a tela de carregamento)
+     */
+    public List<String> getRunningStages() {
+        List<String> running = new ArrayList<>();
+        for (Stage stage : stages) {
+            if (stage.isRunning()) {
+                running.add(stage.getName());
+            }
+        }
+        return running;
+    }
+
+    public List<Stage> getStages() { return stages; }
+
+    /**
+     * Imprime o início, o fim e a duração de cada estágio
+     * A soma dos estágios maior que o tempo total mostra o ganho do paralelismo.
+     */
+    public void printReport() {
+        long end = createdNanos;
+        long sum = 0;
+        for (Stage stage : stages) {
+            end = Math.max(end, stage.endNanos);
+            sum += stage.getDurationNanos();
+        }
+        System.out.println(String.format("⏱️ Inicialização em %dms (soma dos estágios: %dms)",
+            (end - createdNanos) / 1_000_000, sum / 1_000_000));
+        for (Stage stage : stages) {
+            System.out.println(String.format("   %-12s %6dms -> %6dms  (%dms)", stage.getName(),
+                (stage.startNanos - createdNanos) / 1_000_000, (stage.endNanos - createdNanos) / 1_000_000,
+                stage.getDurationNanos() / 1_000_000));
+        }
+    }
+}
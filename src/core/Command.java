@@ -0,0 +1,67 @@
+package core;
+
+/**
+ * Comandos do jogo, independentes da tecla que os dispara
+ * As teclas são traduzidas em comandos pela tabela do InputBindings.
+ *
+ * Comandos contínuos (movimento) valem enquanto a tecla está pressionada;
+ * os demais são instantâneos e entram na fila de comandos do tick.
+ */
+public enum Command {
+    // Contínuos
+    MOVE_UP(true),
+    MOVE_DOWN(true),
+    MOVE_LEFT(true),
+    MOVE_RIGHT(true),
+
+    // Ações de jogo
+    TILL(false),
+    PLANT(false),
+    HARVEST(false),
+    SLEEP(false),
+    CHANGE_SEED(false),
+    COLLECT_RESOURCE(false),
+    SHOW_STATS(false),      // Na loja, troca a aba
+    INTERACT(false),
+    ATTACK(false),
+    USE_POTION(false),
+    SHOW_QUESTS(false),
+
+    // Interface
+    TOGGLE_INVENTORY(false),
+    CLOSE_MENU(false),
+    SLOT_1(false),
+    SLOT_2(false),
+    SLOT_3(false),
+    SLOT_4(false),
+    SLOT_5(false),
+    SLOT_6(false);
+
+    private static final Command[] VALUES = values();
+
+    private final boolean continuous;
+    private final long bit;
+
+    Command(boolean continuous) {
+        this.continuous = continuous;
+        this.bit = 1L << ordinal();
+    }
+
+    public boolean isContinuous() { return continuous; }
+
+    /**
+     * Bit deste comando no conjunto de comandos pressionados
+     */
+    public long getBit() { return bit; }
+
+    /**
+     * Índice do slot (0-5) para SLOT_1..SLOT_6, ou -1
+     */
+    public int getSlotIndex() {
+        return this.ordinal() >= SLOT_1.ordinal() ? this.ordinal() - SLOT_1.ordinal() : -1;
+    }
+
+    public static Command fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
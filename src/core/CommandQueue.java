@@ -0,0 +1,68 @@
+package core;
+
+/**
+ * Fila circular de comandos com o tick em que foram recebidos
+ * Capacidade fixa (potência de 2), sem alocação por evento.
+ * Comandos que chegam entre dois ticks ficam guardados até o update() consumi-los.
+ */
+public class CommandQueue {
+    private final Command[] commands;
+    private final long[] ticks;
+    private final int mask;
+    private int head; // Próximo a ser lido
+    private int tail; // Próxima posição livre
+    private long lastPolledTick;
+    private int dropped;
+
+    public CommandQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.commands = new Command[size];
+        this.ticks = new long[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Enfileira um comando
+     * @return false se a fila está cheia (o comando é descartado)
+     */
+    public boolean offer(long tick, Command command) {
+        if (tail - head == commands.length) {
+            dropped++;
+            return false;
+        }
+        commands[tail & mask] = command;
+        ticks[tail & mask] = tick;
+        tail++;
+        return true;
+    }
+
+    /**
+     * Remove o próximo comando
+     * @return Comando ou null se a fila está vazia
+     */
+    public Command poll() {
+        if (head == tail) {
+            return null;
+        }
+        int index = head & mask;
+        Command command = commands[index];
+        lastPolledTick = ticks[index];
+        commands[index] = null;
+        head++;
+        return command;
+    }
+
+    /**
+     * Tick em que o último comando retirado por poll() foi recebido
+     */
+    public long getLastPolledTick() { return lastPolledTick; }
+
+    public void clear() {
+        while (poll() != null) { }
+    }
+
+    public boolean isEmpty() { return head == tail; }
+    public int size() { return tail - head; }
+    public int getCapacity() { return commands.length; }
+    public int getDroppedCount() { return dropped; }
+}
@@ -0,0 +1,169 @@
+package core;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import systems.EntityManager;
+import systems.GameStats;
+import world.Farm;
+
+/**
+ * Métricas e ajustes do motor publicados via JMX
+ * Para acompanhar uma sessão longa ou um servidor com jconsole/VisualVM sem reiniciar.
+ *
+ * As leituras são feitas na thread do JMX (valores podem estar um tick atrasados);
+ * as escritas são aplicadas pelo motor no início do próximo tick.
+ */
+public class EngineMonitor implements EngineMonitorMBean {
+    private static final String OBJECT_NAME = "FarmValley:type=Engine";
+    private static final long TICK_RATE_WINDOW = 1_000_000_000L; // Janela mínima da taxa de ticks
+
+    private final GameEngine engine;
+    private long rateTicks;
+    private long rateTime;
+    private double tickRate;
+
+    public EngineMonitor(GameEngine engine) {
+        this.engine = engine;
+        this.rateTicks = engine.getTickCount();
+        this.rateTime = System.nanoTime();
+    }
+
+    /**
+     * Registra o motor no servidor de MBeans da plataforma (substitui um registro anterior)
+     * @return Monitor registrado ou null se o JMX não estiver disponível
+     */
+    public static EngineMonitor register(GameEngine engine) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            EngineMonitor monitor = new EngineMonitor(engine);
+            server.registerMBean(monitor, name);
+            System.out.println("📡 Métricas JMX publicadas em " + OBJECT_NAME);
+            return monitor;
+        } catch (JMException e) {
+            System.out.println("⚠️ JMX indisponível: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ===== SIMULAÇÃO =====
+
+    @Override
+    public long getTickCount() { return engine.getTickCount(); }
+
+    /**
+     * Ticks por segundo desde a leitura anterior (recalculada no máximo uma vez por segundo)
+     */
+    @Override
+    public synchronized double getTickRate() {
+        long now = System.nanoTime();
+        if (now - rateTime >= TICK_RATE_WINDOW) {
+            long ticks = engine.getTickCount();
+            tickRate = (ticks - rateTicks) * 1_000_000_000.0 / (now - rateTime);
+            rateTicks = ticks;
+            rateTime = now;
+        }
+        return tickRate;
+    }
+
+    @Override
+    public boolean isProfilerEnabled() { return engine.getProfiler().isEnabled(); }
+
+    @Override
+    public void setProfilerEnabled(boolean enabled) {
+        engine.invokeLater(() -> engine.getProfiler().setEnabled(enabled));
+    }
+
+    /** Só há amostras com o perfilador ligado (F3 ou atributo ProfilerEnabled) */
+    @Override
+    public double getFrameTimeP50Millis() {
+        return engine.getProfiler().getFrameTimePercentileNanos(0.50) / 1_000_000.0;
+    }
+
+    @Override
+    public double getFrameTimeP99Millis() {
+        return engine.getProfiler().getFrameTimePercentileNanos(0.99) / 1_000_000.0;
+    }
+
+    // ===== MUNDO =====
+
+    @Override
+    public int getEnemyCount() { return engine.getEntityManager().getEnemyCount(); }
+
+    @Override
+    public int getNpcCount() { return engine.getEntityManager().getNPCCount(); }
+
+    @Override
+    public int getLoadedChunkCount() { return engine.getFarm().getLoadedChunkCount(); }
+
+    @Override
+    public int getDecorationCount() { return engine.getFarm().getDecorationManager().getCount(); }
+
+    @Override
+    public int getParticleCount() { return engine.getParticleSystem().getParticleCount(); }
+
+    // ===== AJUSTES =====
+
+    @Override
+    public int getTimeSpeed() { return engine.getTimeSystem().getTimeSpeed(); }
+
+    @Override
+    public void setTimeSpeed(int minutesPerStep) {
+        engine.invokeLater(() -> engine.getTimeSystem().setTimeSpeed(minutesPerStep));
+    }
+
+    @Override
+    public int getMaxParticles() { return engine.getParticleSystem().getMaxParticles(); }
+
+    @Override
+    public void setMaxParticles(int maxParticles) {
+        engine.invokeLater(() -> engine.getParticleSystem().setMaxParticles(maxParticles));
+    }
+
+    /** Integer.MAX_VALUE = sem limite */
+    @Override
+    public int getEntityUpdateRadius() { return engine.getEntityManager().getUpdateRadius(); }
+
+    @Override
+    public void setEntityUpdateRadius(int tiles) {
+        EntityManager entities = engine.getEntityManager();
+        engine.invokeLater(() -> entities.setUpdateRadius(tiles));
+    }
+
+    /** 0 = todos os chunks na memória */
+    @Override
+    public int getResidentChunkBudget() { return engine.getFarm().getResidentChunkBudget(); }
+
+    @Override
+    public void setResidentChunkBudget(int chunks) {
+        Farm farm = engine.getFarm();
+        engine.invokeLater(() -> farm.setResidentChunkBudget(chunks));
+    }
+
+    @Override
+    public int getEvictedChunkCount() { return engine.getFarm().getEvictedChunkCount(); }
+
+    // ===== ESTATÍSTICAS DO JOGO =====
+
+    private GameStats stats() { return engine.getGameStats(); }
+
+    @Override public int getCropsPlanted() { return stats().getTotalCropsPlanted(); }
+    @Override public int getCropsHarvested() { return stats().getTotalCropsHarvested(); }
+    @Override public int getMoneyEarned() { return stats().getTotalMoneyEarned(); }
+    @Override public int getMoneySpent() { return stats().getTotalMoneySpent(); }
+    @Override public int getDaysPlayed() { return stats().getTotalDaysPlayed(); }
+    @Override public int getStepsTaken() { return stats().getTotalStepsTaken(); }
+    @Override public int getTilesPlowed() { return stats().getTotalTilesPlowed(); }
+    @Override public int getTreesChopped() { return stats().getTotalTreesChopped(); }
+    @Override public int getRocksDestroyed() { return stats().getTotalRocksDestroyed(); }
+    @Override public int getWoodCollected() { return stats().getTotalWoodCollected(); }
+    @Override public int getStoneCollected() { return stats().getTotalStoneCollected(); }
+    @Override public int getFiberCollected() { return stats().getTotalFiberCollected(); }
+}
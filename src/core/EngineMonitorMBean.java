@@ -0,0 +1,47 @@
+package core;
+
+/**
+ * Interface JMX do motor (FarmValley:type=Engine)
+ * Getters viram atributos somente leitura; pares get/set são ajustáveis em tempo real.
+ */
+public interface EngineMonitorMBean {
+    // ===== SIMULAÇÃO =====
+    long getTickCount();
+    double getTickRate();
+    boolean isProfilerEnabled();
+    void setProfilerEnabled(boolean enabled);
+    double getFrameTimeP50Millis();
+    double getFrameTimeP99Millis();
+
+    // ===== MUNDO =====
+    int getEnemyCount();
+    int getNpcCount();
+    int getLoadedChunkCount();
+    int getDecorationCount();
+    int getParticleCount();
+
+    // ===== AJUSTES =====
+    int getTimeSpeed();
+    void setTimeSpeed(int minutesPerStep);
+    int getMaxParticles();
+    void setMaxParticles(int maxParticles);
+    int getEntityUpdateRadius();
+    void setEntityUpdateRadius(int tiles);
+    int getResidentChunkBudget();
+    void setResidentChunkBudget(int chunks);
+    int getEvictedChunkCount();
+
+    // ===== ESTATÍSTICAS DO JOGO =====
+    int getCropsPlanted();
+    int getCropsHarvested();
+    int getMoneyEarned();
+    int getMoneySpent();
+    int getDaysPlayed();
+    int getStepsTaken();
+    int getTilesPlowed();
+    int getTreesChopped();
+    int getRocksDestroyed();
+    int getWoodCollected();
+    int getStoneCollected();
+    int getFiberCollected();
+}
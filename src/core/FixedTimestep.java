@@ -0,0 +1,73 @@
+package core;
+
+/**
+ * Relógio de passo fixo com acumulador
+ * Converte o tempo real entre frames em um número inteiro de ticks de simulação
+ * e informa quanto do próximo tick já passou (alpha) para interpolar a renderização
+ */
+public class FixedTimestep {
+    // Limite de ticks por frame: um frame lento não pode gerar uma avalanche de ticks
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    private final long stepNanos;
+    private long lastTime;
+    private long accumulator;
+    private boolean started;
+
+    public FixedTimestep(int ticksPerSecond) {
+        this.stepNanos = 1_000_000_000L / ticksPerSecond;
+        this.accumulator = 0;
+        this.started = false;
+    }
+
+    /**
+     * Registra o instante do frame atual (em nanossegundos)
+     * @return Quantidade de ticks de simulação que devem ser executados agora
+     */
+    public int advance(long now) {
+        if (!started) {
+            lastTime = now;
+            started = true;
+            return 0;
+        }
+
+        long frameTime = Math.max(0, now - lastTime);
+        lastTime = now;
+        accumulator += frameTime;
+
+        int steps = (int) (accumulator / stepNanos);
+        if (steps > MAX_STEPS_PER_FRAME) {
+            // Frame muito lento: descartar o atraso em vez de tentar recuperá-lo
+            steps = MAX_STEPS_PER_FRAME;
+            accumulator = 0;
+        } else {
+            accumulator -= steps * stepNanos;
+        }
+        return steps;
+    }
+
+    /**
+     * Fração (0.0 a 1.0) do próximo tick já decorrida
+     * Usada para interpolar posições entre os dois últimos ticks
+     */
+    public double getAlpha() {
+        return (double) accumulator / stepNanos;
+    }
+
+    /**
+     * Tempo até o próximo tick vencer (para a thread da simulação dormir entre ticks)
+     */
+    public long getNanosUntilNextStep() {
+        return Math.max(0, stepNanos - accumulator);
+    }
+
+    /**
+     * Reinicia o relógio (ex: após uma pausa longa)
+     */
+    public void reset() {
+        started = false;
+        accumulator = 0;
+    }
+
+    public long getStepNanos() { return stepNanos; }
+}
@@ -1,8 +1,9 @@
 package core;
 
-import javafx.scene.input.KeyCode;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.EnumSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import core.SystemScheduler.Resource;
 
 import entities.Player;
 import entities.Crop;
@@ -10,6 +11,7 @@ import world.Farm;
 import world.Tile;
 import world.TileType;
 import world.TimeSystem;
+import world.WorldSettings;
 import types.CropType;
 import types.CropQuality;
 import systems.UIManager;
@@ -22,10 +24,21 @@ import systems.ShopSystem;
 import systems.QuestSystem;
 import systems.ParticleSystem;
 import systems.WeatherSystem;
-import systems.Minimap;
+import systems.DialogueSystem;
+import systems.WorldStreamer;
 import entities.NPC;
 import entities.Enemy;
 import items.ItemType;
+import utils.GameRandom;
+import utils.GameClock;
+import events.EventBus;
+import diagnostics.FrameProfiler;
+import diagnostics.EngineTickEvent;
+import jdk.jfr.EventType;
+import events.CropHarvestedEvent;
+import events.EnemyKilledEvent;
+import events.DayPassedEvent;
+import events.MoneyEarnedEvent;
 import java.util.List;
 
 /**
@@ -48,11 +61,27 @@ public class GameEngine {
     private QuestSystem questSystem;
     private ParticleSystem particleSystem;
     private WeatherSystem weatherSystem;
-    private Minimap minimap;
+    private WorldStreamer worldStreamer; // null quando o mundo é gerado inteiro na inicialização
+    
+    // Eventos do jogo (instâncias pré-alocadas e reutilizadas a cada publicação)
+    private EventBus eventBus;
+    private final CropHarvestedEvent cropHarvestedEvent = new CropHarvestedEvent();
+    private final EnemyKilledEvent enemyKilledEvent = new EnemyKilledEvent();
+    private final DayPassedEvent dayPassedEvent = new DayPassedEvent();
+    private final MoneyEarnedEvent moneyEarnedEvent = new MoneyEarnedEvent();
+    
+    // Escalonador dos sistemas do tick
+    private SystemScheduler scheduler;
+    private FrameProfiler profiler;
     
     // Input
-    private Set<KeyCode> pressedKeys;
-    private boolean[] actionFlags;
+    private static final int COMMAND_QUEUE_CAPACITY = 64;
+    private InputBindings bindings;
+    private long heldKeys;        // Bits (ordinal de GameKey) das teclas pressionadas
+    private long heldCommands;    // Bits (ordinal de Command) dos comandos pressionados
+    private long tappedCommands;  // Comandos contínuos pressionados desde o último movimento
+    private CommandQueue commandQueue;
+    private InputRecorder inputRecorder; // null quando não está gravando
     
     // Mensagens
     private String statusMessage;
@@ -61,91 +90,207 @@ public class GameEngine {
     // Movimento tile-por-tile mais fluido
     private long lastMoveTime;
     private static final long MOVE_DELAY = 100_000_000; // 100ms entre movimentos
-
-    // Constantes de ações
-    private static final int ACTION_TILL = 0;
-    private static final int ACTION_PLANT = 1;
-    private static final int ACTION_HARVEST = 2;
-    private static final int ACTION_SLEEP = 3;
-    private static final int ACTION_CHANGE_SEED = 4;
-    private static final int ACTION_COLLECT_RESOURCE = 5;
-    private static final int ACTION_SHOW_STATS = 6;
-    private static final int ACTION_INTERACT = 7;
-    private static final int ACTION_ATTACK = 8;
-    private static final int ACTION_USE_POTION = 9;
-    private static final int ACTION_OPEN_SHOP = 10;
-    private static final int ACTION_SHOW_QUESTS = 11;
+    
+    // Simulação em passo fixo
+    public static final int TICKS_PER_SECOND = 60;
+    public static final double TICK_DT = 1.0 / TICKS_PER_SECOND;
+    private static final EventType TICK_EVENT = EventType.getEventType(EngineTickEvent.class);
+    private long tickCount;
+    private GameClock clock; // Tempo virtual da simulação (amostrado uma vez por tick)
+    private boolean autoDayRollover; // Avança o dia sozinho à meia-noite (avanço rápido)
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>(); // Ajustes vindos de outras threads (JMX)
+    private double weatherSpawnCredit; // Fração acumulada de gotas/flocos de tela a criar
 
     public GameEngine() {
-        // ============================================
-        // CONFIGURAÇÃO DO MAPA - ALTERE AQUI!
-        // ============================================
-        // Pequeno: 50x50, Médio: 100x100, Grande: 200x200
-        int mapWidth = 150;
-        int mapHeight = 150;
+        this(System.nanoTime());
+    }
+    
+    /**
+     * @param seed Semente mestre: a mesma semente e a mesma entrada reproduzem a sessão
+     */
+    public GameEngine(long seed) {
+        this(seed, WorldSettings.standard());
+    }
+    
+    /**
+     * @param seed Semente mestre: a mesma semente e a mesma entrada reproduzem a sessão
+     * @param world Tamanho do mapa e quantidade de decorações e entidades
+     */
+    public GameEngine(long seed, WorldSettings world) {
+        this(seed, world, new Bootstrap());
+    }
+    
+    /**
+     * Cria o mundo em estágios paralelos
+     * Terreno, diálogos e os estágios já registrados pelo chamador (ex: sprites) rodam juntos;
+     * decorações esperam o terreno e entidades esperam as decorações. Os sistemas que não
+     * dependem do mapa são criados nesta thread enquanto isso.
+     * @param bootstrap Estágios do chamador; o construtor espera todos e imprime os tempos
+     */
+    public GameEngine(long seed, WorldSettings world, Bootstrap bootstrap) {
+        GameRandom.setSeed(seed);
+        int mapWidth = world.getWidth();
+        int mapHeight = world.getHeight();
         
         System.out.println("🎮 Iniciando Farm Valley...");
-        System.out.println("🗺️  Tamanho do mapa: " + mapWidth + "x" + mapHeight + " (" + (mapWidth * mapHeight) + " tiles)");
+        System.out.println("🎲 Semente: " + seed);
+        System.out.println("🗺️  Mundo: " + world + " (" + ((long) mapWidth * mapHeight) + " tiles)");
+        
+        // Mundo: cada estágio usa fluxos próprios do GameRandom, então a ordem entre threads não importa
+        clock = new GameClock();
+        Bootstrap.Stage terrain = bootstrap.stage("terreno",
+            () -> farm = new Farm(world, false));
+        bootstrap.stage("diálogos", DialogueSystem::getInstance);
+        Bootstrap.Stage decorations = bootstrap.stage("decorações",
+            () -> farm.getDecorationManager().generateDecorations(farm, world), terrain);
+        Bootstrap.Stage entities = bootstrap.stage("entidades", () -> {
+            entityManager = new EntityManager(farm, clock);
+            entityManager.setUpdateRadius(world.getEntityUpdateRadius());
+            entityManager.generateEntities(world);
+            if (world.isStreamed()) {
+                // Mundo em fluxo: só as regiões ao redor do spawn agora, o resto conforme o jogador anda
+                worldStreamer = new WorldStreamer(farm, entityManager, world);
+                worldStreamer.populateAround(mapWidth / 2, mapHeight / 2);
+            }
+        }, decorations);
         
-        // Inicializar sistemas
-        farm = new Farm(mapWidth, mapHeight);
-        player = new Player(mapWidth / 2, mapHeight / 2);
-        timeSystem = new TimeSystem();
+        // Inicializar sistemas (independentes do mapa)
+        eventBus = new EventBus();
+        player = new Player(mapWidth / 2, mapHeight / 2, clock);
+        timeSystem = new TimeSystem(clock);
         uiManager = new UIManager();
-        harvestSystem = new HarvestSystem(farm, player);
-        
-        // Novos sistemas
-        gameStats = new GameStats();
+        gameStats = new GameStats(clock);
         levelSystem = new LevelSystem();
-        entityManager = new EntityManager(farm);
-        entityManager.generateEntities();
         shopSystem = new ShopSystem(player);
         questSystem = new QuestSystem();
         particleSystem = new ParticleSystem();
-        weatherSystem = new WeatherSystem();
-        minimap = new Minimap();
+        weatherSystem = new WeatherSystem(clock);
         
-        pressedKeys = new HashSet<>();
-        actionFlags = new boolean[12];  // Aumentado para 12 ações
-        statusMessage = "Bem-vindo ao Farm Valley! WASD=mover, F=interagir, R=poção, J=quests";
-        messageTime = System.currentTimeMillis();
-        lastMoveTime = 0;
+        bootstrap.await(terrain);
+        harvestSystem = new HarvestSystem(farm, player, eventBus);
+        bootstrap.await(entities);
         
+        bindings = InputBindings.defaults();
+        commandQueue = new CommandQueue(COMMAND_QUEUE_CAPACITY);
+        statusMessage = "Bem-vindo ao Farm Valley! WASD=mover, F=interagir, R=poção, J=quests";
+        messageTime = clock.nowMillis();
+        lastMoveTime = -MOVE_DELAY;
+        autoDayRollover = false;
+        tickCount = 0;
+        
+        // Ouvintes de eventos (ordem de inscrição = ordem de entrega)
+        levelSystem.registerListeners(eventBus);
+        gameStats.registerListeners(eventBus);
+        questSystem.registerListeners(eventBus);
+        particleSystem.registerListeners(eventBus);
+        
+        profiler = new FrameProfiler();
+        scheduler = new SystemScheduler();
+        scheduler.setProfiler(profiler);
+        registerSystems();
+        
+        bootstrap.awaitAll();
+        bootstrap.printReport();
         System.out.println("✅ Jogo iniciado com sucesso!");
         System.out.println("📜 Missões ativas: " + questSystem.getActiveQuestCount());
         System.out.println("🌤️ Clima: " + weatherSystem.getWeatherName());
+        System.out.println("🧵 Fases do tick: " + scheduler.describePhases());
+    }
+    
+    /**
+     * Registra os sistemas do tick com o que cada um lê e escreve
+     * A ordem de registro é a ordem lógica; sistemas independentes rodam em paralelo
+     */
+    private void registerSystems() {
+        // Sistemas independentes entre si
+        scheduler.register("time", EnumSet.noneOf(Resource.class), EnumSet.of(Resource.TIME),
+            () -> timeSystem.update());
+        scheduler.register("weather", EnumSet.noneOf(Resource.class), EnumSet.of(Resource.WEATHER),
+            () -> weatherSystem.update());
+        scheduler.register("particles", EnumSet.noneOf(Resource.class), EnumSet.of(Resource.PARTICLES),
+            () -> particleSystem.update());
+        scheduler.register("highestMoney", EnumSet.of(Resource.PLAYER), EnumSet.of(Resource.STATS),
+            () -> gameStats.updateHighestMoney(player.getMoney()));
+        if (worldStreamer != null) {
+            scheduler.register("streaming", EnumSet.of(Resource.PLAYER), EnumSet.of(Resource.FARM, Resource.ENTITIES),
+                () -> worldStreamer.update(player.getX(), player.getY()));
+        }
+        scheduler.register("entities", EnumSet.of(Resource.PLAYER, Resource.FARM), EnumSet.of(Resource.ENTITIES),
+            () -> entityManager.update(player.getX(), player.getY()));
+        
+        // Dependem do estado das entidades e do jogador
+        scheduler.register("enemyAttacks", EnumSet.of(Resource.ENTITIES),
+            EnumSet.of(Resource.PLAYER, Resource.PARTICLES, Resource.MESSAGES),
+            this::checkEnemyAttacks);
+        scheduler.register("questRewards", EnumSet.noneOf(Resource.class),
+            EnumSet.of(Resource.QUESTS, Resource.PLAYER, Resource.STATS, Resource.MESSAGES),
+            this::checkQuestRewards);
+        scheduler.register("movement", EnumSet.of(Resource.INPUT, Resource.FARM, Resource.ENTITIES),
+            EnumSet.of(Resource.PLAYER, Resource.STATS),
+            this::handleMovement);
+        scheduler.register("actions", EnumSet.of(Resource.INPUT, Resource.TIME),
+            EnumSet.allOf(Resource.class),
+            this::handleActions);
+        
+        // Fim do tick: chunks distantes saem da memória (orçamento do preset)
+        scheduler.register("chunkEviction", EnumSet.of(Resource.PLAYER), EnumSet.of(Resource.FARM),
+            () -> farm.evictDistantChunks(player.getX(), player.getY()));
     }
 
-    public void update() {
-        // Verificar se jogador morreu
-        if (player.isDead()) {
-            handlePlayerDeath();
+    /**
+     * Executa um tick de simulação
+     * @param dt Duração do tick em segundos (normalmente TICK_DT)
+     */
+    public void update(double dt) {
+        // Sem gravação JFR ativa, nenhum evento é criado
+        if (!TICK_EVENT.isEnabled()) {
+            step(dt);
             return;
         }
+        EngineTickEvent event = new EngineTickEvent();
+        event.begin();
+        step(dt);
+        event.end();
+        if (event.shouldCommit()) {
+            event.tick = tickCount;
+            event.enemies = entityManager.getEnemies().size();
+            event.npcs = entityManager.getNPCs().size();
+            event.particles = particleSystem.getParticleCount();
+            event.commit();
+        }
+    }
+    
+    private void step(double dt) {
+        // Ajustes pedidos por outras threads entram sempre no início de um tick
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
         
-        // Atualizar sistema de tempo
-        timeSystem.update();
-        
-        // Atualizar clima
-        weatherSystem.update();
-        
-        // Atualizar partículas
-        particleSystem.update();
-        
-        // Atualizar dinheiro máximo nas estatísticas
-        gameStats.updateHighestMoney(player.getMoney());
+        // Guardar posições do tick anterior para interpolação na renderização
+        player.savePreviousPosition();
+        entityManager.savePreviousPositions();
         
-        // Atualizar NPCs e inimigos
-        entityManager.update(player.getX(), player.getY());
+        // Pausado: o relógio não avança e nenhum sistema roda
+        if (clock.isPaused()) {
+            return;
+        }
+        tickCount++;
+        clock.advance(dt);
         
-        // Verificar ataques de inimigos
-        checkEnemyAttacks();
+        // Verificar se jogador morreu
+        if (player.isDead()) {
+            handlePlayerDeath();
+            return;
+        }
         
-        // Verificar missões prontas para resgatar
-        checkQuestRewards();
+        // Sistemas do tick (fases paralelas com barreira entre elas)
+        scheduler.runTick();
         
-        handleMovement();
-        handleActions();
+        // Virada do dia sem dormir (somente quando habilitado, ex: avanço rápido)
+        if (timeSystem.consumeMidnightPassed() && autoDayRollover) {
+            advanceDay();
+        }
     }
     
     /**
@@ -173,7 +318,7 @@ public class GameEngine {
      */
     private void handlePlayerDeath() {
         // Respawn após 2 segundos
-        if (System.currentTimeMillis() - messageTime > 2000) {
+        if (clock.nowMillis() - messageTime > 2000) {
             int spawnX = farm.getWidth() / 2;
             int spawnY = farm.getHeight() / 2;
             player.respawn(spawnX, spawnY);
@@ -197,7 +342,7 @@ public class GameEngine {
     }
 
     private void handleMovement() {
-        long currentTime = System.nanoTime();
+        long currentTime = clock.nowNanos();
         
         // Delay entre movimentos para controle melhor (mais rápido agora!)
         if (currentTime - lastMoveTime < MOVE_DELAY) {
@@ -208,24 +353,28 @@ public class GameEngine {
         int newY = player.getY();
         int dx = 0, dy = 0;
         boolean moved = false;
+        
+        // Comandos pressionados agora ou tocados desde o último movimento (toque rápido entre ticks)
+        long move = heldCommands | tappedCommands;
+        tappedCommands = 0;
 
         // MOVIMENTO DIAGONAL SUPORTADO! (removido else if)
-        if (pressedKeys.contains(KeyCode.W) || pressedKeys.contains(KeyCode.UP)) {
+        if ((move & Command.MOVE_UP.getBit()) != 0) {
             newY--;
             dy = -1;
             moved = true;
         }
-        if (pressedKeys.contains(KeyCode.S) || pressedKeys.contains(KeyCode.DOWN)) {
+        if ((move & Command.MOVE_DOWN.getBit()) != 0) {
             newY++;
             dy = 1;
             moved = true;
         }
-        if (pressedKeys.contains(KeyCode.A) || pressedKeys.contains(KeyCode.LEFT)) {
+        if ((move & Command.MOVE_LEFT.getBit()) != 0) {
             newX--;
             dx = -1;
             moved = true;
         }
-        if (pressedKeys.contains(KeyCode.D) || pressedKeys.contains(KeyCode.RIGHT)) {
+        if ((move & Command.MOVE_RIGHT.getBit()) != 0) {
             newX++;
             dx = 1;
             moved = true;
@@ -266,167 +415,189 @@ public class GameEngine {
         }
     }
 
+    /**
+     * Consome a fila de comandos na ordem em que chegaram
+     */
     private void handleActions() {
-        int playerX = player.getX();
-        int playerY = player.getY();
+        Command command;
+        while ((command = commandQueue.poll()) != null) {
+            dispatchCommand(command);
+        }
+    }
 
-        // Arar terra (T)
-        if (actionFlags[ACTION_TILL]) {
-            if (player.hasEnergy(5)) {
-                Tile tile = farm.getTile(playerX, playerY);
-                if (tile != null && tile.getType() == TileType.GRASS) {
-                    farm.tillSoil(playerX, playerY);
-                    player.useEnergy(5);
-                    
-                    // Estatísticas e XP
-                    gameStats.recordTilePlowed();
-                    if (levelSystem.onPlow()) {
-                        showMessage("Terra arada! 🎉 LEVEL UP! Nível " + levelSystem.getLevel());
-                    } else {
-                        showMessage("Terra arada! (+" + 3 + " XP)");
-                    }
-                } else {
-                    showMessage("Não posso arar aqui!");
-                }
-            } else {
-                showMessage("Sem energia! Durma (Z)");
+    /**
+     * Executa um comando instantâneo conforme o contexto da interface
+     */
+    private void dispatchCommand(Command command) {
+        // UI - Inventário
+        if (command == Command.TOGGLE_INVENTORY) {
+            if (uiManager.isShopOpen()) {
+                uiManager.closeShop();
             }
-            actionFlags[ACTION_TILL] = false;
+            uiManager.toggleInventory();
+            return;
         }
-
-        // Plantar (P) - usando sementes do inventário
-        if (actionFlags[ACTION_PLANT]) {
-            CropType seedType = player.getSelectedSeed();
-            
-            // Determinar qual item de semente usar
-            ItemType seedItem;
-            if (seedType == CropType.TOMATO) {
-                seedItem = ItemType.TOMATO_SEED;
-            } else if (seedType == CropType.CORN) {
-                seedItem = ItemType.CORN_SEED;
-            } else {
-                seedItem = ItemType.TOMATO_SEED; // fallback
+        
+        int slot = command.getSlotIndex();
+        
+        // UI - Loja
+        if (uiManager.isShopOpen()) {
+            if (command == Command.CLOSE_MENU) {
+                uiManager.closeShop();
+            } else if (command == Command.SHOW_STATS) {
+                uiManager.toggleShopTab();
+            } else if (slot >= 0) {
+                // Comprar/Vender com números
+                if (uiManager.getShopSelectedTab() == 0) shopBuyItem(slot); else shopSellItem(slot);
             }
-            
-            // Verificar se tem semente no inventário
-            if (player.getInventory().getItemCount(seedItem) <= 0) {
-                showMessage("❌ Sem sementes de " + seedType.getName() + "! Compre na loja.");
-            } else if (!player.hasEnergy(5)) {
-                showMessage("Sem energia! Durma (Z)");
-            } else {
-                if (farm.plantCrop(playerX, playerY, seedType)) {
-                    player.getInventory().removeItem(seedItem, 1); // Consumir semente
-                    player.useEnergy(5);
-                    
-                    // Estatísticas e XP
-                    gameStats.recordCropPlanted(seedType);
-                    if (levelSystem.onPlant()) {
-                        showMessage("🌱 " + seedType.getName() + " plantado! 🎉 LEVEL UP!");
-                    } else {
-                        showMessage("🌱 " + seedType.getName() + " plantado! (+5 XP)");
-                    }
-                } else {
-                    showMessage("Are a terra primeiro (T)!");
-                }
+            return;
+        }
+        
+        // Teclas numéricas para selecionar slots da hotbar
+        if (slot >= 0) {
+            player.getInventory().setSelectedSlot(slot);
+            return;
+        }
+        
+        // Se inventário estiver aberto, não processar ações de jogo
+        if (uiManager.isInventoryOpen()) {
+            if (command == Command.CLOSE_MENU) {
+                uiManager.closeInventory();
             }
-            actionFlags[ACTION_PLANT] = false;
+            return;
+        }
+        
+        // Ações instantâneas de jogo
+        switch (command) {
+            case TILL: tillSoil(); break;                       // Arar terra (T)
+            case PLANT: plantSeed(); break;                     // Plantar (P)
+            case HARVEST: harvestCrop(); break;                 // Colher (H)
+            case SLEEP: sleep(); break;                         // Dormir (Z)
+            case CHANGE_SEED: changeSeed(); break;              // Trocar semente (C)
+            case COLLECT_RESOURCE: collectResource(); break;    // Coletar recursos (E ou SPACE)
+            case SHOW_STATS: showStats(); break;                // Mostrar estatísticas (Tab)
+            case INTERACT: interactWithNPC(); break;            // Interagir com NPC (F)
+            case ATTACK: attackEnemy(); break;                  // Atacar inimigo (Q)
+            case USE_POTION: usePotion(); break;                // Usar poção (R)
+            case SHOW_QUESTS: showQuests(); break;              // Mostrar missões (J)
+            default: break;
         }
+    }
 
-        // Colher (H)
-        if (actionFlags[ACTION_HARVEST]) {
-            Crop harvested = farm.harvestCrop(playerX, playerY);
-            if (harvested != null) {
-                CropType cropType = harvested.getType();
-                
-                // Determinar qualidade baseada no nível
-                CropQuality quality = CropQuality.determineQuality(levelSystem.getCropQualityBonus());
-                
-                // Calcular preço com bônus de nível e qualidade
-                int basePrice = cropType.getSellPrice();
-                int qualityPrice = quality.calculatePrice(basePrice);
-                int finalPrice = levelSystem.calculateSellPrice(qualityPrice);
-                
-                player.earn(finalPrice);
-                player.useEnergy(3);
+    /**
+     * Arar terra na posição do jogador
+     */
+    private void tillSoil() {
+        int playerX = player.getX();
+        int playerY = player.getY();
+
+        if (player.hasEnergy(5)) {
+            Tile tile = farm.getTile(playerX, playerY);
+            if (tile != null && tile.getType() == TileType.GRASS) {
+                farm.tillSoil(playerX, playerY);
+                player.useEnergy(5);
                 
                 // Estatísticas e XP
-                gameStats.recordCropHarvested(cropType);
-                gameStats.recordMoneyEarned(finalPrice);
-                
-                // Atualizar missões
-                questSystem.onCropHarvested();
-                questSystem.onMoneyEarned(finalPrice);
-                
-                // Efeito visual de colheita
-                particleSystem.spawnHarvestEffect(playerX, playerY);
-                
-                String qualityStr = quality != CropQuality.NORMAL ? " " + quality.getSymbol() + " " + quality.getName() : "";
-                if (levelSystem.onHarvest()) {
-                    particleSystem.spawnLevelUpEffect(playerX, playerY);
-                    showMessage(cropType.getName() + qualityStr + " colhido! +$" + finalPrice + " 🎉 LEVEL UP!");
+                gameStats.recordTilePlowed();
+                if (levelSystem.onPlow()) {
+                    showMessage("Terra arada! 🎉 LEVEL UP! Nível " + levelSystem.getLevel());
                 } else {
-                    showMessage(cropType.getName() + qualityStr + " colhido! (+$" + finalPrice + ", +15 XP)");
+                    showMessage("Terra arada! (+" + 3 + " XP)");
                 }
             } else {
-                Tile tile = farm.getTile(playerX, playerY);
-                if (tile != null && tile.hasCrop()) {
-                    showMessage("Planta ainda não está madura!");
-                } else {
-                    showMessage("Nada para colher aqui!");
-                }
+                showMessage("Não posso arar aqui!");
             }
-            actionFlags[ACTION_HARVEST] = false;
+        } else {
+            showMessage("Sem energia! Durma (Z)");
         }
+    }
 
-        // Dormir (Z)
-        if (actionFlags[ACTION_SLEEP]) {
-            sleep();
-            actionFlags[ACTION_SLEEP] = false;
-        }
+    /**
+     * Plantar a semente selecionada na posição do jogador
+     */
+    private void plantSeed() {
+        int playerX = player.getX();
+        int playerY = player.getY();
 
-        // Trocar semente (C)
-        if (actionFlags[ACTION_CHANGE_SEED]) {
-            changeSeed();
-            actionFlags[ACTION_CHANGE_SEED] = false;
-        }
-        
-        // Coletar recursos (E ou SPACE)
-        if (actionFlags[ACTION_COLLECT_RESOURCE]) {
-            collectResource();
-            actionFlags[ACTION_COLLECT_RESOURCE] = false;
-        }
-        
-        // Mostrar estatísticas (Tab)
-        if (actionFlags[ACTION_SHOW_STATS]) {
-            showStats();
-            actionFlags[ACTION_SHOW_STATS] = false;
-        }
-        
-        // Interagir com NPC (F)
-        if (actionFlags[ACTION_INTERACT]) {
-            interactWithNPC();
-            actionFlags[ACTION_INTERACT] = false;
-        }
-        
-        // Atacar inimigo (Q)
-        if (actionFlags[ACTION_ATTACK]) {
-            attackEnemy();
-            actionFlags[ACTION_ATTACK] = false;
+        CropType seedType = player.getSelectedSeed();
+        
+        // Determinar qual item de semente usar
+        ItemType seedItem;
+        if (seedType == CropType.TOMATO) {
+            seedItem = ItemType.TOMATO_SEED;
+        } else if (seedType == CropType.CORN) {
+            seedItem = ItemType.CORN_SEED;
+        } else {
+            seedItem = ItemType.TOMATO_SEED; // fallback
         }
         
-        // Usar poção (R)
-        if (actionFlags[ACTION_USE_POTION]) {
-            usePotion();
-            actionFlags[ACTION_USE_POTION] = false;
+        // Verificar se tem semente no inventário
+        if (player.getInventory().getItemCount(seedItem) <= 0) {
+            showMessage("❌ Sem sementes de " + seedType.getName() + "! Compre na loja.");
+        } else if (!player.hasEnergy(5)) {
+            showMessage("Sem energia! Durma (Z)");
+        } else {
+            if (farm.plantCrop(playerX, playerY, seedType)) {
+                player.getInventory().removeItem(seedItem, 1); // Consumir semente
+                player.useEnergy(5);
+                
+                // Estatísticas e XP
+                gameStats.recordCropPlanted(seedType);
+                if (levelSystem.onPlant()) {
+                    showMessage("🌱 " + seedType.getName() + " plantado! 🎉 LEVEL UP!");
+                } else {
+                    showMessage("🌱 " + seedType.getName() + " plantado! (+5 XP)");
+                }
+            } else {
+                showMessage("Are a terra primeiro (T)!");
+            }
         }
-        
-        // Mostrar missões (J)
-        if (actionFlags[ACTION_SHOW_QUESTS]) {
-            showQuests();
-            actionFlags[ACTION_SHOW_QUESTS] = false;
+    }
+
+    /**
+     * Colher a plantação madura na posição do jogador
+     */
+    private void harvestCrop() {
+        int playerX = player.getX();
+        int playerY = player.getY();
+
+        Crop harvested = farm.harvestCrop(playerX, playerY);
+        if (harvested != null) {
+            CropType cropType = harvested.getType();
+            
+            // Determinar qualidade baseada no nível
+            CropQuality quality = CropQuality.determineQuality(levelSystem.getCropQualityBonus());
+            
+            // Calcular preço com bônus de nível e qualidade
+            int basePrice = cropType.getSellPrice();
+            int qualityPrice = quality.calculatePrice(basePrice);
+            int finalPrice = levelSystem.calculateSellPrice(qualityPrice);
+            
+            player.earn(finalPrice);
+            player.useEnergy(3);
+            
+            // Estatísticas, XP, missões e efeitos via eventos
+            int levelBefore = levelSystem.getLevel();
+            eventBus.publish(cropHarvestedEvent.set(cropType, quality, finalPrice, playerX, playerY));
+            eventBus.publish(moneyEarnedEvent.set(finalPrice));
+            
+            String qualityStr = quality != CropQuality.NORMAL ? " " + quality.getSymbol() + " " + quality.getName() : "";
+            if (levelSystem.getLevel() > levelBefore) {
+                particleSystem.spawnLevelUpEffect(playerX, playerY);
+                showMessage(cropType.getName() + qualityStr + " colhido! +$" + finalPrice + " 🎉 LEVEL UP!");
+            } else {
+                showMessage(cropType.getName() + qualityStr + " colhido! (+$" + finalPrice + ", +15 XP)");
+            }
+        } else {
+            Tile tile = farm.getTile(playerX, playerY);
+            if (tile != null && tile.hasCrop()) {
+                showMessage("Planta ainda não está madura!");
+            } else {
+                showMessage("Nada para colher aqui!");
+            }
         }
     }
-    
+
     /**
      * Usa poção (prioriza vida se estiver baixa)
      */
@@ -541,7 +712,7 @@ public class GameEngine {
                 player.getInventory().removeItem(type, 1);
                 player.earn(price);
                 showMessage("✅ Vendeu " + type.getDisplayName() + " por $" + price);
-                questSystem.onMoneyEarned(price);
+                eventBus.publish(moneyEarnedEvent.set(price));
             } else {
                 showMessage("❌ Você não tem " + type.getDisplayName() + "!");
             }
@@ -569,13 +740,9 @@ public class GameEngine {
             
             if (enemy.isDead()) {
                 int xpReward = enemy.getMaxHealth() / 2;
-                levelSystem.addXP(xpReward);
-                
-                // Atualizar missões de combate
-                questSystem.onEnemyKilled();
                 
-                // Efeito de vitória
-                particleSystem.spawnHarvestEffect(enemy.getX(), enemy.getY());
+                // XP, missões de combate e efeito de vitória via evento
+                eventBus.publish(enemyKilledEvent.set(enemy, xpReward));
                 
                 showMessage("⚔️ " + enemy.getType().getName() + " derrotado! +" + xpReward + " XP");
             } else {
@@ -594,14 +761,20 @@ public class GameEngine {
         }
         
         player.sleep();
-        farm.growAllCrops();
-        timeSystem.nextDay();
-        gameStats.recordDayPassed();
-        questSystem.onDayPassed();
+        advanceDay();
         
         showMessage("Bom dia! " + timeSystem.getShortDateString() + " | Nível " + levelSystem.getLevel());
     }
 
+    /**
+     * Passa para o próximo dia: crescimento das plantações, calendário, estatísticas e missões
+     */
+    private void advanceDay() {
+        farm.growAllCrops();
+        timeSystem.nextDay();
+        eventBus.publish(dayPassedEvent.set(timeSystem.getCurrentDay()));
+    }
+
     private void changeSeed() {
         // Apenas TOMATO e CORN disponíveis
         CropType current = player.getSelectedSeed();
@@ -616,31 +789,8 @@ public class GameEngine {
     }
     
     private void collectResource() {
-        String result = harvestSystem.attemptHarvest();
-        int px = player.getX();
-        int py = player.getY();
-        
-        // Registrar nas estatísticas e missões se coletou algo
-        if (result.contains("madeira")) {
-            gameStats.recordWoodCollected(1);
-            levelSystem.onChopTree();
-            questSystem.onWoodCollected(1);
-            particleSystem.spawnResourceEffect(px, py, "wood");
-        } else if (result.contains("pedra")) {
-            gameStats.recordStoneCollected(1);
-            levelSystem.onMineRock();
-            questSystem.onStoneCollected(1);
-            particleSystem.spawnResourceEffect(px, py, "stone");
-        } else if (result.contains("fibra")) {
-            gameStats.recordFiberCollected(1);
-            particleSystem.spawnResourceEffect(px, py, "fiber");
-        }
-        
-        showMessage(result);
-    }
-    
-    private void onDayPassed() {
-        questSystem.onDayPassed();
+        // Estatísticas, XP, missões e efeitos chegam pelo ResourceHarvestedEvent
+        showMessage(harvestSystem.attemptHarvest());
     }
     
     private void showStats() {
@@ -655,89 +805,87 @@ public class GameEngine {
     
     private void showMessage(String message) {
         this.statusMessage = message;
-        this.messageTime = System.currentTimeMillis();
+        this.messageTime = clock.nowMillis();
     }
     
     public String getStatusMessage() {
         // Mensagem desaparece após 3 segundos
-        if (System.currentTimeMillis() - messageTime > 3000) {
+        if (clock.nowMillis() - messageTime > 3000) {
             return "";
         }
         return statusMessage;
     }
 
-    public void keyPressed(KeyCode code) {
-        pressedKeys.add(code);
-
-        // UI - Inventário
-        if (code == KeyCode.I) {
-            if (uiManager.isShopOpen()) {
-                uiManager.closeShop();
-            }
-            uiManager.toggleInventory();
-            return;
-        }
+    /**
+     * Tecla pressionada (janela): traduzida em comando pela tabela de associações
+     */
+    public void keyPressed(GameKey code) {
+        heldKeys |= 1L << code.ordinal();
         
-        // UI - Loja
-        if (uiManager.isShopOpen()) {
-            if (code == KeyCode.ESCAPE) {
-                uiManager.closeShop();
-                return;
-            }
-            if (code == KeyCode.TAB) {
-                uiManager.toggleShopTab();
-                return;
-            }
-            // Comprar/Vender com números
-            if (code == KeyCode.DIGIT1) { if (uiManager.getShopSelectedTab() == 0) shopBuyItem(0); else shopSellItem(0); }
-            if (code == KeyCode.DIGIT2) { if (uiManager.getShopSelectedTab() == 0) shopBuyItem(1); else shopSellItem(1); }
-            if (code == KeyCode.DIGIT3) { if (uiManager.getShopSelectedTab() == 0) shopBuyItem(2); else shopSellItem(2); }
-            if (code == KeyCode.DIGIT4) { if (uiManager.getShopSelectedTab() == 0) shopBuyItem(3); else shopSellItem(3); }
-            if (code == KeyCode.DIGIT5) { if (uiManager.getShopSelectedTab() == 0) shopBuyItem(4); else shopSellItem(4); }
-            if (code == KeyCode.DIGIT6) { if (uiManager.getShopSelectedTab() == 0) shopBuyItem(5); else shopSellItem(5); }
-            return;
+        // Repetição automática do sistema repete só os comandos instantâneos
+        Command command = bindings.getCommand(code);
+        if (command != null && (!command.isContinuous() || (heldCommands & command.getBit()) == 0)) {
+            commandPressed(command);
         }
+    }
+
+    /**
+     * Tecla solta: o comando só é solto quando nenhuma outra tecla associada continua pressionada
+     */
+    public void keyReleased(GameKey code) {
+        heldKeys &= ~(1L << code.ordinal());
         
-        // Se inventário estiver aberto, não processar ações de jogo
-        if (uiManager.isInventoryOpen()) {
-            if (code == KeyCode.ESCAPE) {
-                uiManager.closeInventory();
-                return;
-            }
-            // Teclas numéricas para selecionar slots (1-6)
-            if (code == KeyCode.DIGIT1) player.getInventory().setSelectedSlot(0);
-            if (code == KeyCode.DIGIT2) player.getInventory().setSelectedSlot(1);
-            if (code == KeyCode.DIGIT3) player.getInventory().setSelectedSlot(2);
-            if (code == KeyCode.DIGIT4) player.getInventory().setSelectedSlot(3);
-            if (code == KeyCode.DIGIT5) player.getInventory().setSelectedSlot(4);
-            if (code == KeyCode.DIGIT6) player.getInventory().setSelectedSlot(5);
-            return;
+        Command command = bindings.getCommand(code);
+        if (command != null && (heldKeys & bindings.getKeyMask(command)) == 0
+                && (heldCommands & command.getBit()) != 0) {
+            commandReleased(command);
         }
+    }
 
-        // Teclas numéricas para selecionar slots da hotbar
-        if (code == KeyCode.DIGIT1) player.getInventory().setSelectedSlot(0);
-        if (code == KeyCode.DIGIT2) player.getInventory().setSelectedSlot(1);
-        if (code == KeyCode.DIGIT3) player.getInventory().setSelectedSlot(2);
-        if (code == KeyCode.DIGIT4) player.getInventory().setSelectedSlot(3);
-        if (code == KeyCode.DIGIT5) player.getInventory().setSelectedSlot(4);
-        if (code == KeyCode.DIGIT6) player.getInventory().setSelectedSlot(5);
-        
-        // Ações instantâneas de jogo
-        if (code == KeyCode.T) actionFlags[ACTION_TILL] = true;
-        if (code == KeyCode.P) actionFlags[ACTION_PLANT] = true;
-        if (code == KeyCode.H) actionFlags[ACTION_HARVEST] = true;
-        if (code == KeyCode.Z) actionFlags[ACTION_SLEEP] = true;
-        if (code == KeyCode.C) actionFlags[ACTION_CHANGE_SEED] = true;
-        if (code == KeyCode.E || code == KeyCode.SPACE) actionFlags[ACTION_COLLECT_RESOURCE] = true;
-        if (code == KeyCode.TAB) actionFlags[ACTION_SHOW_STATS] = true;
-        if (code == KeyCode.F) actionFlags[ACTION_INTERACT] = true;
-        if (code == KeyCode.Q) actionFlags[ACTION_ATTACK] = true;
-        if (code == KeyCode.R) actionFlags[ACTION_USE_POTION] = true;
-        if (code == KeyCode.J) actionFlags[ACTION_SHOW_QUESTS] = true;
+    /**
+     * Entrada no formato único do motor (janela, gravação e reprodução)
+     * Comandos contínuos marcam o conjunto de pressionados; os instantâneos vão para a fila
+     */
+    public void commandPressed(Command command) {
+        if (inputRecorder != null) {
+            inputRecorder.record(tickCount, command, false);
+        }
+        heldCommands |= command.getBit();
+        if (command.isContinuous()) {
+            tappedCommands |= command.getBit();
+        } else {
+            commandQueue.offer(tickCount, command);
+        }
     }
 
-    public void keyReleased(KeyCode code) {
-        pressedKeys.remove(code);
+    public void commandReleased(Command command) {
+        if (inputRecorder != null) {
+            inputRecorder.record(tickCount, command, true);
+        }
+        heldCommands &= ~command.getBit();
+    }
+
+    /**
+     * Chuva e neve de tela (somente com janela, uma vez por frame publicado)
+     * Só uma fração das partículas é criada em qualidade reduzida; o sorteio do clima
+     * acontece sempre para não alterar a sequência aleatória.
+     * @param spawnRate Fração das gotas/flocos sorteados que viram partícula (0.0 a 1.0)
+     */
+    public void spawnWeatherParticles(int screenWidth, int screenHeight, int tileSize, double spawnRate) {
+        boolean rain = weatherSystem.shouldSpawnRain();
+        boolean snow = weatherSystem.shouldSpawnSnow();
+        if (rain || snow) {
+            weatherSpawnCredit += spawnRate;
+            if (weatherSpawnCredit >= 1.0) {
+                weatherSpawnCredit -= 1.0;
+                if (rain) {
+                    particleSystem.spawnRainDrop(screenWidth, screenHeight, tileSize);
+                }
+                if (snow) {
+                    particleSystem.spawnSnowflake(screenWidth, screenHeight, tileSize);
+                }
+            }
+        }
     }
 
     // ===== GETTERS =====
@@ -749,10 +897,27 @@ public class GameEngine {
     public GameStats getGameStats() { return gameStats; }
     public LevelSystem getLevelSystem() { return levelSystem; }
     public EntityManager getEntityManager() { return entityManager; }
+    public WorldStreamer getWorldStreamer() { return worldStreamer; }
     public ShopSystem getShopSystem() { return shopSystem; }
     public QuestSystem getQuestSystem() { return questSystem; }
     public ParticleSystem getParticleSystem() { return particleSystem; }
     public WeatherSystem getWeatherSystem() { return weatherSystem; }
-    public Minimap getMinimap() { return minimap; }
+    public SystemScheduler getScheduler() { return scheduler; }
+    public EventBus getEventBus() { return eventBus; }
+    public FrameProfiler getProfiler() { return profiler; }
+    public void setInputRecorder(InputRecorder recorder) { this.inputRecorder = recorder; }
+    public InputBindings getBindings() { return bindings; }
+    public CommandQueue getCommandQueue() { return commandQueue; }
+    public boolean isAutoDayRollover() { return autoDayRollover; }
+    public void setAutoDayRollover(boolean autoDayRollover) { this.autoDayRollover = autoDayRollover; }
+    public GameClock getClock() { return clock; }
+    public long getTickCount() { return tickCount; }
+    
+    /**
+     * Agenda uma alteração para o início do próximo tick (seguro a partir de qualquer thread)
+     */
+    public void invokeLater(Runnable task) {
+        pendingTasks.add(task);
+    }
 }
 
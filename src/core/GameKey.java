@@ -0,0 +1,27 @@
+package core;
+
+/**
+ * Teclas reconhecidas pelo motor do jogo
+ * Independente do JavaFX: a janela traduz KeyCode para GameKey pelo nome,
+ * então o motor pode rodar sem o toolkit gráfico (modo headless)
+ */
+public enum GameKey {
+    W, A, S, D,
+    UP, DOWN, LEFT, RIGHT,
+    T, P, H, Z, C, E, F, Q, R, J, I,
+    SPACE, TAB, ESCAPE,
+    DIGIT1, DIGIT2, DIGIT3, DIGIT4, DIGIT5, DIGIT6;
+
+    /**
+     * Converte o nome de uma tecla (ex: KeyCode.name()) em GameKey
+     * @return GameKey correspondente ou null se a tecla não é usada pelo jogo
+     */
+    public static GameKey fromName(String name) {
+        for (GameKey key : values()) {
+            if (key.name().equals(name)) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
@@ -2,11 +2,14 @@ package core;
 
 import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.VPos;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.layout.HBox;
@@ -19,21 +22,27 @@ import javafx.stage.Stage;
 import javafx.scene.shape.ArcType;
 
 import entities.Player;
-import entities.Decoration;
-import entities.Crop;
 import entities.NPC;
 import entities.Enemy;
-import world.Farm;
-import world.Tile;
 import world.TileType;
-import world.TimeSystem;
+import world.WorldSettings;
 import types.CropType;
-import systems.DecorationManager;
 import systems.UIManager;
-import systems.HarvestSystem;
-import systems.Inventory;
-import systems.EntityManager;
+import render.Minimap;
+import render.ParticleRenderer;
+import render.UIRenderer;
+import render.ProfilerOverlay;
+import render.QualityGovernor;
+import render.QualityLevel;
+import render.SpriteCacheMonitor;
+import diagnostics.FrameProfiler;
+import diagnostics.AllocationTracker;
 import utils.SpriteLoader;
+import utils.GameRandom;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 public class GameWindow extends Application {
     private static final int TILE_SIZE = 60; // ZOOM: Tiles maiores para melhor visibilidade
@@ -44,6 +53,38 @@ public class GameWindow extends Application {
     private GraphicsContext gc;
     private GameEngine engine;
     private VBox hudBox;
+    
+    // Renderizadores JavaFX (o motor não conhece o toolkit gráfico)
+    private UIRenderer uiRenderer;
+    private ParticleRenderer particleRenderer;
+    private Minimap minimap;
+    
+    // Simulação em thread própria: a janela só lê o último RenderSnapshot publicado
+    // (avanço rápido F6 roda lá também, publicando a ~10 FPS)
+    private SimulationThread simulation;
+    private RenderSnapshot lastSnapshot;
+    
+    // Perfilador de frame (F3): seções das camadas da renderização (os sistemas do tick
+    // ficam no perfilador do motor, medidos pela thread da simulação)
+    private FrameProfiler profiler;
+    private ProfilerOverlay profilerOverlay;
+    private ProfilerOverlay simulationOverlay;
+    private int profTileBase, profTransitions, profDecorations, profEntities, profParticles;
+    private int profWeather, profUI, profMinimap, profHUD;
+    
+    // Qualidade gráfica ajustada pelo tempo de frame (F7 liga/desliga o modo automático)
+    private QualityGovernor qualityGovernor;
+    private QualityLevel quality;
+    private long lastFrameTime;
+    
+    // Macro-benchmark (--scenario=nome): renderiza em uma imagem fora da tela
+    // (sem thread da simulação: tick, captura e renderização em sequência no mesmo frame)
+    private static final int SCENARIO_WIDTH = 1600;
+    private static final int SCENARIO_HEIGHT = 900;
+    private ScenarioSession scenarioSession;
+    private WritableImage scenarioTarget;
+    private RenderSnapshot scenarioSnapshot;
+    private int scenarioFrames;
 
     @Override
     public void start(Stage primaryStage) {
@@ -52,7 +93,135 @@ public class GameWindow extends Application {
         CANVAS_WIDTH = (int) (screenBounds.getWidth() * 0.85); // 85% da largura
         CANVAS_HEIGHT = (int) (screenBounds.getHeight() * 0.80); // 80% da altura
         
-        engine = new GameEngine();
+        // Parâmetros: --seed=N (semente fixa), --record=arquivo.fvr (gravar entrada),
+        // --preset=nome (tamanho do mundo, ou "preset" no farmvalley.properties)
+        // e --scenario=nome (macro-benchmark renderizado fora da tela)
+        Map<String, String> params = getParameters().getNamed();
+        if (params.containsKey("scenario")) {
+            Scenario scenario = Scenario.byName(params.get("scenario"));
+            if (scenario == null) {
+                System.out.println("❌ Cenário desconhecido: " + params.get("scenario"));
+                System.exit(2);
+            }
+            System.out.println("🎬 Cenário: " + scenario.getName() + " - " + scenario.getDescription());
+            scenarioSession = new ScenarioSession(scenario);
+            engine = scenarioSession.getEngine();
+            CANVAS_WIDTH = SCENARIO_WIDTH; // Mesmo alvo em qualquer monitor
+            CANVAS_HEIGHT = SCENARIO_HEIGHT;
+            startGame(primaryStage, params);
+            return;
+        }
+        long seed = params.containsKey("seed") ? Long.parseLong(params.get("seed")) : System.nanoTime();
+        showLoadingScreen(primaryStage, seed, params);
+    }
+    
+    /**
+     * Cria o mundo numa thread separada enquanto mostra o progresso dos estágios
+     * O pré-carregamento dos sprites entra como mais um estágio paralelo da inicialização.
+     */
+    private void showLoadingScreen(Stage primaryStage, long seed, Map<String, String> params) {
+        Bootstrap bootstrap = new Bootstrap();
+        bootstrap.stage("sprites", () -> System.out.println("🖼️ Sprites pré-carregados: " + SpriteLoader.preloadAll()));
+        
+        Canvas loadingCanvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT + 140);
+        GraphicsContext loadingGc = loadingCanvas.getGraphicsContext2D();
+        AnimationTimer progress = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                drawLoadingScreen(loadingGc, bootstrap);
+            }
+        };
+        
+        primaryStage.setTitle("Farm Valley - Jogo de Fazenda");
+        primaryStage.setScene(new Scene(new BorderPane(loadingCanvas), CANVAS_WIDTH, CANVAS_HEIGHT + 140));
+        primaryStage.centerOnScreen();
+        primaryStage.show();
+        progress.start();
+        
+        Thread loader = new Thread(() -> {
+            try {
+                GameEngine created = new GameEngine(seed, WorldSettings.fromConfig(params.get("preset")), bootstrap);
+                Platform.runLater(() -> {
+                    progress.stop();
+                    engine = created;
+                    startGame(primaryStage, params);
+                });
+            } catch (RuntimeException e) {
+                System.out.println("❌ Falha ao criar o mundo: " + e);
+                e.printStackTrace();
+                Platform.runLater(Platform::exit);
+            }
+        }, "bootstrap");
+        loader.setDaemon(true);
+        loader.start();
+    }
+    
+    /**
+     * Tela de carregamento: barra de progresso e estágios em execução
+     */
+    private void drawLoadingScreen(GraphicsContext g, Bootstrap bootstrap) {
+        double w = g.getCanvas().getWidth();
+        double h = g.getCanvas().getHeight();
+        double barWidth = Math.min(600, w - 80);
+        double barX = (w - barWidth) / 2;
+        double barY = h / 2;
+        
+        g.setFill(Color.rgb(26, 26, 46));
+        g.fillRect(0, 0, w, h);
+        
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setFill(Color.rgb(255, 220, 100));
+        g.setFont(Font.font("Arial", FontWeight.BOLD, 36));
+        g.fillText("🌾 Farm Valley", w / 2, barY - 60);
+        
+        g.setFill(Color.rgb(15, 52, 96));
+        g.fillRoundRect(barX, barY, barWidth, 24, 12, 12);
+        g.setFill(Color.rgb(100, 200, 100));
+        g.fillRoundRect(barX, barY, barWidth * bootstrap.getProgress(), 24, 12, 12);
+        
+        List<String> running = bootstrap.getRunningStages();
+        g.setFill(Color.WHITE);
+        g.setFont(Font.font("Arial", 16));
+        g.fillText(running.isEmpty() ? "Preparando..." : "Carregando: " + String.join(", ", running), w / 2, barY + 56);
+        g.setTextAlign(TextAlignment.LEFT);
+    }
+    
+    /**
+     * Monta a janela do jogo e inicia o loop (o motor já está criado)
+     */
+    private void startGame(Stage primaryStage, Map<String, String> params) {
+        InputRecorder recorder = null;
+        if (params.containsKey("record")) {
+            try {
+                recorder = new InputRecorder(params.get("record"), GameRandom.getSeed());
+                engine.setInputRecorder(recorder);
+                System.out.println("⏺️ Gravando entrada em " + params.get("record"));
+            } catch (IOException e) {
+                System.out.println("⚠️ Não foi possível gravar a entrada: " + e.getMessage());
+            }
+        }
+        EngineMonitor.register(engine);
+        SpriteCacheMonitor.register();
+        uiRenderer = new UIRenderer();
+        particleRenderer = new ParticleRenderer();
+        minimap = new Minimap();
+        if (scenarioSession == null) {
+            simulation = new SimulationThread(engine, CANVAS_WIDTH, CANVAS_HEIGHT, TILE_SIZE);
+        }
+        qualityGovernor = new QualityGovernor();
+        applyQuality();
+        profilerOverlay = new ProfilerOverlay("renderização", 0);
+        simulationOverlay = new ProfilerOverlay("simulação", 1);
+        profiler = new FrameProfiler();
+        profTileBase = profiler.register("tileBase");
+        profTransitions = profiler.register("transitions");
+        profDecorations = profiler.register("decorations");
+        profEntities = profiler.register("entities.draw");
+        profParticles = profiler.register("particles.draw");
+        profWeather = profiler.register("weather.draw");
+        profUI = profiler.register("ui");
+        profMinimap = profiler.register("minimap");
+        profHUD = profiler.register("hud");
 
         canvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
         gc = canvas.getGraphicsContext2D();
@@ -72,9 +241,42 @@ public class GameWindow extends Application {
 
         Scene scene = new Scene(root, CANVAS_WIDTH, CANVAS_HEIGHT + 140);
         
-        // Input handling
-        scene.setOnKeyPressed(e -> engine.keyPressed(e.getCode()));
-        scene.setOnKeyReleased(e -> engine.keyReleased(e.getCode()));
+        // Modo cenário: sem janela, cada frame é renderizado em uma imagem fora da tela
+        if (scenarioSession != null) {
+            scenarioTarget = new WritableImage(CANVAS_WIDTH, CANVAS_HEIGHT);
+            scenarioSnapshot = new RenderSnapshot(CANVAS_WIDTH, CANVAS_HEIGHT, TILE_SIZE);
+            Platform.runLater(this::runScenarioFrame);
+            return;
+        }
+        
+        // Input handling: teclas vão para a fila da simulação, nunca direto ao motor
+        scene.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.F6) {
+                simulation.toggleTimeWarp();
+                return;
+            }
+            if (e.getCode() == KeyCode.F3) {
+                profiler.toggle();
+                boolean enabled = profiler.isEnabled();
+                engine.invokeLater(() -> engine.getProfiler().setEnabled(enabled));
+                return;
+            }
+            if (e.getCode() == KeyCode.F4) {
+                toggleAllocationTracking();
+                return;
+            }
+            if (e.getCode() == KeyCode.F7) {
+                qualityGovernor.toggleAutomatic();
+                applyQuality();
+                return;
+            }
+            GameKey key = GameKey.fromName(e.getCode().name());
+            if (key != null) simulation.postKey(key, false);
+        });
+        scene.setOnKeyReleased(e -> {
+            GameKey key = GameKey.fromName(e.getCode().name());
+            if (key != null) simulation.postKey(key, true);
+        });
 
         primaryStage.setTitle("Farm Valley - Jogo de Fazenda");
         primaryStage.setScene(scene);
@@ -82,27 +284,127 @@ public class GameWindow extends Application {
         primaryStage.centerOnScreen(); // Centralizar na tela
         primaryStage.show();
 
-        // Game loop
+        // Game loop: a simulação roda na própria thread em passo fixo; a cada pulso do FX
+        // desenha o snapshot mais recente, interpolado pelo tempo desde a publicação
+        InputRecorder openRecorder = recorder;
+        primaryStage.setOnHidden(e -> {
+            simulation.stop(); // Espera o tick em andamento antes de fechar a gravação
+            if (openRecorder != null) openRecorder.close();
+        });
+        simulation.start();
         new AnimationTimer() {
-            private long lastUpdate = 0;
-
             @Override
             public void handle(long now) {
-                // Atualizar a cada 16ms (~60 FPS)
-                if (now - lastUpdate >= 16_000_000) {
-                    engine.update();
-                    render();
-                    updateHUD();
-                    lastUpdate = now;
+                RenderSnapshot snapshot = simulation.acquireSnapshot();
+                if (snapshot == null) {
+                    return;
+                }
+                boolean fresh = snapshot != lastSnapshot;
+                lastSnapshot = snapshot;
+                
+                if (snapshot.isWarpActive()) {
+                    lastFrameTime = 0; // Frames do avanço rápido não contam para a qualidade
+                    
+                    // Renderização limitada: só quando chega um snapshot (~10 FPS)
+                    if (fresh) {
+                        render(snapshot, 1.0);
+                        drawWarpIndicator(snapshot);
+                        long t = profiler.begin(profHUD);
+                        updateHUD(snapshot);
+                        profiler.end(profHUD, t);
+                        profiler.endFrame();
+                    }
+                    return;
+                }
+                
+                long workStart = System.nanoTime();
+                render(snapshot, snapshot.getAlpha(now));
+                if (fresh) {
+                    long t = profiler.begin(profHUD);
+                    updateHUD(snapshot);
+                    profiler.end(profHUD, t);
                 }
+                long work = System.nanoTime() - workStart;
+                profiler.endFrame();
+                
+                // Intervalo entre pulsos para baixar a qualidade, trabalho do frame para subir
+                if (lastFrameTime != 0 && qualityGovernor.recordFrame(now - lastFrameTime, work)) {
+                    applyQuality();
+                }
+                lastFrameTime = now;
             }
         }.start();
     }
 
+    /**
+     * Um frame do cenário: tick roteirizado, renderização e cópia para a imagem fora da tela
+     * Encadeado por runLater para rodar sem esperar o vsync; no fim imprime o relatório e sai
+     */
+    private void runScenarioFrame() {
+        if (scenarioSession.isFinished()) {
+            boolean passed = scenarioSession.report();
+            System.out.println(passed ? "✅ Todos os orçamentos respeitados" : "❌ Orçamento estourado");
+            Platform.exit();
+            System.exit(passed ? 0 : 1);
+            return;
+        }
+        long start = System.nanoTime();
+        scenarioSession.runTick();
+        engine.getProfiler().endFrame();
+        engine.spawnWeatherParticles(CANVAS_WIDTH, CANVAS_HEIGHT, TILE_SIZE, quality.getWeatherSpawnRate());
+        boolean refreshMinimap = scenarioFrames++ % quality.getMinimapRefreshFrames() == 0;
+        scenarioSnapshot.capture(engine, scenarioSnapshot, refreshMinimap, null, start, 1.0);
+        render(scenarioSnapshot, 1.0);
+        long t = profiler.begin(profHUD);
+        updateHUD(scenarioSnapshot);
+        profiler.end(profHUD, t);
+        canvas.snapshot(null, scenarioTarget); // Força a rasterização do frame
+        profiler.endFrame();
+        scenarioSession.recordFrame(System.nanoTime() - start);
+        Platform.runLater(this::runScenarioFrame);
+    }
+
+    /**
+     * Aplica o nível de qualidade atual aos sistemas (partículas, chuva/neve e minimapa)
+     * Transições e sprites são consultados direto em render()
+     */
+    private void applyQuality() {
+        quality = qualityGovernor.getLevel();
+        int maxParticles = quality.getMaxParticles();
+        engine.invokeLater(() -> engine.getParticleSystem().setMaxParticles(maxParticles));
+        if (simulation != null) {
+            simulation.setQuality(quality.getWeatherSpawnRate(), quality.getMinimapRefreshFrames());
+        }
+    }
+
+    /**
+     * Liga/desliga o rastreamento de alocação (F4); ao desligar, imprime o relatório
+     * Cada thread mede as próprias seções: a da simulação liga e relata no início de um tick.
+     */
+    private void toggleAllocationTracking() {
+        AllocationTracker tracker = profiler.getAllocationTracker();
+        boolean enable = !tracker.isEnabled();
+        toggleAllocationTracking(profiler, enable, "renderização");
+        FrameProfiler simulationProfiler = engine.getProfiler();
+        engine.invokeLater(() -> toggleAllocationTracking(simulationProfiler, enable, "simulação"));
+    }
+
+    private static void toggleAllocationTracking(FrameProfiler target, boolean enable, String name) {
+        AllocationTracker tracker = target.getAllocationTracker();
+        if (!enable) {
+            tracker.setEnabled(false);
+            System.out.println("📉 Relatório de alocação (" + name + "):");
+            System.out.print(tracker.report(target));
+        } else {
+            tracker.setEnabled(true);
+            System.out.println("📈 Rastreamento de alocação ligado na " + name + " (F4 de novo para o relatório)");
+        }
+    }
+
     // Obter sprite do player baseado na direção e frame de animação
-    private Image getPlayerSprite(Player player) {
-        Player.Direction facing = player.getFacing();
-        int frame = player.getAnimationFrame() % 6;
+    private Image getPlayerSprite(RenderSnapshot snapshot) {
+        Player.Direction facing = snapshot.getPlayerFacing();
+        int frame = snapshot.getPlayerAnimationFrame() % 6;
         
         // Mapeamento: 0=down, 1=up, 2=left, 3=right
         int direction;
@@ -125,92 +427,92 @@ public class GameWindow extends Application {
         return SpriteLoader.loadSprite("player/frame_0_0.png");
     }
 
-    private void render() {
+    /**
+     * Renderiza o frame a partir do snapshot (nada aqui toca no motor)
+     * @param alpha Fração do próximo tick já decorrida (interpolação de posições)
+     */
+    private void render(RenderSnapshot snapshot, double alpha) {
         // Fundo gradiente
         gc.setFill(Color.rgb(20, 30, 48));
         gc.fillRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
 
-        Farm farm = engine.getFarm();
-        Player player = engine.getPlayer();
-        TimeSystem time = engine.getTimeSystem();
+        // Posição interpolada do jogador (câmera suave entre ticks)
+        double playerRenderX = snapshot.getPlayerRenderX(alpha);
+        double playerRenderY = snapshot.getPlayerRenderY(alpha);
 
         // Calcular offset da câmera (centralizar no jogador)
-        int offsetX = CANVAS_WIDTH / 2 - player.getX() * TILE_SIZE - TILE_SIZE / 2;
-        int offsetY = CANVAS_HEIGHT / 2 - player.getY() * TILE_SIZE - TILE_SIZE / 2;
+        int offsetX = CANVAS_WIDTH / 2 - (int) Math.round(playerRenderX * TILE_SIZE) - TILE_SIZE / 2;
+        int offsetY = CANVAS_HEIGHT / 2 - (int) Math.round(playerRenderY * TILE_SIZE) - TILE_SIZE / 2;
 
-        // Otimização: Calcular viewport (área visível na tela)
-        int tilesOnScreenX = (CANVAS_WIDTH / TILE_SIZE) + 2; // +2 para margem
-        int tilesOnScreenY = (CANVAS_HEIGHT / TILE_SIZE) + 2;
-        
-        // Calcular tiles visíveis baseado na posição do jogador
-        int playerTileX = player.getX();
-        int playerTileY = player.getY();
-        
-        int startX = Math.max(0, playerTileX - tilesOnScreenX / 2);
-        int endX = Math.min(farm.getWidth(), playerTileX + tilesOnScreenX / 2);
-        int startY = Math.max(0, playerTileY - tilesOnScreenY / 2);
-        int endY = Math.min(farm.getHeight(), playerTileY + tilesOnScreenY / 2);
+        // Viewport (área visível na tela), calculado na captura
+        int startX = snapshot.getStartX();
+        int endX = snapshot.getEndX();
+        int startY = snapshot.getStartY();
+        int endY = snapshot.getEndY();
         
         // LAYER 0: Desenhar APENAS tiles visíveis (View Frustum Culling)
+        long t = profiler.begin(profTileBase);
         for (int x = startX; x < endX; x++) {
             for (int y = startY; y < endY; y++) {
-                Tile tile = farm.getTile(x, y);
-                if (tile != null) {
+                TileType type = snapshot.getTileType(x, y);
+                if (type != null) {
                     int screenX = x * TILE_SIZE + offsetX;
                     int screenY = y * TILE_SIZE + offsetY;
                     
                     // Verificar se está dentro da tela (otimização extra)
                     if (screenX > -TILE_SIZE && screenX < CANVAS_WIDTH + TILE_SIZE &&
                         screenY > -TILE_SIZE && screenY < CANVAS_HEIGHT + TILE_SIZE) {
-                        drawTileBase(tile, screenX, screenY);
+                        drawTileBase(snapshot, type, x, y, screenX, screenY);
                     }
                 }
             }
         }
         
-        // Agora desenhar transições suaves apenas para tiles visíveis
-        for (int x = startX; x < endX; x++) {
-            for (int y = startY; y < endY; y++) {
-                Tile tile = farm.getTile(x, y);
-                if (tile != null) {
-                    int screenX = x * TILE_SIZE + offsetX;
-                    int screenY = y * TILE_SIZE + offsetY;
+        profiler.end(profTileBase, t);
+        
+        // Agora desenhar transições suaves apenas para tiles visíveis (desligadas em qualidade baixa)
+        t = profiler.begin(profTransitions);
+        if (quality.isTileTransitions()) {
+            for (int x = startX; x < endX; x++) {
+                for (int y = startY; y < endY; y++) {
+                    TileType type = snapshot.getTileType(x, y);
+                    if (type != null) {
+                        int screenX = x * TILE_SIZE + offsetX;
+                        int screenY = y * TILE_SIZE + offsetY;
                     
-                    if (screenX > -TILE_SIZE && screenX < CANVAS_WIDTH + TILE_SIZE &&
-                        screenY > -TILE_SIZE && screenY < CANVAS_HEIGHT + TILE_SIZE) {
-                        drawTileTransitions(farm, tile, x, y, screenX, screenY);
+                        if (screenX > -TILE_SIZE && screenX < CANVAS_WIDTH + TILE_SIZE &&
+                            screenY > -TILE_SIZE && screenY < CANVAS_HEIGHT + TILE_SIZE) {
+                            drawTileTransitions(snapshot, type, x, y, screenX, screenY);
+                        }
                     }
                 }
             }
         }
         
+        profiler.end(profTransitions, t);
+        
         // LAYER 1: Decorações baixas (arbustos) - Abaixo do player
-        DecorationManager decorManager = farm.getDecorationManager();
-        for (Decoration deco : decorManager.getDecorationsByLayer(1)) {
-            drawDecoration(deco, offsetX, offsetY);
+        t = profiler.begin(profDecorations);
+        for (int i = 0; i < snapshot.getDecorationCount(1); i++) {
+            drawDecoration(snapshot.getDecoration(1, i), offsetX, offsetY);
         }
+        profiler.end(profDecorations, t);
         
-        // LAYER 1.5: Desenhar NPCs e Inimigos
-        EntityManager entityManager = engine.getEntityManager();
-        
-        // Desenhar NPCs
-        for (NPC npc : entityManager.getNPCs()) {
-            drawNPC(npc, offsetX, offsetY, player.getX(), player.getY());
+        // LAYER 1.5: Desenhar NPCs e Inimigos (já filtrados pela área visível, só os vivos)
+        t = profiler.begin(profEntities);
+        for (int i = 0; i < snapshot.getNpcCount(); i++) {
+            drawNPC(snapshot.getNpc(i), offsetX, offsetY, alpha);
         }
-        
-        // Desenhar Inimigos
-        for (Enemy enemy : entityManager.getEnemies()) {
-            if (!enemy.isDead()) {
-                drawEnemy(enemy, offsetX, offsetY, player.getX(), player.getY());
-            }
+        for (int i = 0; i < snapshot.getEnemyCount(); i++) {
+            drawEnemy(snapshot.getEnemy(i), offsetX, offsetY, alpha);
         }
 
         // LAYER 2: Desenhar jogador
-        int playerScreenX = player.getX() * TILE_SIZE + offsetX;
-        int playerScreenY = player.getY() * TILE_SIZE + offsetY;
+        int playerScreenX = (int) Math.round(playerRenderX * TILE_SIZE) + offsetX;
+        int playerScreenY = (int) Math.round(playerRenderY * TILE_SIZE) + offsetY;
         
         // Tentar carregar sprite animado baseado na direção
-        Image playerSprite = getPlayerSprite(player);
+        Image playerSprite = quality.isEntitySprites() ? getPlayerSprite(snapshot) : null;
         
         if (playerSprite != null) {
             // Desenhar sprite customizado 64x64 (quadrado)
@@ -237,91 +539,95 @@ public class GameWindow extends Application {
             gc.strokeArc(playerScreenX + 14, playerScreenY + 18, 12, 8, 180, 180, javafx.scene.shape.ArcType.OPEN);
         }
         
+        profiler.end(profEntities, t);
+        
         // LAYER 3: Decorações altas (árvores, ruínas) - Sobre o player
-        for (Decoration deco : decorManager.getDecorationsByLayer(3)) {
-            drawDecoration(deco, offsetX, offsetY);
+        t = profiler.begin(profDecorations);
+        for (int i = 0; i < snapshot.getDecorationCount(3); i++) {
+            drawDecoration(snapshot.getDecoration(3, i), offsetX, offsetY);
         }
+        profiler.end(profDecorations, t);
         
         // LAYER 4: Sistema de partículas
-        systems.ParticleSystem particles = engine.getParticleSystem();
-        particles.render(gc, offsetX, offsetY, TILE_SIZE);
+        t = profiler.begin(profParticles);
+        particleRenderer.render(gc, snapshot, offsetX, offsetY, TILE_SIZE);
+        profiler.end(profParticles, t);
         
-        // LAYER 5: Efeitos de clima
-        systems.WeatherSystem weather = engine.getWeatherSystem();
-        renderWeather(weather, offsetX, offsetY);
+        // LAYER 5: Efeitos de clima (chuva/neve já foram criadas pela simulação)
+        t = profiler.begin(profWeather);
+        renderWeather(snapshot);
+        profiler.end(profWeather, t);
         
         // Mensagem de status (se houver)
-        String message = engine.getStatusMessage();
+        t = profiler.begin(profUI);
+        String message = snapshot.getStatusMessage();
         if (!message.isEmpty()) {
             drawStatusMessage(message);
         }
         
         // HOT BAR sempre visível
-        UIManager uiManager = engine.getUIManager();
-        uiManager.renderHotBar(gc, player.getInventory(), CANVAS_WIDTH, CANVAS_HEIGHT);
+        UIManager uiManager = snapshot.getUI();
+        uiRenderer.renderHotBar(gc, snapshot.getInventory(), CANVAS_WIDTH, CANVAS_HEIGHT);
         
         // Renderizar inventário completo (se aberto)
         if (uiManager.isInventoryOpen()) {
-            uiManager.renderInventory(gc, player.getInventory(), CANVAS_WIDTH, CANVAS_HEIGHT);
+            uiRenderer.renderInventory(gc, uiManager, snapshot.getInventory(), CANVAS_WIDTH, CANVAS_HEIGHT);
         }
         
         // Renderizar loja (se aberta)
         if (uiManager.isShopOpen()) {
-            uiManager.renderShop(gc, player.getInventory(), engine.getShopSystem(), CANVAS_WIDTH, CANVAS_HEIGHT);
+            uiRenderer.renderShop(gc, uiManager, snapshot.getInventory(), CANVAS_WIDTH, CANVAS_HEIGHT);
         }
         
+        profiler.end(profUI, t);
+        
         // Minimapa
-        systems.Minimap minimap = engine.getMinimap();
-        minimap.render(gc, farm, player, 
-                      engine.getEntityManager().getNPCs(),
-                      engine.getEntityManager().getEnemies(),
-                      CANVAS_WIDTH, CANVAS_HEIGHT);
+        t = profiler.begin(profMinimap);
+        minimap.render(gc, snapshot, CANVAS_WIDTH, CANVAS_HEIGHT);
+        profiler.end(profMinimap, t);
         
         // Missões ativas (canto superior esquerdo)
-        renderQuestTracker();
+        t = profiler.begin(profUI);
+        renderQuestTracker(snapshot);
+        profiler.end(profUI, t);
         
         // Efeito de iluminação dia/noite
-        double darkness = time.getDarknessLevel();
+        t = profiler.begin(profWeather);
+        double darkness = snapshot.getDarkness();
         if (darkness > 0) {
-            double[] lightColor = time.getLightColor();
             gc.setFill(Color.rgb(
-                (int)(0 * lightColor[0]),
-                (int)(0 * lightColor[1]),
-                (int)(30 * lightColor[2]),
+                (int)(0 * snapshot.getLightColor(0)),
+                (int)(0 * snapshot.getLightColor(1)),
+                (int)(30 * snapshot.getLightColor(2)),
                 darkness * 0.7
             ));
             gc.fillRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
         }
         
         // Relâmpago (se tempestade)
-        if (weather.shouldFlashLightning()) {
+        if (snapshot.isLightning()) {
             gc.setFill(Color.rgb(255, 255, 255, 0.7));
             gc.fillRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
         }
+        profiler.end(profWeather, t);
+        
+        // Perfiladores de frame (F3): renderização e simulação
+        if (profiler.isEnabled()) {
+            profilerOverlay.render(gc, profiler, qualityGovernor, CANVAS_WIDTH, CANVAS_HEIGHT);
+            simulationOverlay.render(gc, engine.getProfiler(), null, CANVAS_WIDTH, CANVAS_HEIGHT);
+        }
     }
     
     /**
-     * Renderiza efeitos de clima
+     * Renderiza o overlay do clima
      */
-    private void renderWeather(systems.WeatherSystem weather, int offsetX, int offsetY) {
-        systems.ParticleSystem particles = engine.getParticleSystem();
-        
-        // Spawnar partículas de chuva/neve
-        if (weather.shouldSpawnRain()) {
-            particles.spawnRainDrop(CANVAS_WIDTH, CANVAS_HEIGHT, TILE_SIZE);
-        }
-        if (weather.shouldSpawnSnow()) {
-            particles.spawnSnowflake(CANVAS_WIDTH, CANVAS_HEIGHT, TILE_SIZE);
-        }
-        
-        // Overlay de clima
-        double[] overlay = weather.getOverlayColor();
-        if (overlay[3] > 0) {
+    private void renderWeather(RenderSnapshot snapshot) {
+        if (snapshot.getWeatherOverlay(3) > 0) {
             gc.setFill(Color.rgb(
-                (int)(overlay[0] * 255),
-                (int)(overlay[1] * 255),
-                (int)(overlay[2] * 255),
-                overlay[3]
+                (int)(snapshot.getWeatherOverlay(0) * 255),
+                (int)(snapshot.getWeatherOverlay(1) * 255),
+                (int)(snapshot.getWeatherOverlay(2) * 255),
+                snapshot.getWeatherOverlay(3)
             ));
             gc.fillRect(0, 0, CANVAS_WIDTH, CANVAS_HEIGHT);
         }
@@ -330,17 +636,14 @@ public class GameWindow extends Application {
     /**
      * Renderiza tracker de missões no canto superior esquerdo
      */
-    private void renderQuestTracker() {
-        systems.QuestSystem questSystem = engine.getQuestSystem();
-        java.util.List<systems.QuestSystem.Quest> quests = questSystem.getActiveQuests();
-        
-        if (quests.isEmpty()) return;
+    private void renderQuestTracker(RenderSnapshot snapshot) {
+        int shown = snapshot.getQuestCount(); // Máximo 3 missões visíveis (limite da captura)
+        if (shown == 0) return;
         
         int x = 15;
         int y = 15;
         int width = 180;
         int lineHeight = 20;
-        int shown = Math.min(3, quests.size()); // Máximo 3 missões visíveis
         int height = 35 + shown * lineHeight;
         
         // Fundo
@@ -358,20 +661,18 @@ public class GameWindow extends Application {
         
         // Missões
         gc.setFont(Font.font("Arial", 9));
-        int idx = 0;
-        for (systems.QuestSystem.Quest quest : quests) {
-            if (idx >= shown) break;
-            
+        for (int idx = 0; idx < shown; idx++) {
             int qy = y + 32 + idx * lineHeight;
+            boolean completed = snapshot.isQuestCompleted(idx);
             
             // Truncar nome se muito longo
-            String text = quest.getName();
+            String text = snapshot.getQuestName(idx);
             if (text.length() > 18) {
                 text = text.substring(0, 15) + "...";
             }
             
             // Cor baseada no estado
-            if (quest.isCompleted()) {
+            if (completed) {
                 gc.setFill(Color.rgb(100, 255, 100));
             } else {
                 gc.setFill(Color.rgb(200, 200, 200));
@@ -380,21 +681,42 @@ public class GameWindow extends Application {
             gc.fillText(text, x + 8, qy);
             
             // Barra de progresso pequena
-            double progress = quest.getProgressPercent();
+            double progress = snapshot.getQuestProgress(idx);
             int barWidth = 40;
             int barX = x + width - barWidth - 8;
             
             gc.setFill(Color.rgb(50, 50, 50));
             gc.fillRect(barX, qy - 7, barWidth, 6);
             
-            Color barColor = quest.isCompleted() ? Color.rgb(100, 255, 100) : Color.rgb(255, 200, 100);
+            Color barColor = completed ? Color.rgb(100, 255, 100) : Color.rgb(255, 200, 100);
             gc.setFill(barColor);
             gc.fillRect(barX, qy - 7, (int)(barWidth * progress), 6);
-            
-            idx++;
         }
     }
     
+    /**
+     * Indicador do avanço rápido com a taxa de ticks simulados
+     */
+    private void drawWarpIndicator(RenderSnapshot snapshot) {
+        String text = String.format("⏩ AVANÇO RÁPIDO  %,.0f ticks/s (%.0fx)  [F6]",
+            snapshot.getWarpTicksPerSecond(), snapshot.getWarpMultiplier());
+        double width = 420;
+        double x = (CANVAS_WIDTH - width) / 2;
+        double y = 80;
+        
+        gc.setFill(Color.rgb(20, 20, 25, 0.9));
+        gc.fillRoundRect(x, y, width, 40, 8, 8);
+        gc.setStroke(Color.rgb(255, 165, 0));
+        gc.setLineWidth(2);
+        gc.strokeRoundRect(x, y, width, 40, 8, 8);
+        
+        gc.setFill(Color.rgb(255, 215, 0));
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(text, CANVAS_WIDTH / 2, y + 20);
+    }
+    
     private void drawStatusMessage(String message) {
         // Calcular largura baseada no tamanho do texto
         double charWidth = 8; // Aproximadamente 8 pixels por caractere
@@ -432,8 +754,8 @@ public class GameWindow extends Application {
         gc.fillText(message, CANVAS_WIDTH / 2, msgY + msgHeight / 2);
     }
     
-    private void drawDecoration(Decoration deco, int offsetX, int offsetY) {
-        Image sprite = deco.getSprite();
+    private void drawDecoration(RenderSnapshot.DecorationView deco, int offsetX, int offsetY) {
+        Image sprite = SpriteLoader.loadSprite(deco.getType().getSpriteFile());
         
         int x = deco.getX() * TILE_SIZE + offsetX;
         int y = deco.getY() * TILE_SIZE + offsetY;
@@ -470,9 +792,9 @@ public class GameWindow extends Application {
     /**
      * Desenha um NPC no mapa
      */
-    private void drawNPC(NPC npc, int offsetX, int offsetY, int playerX, int playerY) {
-        int screenX = npc.getX() * TILE_SIZE + offsetX;
-        int screenY = npc.getY() * TILE_SIZE + offsetY;
+    private void drawNPC(RenderSnapshot.EntityView npc, int offsetX, int offsetY, double alpha) {
+        int screenX = (int) Math.round(npc.getRenderX(alpha) * TILE_SIZE) + offsetX;
+        int screenY = (int) Math.round(npc.getRenderY(alpha) * TILE_SIZE) + offsetY;
         
         // Verificar se está na tela
         if (screenX < -TILE_SIZE || screenX > CANVAS_WIDTH + TILE_SIZE ||
@@ -480,10 +802,10 @@ public class GameWindow extends Application {
             return;
         }
         
-        NPC.NPCType type = npc.getType();
+        NPC.NPCType type = npc.getNpcType();
         
         // Tentar carregar sprite do NPC
-        Image npcSprite = getNPCSprite(npc);
+        Image npcSprite = quality.isEntitySprites() ? getNPCSprite(npc) : null;
         
         if (npcSprite != null) {
             // Sombra
@@ -528,7 +850,7 @@ public class GameWindow extends Application {
         }
         
         // Nome e tipo acima do NPC (se próximo do jogador)
-        if (npc.isNearPlayer(playerX, playerY)) {
+        if (npc.isNearPlayer()) {
             gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
             gc.setTextAlign(TextAlignment.CENTER);
             gc.setFill(Color.WHITE);
@@ -546,9 +868,9 @@ public class GameWindow extends Application {
     /**
      * Obtém sprite do NPC baseado no tipo e direção
      */
-    private Image getNPCSprite(NPC npc) {
+    private Image getNPCSprite(RenderSnapshot.EntityView npc) {
         String folder;
-        NPC.NPCType type = npc.getType();
+        NPC.NPCType type = npc.getNpcType();
         
         // Determinar pasta baseado no tipo
         switch (type) {
@@ -564,16 +886,8 @@ public class GameWindow extends Application {
                 folder = "npcs/villager";
         }
         
-        // Determinar direção (0=down, 1=up, 2=left, 3=right)
-        int direction;
-        switch (npc.getFacing()) {
-            case DOWN: direction = 0; break;
-            case UP: direction = 1; break;
-            case LEFT: direction = 2; break;
-            case RIGHT: direction = 3; break;
-            default: direction = 0;
-        }
-        
+        // Direção já no formato dos sprites (0=down, 1=up, 2=left, 3=right)
+        int direction = npc.getDirection();
         int frame = npc.getAnimationFrame() % 6;
         String spriteName = folder + "/frame_" + direction + "_" + frame + ".png";
         
@@ -583,9 +897,9 @@ public class GameWindow extends Application {
     /**
      * Desenha um inimigo no mapa
      */
-    private void drawEnemy(Enemy enemy, int offsetX, int offsetY, int playerX, int playerY) {
-        int screenX = enemy.getX() * TILE_SIZE + offsetX;
-        int screenY = enemy.getY() * TILE_SIZE + offsetY;
+    private void drawEnemy(RenderSnapshot.EntityView enemy, int offsetX, int offsetY, double alpha) {
+        int screenX = (int) Math.round(enemy.getRenderX(alpha) * TILE_SIZE) + offsetX;
+        int screenY = (int) Math.round(enemy.getRenderY(alpha) * TILE_SIZE) + offsetY;
         
         // Verificar se está na tela
         if (screenX < -TILE_SIZE || screenX > CANVAS_WIDTH + TILE_SIZE ||
@@ -593,10 +907,10 @@ public class GameWindow extends Application {
             return;
         }
         
-        Enemy.EnemyType type = enemy.getType();
+        Enemy.EnemyType type = enemy.getEnemyType();
         
         // Tentar carregar sprite do inimigo
-        Image enemySprite = getEnemySprite(enemy);
+        Image enemySprite = quality.isEntitySprites() ? getEnemySprite(enemy) : null;
         
         if (enemySprite != null) {
             // Sombra
@@ -649,7 +963,7 @@ public class GameWindow extends Application {
         drawEnemyHealthBar(screenX, barY, TILE_SIZE, enemy.getHealth(), enemy.getMaxHealth());
         
         // Nome se próximo
-        if (enemy.isAdjacentTo(playerX, playerY)) {
+        if (enemy.isNearPlayer()) {
             gc.setFont(Font.font("Arial", FontWeight.BOLD, 10));
             gc.setTextAlign(TextAlignment.CENTER);
             gc.setFill(Color.rgb(255, 100, 100));
@@ -664,20 +978,12 @@ public class GameWindow extends Application {
     /**
      * Obtém sprite do inimigo baseado no tipo e direção
      */
-    private Image getEnemySprite(Enemy enemy) {
+    private Image getEnemySprite(RenderSnapshot.EntityView enemy) {
         // Usar o sprite do orc para todos os inimigos
         String folder = "enemies/orc";
         
-        // Determinar direção (0=down, 1=up, 2=left, 3=right)
-        int direction;
-        switch (enemy.getFacing()) {
-            case DOWN: direction = 0; break;
-            case UP: direction = 1; break;
-            case LEFT: direction = 2; break;
-            case RIGHT: direction = 3; break;
-            default: direction = 0;
-        }
-        
+        // Direção já no formato dos sprites (0=down, 1=up, 2=left, 3=right)
+        int direction = enemy.getDirection();
         int frame = enemy.getAnimationFrame() % 6;
         String spriteName = folder + "/frame_" + direction + "_" + frame + ".png";
         
@@ -819,9 +1125,7 @@ public class GameWindow extends Application {
     /**
      * Desenha a base do tile sem bordas
      */
-    private void drawTileBase(Tile tile, int x, int y) {
-        TileType type = tile.getType();
-        
+    private void drawTileBase(RenderSnapshot snapshot, TileType type, int tileX, int tileY, int x, int y) {
         // Tentar carregar sprite do tile
         String spriteFile = null;
         switch (type) {
@@ -877,14 +1181,14 @@ public class GameWindow extends Application {
         }
 
         // Desenhar planta se houver (sobre o tile base)
-        if (tile.hasCrop()) {
-            Crop crop = tile.getCrop();
-            CropType cropType = crop.getType();
-            double progress = crop.getGrowthProgress();
+        CropType cropType = snapshot.getCropType(tileX, tileY);
+        if (cropType != null) {
+            double progress = snapshot.getCropProgress(tileX, tileY);
+            boolean fullyGrown = snapshot.isCropGrown(tileX, tileY);
             
             // Determinar qual sprite usar baseado no progresso
             String spriteName;
-            if (crop.isFullyGrown()) {
+            if (fullyGrown) {
                 // Planta madura - usar sprite específico
                 if (cropType == CropType.CORN) {
                     spriteName = "icons/corn_3.png";
@@ -920,7 +1224,7 @@ public class GameWindow extends Application {
             }
 
             // Indicador de planta madura (estrela dourada)
-            if (crop.isFullyGrown()) {
+            if (fullyGrown) {
                 gc.setFill(Color.GOLD);
                 gc.fillOval(x + TILE_SIZE - 12, y + 4, 8, 8);
                 gc.setFill(Color.rgb(255, 255, 0));
@@ -929,13 +1233,8 @@ public class GameWindow extends Application {
         }
     }
 
-    private void updateHUD() {
+    private void updateHUD(RenderSnapshot snapshot) {
         hudBox.getChildren().clear();
-
-        Player player = engine.getPlayer();
-        TimeSystem time = engine.getTimeSystem();
-        systems.LevelSystem level = engine.getLevelSystem();
-        systems.GameStats stats = engine.getGameStats();
         
         // Container horizontal para informações principais
         javafx.scene.layout.HBox infoBox = new javafx.scene.layout.HBox(10);
@@ -948,28 +1247,29 @@ public class GameWindow extends Application {
         title.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.7), 3, 0, 0, 2);");
         
         // Card de Nível/XP
-        String levelStr = "Nv." + level.getLevel() + " (" + (int)(level.getLevelProgress() * 100) + "%)";
+        String levelStr = "Nv." + snapshot.getLevel() + " (" + (int)(snapshot.getLevelProgress() * 100) + "%)";
         javafx.scene.layout.VBox levelCard = createInfoCard("⭐", "NÍVEL", levelStr, Color.rgb(255, 165, 0));
         
         // Card de Hora/Data
-        String timeStr = time.getTimeString() + " | " + time.getSeason().substring(0, 3) + " " + time.getDayOfSeason();
+        int timeOfDay = snapshot.getTimeOfDay();
+        String timeStr = String.format("%02d:%02d", timeOfDay / 60, timeOfDay % 60)
+            + " | " + snapshot.getSeason().substring(0, 3) + " " + snapshot.getDayOfSeason();
         javafx.scene.layout.VBox dateCard = createInfoCard("🕐", "HORA", timeStr, Color.rgb(70, 130, 180));
         
         // Card de Dinheiro
-        javafx.scene.layout.VBox moneyCard = createInfoCard("💰", "DINHEIRO", "$" + player.getMoney(), Color.rgb(255, 215, 0));
+        javafx.scene.layout.VBox moneyCard = createInfoCard("💰", "DINHEIRO", "$" + snapshot.getMoney(), Color.rgb(255, 215, 0));
         
         // Card de Sementes
         javafx.scene.layout.VBox seedCard = createInfoCard("🌱", "SEMENTE", 
-            player.getSelectedSeed().getName() + " ($" + player.getSelectedSeed().getSeedCost() + ")", 
+            snapshot.getSelectedSeed().getName() + " ($" + snapshot.getSelectedSeed().getSeedCost() + ")", 
             Color.rgb(34, 139, 34));
         
         // Barras de vida e energia
-        javafx.scene.canvas.Canvas statusBars = createStatusBars(player);
+        javafx.scene.canvas.Canvas statusBars = createStatusBars(snapshot);
         
         // Card de clima
-        systems.WeatherSystem weather = engine.getWeatherSystem();
         javafx.scene.layout.VBox weatherCard = createInfoCard(
-            weather.getWeatherIcon(), "CLIMA", weather.getWeatherName(), 
+            snapshot.getWeatherIcon(), "CLIMA", snapshot.getWeatherName(), 
             Color.rgb(100, 150, 200));
         
         infoBox.getChildren().addAll(levelCard, dateCard, moneyCard, weatherCard, seedCard, statusBars);
@@ -989,7 +1289,7 @@ public class GameWindow extends Application {
     /**
      * Cria barras de vida e energia combinadas
      */
-    private javafx.scene.canvas.Canvas createStatusBars(Player player) {
+    private javafx.scene.canvas.Canvas createStatusBars(RenderSnapshot snapshot) {
         javafx.scene.canvas.Canvas canvas = new javafx.scene.canvas.Canvas(100, 50);
         javafx.scene.canvas.GraphicsContext g = canvas.getGraphicsContext2D();
         
@@ -1006,7 +1306,7 @@ public class GameWindow extends Application {
         
         // Barra de vida
         g.fillText("❤️ VIDA", 5, 14);
-        double healthPercent = player.getHealthPercent();
+        double healthPercent = (double) snapshot.getHealth() / snapshot.getMaxHealth();
         g.setFill(Color.rgb(40, 40, 40));
         g.fillRoundRect(5, 18, 90, 8, 3, 3);
         
@@ -1020,12 +1320,12 @@ public class GameWindow extends Application {
         // Texto da vida
         g.setFill(Color.WHITE);
         g.setFont(Font.font("Arial", 8));
-        g.fillText(player.getHealth() + "/" + player.getMaxHealth(), 40, 25);
+        g.fillText(snapshot.getHealth() + "/" + snapshot.getMaxHealth(), 40, 25);
         
         // Barra de energia
         g.setFont(Font.font("Arial", FontWeight.BOLD, 9));
         g.fillText("⚡ ENERGIA", 5, 36);
-        double energyPercent = player.getEnergyPercent();
+        double energyPercent = (double) snapshot.getEnergy() / snapshot.getMaxEnergy();
         g.setFill(Color.rgb(40, 40, 40));
         g.fillRoundRect(5, 40, 90, 8, 3, 3);
         g.setFill(Color.rgb(255, 193, 7));
@@ -1034,7 +1334,7 @@ public class GameWindow extends Application {
         // Texto da energia
         g.setFill(Color.WHITE);
         g.setFont(Font.font("Arial", 8));
-        g.fillText(player.getEnergy() + "/" + player.getMaxEnergy(), 40, 47);
+        g.fillText(snapshot.getEnergy() + "/" + snapshot.getMaxEnergy(), 40, 47);
         
         return canvas;
     }
@@ -1135,19 +1435,17 @@ public class GameWindow extends Application {
     /**
      * Desenha transições suaves entre tiles diferentes para eliminar divisões
      */
-    private void drawTileTransitions(Farm farm, Tile tile, int tileX, int tileY, int screenX, int screenY) {
-        TileType currentType = tile.getType();
-        
+    private void drawTileTransitions(RenderSnapshot snapshot, TileType currentType, int tileX, int tileY, int screenX, int screenY) {
         // Verificar tiles adjacentes (8 direções)
         TileType[] neighbors = new TileType[8];
-        neighbors[0] = getNeighborType(farm, tileX, tileY - 1); // Norte
-        neighbors[1] = getNeighborType(farm, tileX + 1, tileY - 1); // Nordeste
-        neighbors[2] = getNeighborType(farm, tileX + 1, tileY); // Leste
-        neighbors[3] = getNeighborType(farm, tileX + 1, tileY + 1); // Sudeste
-        neighbors[4] = getNeighborType(farm, tileX, tileY + 1); // Sul
-        neighbors[5] = getNeighborType(farm, tileX - 1, tileY + 1); // Sudoeste
-        neighbors[6] = getNeighborType(farm, tileX - 1, tileY); // Oeste
-        neighbors[7] = getNeighborType(farm, tileX - 1, tileY - 1); // Noroeste
+        neighbors[0] = getNeighborType(snapshot, tileX, tileY - 1); // Norte
+        neighbors[1] = getNeighborType(snapshot, tileX + 1, tileY - 1); // Nordeste
+        neighbors[2] = getNeighborType(snapshot, tileX + 1, tileY); // Leste
+        neighbors[3] = getNeighborType(snapshot, tileX + 1, tileY + 1); // Sudeste
+        neighbors[4] = getNeighborType(snapshot, tileX, tileY + 1); // Sul
+        neighbors[5] = getNeighborType(snapshot, tileX - 1, tileY + 1); // Sudoeste
+        neighbors[6] = getNeighborType(snapshot, tileX - 1, tileY); // Oeste
+        neighbors[7] = getNeighborType(snapshot, tileX - 1, tileY - 1); // Noroeste
         
         // Desenhar bordas suaves apenas onde há transições
         int blendSize = 3; // Tamanho da zona de transição em pixels
@@ -1203,11 +1501,10 @@ public class GameWindow extends Application {
     }
     
     /**
-     * Obtém o tipo de tile adjacente
+     * Obtém o tipo de tile adjacente (a captura inclui a borda de um tile)
      */
-    private TileType getNeighborType(Farm farm, int x, int y) {
-        Tile neighbor = farm.getTile(x, y);
-        return neighbor != null ? neighbor.getType() : null;
+    private TileType getNeighborType(RenderSnapshot snapshot, int x, int y) {
+        return snapshot.getTileType(x, y);
     }
     
     /**
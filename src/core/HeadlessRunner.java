@@ -0,0 +1,132 @@
+package core;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import diagnostics.FrameProfiler;
+import world.WorldSettings;
+
+/**
+ * Executa a simulação sem janela (sem JavaFX)
+ * Útil para rodar milhares de ticks em servidores ou máquinas de build
+ *
+ * Uso: java -cp build core.HeadlessRunner [ticks] [--seed=N] [--preset=nome] [--replay=arquivo.fvr] [--days=N] [--profile] [--alloc]
+ * Com --preset, escolhe o tamanho do mundo (pequeno, médio, grande, enorme, colossal; padrão:
+ * "preset" do farmvalley.properties ou médio) e imprime o tempo de criação e a memória usada
+ * Com --replay, a semente vem da gravação e a simulação roda até o último evento
+ * Com --days, roda em avanço rápido até passarem N dias (virada automática à meia-noite)
+ * Com --profile, mede cada sistema do tick e imprime média e p99 ao final
+ * Com --alloc, mede os bytes alocados por sistema e as pausas de GC durante os ticks
+ */
+public class HeadlessRunner {
+    private static final int DEFAULT_TICKS = 36_000; // 10 minutos de jogo a 60 ticks/s
+
+    public static void main(String[] args) {
+        long ticks = DEFAULT_TICKS;
+        Long seed = null;
+        String replayPath = null;
+        String preset = null;
+        int days = 0;
+        boolean profile = false;
+        boolean alloc = false;
+
+        for (String arg : args) {
+            try {
+                if (arg.equals("--profile")) {
+                    profile = true;
+                } else if (arg.equals("--alloc")) {
+                    alloc = true;
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring("--seed=".length()));
+                } else if (arg.startsWith("--days=")) {
+                    days = Integer.parseInt(arg.substring("--days=".length()));
+                } else if (arg.startsWith("--preset=")) {
+                    preset = arg.substring("--preset=".length());
+                } else if (arg.startsWith("--replay=")) {
+                    replayPath = arg.substring("--replay=".length());
+                } else {
+                    ticks = Long.parseLong(arg);
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("⚠️ Argumento inválido: " + arg);
+            }
+        }
+
+        InputReplayer replayer = null;
+        if (replayPath != null) {
+            try {
+                replayer = new InputReplayer(replayPath);
+                seed = replayer.getSeed();
+                ticks = Math.max(ticks, replayer.getLastTick() + 1);
+                System.out.println("▶️ Reproduzindo " + replayPath + " (" + replayer.getEventCount() + " eventos)");
+            } catch (IOException e) {
+                System.out.println("❌ Não foi possível abrir a gravação: " + e.getMessage());
+                return;
+            }
+        }
+
+        WorldSettings world = WorldSettings.fromConfig(preset);
+        long createStart = System.nanoTime();
+        GameEngine engine = new GameEngine(seed != null ? seed : System.nanoTime(), world);
+        printFootprint(engine, System.nanoTime() - createStart);
+        EngineMonitor.register(engine);
+        FrameProfiler profiler = engine.getProfiler();
+        profiler.setEnabled(profile);
+        profiler.getAllocationTracker().setEnabled(alloc);
+
+        if (days > 0) {
+            TimeWarp warp = new TimeWarp(engine);
+            System.out.println("⏩ Avanço rápido: simulando " + days + " dias...");
+            long warpTicks = warp.runDays(days);
+            System.out.println("✅ " + days + " dias (" + warpTicks + " ticks) a " +
+                               String.format("%.0f", warp.getTicksPerSecond()) + " ticks/s (" +
+                               String.format("%.0f", warp.getSpeedMultiplier()) + "x)");
+            printSummary(engine);
+            return;
+        }
+
+        System.out.println("🖥️ Modo headless: simulando " + ticks + " ticks...");
+        long start = System.nanoTime();
+        for (long i = 0; i < ticks; i++) {
+            if (replayer != null) {
+                replayer.feed(engine);
+            }
+            engine.update(GameEngine.TICK_DT);
+            profiler.endFrame(); // Sem janela, cada tick é um frame
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1_000_000_000.0;
+        System.out.println("✅ " + ticks + " ticks em " + String.format("%.2f", seconds) + "s (" +
+                           String.format("%.0f", ticks / Math.max(seconds, 1e-9)) + " ticks/s)");
+        printSummary(engine);
+        if (profile) {
+            System.out.println("⏱️ Perfil dos últimos " + profiler.getSampleCount() + " ticks:");
+            System.out.print(profiler.report());
+        }
+        if (alloc) {
+            profiler.getAllocationTracker().setEnabled(false);
+            System.out.print(profiler.getAllocationTracker().report(profiler));
+        }
+    }
+
+    /**
+     * Tempo de criação do mundo e heap ocupado depois de uma coleta
+     */
+    static void printFootprint(GameEngine engine, long createNanos) {
+        System.gc();
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        System.out.println(String.format("💾 Mundo criado em %dms | heap usado: %dMB | chunks: %d | decorações: %d | entidades: %d",
+            createNanos / 1_000_000, heapUsed >> 20, engine.getFarm().getLoadedChunkCount(),
+            engine.getFarm().getDecorationManager().getCount(),
+            engine.getEntityManager().getNPCCount() + engine.getEntityManager().getEnemyCount()));
+    }
+
+    private static void printSummary(GameEngine engine) {
+        System.out.println("📅 " + engine.getTimeSystem().getShortDateString() +
+                           " | Inimigos vivos: " + engine.getEntityManager().getEnemies().size() +
+                           " | Partículas: " + engine.getParticleSystem().getParticleCount());
+        System.out.println("🧍 Jogador em (" + engine.getPlayer().getX() + ", " + engine.getPlayer().getY() +
+                           ") | $" + engine.getPlayer().getMoney());
+    }
+}
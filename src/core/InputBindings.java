@@ -0,0 +1,107 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tabela de associação tecla → comando
+ * Indexada pelo ordinal da tecla, então traduzir um evento é um acesso a array.
+ * Várias teclas podem disparar o mesmo comando (ex: W e seta para cima).
+ */
+public class InputBindings {
+    private static final GameKey[] KEYS = GameKey.values();
+
+    private final Command[] commandByKey;
+    private final long[] keyMaskByCommand; // Bits (ordinal da tecla) associados a cada comando
+
+    public InputBindings() {
+        this.commandByKey = new Command[KEYS.length];
+        this.keyMaskByCommand = new long[Command.values().length];
+    }
+
+    /**
+     * Associações padrão do jogo
+     */
+    public static InputBindings defaults() {
+        InputBindings bindings = new InputBindings();
+        bindings.bind(GameKey.W, Command.MOVE_UP);
+        bindings.bind(GameKey.UP, Command.MOVE_UP);
+        bindings.bind(GameKey.S, Command.MOVE_DOWN);
+        bindings.bind(GameKey.DOWN, Command.MOVE_DOWN);
+        bindings.bind(GameKey.A, Command.MOVE_LEFT);
+        bindings.bind(GameKey.LEFT, Command.MOVE_LEFT);
+        bindings.bind(GameKey.D, Command.MOVE_RIGHT);
+        bindings.bind(GameKey.RIGHT, Command.MOVE_RIGHT);
+
+        bindings.bind(GameKey.T, Command.TILL);
+        bindings.bind(GameKey.P, Command.PLANT);
+        bindings.bind(GameKey.H, Command.HARVEST);
+        bindings.bind(GameKey.Z, Command.SLEEP);
+        bindings.bind(GameKey.C, Command.CHANGE_SEED);
+        bindings.bind(GameKey.E, Command.COLLECT_RESOURCE);
+        bindings.bind(GameKey.SPACE, Command.COLLECT_RESOURCE);
+        bindings.bind(GameKey.TAB, Command.SHOW_STATS);
+        bindings.bind(GameKey.F, Command.INTERACT);
+        bindings.bind(GameKey.Q, Command.ATTACK);
+        bindings.bind(GameKey.R, Command.USE_POTION);
+        bindings.bind(GameKey.J, Command.SHOW_QUESTS);
+
+        bindings.bind(GameKey.I, Command.TOGGLE_INVENTORY);
+        bindings.bind(GameKey.ESCAPE, Command.CLOSE_MENU);
+        bindings.bind(GameKey.DIGIT1, Command.SLOT_1);
+        bindings.bind(GameKey.DIGIT2, Command.SLOT_2);
+        bindings.bind(GameKey.DIGIT3, Command.SLOT_3);
+        bindings.bind(GameKey.DIGIT4, Command.SLOT_4);
+        bindings.bind(GameKey.DIGIT5, Command.SLOT_5);
+        bindings.bind(GameKey.DIGIT6, Command.SLOT_6);
+        return bindings;
+    }
+
+    /**
+     * Associa a tecla ao comando (substitui a associação anterior da tecla)
+     */
+    public void bind(GameKey key, Command command) {
+        unbind(key);
+        commandByKey[key.ordinal()] = command;
+        keyMaskByCommand[command.ordinal()] |= 1L << key.ordinal();
+    }
+
+    /**
+     * Remove a associação da tecla
+     */
+    public void unbind(GameKey key) {
+        Command previous = commandByKey[key.ordinal()];
+        if (previous != null) {
+            keyMaskByCommand[previous.ordinal()] &= ~(1L << key.ordinal());
+            commandByKey[key.ordinal()] = null;
+        }
+    }
+
+    /**
+     * @return Comando da tecla ou null se a tecla não está associada
+     */
+    public Command getCommand(GameKey key) {
+        return commandByKey[key.ordinal()];
+    }
+
+    /**
+     * Bits (ordinal da tecla) de todas as teclas associadas ao comando
+     */
+    public long getKeyMask(Command command) {
+        return keyMaskByCommand[command.ordinal()];
+    }
+
+    /**
+     * Teclas associadas ao comando (para exibir na interface)
+     */
+    public List<GameKey> getKeys(Command command) {
+        List<GameKey> keys = new ArrayList<>();
+        long mask = keyMaskByCommand[command.ordinal()];
+        for (GameKey key : KEYS) {
+            if ((mask & (1L << key.ordinal())) != 0) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
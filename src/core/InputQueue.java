@@ -0,0 +1,64 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fila de teclas entre a thread do JavaFX e a thread da simulação
+ * Um produtor (eventos de teclado do FX) e um consumidor (simulação, antes de cada tick),
+ * sem locks e sem alocação por evento: cada lado só escreve o próprio índice.
+ */
+public class InputQueue {
+    private static final int RELEASED_BIT = 1 << 16;
+    private static final GameKey[] KEYS = GameKey.values();
+
+    private final int[] events; // Ordinal de GameKey, com RELEASED_BIT quando a tecla foi solta
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // Próximo a ser lido (só o consumidor escreve)
+    private final AtomicLong tail = new AtomicLong(); // Próxima posição livre (só o produtor escreve)
+    private volatile int dropped;
+
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.events = new int[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Enfileira uma tecla (thread do produtor)
+     * @return false se a fila está cheia (o evento é descartado)
+     */
+    public boolean offer(GameKey key, boolean released) {
+        long t = tail.get();
+        if (t - head.get() == events.length) {
+            dropped++;
+            return false;
+        }
+        events[(int) (t & mask)] = key.ordinal() | (released ? RELEASED_BIT : 0);
+        tail.lazySet(t + 1); // Publica o evento depois de escrito
+        return true;
+    }
+
+    /**
+     * Entrega as teclas pendentes ao motor, na ordem em que chegaram (thread do consumidor)
+     * @return Quantidade de eventos entregues
+     */
+    public int drainTo(GameEngine engine) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int event = events[(int) (i & mask)];
+            GameKey key = KEYS[event & (RELEASED_BIT - 1)];
+            if ((event & RELEASED_BIT) != 0) {
+                engine.keyReleased(key);
+            } else {
+                engine.keyPressed(key);
+            }
+        }
+        head.lazySet(t); // Libera os slots para o produtor
+        return (int) (t - h);
+    }
+
+    public boolean isEmpty() { return head.get() == tail.get(); }
+    public int getCapacity() { return events.length; }
+    public int getDroppedCount() { return dropped; }
+}
@@ -0,0 +1,77 @@
+package core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Grava os comandos do jogador em um arquivo binário compacto
+ *
+ * Formato:
+ *   cabeçalho: "FVRP" | versão (1 byte) | semente (8 bytes)
+ *   eventos:   delta de tick (varint) | (ordinal do comando << 1 | soltou) (1 byte)
+ *
+ * O tick de cada evento é o número de ticks já executados quando o comando foi
+ * recebido, ou seja, o evento vale a partir do tick seguinte. A gravação guarda
+ * comandos e não teclas, então não depende das associações de teclas.
+ */
+public class InputRecorder {
+    static final int MAGIC = 0x46565250; // "FVRP"
+    static final int VERSION = 2;
+
+    private final DataOutputStream out;
+    private final String path;
+    private long lastTick;
+    private int eventCount;
+
+    public InputRecorder(String path, long seed) throws IOException {
+        this.path = path;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)));
+        this.lastTick = 0;
+        this.eventCount = 0;
+
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+    }
+
+    /**
+     * Registra um evento de comando
+     */
+    public void record(long tick, Command command, boolean released) {
+        try {
+            writeVarLong(tick - lastTick);
+            out.writeByte((command.ordinal() << 1) | (released ? 1 : 0));
+            lastTick = tick;
+            eventCount++;
+        } catch (IOException e) {
+            System.out.println("⚠️ Erro ao gravar entrada: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Inteiro sem sinal em blocos de 7 bits (LEB128)
+     */
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Fecha o arquivo de gravação
+     */
+    public void close() {
+        try {
+            out.close();
+            System.out.println("💾 Entrada gravada em " + path + " (" + eventCount + " eventos)");
+        } catch (IOException e) {
+            System.out.println("⚠️ Erro ao fechar gravação: " + e.getMessage());
+        }
+    }
+
+    public int getEventCount() { return eventCount; }
+}
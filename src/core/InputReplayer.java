@@ -0,0 +1,115 @@
+package core;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reproduz uma gravação feita pelo InputRecorder
+ * Antes de cada tick, entrega ao GameEngine os eventos gravados naquele tick
+ */
+public class InputReplayer {
+    private final long seed;
+    private final long[] ticks;
+    private final Command[] commands;
+    private final boolean[] released;
+    private final int eventCount;
+    private int cursor;
+
+    public InputReplayer(String path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (in.readInt() != InputRecorder.MAGIC) {
+                throw new IOException("Arquivo de gravação inválido: " + path);
+            }
+            int version = in.readUnsignedByte();
+            if (version != InputRecorder.VERSION) {
+                throw new IOException("Versão de gravação não suportada: " + version);
+            }
+            this.seed = in.readLong();
+
+            long[] tickBuf = new long[256];
+            Command[] commandBuf = new Command[256];
+            boolean[] releasedBuf = new boolean[256];
+            int count = 0;
+            long tick = 0;
+
+            while (true) {
+                long delta;
+                try {
+                    delta = readVarLong(in);
+                } catch (EOFException e) {
+                    break;
+                }
+                int packed = in.readUnsignedByte();
+                tick += delta;
+                if ((packed >>> 1) >= Command.values().length) {
+                    throw new IOException("Comando inválido na gravação: " + (packed >>> 1));
+                }
+
+                if (count == tickBuf.length) {
+                    tickBuf = Arrays.copyOf(tickBuf, count * 2);
+                    commandBuf = Arrays.copyOf(commandBuf, count * 2);
+                    releasedBuf = Arrays.copyOf(releasedBuf, count * 2);
+                }
+                tickBuf[count] = tick;
+                commandBuf[count] = Command.fromOrdinal(packed >>> 1);
+                releasedBuf[count] = (packed & 1) != 0;
+                count++;
+            }
+
+            this.ticks = tickBuf;
+            this.commands = commandBuf;
+            this.released = releasedBuf;
+            this.eventCount = count;
+            this.cursor = 0;
+        }
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+
+    /**
+     * Entrega ao motor todos os eventos do tick atual (chamar antes de update)
+     */
+    public void feed(GameEngine engine) {
+        long tick = engine.getTickCount();
+        while (cursor < eventCount && ticks[cursor] <= tick) {
+            if (released[cursor]) {
+                engine.commandReleased(commands[cursor]);
+            } else {
+                engine.commandPressed(commands[cursor]);
+            }
+            cursor++;
+        }
+    }
+
+    /**
+     * True quando todos os eventos já foram entregues
+     */
+    public boolean isFinished() {
+        return cursor >= eventCount;
+    }
+
+    /**
+     * Tick do último evento gravado
+     */
+    public long getLastTick() {
+        return eventCount > 0 ? ticks[eventCount - 1] : 0;
+    }
+
+    public long getSeed() { return seed; }
+    public int getEventCount() { return eventCount; }
+}
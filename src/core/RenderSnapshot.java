@@ -0,0 +1,570 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import entities.Crop;
+import entities.Decoration;
+import entities.Enemy;
+import entities.NPC;
+import entities.Player;
+import systems.EntityManager;
+import systems.Inventory;
+import systems.ParticleSystem;
+import systems.QuestSystem;
+import systems.UIManager;
+import systems.WeatherSystem;
+import types.CropType;
+import types.DecorationType;
+import world.Farm;
+import world.TileType;
+import world.TimeSystem;
+
+/**
+ * Cópia do estado do jogo para desenhar um frame
+ *
+ * Preenchida pela thread da simulação depois dos ticks e lida pela thread do JavaFX,
+ * que nunca toca no motor: câmera, tiles da tela (com a borda das transições),
+ * decorações, entidades, partículas, clima, HUD, interface e minimapa.
+ *
+ * As instâncias são reaproveitadas (SnapshotBuffer alterna três delas): depois que as
+ * listas atingem o tamanho da tela, capturar não aloca. Uma instância publicada não é
+ * alterada até a renderização devolvê-la.
+ */
+public class RenderSnapshot {
+    private static final int TILE_MARGIN = 1;       // Vizinhos usados pelas transições
+    private static final int DECORATION_MARGIN = 2; // Tiles: sprites maiores que o tile invadem a tela
+    private static final int MINIMAP_RADIUS = 30;   // Raio de tiles do minimapa
+    private static final int MAX_QUESTS = 3;        // Missões no painel
+    private static final long STEP_NANOS = 1_000_000_000L / GameEngine.TICKS_PER_SECOND;
+
+    /**
+     * NPC ou inimigo visível
+     */
+    public static final class EntityView {
+        private double x, y, prevX, prevY;
+        private NPC.NPCType npcType;       // null para inimigos
+        private Enemy.EnemyType enemyType; // null para NPCs
+        private String name;
+        private int direction;             // 0=baixo, 1=cima, 2=esquerda, 3=direita (ordem dos Direction e dos sprites)
+        private int animationFrame;
+        private int health, maxHealth;
+        private boolean aggressive;
+        private boolean nearPlayer;        // NPC ao alcance da conversa ou inimigo ao alcance do ataque
+
+        public double getRenderX(double alpha) { return prevX + (x - prevX) * alpha; }
+        public double getRenderY(double alpha) { return prevY + (y - prevY) * alpha; }
+        public NPC.NPCType getNpcType() { return npcType; }
+        public Enemy.EnemyType getEnemyType() { return enemyType; }
+        public String getName() { return name; }
+        public int getDirection() { return direction; }
+        public int getAnimationFrame() { return animationFrame; }
+        public int getHealth() { return health; }
+        public int getMaxHealth() { return maxHealth; }
+        public boolean isAggressive() { return aggressive; }
+        public boolean isNearPlayer() { return nearPlayer; }
+    }
+
+    /**
+     * Decoração visível
+     */
+    public static final class DecorationView {
+        private DecorationType type;
+        private int x, y, width, height;
+        private int health, maxHealth;
+        private boolean depleted;
+        private boolean harvestable;
+
+        public DecorationType getType() { return type; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getWidth() { return width; }
+        public int getHeight() { return height; }
+        public int getHealth() { return health; }
+        public int getMaxHealth() { return maxHealth; }
+        public boolean isDepleted() { return depleted; }
+        public boolean canHarvest() { return harvestable; }
+    }
+
+    // Tempo: posição do frame entre os ticks
+    private long tick;
+    private long publishNanos;
+    private double publishAlpha;
+
+    // Jogador e câmera
+    private int playerX, playerY;
+    private double playerPrevX, playerPrevY;
+    private Player.Direction playerFacing;
+    private int playerFrame;
+
+    // Tiles visíveis (mais a borda), índice (y - windowY) * windowWidth + (x - windowX)
+    private final int halfTilesX, halfTilesY;
+    private final int windowWidth, windowHeight;
+    private int windowX, windowY;
+    private int startX, startY, endX, endY; // Área visível já limitada ao mapa
+    private final TileType[] tileTypes;
+    private final CropType[] cropTypes;
+    private final double[] cropProgress;
+    private final boolean[] cropGrown;
+
+    // Decorações (camadas 1 e 3) e entidades visíveis
+    private final List<Decoration> decorationScratch = new ArrayList<>();
+    private final List<DecorationView> lowDecorations = new ArrayList<>();
+    private final List<DecorationView> highDecorations = new ArrayList<>();
+    private int lowCount, highCount;
+    private final List<EntityView> npcViews = new ArrayList<>();
+    private final List<EntityView> enemyViews = new ArrayList<>();
+    private int npcCount, enemyCount;
+
+    // Partículas
+    private int particleCount;
+    private double[] particleX, particleY, particleSize, particleLife;
+    private int[] particleColor;
+    private ParticleSystem.ParticleType[] particleType;
+
+    // Clima e iluminação
+    private double darkness;
+    private final double[] lightColor = new double[3];
+    private final double[] weatherOverlay = new double[4];
+    private boolean lightning;
+    private String weatherIcon, weatherName;
+
+    // HUD
+    private int level;
+    private double levelProgress;
+    private int timeOfDay;
+    private String season;
+    private int dayOfSeason;
+    private int money;
+    private CropType selectedSeed;
+    private int health, maxHealth, energy, maxEnergy;
+    private String statusMessage;
+
+    // Interface (cópias do estado do motor)
+    private final UIManager ui = new UIManager();
+    private Inventory inventory;
+
+    // Missões
+    private int questCount;
+    private final String[] questNames = new String[MAX_QUESTS];
+    private final boolean[] questCompleted = new boolean[MAX_QUESTS];
+    private final double[] questProgress = new double[MAX_QUESTS];
+
+    // Minimapa: tiles recapturados a cada N frames (versão muda a cada recaptura)
+    private final TileType[] minimapTiles;
+    private long minimapVersion;
+    private int minimapStartX, minimapStartY, minimapEndX, minimapEndY;
+    private int[] npcMarkers = new int[64];   // Pares x, y
+    private int[] enemyMarkers = new int[64];
+    private int npcMarkerCount, enemyMarkerCount;
+
+    // Avanço rápido
+    private boolean warpActive;
+    private double warpTicksPerSecond;
+    private double warpMultiplier;
+
+    /**
+     * @param screenWidth Largura da tela em pixels
+     * @param screenHeight Altura da tela em pixels
+     */
+    public RenderSnapshot(int screenWidth, int screenHeight, int tileSize) {
+        this.halfTilesX = (screenWidth / tileSize + 2) / 2;
+        this.halfTilesY = (screenHeight / tileSize + 2) / 2;
+        this.windowWidth = halfTilesX * 2 + TILE_MARGIN * 2;
+        this.windowHeight = halfTilesY * 2 + TILE_MARGIN * 2;
+        int tiles = windowWidth * windowHeight;
+        this.tileTypes = new TileType[tiles];
+        this.cropTypes = new CropType[tiles];
+        this.cropProgress = new double[tiles];
+        this.cropGrown = new boolean[tiles];
+        this.minimapTiles = new TileType[MINIMAP_RADIUS * 2 * MINIMAP_RADIUS * 2];
+        ensureParticleCapacity(ParticleSystem.MAX_PARTICLES);
+        this.tick = -1;
+    }
+
+    // ===== CAPTURA (thread da simulação) =====
+
+    /**
+     * Copia o estado do motor para esta instância
+     * @param previous Último snapshot publicado (fonte do minimapa quando não há recaptura), ou null
+     * @param refreshMinimap Recapturar os tiles do minimapa
+     * @param timeWarp Avanço rápido (para o indicador), ou null
+     * @param publishNanos Instante da publicação (System.nanoTime)
+     * @param publishAlpha Fração do próximo tick já decorrida na publicação
+     */
+    public void capture(GameEngine engine, RenderSnapshot previous, boolean refreshMinimap,
+                        TimeWarp timeWarp, long publishNanos, double publishAlpha) {
+        Farm farm = engine.getFarm();
+        Player player = engine.getPlayer();
+        this.tick = engine.getTickCount();
+        this.publishNanos = publishNanos;
+        this.publishAlpha = publishAlpha;
+
+        playerX = player.getX();
+        playerY = player.getY();
+        playerPrevX = player.getRenderX(0);
+        playerPrevY = player.getRenderY(0);
+        playerFacing = player.getFacing();
+        playerFrame = player.getAnimationFrame();
+
+        startX = Math.max(0, playerX - halfTilesX);
+        endX = Math.min(farm.getWidth(), playerX + halfTilesX);
+        startY = Math.max(0, playerY - halfTilesY);
+        endY = Math.min(farm.getHeight(), playerY + halfTilesY);
+        captureTiles(farm);
+
+        lowCount = captureDecorations(farm, 1, lowDecorations);
+        highCount = captureDecorations(farm, 3, highDecorations);
+        captureEntities(engine.getEntityManager());
+        captureParticles(engine.getParticleSystem());
+        captureEnvironment(engine.getTimeSystem(), engine.getWeatherSystem());
+        captureHud(engine, player);
+        captureQuests(engine.getQuestSystem());
+
+        if (refreshMinimap || previous == null) {
+            captureMinimap(farm);
+        } else if (previous != this) {
+            System.arraycopy(previous.minimapTiles, 0, minimapTiles, 0, minimapTiles.length);
+            minimapVersion = previous.minimapVersion;
+            minimapStartX = previous.minimapStartX;
+            minimapStartY = previous.minimapStartY;
+            minimapEndX = previous.minimapEndX;
+            minimapEndY = previous.minimapEndY;
+        }
+        captureMarkers(engine.getEntityManager());
+
+        warpActive = timeWarp != null && timeWarp.isActive();
+        warpTicksPerSecond = timeWarp != null ? timeWarp.getTicksPerSecond() : 0;
+        warpMultiplier = timeWarp != null ? timeWarp.getSpeedMultiplier() : 0;
+    }
+
+    private void captureTiles(Farm farm) {
+        windowX = playerX - halfTilesX - TILE_MARGIN;
+        windowY = playerY - halfTilesY - TILE_MARGIN;
+        int i = 0;
+        for (int y = windowY; y < windowY + windowHeight; y++) {
+            for (int x = windowX; x < windowX + windowWidth; x++, i++) {
+                TileType type = farm.getTileType(x, y);
+                Crop crop = type == TileType.PLANTED ? farm.getTile(x, y).getCrop() : null;
+                tileTypes[i] = type;
+                cropTypes[i] = crop != null ? crop.getType() : null;
+                cropProgress[i] = crop != null ? crop.getGrowthProgress() : 0;
+                cropGrown[i] = crop != null && crop.isFullyGrown();
+            }
+        }
+    }
+
+    private int captureDecorations(Farm farm, int layer, List<DecorationView> views) {
+        farm.getDecorationManager().getDecorationsInArea(startX - DECORATION_MARGIN, startY - DECORATION_MARGIN,
+            endX + DECORATION_MARGIN, endY + DECORATION_MARGIN, layer, decorationScratch);
+        int count = decorationScratch.size();
+        while (views.size() < count) {
+            views.add(new DecorationView());
+        }
+        for (int i = 0; i < count; i++) {
+            Decoration deco = decorationScratch.get(i);
+            DecorationView view = views.get(i);
+            view.type = deco.getType();
+            view.x = deco.getX();
+            view.y = deco.getY();
+            view.width = deco.getWidth();
+            view.height = deco.getHeight();
+            view.health = deco.getHealth();
+            view.maxHealth = deco.getMaxHealth();
+            view.depleted = deco.isDepleted();
+            view.harvestable = deco.canHarvest();
+        }
+        decorationScratch.clear();
+        return count;
+    }
+
+    private void captureEntities(EntityManager entities) {
+        npcCount = 0;
+        for (NPC npc : entities.getNPCs()) {
+            if (!isInWindow(npc.getX(), npc.getY())) continue;
+            EntityView view = nextView(npcViews, npcCount++);
+            view.x = npc.getX();
+            view.y = npc.getY();
+            view.prevX = npc.getRenderX(0);
+            view.prevY = npc.getRenderY(0);
+            view.npcType = npc.getType();
+            view.enemyType = null;
+            view.name = npc.getName();
+            view.direction = npc.getFacing().ordinal();
+            view.animationFrame = npc.getAnimationFrame();
+            view.nearPlayer = npc.isNearPlayer(playerX, playerY);
+        }
+        enemyCount = 0;
+        for (Enemy enemy : entities.getEnemies()) {
+            if (enemy.isDead() || !isInWindow(enemy.getX(), enemy.getY())) continue;
+            EntityView view = nextView(enemyViews, enemyCount++);
+            view.x = enemy.getX();
+            view.y = enemy.getY();
+            view.prevX = enemy.getRenderX(0);
+            view.prevY = enemy.getRenderY(0);
+            view.npcType = null;
+            view.enemyType = enemy.getType();
+            view.name = enemy.getType().getName();
+            view.direction = enemy.getFacing().ordinal();
+            view.animationFrame = enemy.getAnimationFrame();
+            view.health = enemy.getHealth();
+            view.maxHealth = enemy.getMaxHealth();
+            view.aggressive = enemy.isAggressive();
+            view.nearPlayer = enemy.isAdjacentTo(playerX, playerY);
+        }
+    }
+
+    private static EntityView nextView(List<EntityView> views, int index) {
+        if (index == views.size()) {
+            views.add(new EntityView());
+        }
+        return views.get(index);
+    }
+
+    /**
+     * Dentro da área visível com um tile de folga (entidades andando entram pela borda)
+     */
+    private boolean isInWindow(int x, int y) {
+        return x >= startX - 1 && x <= endX && y >= startY - 1 && y <= endY;
+    }
+
+    private void captureParticles(ParticleSystem particles) {
+        List<ParticleSystem.Particle> alive = particles.getParticles();
+        int count = alive.size();
+        ensureParticleCapacity(count);
+        for (int i = 0; i < count; i++) {
+            ParticleSystem.Particle p = alive.get(i);
+            particleX[i] = p.getX();
+            particleY[i] = p.getY();
+            particleSize[i] = p.getSize();
+            particleLife[i] = p.getLifeFraction();
+            particleColor[i] = p.getColor();
+            particleType[i] = p.getType();
+        }
+        particleCount = count;
+    }
+
+    private void ensureParticleCapacity(int count) {
+        if (particleX != null && particleX.length >= count) {
+            return;
+        }
+        particleX = new double[count];
+        particleY = new double[count];
+        particleSize = new double[count];
+        particleLife = new double[count];
+        particleColor = new int[count];
+        particleType = new ParticleSystem.ParticleType[count];
+    }
+
+    private void captureEnvironment(TimeSystem time, WeatherSystem weather) {
+        darkness = time.getDarknessLevel();
+        System.arraycopy(time.getLightColor(), 0, lightColor, 0, lightColor.length);
+        System.arraycopy(weather.getOverlayColor(), 0, weatherOverlay, 0, weatherOverlay.length);
+        lightning = weather.shouldFlashLightning();
+        weatherIcon = weather.getWeatherIcon();
+        weatherName = weather.getWeatherName();
+        timeOfDay = time.getTimeOfDay();
+        season = time.getSeason();
+        dayOfSeason = time.getDayOfSeason();
+    }
+
+    private void captureHud(GameEngine engine, Player player) {
+        level = engine.getLevelSystem().getLevel();
+        levelProgress = engine.getLevelSystem().getLevelProgress();
+        money = player.getMoney();
+        selectedSeed = player.getSelectedSeed();
+        health = player.getHealth();
+        maxHealth = player.getMaxHealth();
+        energy = player.getEnergy();
+        maxEnergy = player.getMaxEnergy();
+        statusMessage = engine.getStatusMessage();
+
+        ui.copyFrom(engine.getUIManager());
+        if (inventory == null || inventory.getSize() != player.getInventory().getSize()) {
+            inventory = new Inventory(player.getInventory().getSize());
+        }
+        inventory.copyFrom(player.getInventory());
+    }
+
+    private void captureQuests(QuestSystem quests) {
+        List<QuestSystem.Quest> active = quests.getActiveQuests();
+        questCount = Math.min(MAX_QUESTS, active.size());
+        for (int i = 0; i < questCount; i++) {
+            QuestSystem.Quest quest = active.get(i);
+            questNames[i] = quest.getName();
+            questCompleted[i] = quest.isCompleted();
+            questProgress[i] = quest.getProgressPercent();
+        }
+    }
+
+    private void captureMinimap(Farm farm) {
+        minimapStartX = Math.max(0, playerX - MINIMAP_RADIUS);
+        minimapEndX = Math.min(farm.getWidth(), playerX + MINIMAP_RADIUS);
+        minimapStartY = Math.max(0, playerY - MINIMAP_RADIUS);
+        minimapEndY = Math.min(farm.getHeight(), playerY + MINIMAP_RADIUS);
+        int stride = MINIMAP_RADIUS * 2;
+        for (int y = minimapStartY; y < minimapEndY; y++) {
+            for (int x = minimapStartX; x < minimapEndX; x++) {
+                minimapTiles[(y - minimapStartY) * stride + (x - minimapStartX)] = farm.getTileType(x, y);
+            }
+        }
+        minimapVersion++;
+    }
+
+    private void captureMarkers(EntityManager entities) {
+        npcMarkerCount = 0;
+        for (NPC npc : entities.getNPCs()) {
+            if (isInMinimap(npc.getX(), npc.getY())) {
+                npcMarkers = addMarker(npcMarkers, npcMarkerCount++, npc.getX(), npc.getY());
+            }
+        }
+        enemyMarkerCount = 0;
+        for (Enemy enemy : entities.getEnemies()) {
+            if (!enemy.isDead() && isInMinimap(enemy.getX(), enemy.getY())) {
+                enemyMarkers = addMarker(enemyMarkers, enemyMarkerCount++, enemy.getX(), enemy.getY());
+            }
+        }
+    }
+
+    private boolean isInMinimap(int x, int y) {
+        return x >= minimapStartX && x < minimapEndX && y >= minimapStartY && y < minimapEndY;
+    }
+
+    private static int[] addMarker(int[] markers, int index, int x, int y) {
+        if (index * 2 + 1 >= markers.length) {
+            markers = Arrays.copyOf(markers, markers.length * 2);
+        }
+        markers[index * 2] = x;
+        markers[index * 2 + 1] = y;
+        return markers;
+    }
+
+    // ===== LEITURA (thread do JavaFX) =====
+
+    /**
+     * Fração do próximo tick para interpolar as posições agora
+     * Cresce com o tempo desde a publicação e para em 1.0 se a simulação atrasar.
+     */
+    public double getAlpha(long nowNanos) {
+        if (warpActive) {
+            return 1.0;
+        }
+        return Math.min(1.0, publishAlpha + (double) (nowNanos - publishNanos) / STEP_NANOS);
+    }
+
+    /** Tipo do tile (null fora do mapa ou fora da área capturada) */
+    public TileType getTileType(int x, int y) {
+        int i = tileIndex(x, y);
+        return i < 0 ? null : tileTypes[i];
+    }
+
+    /** Planta do tile (null sem planta) */
+    public CropType getCropType(int x, int y) {
+        int i = tileIndex(x, y);
+        return i < 0 ? null : cropTypes[i];
+    }
+
+    public double getCropProgress(int x, int y) {
+        int i = tileIndex(x, y);
+        return i < 0 ? 0 : cropProgress[i];
+    }
+
+    public boolean isCropGrown(int x, int y) {
+        int i = tileIndex(x, y);
+        return i >= 0 && cropGrown[i];
+    }
+
+    private int tileIndex(int x, int y) {
+        int dx = x - windowX;
+        int dy = y - windowY;
+        if (dx < 0 || dy < 0 || dx >= windowWidth || dy >= windowHeight) {
+            return -1;
+        }
+        return dy * windowWidth + dx;
+    }
+
+    /** Tipo do tile do minimapa (null fora do mapa) */
+    public TileType getMinimapTile(int x, int y) {
+        if (!isInMinimap(x, y)) {
+            return null;
+        }
+        return minimapTiles[(y - minimapStartY) * MINIMAP_RADIUS * 2 + (x - minimapStartX)];
+    }
+
+    public long getTick() { return tick; }
+    public boolean isEmpty() { return tick < 0; }
+
+    public int getPlayerX() { return playerX; }
+    public int getPlayerY() { return playerY; }
+    public double getPlayerRenderX(double alpha) { return playerPrevX + (playerX - playerPrevX) * alpha; }
+    public double getPlayerRenderY(double alpha) { return playerPrevY + (playerY - playerPrevY) * alpha; }
+    public Player.Direction getPlayerFacing() { return playerFacing; }
+    public int getPlayerAnimationFrame() { return playerFrame; }
+
+    public int getStartX() { return startX; }
+    public int getStartY() { return startY; }
+    public int getEndX() { return endX; }
+    public int getEndY() { return endY; }
+
+    public int getDecorationCount(int layer) { return layer == 1 ? lowCount : highCount; }
+    public DecorationView getDecoration(int layer, int index) {
+        return layer == 1 ? lowDecorations.get(index) : highDecorations.get(index);
+    }
+    public int getNpcCount() { return npcCount; }
+    public EntityView getNpc(int index) { return npcViews.get(index); }
+    public int getEnemyCount() { return enemyCount; }
+    public EntityView getEnemy(int index) { return enemyViews.get(index); }
+
+    public int getParticleCount() { return particleCount; }
+    public double getParticleX(int i) { return particleX[i]; }
+    public double getParticleY(int i) { return particleY[i]; }
+    public double getParticleSize(int i) { return particleSize[i]; }
+    public double getParticleLife(int i) { return particleLife[i]; }
+    public int getParticleColor(int i) { return particleColor[i]; }
+    public ParticleSystem.ParticleType getParticleType(int i) { return particleType[i]; }
+
+    public double getDarkness() { return darkness; }
+    public double getLightColor(int channel) { return lightColor[channel]; }
+    public double getWeatherOverlay(int channel) { return weatherOverlay[channel]; }
+    public boolean isLightning() { return lightning; }
+    public String getWeatherIcon() { return weatherIcon; }
+    public String getWeatherName() { return weatherName; }
+
+    public int getLevel() { return level; }
+    public double getLevelProgress() { return levelProgress; }
+    public int getTimeOfDay() { return timeOfDay; }
+    public String getSeason() { return season; }
+    public int getDayOfSeason() { return dayOfSeason; }
+    public int getMoney() { return money; }
+    public CropType getSelectedSeed() { return selectedSeed; }
+    public int getHealth() { return health; }
+    public int getMaxHealth() { return maxHealth; }
+    public int getEnergy() { return energy; }
+    public int getMaxEnergy() { return maxEnergy; }
+    public String getStatusMessage() { return statusMessage; }
+
+    public UIManager getUI() { return ui; }
+    public Inventory getInventory() { return inventory; }
+
+    public int getQuestCount() { return questCount; }
+    public String getQuestName(int i) { return questNames[i]; }
+    public boolean isQuestCompleted(int i) { return questCompleted[i]; }
+    public double getQuestProgress(int i) { return questProgress[i]; }
+
+    public long getMinimapVersion() { return minimapVersion; }
+    public int getMinimapStartX() { return minimapStartX; }
+    public int getMinimapStartY() { return minimapStartY; }
+    public int getMinimapEndX() { return minimapEndX; }
+    public int getMinimapEndY() { return minimapEndY; }
+    public int getNpcMarkerCount() { return npcMarkerCount; }
+    public int getNpcMarkerX(int i) { return npcMarkers[i * 2]; }
+    public int getNpcMarkerY(int i) { return npcMarkers[i * 2 + 1]; }
+    public int getEnemyMarkerCount() { return enemyMarkerCount; }
+    public int getEnemyMarkerX(int i) { return enemyMarkers[i * 2]; }
+    public int getEnemyMarkerY(int i) { return enemyMarkers[i * 2 + 1]; }
+
+    public boolean isWarpActive() { return warpActive; }
+    public double getWarpTicksPerSecond() { return warpTicksPerSecond; }
+    public double getWarpMultiplier() { return warpMultiplier; }
+}
@@ -0,0 +1,132 @@
+package core;
+
+import world.WorldPreset;
+import world.WorldSettings;
+
+/**
+ * Cenário de macro-benchmark: mundo pré-definido, sessão roteirizada e orçamentos
+ * Os orçamentos são percentis do tempo de tick (simulação) ou de frame
+ * (tick + renderização, medido só com a janela em modo cenário).
+ */
+public class Scenario {
+
+    /** O que um orçamento mede */
+    public enum Metric {
+        TICK("tick"),
+        FRAME("frame");
+
+        private final String label;
+
+        Metric(String label) { this.label = label; }
+
+        public String getLabel() { return label; }
+    }
+
+    /**
+     * Limite para um percentil (ex: p99 do tick abaixo de 4ms)
+     */
+    public static class Budget {
+        private final Metric metric;
+        private final double percentile;
+        private final double maxMillis;
+
+        public Budget(Metric metric, double percentile, double maxMillis) {
+            this.metric = metric;
+            this.percentile = percentile;
+            this.maxMillis = maxMillis;
+        }
+
+        public Metric getMetric() { return metric; }
+        public double getPercentile() { return percentile; }
+        public double getMaxMillis() { return maxMillis; }
+
+        @Override
+        public String toString() {
+            String p = percentile >= 1.0 ? "máx" : "p" + Math.round(percentile * 100);
+            return metric.getLabel() + " " + p + " < " + maxMillis + "ms";
+        }
+    }
+
+    private static final Command[] FARMING = {
+        Command.TILL, Command.TILL, Command.PLANT, Command.PLANT, Command.HARVEST, Command.HARVEST,
+        Command.COLLECT_RESOURCE, Command.CHANGE_SEED, Command.ATTACK, Command.USE_POTION
+    };
+    private static final Command[] COMBAT = {
+        Command.ATTACK, Command.ATTACK, Command.ATTACK, Command.USE_POTION, Command.TILL,
+        Command.PLANT, Command.HARVEST, Command.COLLECT_RESOURCE, Command.COLLECT_RESOURCE
+    };
+
+    // ===== CATÁLOGO =====
+
+    private static final Scenario[] ALL = {
+        new Scenario("fazenda", "Mundo padrão: arar, plantar, colher e dormir",
+            WorldSettings.standard(), 20_000L, 7_200, FARMING, 12, 1_800,
+            new Budget(Metric.TICK, 0.50, 0.5),
+            new Budget(Metric.TICK, 0.99, 4.0),
+            new Budget(Metric.TICK, 1.00, 50.0),
+            new Budget(Metric.FRAME, 0.99, 16.6)),
+        new Scenario("combate-denso", "500x500 com 5.000 decorações e 500 inimigos",
+            new WorldSettings(500, 500, 5_000, 500, WorldSettings.AUTO), 20_001L, 7_200, COMBAT, 10, 3_600,
+            new Budget(Metric.TICK, 0.95, 2.0),
+            new Budget(Metric.TICK, 0.99, 4.0),
+            new Budget(Metric.FRAME, 0.99, 25.0)),
+        new Scenario("muitos-dias", "Mundo padrão dormindo a cada 10s (crescimento das plantações)",
+            WorldSettings.standard(), 20_002L, 18_000, FARMING, 8, 600,
+            new Budget(Metric.TICK, 0.99, 4.0),
+            new Budget(Metric.TICK, 1.00, 50.0)),
+        new Scenario("colossal", "Preset colossal 10000x10000 em fluxo (regiões povoadas ao andar)",
+            WorldSettings.fromPreset(WorldPreset.COLOSSAL), 20_003L, 7_200, FARMING, 12, 0,
+            new Budget(Metric.TICK, 0.99, 4.0),
+            new Budget(Metric.TICK, 1.00, 50.0),
+            new Budget(Metric.FRAME, 0.99, 16.6))
+    };
+
+    private final String name;
+    private final String description;
+    private final WorldSettings world;
+    private final long seed;
+    private final int ticks;
+    private final Command[] actions;
+    private final int actionInterval;
+    private final int sleepInterval;
+    private final Budget[] budgets;
+
+    public Scenario(String name, String description, WorldSettings world, long seed, int ticks,
+                    Command[] actions, int actionInterval, int sleepInterval, Budget... budgets) {
+        this.name = name;
+        this.description = description;
+        this.world = world;
+        this.seed = seed;
+        this.ticks = ticks;
+        this.actions = actions;
+        this.actionInterval = actionInterval;
+        this.sleepInterval = sleepInterval;
+        this.budgets = budgets;
+    }
+
+    public static Scenario[] all() {
+        return ALL.clone();
+    }
+
+    /**
+     * @return Cenário com o nome ou null
+     */
+    public static Scenario byName(String name) {
+        for (Scenario scenario : ALL) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        return null;
+    }
+
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public WorldSettings getWorld() { return world; }
+    public long getSeed() { return seed; }
+    public int getTicks() { return ticks; }
+    public Command[] getActions() { return actions; }
+    public int getActionInterval() { return actionInterval; }
+    public int getSleepInterval() { return sleepInterval; }
+    public Budget[] getBudgets() { return budgets; }
+}
@@ -0,0 +1,55 @@
+package core;
+
+/**
+ * Executa os cenários de macro-benchmark sem janela e confere os orçamentos de tick
+ * Termina com código 1 se algum orçamento foi estourado (para rodar antes de um release).
+ * Os orçamentos de frame precisam da renderização: java -cp build core.GameWindow --scenario=nome
+ *
+ * Uso: java -cp build core.ScenarioRunner [--scenario=nome] [--list]
+ */
+public class ScenarioRunner {
+
+    public static void main(String[] args) {
+        String only = null;
+        for (String arg : args) {
+            if (arg.startsWith("--scenario=")) {
+                only = arg.substring("--scenario=".length());
+            } else if (arg.equals("--list")) {
+                for (Scenario scenario : Scenario.all()) {
+                    System.out.println(String.format("%-16s %s", scenario.getName(), scenario.getDescription()));
+                }
+                return;
+            } else {
+                System.out.println("⚠️ Argumento inválido: " + arg);
+            }
+        }
+
+        if (only != null && Scenario.byName(only) == null) {
+            System.out.println("❌ Cenário desconhecido: " + only + " (use --list)");
+            System.exit(2);
+        }
+
+        boolean passed = true;
+        for (Scenario scenario : Scenario.all()) {
+            if (only != null && !scenario.getName().equals(only)) {
+                continue;
+            }
+            passed &= run(scenario);
+        }
+
+        System.out.println(passed ? "✅ Todos os orçamentos respeitados" : "❌ Orçamento estourado");
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Executa um cenário do início ao fim e imprime o relatório
+     */
+    public static boolean run(Scenario scenario) {
+        System.out.println("🎬 Cenário: " + scenario.getName() + " - " + scenario.getDescription());
+        ScenarioSession session = new ScenarioSession(scenario);
+        while (!session.isFinished()) {
+            session.runTick();
+        }
+        return session.report();
+    }
+}
@@ -0,0 +1,113 @@
+package core;
+
+import java.util.Arrays;
+
+import utils.GameRandom;
+
+/**
+ * Execução de um cenário: cria o mundo, envia a entrada roteirizada e mede cada tick
+ * Quem renderiza (GameWindow em modo cenário) registra também o tempo de cada frame.
+ * Os primeiros ticks aquecem a JIT e não entram nas estatísticas.
+ */
+public class ScenarioSession {
+    private static final int WARMUP_TICKS = 600; // 10s de jogo
+
+    private final Scenario scenario;
+    private final GameEngine engine;
+    private final ScriptedInput input;
+    private final long[] tickNanos;
+    private final long[] frameNanos;
+    private final long setupMillis;
+    private long tick;
+    private int frames;
+
+    public ScenarioSession(Scenario scenario) {
+        this.scenario = scenario;
+        long start = System.nanoTime();
+        this.engine = new GameEngine(scenario.getSeed(), scenario.getWorld());
+        this.setupMillis = (System.nanoTime() - start) / 1_000_000;
+        this.input = new ScriptedInput(engine, GameRandom.newRandom("scenario"),
+            scenario.getActions(), scenario.getActionInterval(), scenario.getSleepInterval());
+        this.tickNanos = new long[scenario.getTicks()];
+        this.frameNanos = new long[scenario.getTicks()];
+    }
+
+    public boolean isFinished() {
+        return tick >= WARMUP_TICKS + scenario.getTicks();
+    }
+
+    /**
+     * Envia a entrada e executa um tick
+     * @return Duração do tick em nanossegundos
+     */
+    public long runTick() {
+        tick++;
+        input.step(tick);
+        long start = System.nanoTime();
+        engine.update(GameEngine.TICK_DT);
+        long elapsed = System.nanoTime() - start;
+        if (tick > WARMUP_TICKS) {
+            tickNanos[(int) (tick - WARMUP_TICKS - 1)] = elapsed;
+        }
+        return elapsed;
+    }
+
+    /**
+     * Registra a duração do frame atual (tick + renderização)
+     */
+    public void recordFrame(long nanos) {
+        if (tick > WARMUP_TICKS && frames < frameNanos.length) {
+            frameNanos[frames++] = nanos;
+        }
+    }
+
+    /**
+     * Imprime os percentis e confere os orçamentos
+     * @return true se todos os orçamentos medidos foram respeitados
+     */
+    public boolean report() {
+        int ticks = (int) Math.max(0, tick - WARMUP_TICKS);
+        long[] sortedTicks = Arrays.copyOf(tickNanos, ticks);
+        long[] sortedFrames = Arrays.copyOf(frameNanos, frames);
+        Arrays.sort(sortedTicks);
+        Arrays.sort(sortedFrames);
+
+        System.out.println("📊 Cenário '" + scenario.getName() + "' (" + scenario.getWorld() + ")");
+        System.out.println("   Criação do mundo: " + setupMillis + "ms | " + engine.getTimeSystem().getShortDateString());
+        System.out.println(String.format("   %-6s %8s %8s %8s %8s %8s", "", "amostras", "p50 ms", "p95 ms", "p99 ms", "máx ms"));
+        printRow("tick", sortedTicks);
+        printRow("frame", sortedFrames);
+
+        boolean passed = true;
+        for (Scenario.Budget budget : scenario.getBudgets()) {
+            long[] samples = budget.getMetric() == Scenario.Metric.TICK ? sortedTicks : sortedFrames;
+            if (samples.length == 0) {
+                System.out.println("   ⏭️ " + budget + " (não medido)");
+                continue;
+            }
+            double measured = percentile(samples, budget.getPercentile()) / 1_000_000.0;
+            boolean ok = measured < budget.getMaxMillis();
+            passed &= ok;
+            System.out.println("   " + (ok ? "✅ " : "❌ ") + budget + String.format(" (medido %.3fms)", measured));
+        }
+        return passed;
+    }
+
+    private void printRow(String label, long[] sorted) {
+        if (sorted.length == 0) {
+            System.out.println(String.format("   %-6s %8d %8s %8s %8s %8s", label, 0, "-", "-", "-", "-"));
+            return;
+        }
+        System.out.println(String.format("   %-6s %8d %8.3f %8.3f %8.3f %8.3f", label, sorted.length,
+            percentile(sorted, 0.50) / 1_000_000.0, percentile(sorted, 0.95) / 1_000_000.0,
+            percentile(sorted, 0.99) / 1_000_000.0, sorted[sorted.length - 1] / 1_000_000.0));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    public Scenario getScenario() { return scenario; }
+    public GameEngine getEngine() { return engine; }
+}
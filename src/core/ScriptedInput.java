@@ -0,0 +1,58 @@
+package core;
+
+import java.util.Random;
+
+/**
+ * Entrada roteirizada para execuções sem jogador (soak e cenários)
+ * Anda em trechos de direção aleatória, dispara uma ação a cada intervalo
+ * e dorme periodicamente. Com a mesma semente, a sessão é a mesma.
+ */
+public class ScriptedInput {
+    private static final Command[] MOVES = {
+        Command.MOVE_UP, Command.MOVE_DOWN, Command.MOVE_LEFT, Command.MOVE_RIGHT
+    };
+
+    private final GameEngine engine;
+    private final Random random;
+    private final Command[] actions;   // Repetições aumentam o peso de uma ação
+    private final int actionInterval;  // Ticks entre ações
+    private final int sleepInterval;   // Ticks entre noites dormidas (0 = nunca)
+    private Command heldMove;
+    private long moveUntil;
+
+    public ScriptedInput(GameEngine engine, Random random, Command[] actions, int actionInterval, int sleepInterval) {
+        this.engine = engine;
+        this.random = random;
+        this.actions = actions;
+        this.actionInterval = actionInterval;
+        this.sleepInterval = sleepInterval;
+    }
+
+    /**
+     * Envia a entrada do tick (chamar antes de engine.update)
+     */
+    public void step(long tick) {
+        if (tick >= moveUntil) {
+            if (heldMove != null) {
+                engine.commandReleased(heldMove);
+            }
+            heldMove = random.nextInt(5) == 0 ? null : MOVES[random.nextInt(MOVES.length)];
+            if (heldMove != null) {
+                engine.commandPressed(heldMove);
+            }
+            moveUntil = tick + 30 + random.nextInt(90);
+        }
+
+        if (tick % actionInterval == 0) {
+            tap(actions[random.nextInt(actions.length)]);
+        }
+        if (sleepInterval > 0 && tick % sleepInterval == 0) {
+            tap(Command.SLEEP);
+        }
+    }
+
+    private void tap(Command command) {
+        engine.commandPressed(command);
+        engine.commandReleased(command);
+    }
+}
@@ -0,0 +1,157 @@
+package core;
+
+import java.util.concurrent.locks.LockSupport;
+
+import diagnostics.FrameProfiler;
+
+/**
+ * Thread dedicada da simulação (a janela só desenha)
+ *
+ * Roda os ticks em passo fixo, independente dos pulsos do JavaFX, e depois de cada
+ * lote publica um RenderSnapshot. A thread do JavaFX lê só o snapshot mais recente e
+ * interpola as posições pelo tempo desde a publicação, então um tick demorado (ex: uma
+ * região nova sendo povoada) não trava a renderização.
+ *
+ * Teclas chegam pela InputQueue e são entregues antes de cada tick; qualquer outra
+ * alteração vinda da janela passa por GameEngine.invokeLater().
+ */
+public class SimulationThread {
+    private static final int INPUT_CAPACITY = 256;
+    private static final long WARP_PUBLISH_INTERVAL = 100_000_000; // 100ms: avanço rápido renderiza a ~10 FPS
+
+    private final GameEngine engine;
+    private final TimeWarp timeWarp;
+    private final FrameProfiler profiler;
+    private final FixedTimestep timestep;
+    private final InputQueue input;
+    private final SnapshotBuffer snapshots;
+    private final int screenWidth, screenHeight, tileSize;
+    private final Thread thread;
+    private volatile boolean running;
+
+    // Ajustes de qualidade vindos da janela
+    private volatile double weatherSpawnRate;
+    private volatile int minimapRefreshFrames;
+    private int framesSinceMinimap;
+    private long lastWarpPublish;
+
+    public SimulationThread(GameEngine engine, int screenWidth, int screenHeight, int tileSize) {
+        this.engine = engine;
+        this.timeWarp = new TimeWarp(engine);
+        this.profiler = engine.getProfiler();
+        this.timestep = new FixedTimestep(GameEngine.TICKS_PER_SECOND);
+        this.input = new InputQueue(INPUT_CAPACITY);
+        this.snapshots = new SnapshotBuffer(() -> new RenderSnapshot(screenWidth, screenHeight, tileSize));
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+        this.tileSize = tileSize;
+        this.weatherSpawnRate = 1.0;
+        this.minimapRefreshFrames = 1;
+        this.thread = new Thread(this::run, "simulation");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+        System.out.println("🧵 Simulação em thread própria (" + GameEngine.TICKS_PER_SECOND + " ticks/s)");
+    }
+
+    /**
+     * Para a simulação e espera o tick em andamento terminar
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            publish(System.nanoTime(), 0); // Primeiro frame antes do primeiro tick
+            while (running) {
+                if (timeWarp.isActive()) {
+                    runWarpFrame();
+                    continue;
+                }
+                long now = System.nanoTime();
+                int steps = timestep.advance(now);
+                for (int i = 0; i < steps; i++) {
+                    input.drainTo(engine);
+                    engine.update(GameEngine.TICK_DT);
+                    profiler.endFrame(); // Na simulação, cada tick é um frame do perfilador
+                }
+                if (steps > 0) {
+                    publish(now, timestep.getAlpha());
+                }
+                LockSupport.parkNanos(timestep.getNanosUntilNextStep());
+            }
+        } catch (RuntimeException e) {
+            System.out.println("❌ Falha na simulação: " + e);
+            e.printStackTrace();
+            running = false;
+        }
+    }
+
+    /**
+     * Avanço rápido: ticks sem limite, snapshot a cada WARP_PUBLISH_INTERVAL
+     */
+    private void runWarpFrame() {
+        input.drainTo(engine);
+        timeWarp.runFrame();
+        profiler.endFrame();
+        timestep.reset(); // Sem recuperar atraso ao sair do avanço rápido
+        long now = System.nanoTime();
+        if (now - lastWarpPublish >= WARP_PUBLISH_INTERVAL) {
+            publish(now, 1.0);
+            lastWarpPublish = now;
+        }
+    }
+
+    private void publish(long now, double alpha) {
+        engine.spawnWeatherParticles(screenWidth, screenHeight, tileSize, weatherSpawnRate);
+        boolean refreshMinimap = ++framesSinceMinimap >= minimapRefreshFrames;
+        if (refreshMinimap) {
+            framesSinceMinimap = 0;
+        }
+        snapshots.getBack().capture(engine, snapshots.getLastPublished(), refreshMinimap, timeWarp, now, alpha);
+        snapshots.publish();
+    }
+
+    // ===== JANELA (thread do JavaFX) =====
+
+    /**
+     * Snapshot mais recente para desenhar, ou null antes do primeiro
+     */
+    public RenderSnapshot acquireSnapshot() {
+        return snapshots.acquire();
+    }
+
+    /**
+     * Tecla pressionada ou solta (entregue antes do próximo tick)
+     */
+    public void postKey(GameKey key, boolean released) {
+        input.offer(key, released);
+    }
+
+    /**
+     * Liga/desliga o avanço rápido (F6) no início do próximo tick
+     */
+    public void toggleTimeWarp() {
+        engine.invokeLater(timeWarp::toggle);
+    }
+
+    /**
+     * Qualidade gráfica: fração da chuva/neve criada e frames entre recapturas do minimapa
+     */
+    public void setQuality(double weatherSpawnRate, int minimapRefreshFrames) {
+        this.weatherSpawnRate = weatherSpawnRate;
+        this.minimapRefreshFrames = Math.max(1, minimapRefreshFrames);
+    }
+
+    public boolean isRunning() { return running; }
+}
@@ -0,0 +1,69 @@
+package core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Buffer triplo de snapshots entre a simulação (produtor) e a renderização (consumidor)
+ *
+ * O produtor preenche o buffer de trás e o troca pelo do meio; o consumidor troca o da
+ * frente pelo do meio quando há um novo. Nenhum lado espera pelo outro: uma simulação
+ * lenta só faz a renderização repetir o último snapshot, e uma renderização lenta só
+ * faz snapshots intermediários serem descartados.
+ */
+public class SnapshotBuffer {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // O buffer do meio ainda não foi lido
+
+    private final RenderSnapshot[] buffers;
+    private final AtomicInteger middle; // Índice do buffer do meio | FRESH
+    private int back;                   // Só o produtor usa
+    private int front;                  // Só o consumidor usa
+    private int lastPublished = -1;     // Só o produtor usa
+    private boolean received;           // Só o consumidor usa
+
+    public SnapshotBuffer(Supplier<RenderSnapshot> factory) {
+        this.buffers = new RenderSnapshot[] { factory.get(), factory.get(), factory.get() };
+        this.back = 0;
+        this.middle = new AtomicInteger(1);
+        this.front = 2;
+    }
+
+    // ===== PRODUTOR (thread da simulação) =====
+
+    /**
+     * Buffer a preencher antes do próximo publish()
+     */
+    public RenderSnapshot getBack() {
+        return buffers[back];
+    }
+
+    /**
+     * Último snapshot publicado (pode estar sendo lido, então só para leitura), ou null
+     */
+    public RenderSnapshot getLastPublished() {
+        return lastPublished < 0 ? null : buffers[lastPublished];
+    }
+
+    /**
+     * Entrega o buffer de trás à renderização e recebe outro para preencher
+     */
+    public void publish() {
+        lastPublished = back;
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // ===== CONSUMIDOR (thread do JavaFX) =====
+
+    /**
+     * Snapshot mais recente (troca o da frente quando há um novo)
+     * @return Snapshot ou null se nada foi publicado ainda
+     */
+    public RenderSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+            received = true;
+        }
+        return received ? buffers[front] : null;
+    }
+}
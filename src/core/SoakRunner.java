@@ -0,0 +1,199 @@
+package core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.OperatingSystemMXBean;
+
+import events.EventType;
+import systems.WorldStreamer;
+import utils.GameRandom;
+import world.WorldSettings;
+
+/**
+ * Teste de resistência (soak) em modo headless
+ * Roda milhões de ticks com entrada roteirizada (andar, arar, plantar, colher,
+ * coletar, atacar, dormir, abrir menus) e amostra memória, descritores de
+ * arquivo e tamanhos de coleções em intervalos. Falha (código de saída 1)
+ * quando alguma métrica fica acima do limite por várias amostras seguidas.
+ * Em mundos em fluxo, o limite do heap, dos inimigos, das decorações e dos chunks
+ * cresce na proporção das regiões exploradas desde a linha de base.
+ *
+ * Uso: java -cp build core.SoakRunner [--ticks=N] [--interval=N] [--warmup=N] [--threshold=%] [--seed=N] [--preset=nome]
+ */
+public class SoakRunner {
+    private static final int SUSTAINED_SAMPLES = 3;      // Amostras seguidas acima do limite para falhar
+    private static final long HEAP_SLACK = 16L << 20;     // 16MB de folga para o heap
+    private static final long COUNT_SLACK = 8;           // Folga para tamanhos de coleções
+
+    private static final String[] METRICS = {
+        "heapMB", "fds", "inimigos", "partículas", "decorações", "chunks",
+        "missõesAtivas", "missõesFeitas", "filaCmd", "ouvintes"
+    };
+    // Métricas que crescem com a área explorada de um mundo em fluxo
+    private static final boolean[] EXPLORATION = {
+        true, false, true, false, true, true, false, false, false, false
+    };
+
+    private static final Command[] ACTIONS = {
+        Command.TILL, Command.PLANT, Command.HARVEST, Command.COLLECT_RESOURCE,
+        Command.ATTACK, Command.USE_POTION, Command.CHANGE_SEED, Command.INTERACT,
+        Command.SHOW_QUESTS, Command.SHOW_STATS, Command.SLOT_1, Command.SLOT_2,
+        Command.TOGGLE_INVENTORY, Command.CLOSE_MENU, Command.CLOSE_MENU
+    };
+
+    private final GameEngine engine;
+    private final ScriptedInput script;
+    private final MemoryMXBean memory;
+    private final OperatingSystemMXBean os;
+
+    public SoakRunner(GameEngine engine) {
+        this.engine = engine;
+        this.script = new ScriptedInput(engine, GameRandom.newRandom("soak"), ACTIONS, 15, 20_000);
+        this.memory = ManagementFactory.getMemoryMXBean();
+        this.os = ManagementFactory.getOperatingSystemMXBean();
+    }
+
+    public static void main(String[] args) {
+        long ticks = 5_000_000;
+        long interval = 100_000;
+        long warmup = 200_000;
+        double threshold = 0.25;
+        Long seed = null;
+        String preset = null;
+
+        for (String arg : args) {
+            try {
+                if (arg.startsWith("--ticks=")) {
+                    ticks = Long.parseLong(arg.substring("--ticks=".length()));
+                } else if (arg.startsWith("--interval=")) {
+                    interval = Long.parseLong(arg.substring("--interval=".length()));
+                } else if (arg.startsWith("--warmup=")) {
+                    warmup = Long.parseLong(arg.substring("--warmup=".length()));
+                } else if (arg.startsWith("--threshold=")) {
+                    threshold = Double.parseDouble(arg.substring("--threshold=".length())) / 100.0;
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring("--seed=".length()));
+                } else if (arg.startsWith("--preset=")) {
+                    preset = arg.substring("--preset=".length());
+                } else {
+                    System.out.println("⚠️ Argumento inválido: " + arg);
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("⚠️ Argumento inválido: " + arg);
+            }
+        }
+
+        GameEngine engine = new GameEngine(seed != null ? seed : System.nanoTime(), WorldSettings.fromConfig(preset));
+        EngineMonitor.register(engine);
+        engine.setAutoDayRollover(true);
+        boolean passed = new SoakRunner(engine).run(ticks, interval, warmup, threshold);
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Executa o teste
+     * @return true se nenhuma métrica cresceu de forma sustentada
+     */
+    public boolean run(long ticks, long interval, long warmup, double threshold) {
+        System.out.println("🧪 Soak: " + ticks + " ticks, amostra a cada " + interval +
+                           ", linha de base após " + warmup + ", limite +" + Math.round(threshold * 100) + "%");
+        StringBuilder header = new StringBuilder(String.format("%10s", "tick"));
+        for (String name : METRICS) {
+            header.append(String.format(" %13s", name));
+        }
+        System.out.println(header);
+
+        long[] baseline = null;
+        long baselineRegions = 0;
+        int[] overLimit = new int[METRICS.length];
+        long start = System.nanoTime();
+
+        for (long tick = 1; tick <= ticks; tick++) {
+            script.step(tick);
+            engine.update(GameEngine.TICK_DT);
+
+            if (tick % interval != 0 && tick != warmup) {
+                continue;
+            }
+            long[] sample = sample();
+            printSample(tick, sample);
+
+            if (tick == warmup || (baseline == null && tick > warmup)) {
+                baseline = sample;
+                baselineRegions = exploredRegions();
+                System.out.println("📏 Linha de base definida no tick " + tick);
+                continue;
+            }
+            if (baseline == null) {
+                continue;
+            }
+
+            double explored = (double) exploredRegions() / Math.max(1, baselineRegions);
+            for (int i = 0; i < METRICS.length; i++) {
+                long slack = i == 0 ? HEAP_SLACK >> 20 : COUNT_SLACK;
+                double growth = EXPLORATION[i] ? Math.max(1.0, explored) : 1.0;
+                long limit = (long) (baseline[i] * (1 + threshold) * growth) + slack;
+                overLimit[i] = sample[i] > limit ? overLimit[i] + 1 : 0;
+                if (overLimit[i] >= SUSTAINED_SAMPLES) {
+                    System.out.println("❌ Crescimento sustentado em '" + METRICS[i] + "': " +
+                                       baseline[i] + " -> " + sample[i] + " (limite " + limit + ")");
+                    return false;
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.println("✅ Soak concluído: " + ticks + " ticks em " + String.format("%.1f", seconds) +
+                           "s (" + engine.getTimeSystem().getShortDateString() + "), sem crescimento sustentado");
+        return true;
+    }
+
+    /**
+     * Coleta as métricas (o heap é medido após um GC completo)
+     */
+    private long[] sample() {
+        System.gc();
+        long[] values = new long[METRICS.length];
+        values[0] = memory.getHeapMemoryUsage().getUsed() >> 20;
+        values[1] = openFileDescriptors();
+        values[2] = engine.getEntityManager().getEnemyCount();
+        values[3] = engine.getParticleSystem().getParticleCount();
+        values[4] = engine.getFarm().getDecorationManager().getCount();
+        values[5] = engine.getFarm().getLoadedChunkCount();
+        values[6] = engine.getQuestSystem().getActiveQuestCount();
+        values[7] = engine.getQuestSystem().getCompletedQuestCount();
+        values[8] = engine.getCommandQueue().size();
+        long listeners = 0;
+        for (EventType type : EventType.values()) {
+            listeners += engine.getEventBus().getListenerCount(type);
+        }
+        values[9] = listeners;
+        return values;
+    }
+
+    /**
+     * Regiões povoadas pelo mundo em fluxo (1 quando o mundo foi gerado inteiro)
+     */
+    private long exploredRegions() {
+        WorldStreamer streamer = engine.getWorldStreamer();
+        return streamer == null ? 1 : streamer.getGeneratedRegionCount();
+    }
+
+    /**
+     * Descritores de arquivo abertos (-1 quando o sistema não informa, ex: Windows)
+     */
+    private long openFileDescriptors() {
+        if (os instanceof com.sun.management.UnixOperatingSystemMXBean) {
+            return ((com.sun.management.UnixOperatingSystemMXBean) os).getOpenFileDescriptorCount();
+        }
+        return -1;
+    }
+
+    private void printSample(long tick, long[] sample) {
+        StringBuilder line = new StringBuilder(String.format("%10d", tick));
+        for (long value : sample) {
+            line.append(String.format(" %13d", value));
+        }
+        System.out.println(line);
+    }
+}
@@ -0,0 +1,227 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import diagnostics.FrameProfiler;
+
+/**
+ * Escalonador dos sistemas executados dentro de um tick
+ * Cada sistema declara o que lê e o que escreve; sistemas sem conflito
+ * são agrupados na mesma fase e rodam em paralelo no ForkJoinPool.
+ * Entre fases existe uma barreira (join), preservando a ordem de registro
+ * para qualquer par de sistemas que compartilhe estado.
+ */
+public class SystemScheduler {
+
+    /**
+     * Recursos compartilhados da simulação
+     */
+    public enum Resource {
+        TIME, WEATHER, PARTICLES, ENTITIES, PLAYER, FARM, QUESTS, STATS, UI, INPUT, MESSAGES
+    }
+
+    /**
+     * Sistema registrado no escalonador
+     */
+    public static class Task implements Runnable {
+        private final String name;
+        private final EnumSet<Resource> reads;
+        private final EnumSet<Resource> writes;
+        private final Runnable body;
+        private final Forked forked; // Reaproveitado a cada tick em que o sistema roda no pool
+        private FrameProfiler profiler; // null quando não está medindo
+        private int section;
+
+        private Task(String name, EnumSet<Resource> reads, EnumSet<Resource> writes, Runnable body) {
+            this.name = name;
+            this.reads = reads;
+            this.writes = writes;
+            this.body = body;
+            this.forked = new Forked(this);
+        }
+
+        /**
+         * Dois sistemas conflitam se um escreve algo que o outro lê ou escreve
+         */
+        boolean conflictsWith(Task other) {
+            for (Resource r : writes) {
+                if (other.reads.contains(r) || other.writes.contains(r)) return true;
+            }
+            for (Resource r : other.writes) {
+                if (reads.contains(r)) return true;
+            }
+            return false;
+        }
+
+        /**
+         * Executa o sistema, medindo o tempo na seção do perfilador
+         */
+        @Override
+        public void run() {
+            if (profiler == null) {
+                body.run();
+                return;
+            }
+            long start = profiler.begin(section);
+            body.run();
+            profiler.end(section, start);
+        }
+
+        void attachProfiler(FrameProfiler profiler) {
+            this.profiler = profiler;
+            this.section = profiler != null ? profiler.register(name) : 0;
+        }
+
+        public String getName() { return name; }
+    }
+
+    /**
+     * Execução de um sistema no pool; reinicializada a cada tick em vez de recriada
+     */
+    private static class Forked extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Task task;
+
+        Forked(Task task) {
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            task.run();
+        }
+    }
+
+    private final List<Task> tasks;
+    private final List<List<Task>> phases;
+    private final ForkJoinPool pool;
+    private boolean parallel;
+    private boolean dirty;
+    private FrameProfiler profiler;
+
+    public SystemScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SystemScheduler(ForkJoinPool pool) {
+        this.tasks = new ArrayList<>();
+        this.phases = new ArrayList<>();
+        this.pool = pool;
+        this.parallel = pool.getParallelism() > 1;
+        this.dirty = false;
+    }
+
+    /**
+     * Registra um sistema (a ordem de registro é a ordem lógica do tick)
+     */
+    public void register(String name, EnumSet<Resource> reads, EnumSet<Resource> writes, Runnable body) {
+        Task task = new Task(name, reads, writes, body);
+        task.attachProfiler(profiler);
+        tasks.add(task);
+        dirty = true;
+    }
+
+    /**
+     * Executa todos os sistemas de um tick, fase por fase
+     */
+    public void runTick() {
+        if (dirty) {
+            buildPhases();
+        }
+
+        for (int p = 0; p < phases.size(); p++) {
+            List<Task> phase = phases.get(p);
+            if (!parallel || phase.size() == 1) {
+                for (int i = 0; i < phase.size(); i++) {
+                    phase.get(i).run();
+                }
+                continue;
+            }
+
+            // Enviar todos menos o primeiro ao pool (sem alocar: as tarefas são reaproveitadas);
+            // o primeiro roda nesta thread
+            for (int i = 1; i < phase.size(); i++) {
+                Forked forked = phase.get(i).forked;
+                forked.reinitialize();
+                pool.execute(forked);
+            }
+            try {
+                phase.get(0).run();
+            } finally {
+                // Barreira: espera todos antes de propagar uma exceção, para nenhuma tarefa
+                // ainda estar rodando quando for reinicializada no próximo tick
+                for (int i = 1; i < phase.size(); i++) {
+                    phase.get(i).forked.quietlyJoin();
+                }
+            }
+            for (int i = 1; i < phase.size(); i++) {
+                phase.get(i).forked.join(); // Relança a exceção do sistema, se houve
+            }
+        }
+    }
+
+    /**
+     * Agrupa os sistemas em fases: cada sistema vai para a fase seguinte
+     * à do último sistema anterior com o qual conflita
+     */
+    private void buildPhases() {
+        phases.clear();
+        int[] phaseOf = new int[tasks.size()];
+
+        for (int i = 0; i < tasks.size(); i++) {
+            int phase = 0;
+            for (int j = 0; j < i; j++) {
+                if (tasks.get(i).conflictsWith(tasks.get(j))) {
+                    phase = Math.max(phase, phaseOf[j] + 1);
+                }
+            }
+            phaseOf[i] = phase;
+
+            while (phases.size() <= phase) {
+                phases.add(new ArrayList<>());
+            }
+            phases.get(phase).add(tasks.get(i));
+        }
+        dirty = false;
+    }
+
+    /**
+     * Descrição das fases (ex: "[time, weather] -> [enemyAttacks]")
+     */
+    public String describePhases() {
+        if (dirty) {
+            buildPhases();
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int p = 0; p < phases.size(); p++) {
+            if (p > 0) sb.append(" -> ");
+            sb.append("[");
+            List<Task> phase = phases.get(p);
+            for (int i = 0; i < phase.size(); i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(phase.get(i).getName());
+            }
+            sb.append("]");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Mede cada sistema em uma seção própria do perfilador (null desliga)
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).attachProfiler(profiler);
+        }
+    }
+
+    public boolean isParallel() { return parallel; }
+    public void setParallel(boolean parallel) { this.parallel = parallel; }
+    public int getPhaseCount() { return phases.size(); }
+}
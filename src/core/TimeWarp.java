@@ -0,0 +1,151 @@
+package core;
+
+/**
+ * Modo de avanço rápido (time warp)
+ * Executa a simulação o mais rápido que a CPU permitir, com a virada de dia
+ * automática à meia-noite, e mede quantos ticks simulados roda por segundo.
+ *
+ * Na janela, roda ticks até esgotar o orçamento do frame; no modo headless,
+ * roda um número de dias de uma vez.
+ */
+public class TimeWarp {
+    private static final long DEFAULT_FRAME_BUDGET = 12_000_000; // 12ms de CPU por frame
+    private static final long RATE_WINDOW = 1_000_000_000L;      // Janela de medição de 1s
+
+    private final GameEngine engine;
+    private boolean active;
+    private boolean previousAutoDayRollover;
+    private long frameBudgetNanos;
+
+    // Medição de ticks por segundo
+    private long windowStart;
+    private long windowTicks;
+    private double ticksPerSecond;
+    private long totalTicks;
+
+    public TimeWarp(GameEngine engine) {
+        this.engine = engine;
+        this.active = false;
+        this.frameBudgetNanos = DEFAULT_FRAME_BUDGET;
+        this.ticksPerSecond = 0;
+        this.totalTicks = 0;
+    }
+
+    /**
+     * Liga o avanço rápido (dias passam sozinhos à meia-noite)
+     */
+    public void start() {
+        if (active) return;
+        active = true;
+        previousAutoDayRollover = engine.isAutoDayRollover();
+        engine.setAutoDayRollover(true);
+        windowStart = System.nanoTime();
+        windowTicks = 0;
+        ticksPerSecond = 0;
+        System.out.println("⏩ Avanço rápido ligado");
+    }
+
+    /**
+     * Desliga o avanço rápido e restaura o comportamento normal dos dias
+     */
+    public void stop() {
+        if (!active) return;
+        active = false;
+        engine.setAutoDayRollover(previousAutoDayRollover);
+        System.out.println("▶️ Avanço rápido desligado (" + totalTicks + " ticks simulados)");
+    }
+
+    public void toggle() {
+        if (active) stop(); else start();
+    }
+
+    /**
+     * Roda ticks até esgotar o orçamento de tempo do frame
+     * @return Quantidade de ticks executados
+     */
+    public int runFrame() {
+        long start = System.nanoTime();
+        long deadline = start + frameBudgetNanos;
+        int ticks = 0;
+
+        // Checar o relógio a cada lote para não pagar nanoTime em todo tick
+        do {
+            for (int i = 0; i < 64; i++) {
+                engine.update(GameEngine.TICK_DT);
+            }
+            ticks += 64;
+        } while (System.nanoTime() < deadline);
+
+        recordTicks(ticks, System.nanoTime());
+        return ticks;
+    }
+
+    /**
+     * Roda até passar a quantidade de dias pedida (modo headless)
+     * Para antes se o tempo parar (relógio pausado ou velocidade 0, inclusive pelo JMX
+     * durante a execução): sem isso os dias nunca passariam.
+     * @return Ticks executados
+     */
+    public long runDays(int days) {
+        if (isTimeStopped()) {
+            System.out.println("⚠️ Tempo parado: avanço rápido não iniciado");
+            return 0;
+        }
+        boolean previous = engine.isAutoDayRollover();
+        engine.setAutoDayRollover(true);
+
+        int targetDay = engine.getTimeSystem().getCurrentDay() + days;
+        long start = System.nanoTime();
+        long ticks = 0;
+        while (engine.getTimeSystem().getCurrentDay() < targetDay) {
+            if (isTimeStopped()) {
+                System.out.println("⚠️ Tempo parado: avanço rápido interrompido no dia " +
+                                   engine.getTimeSystem().getCurrentDay());
+                break;
+            }
+            engine.update(GameEngine.TICK_DT);
+            ticks++;
+        }
+        measureRun(ticks, start);
+
+        engine.setAutoDayRollover(previous);
+        return ticks;
+    }
+
+    /**
+     * O relógio do jogo não avança (pausado, escala 0 ou velocidade do tempo 0)
+     */
+    private boolean isTimeStopped() {
+        return engine.getClock().isPaused() || engine.getClock().getTimeScale() == 0 ||
+               engine.getTimeSystem().getTimeSpeed() == 0;
+    }
+
+    private void measureRun(long ticks, long start) {
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        totalTicks += ticks;
+        ticksPerSecond = ticks * 1_000_000_000.0 / elapsed;
+    }
+
+    private void recordTicks(long ticks, long now) {
+        totalTicks += ticks;
+        windowTicks += ticks;
+        long elapsed = now - windowStart;
+        if (elapsed >= RATE_WINDOW) {
+            ticksPerSecond = windowTicks * 1_000_000_000.0 / elapsed;
+            windowStart = now;
+            windowTicks = 0;
+        }
+    }
+
+    /**
+     * Quantas vezes mais rápido que o tempo real (60 ticks/s)
+     */
+    public double getSpeedMultiplier() {
+        return ticksPerSecond / GameEngine.TICKS_PER_SECOND;
+    }
+
+    public boolean isActive() { return active; }
+    public double getTicksPerSecond() { return ticksPerSecond; }
+    public long getTotalTicks() { return totalTicks; }
+    public void setFrameBudgetNanos(long frameBudgetNanos) { this.frameBudgetNanos = Math.max(1_000_000, frameBudgetNanos); }
+}
@@ -0,0 +1,233 @@
+package diagnostics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Rastreamento de alocação por seção do frame e correlação com pausas de GC
+ *
+ * Mede os bytes alocados pela thread atual (ThreadMXBean) em volta de cada seção
+ * do FrameProfiler e recebe as pausas do coletor por notificação JMX. Um frame
+ * que estourou o orçamento enquanto uma coleta acontecia é marcado como
+ * "travada por GC". O relatório lista as seções que mais alocam.
+ */
+public class AllocationTracker {
+    private static final int FRAME_HISTORY = 600;  // ~10s a 60 FPS para casar com as notificações
+    private static final int MAX_HITCHES = 32;
+
+    private final ThreadMXBean threads;
+    private final long[] sectionStart;   // Bytes da thread no início da seção
+    private final long[] frameBytes;     // Alocado no frame atual
+    private final long[] totalBytes;     // Alocado desde que o rastreamento foi ligado
+    private final long[] peakBytes;      // Maior frame de cada seção
+
+    // Frames recentes (nanoTime) para casar com as pausas de GC
+    private final long[] frameStart;
+    private final long[] frameEnd;
+    private final boolean[] frameMissed;
+    private final boolean[] frameFlagged;
+    private int frameCursor;
+    private long frames;
+    private long missedFrames;
+    private long lastFrameEnd;
+    private long budgetNanos;
+
+    // Pausas de GC (preenchido pela thread de notificações)
+    private final List<long[]> pendingGcs;  // {início, fim} em nanoTime
+    private final List<String> hitches;
+    private long gcCount;
+    private long gcPauseMillis;
+    private long gcHitches;
+    private final NotificationListener gcListener;
+
+    private volatile boolean enabled;
+
+    public AllocationTracker() {
+        this.threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.sectionStart = new long[FrameProfiler.MAX_SECTIONS];
+        this.frameBytes = new long[FrameProfiler.MAX_SECTIONS];
+        this.totalBytes = new long[FrameProfiler.MAX_SECTIONS];
+        this.peakBytes = new long[FrameProfiler.MAX_SECTIONS];
+        this.frameStart = new long[FRAME_HISTORY];
+        this.frameEnd = new long[FRAME_HISTORY];
+        this.frameMissed = new boolean[FRAME_HISTORY];
+        this.frameFlagged = new boolean[FRAME_HISTORY];
+        this.pendingGcs = new ArrayList<>();
+        this.hitches = new ArrayList<>();
+        this.budgetNanos = 1_000_000_000L / 60 * 3 / 2; // Perdeu um vsync
+        this.gcListener = this::onGcNotification;
+    }
+
+    // ===== MEDIÇÃO (chamado pelo FrameProfiler) =====
+
+    void begin(int section) {
+        sectionStart[section] = threads.getCurrentThreadAllocatedBytes();
+    }
+
+    void end(int section) {
+        frameBytes[section] += threads.getCurrentThreadAllocatedBytes() - sectionStart[section];
+    }
+
+    /**
+     * Fecha o frame: acumula as seções e verifica pausas de GC recentes
+     */
+    void endFrame(int sectionCount, long now) {
+        for (int i = 0; i < sectionCount; i++) {
+            totalBytes[i] += frameBytes[i];
+            peakBytes[i] = Math.max(peakBytes[i], frameBytes[i]);
+            frameBytes[i] = 0;
+        }
+
+        if (lastFrameEnd != 0) {
+            boolean missed = now - lastFrameEnd > budgetNanos;
+            frameStart[frameCursor] = lastFrameEnd;
+            frameEnd[frameCursor] = now;
+            frameMissed[frameCursor] = missed;
+            frameFlagged[frameCursor] = false;
+            frameCursor = (frameCursor + 1) % FRAME_HISTORY;
+            frames++;
+            if (missed) missedFrames++;
+        }
+        lastFrameEnd = now;
+
+        correlatePendingGcs();
+    }
+
+    /**
+     * Marca os frames que estouraram o orçamento durante uma coleta
+     */
+    private void correlatePendingGcs() {
+        synchronized (pendingGcs) {
+            for (int g = pendingGcs.size() - 1; g >= 0; g--) {
+                long[] gc = pendingGcs.get(g);
+                for (int i = 0; i < FRAME_HISTORY; i++) {
+                    if (frameMissed[i] && !frameFlagged[i] && gc[0] < frameEnd[i] && gc[1] > frameStart[i]) {
+                        frameFlagged[i] = true;
+                        gcHitches++;
+                        if (hitches.size() == MAX_HITCHES) hitches.remove(0);
+                        hitches.add(String.format("frame de %.1fms com pausa de GC de %dms",
+                            (frameEnd[i] - frameStart[i]) / 1_000_000.0, (gc[1] - gc[0]) / 1_000_000L));
+                    }
+                }
+                // Frames posteriores à coleta já chegaram: não há mais o que casar
+                if (lastFrameEnd > gc[1]) {
+                    pendingGcs.remove(g);
+                }
+            }
+        }
+    }
+
+    private void onGcNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+            GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        // A notificação chega logo após a coleta; os horários do GcInfo usam outra origem
+        long end = System.nanoTime();
+        long start = end - info.getGcInfo().getDuration() * 1_000_000L;
+        synchronized (pendingGcs) {
+            gcCount++;
+            gcPauseMillis += info.getGcInfo().getDuration();
+            pendingGcs.add(new long[] {start, end});
+        }
+    }
+
+    // ===== CONTROLE =====
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) {
+        if (enabled == this.enabled) return;
+        if (enabled) {
+            reset();
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gc instanceof NotificationEmitter) {
+                    ((NotificationEmitter) gc).addNotificationListener(gcListener, null, null);
+                }
+            }
+        } else {
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gc instanceof NotificationEmitter) {
+                    try {
+                        ((NotificationEmitter) gc).removeNotificationListener(gcListener);
+                    } catch (javax.management.ListenerNotFoundException e) {
+                        // Já removido
+                    }
+                }
+            }
+        }
+        this.enabled = enabled;
+    }
+
+    private void reset() {
+        Arrays.fill(frameBytes, 0);
+        Arrays.fill(totalBytes, 0);
+        Arrays.fill(peakBytes, 0);
+        Arrays.fill(frameMissed, false);
+        Arrays.fill(frameFlagged, false);
+        frames = 0;
+        missedFrames = 0;
+        lastFrameEnd = 0;
+        synchronized (pendingGcs) {
+            pendingGcs.clear();
+            hitches.clear();
+            gcCount = 0;
+            gcPauseMillis = 0;
+            gcHitches = 0;
+        }
+    }
+
+    /**
+     * Bytes por frame da seção (média desde que o rastreamento foi ligado)
+     */
+    public long getAverageBytes(int section) {
+        return frames == 0 ? 0 : totalBytes[section] / frames;
+    }
+
+    public long getGcHitches() { return gcHitches; }
+    public long getMissedFrames() { return missedFrames; }
+    public void setBudgetNanos(long budgetNanos) { this.budgetNanos = budgetNanos; }
+
+    /**
+     * Relatório: seções que mais alocam e travadas correlacionadas com GC
+     */
+    public String report(FrameProfiler profiler) {
+        int count = profiler.getSectionCount();
+        Integer[] order = new Integer[count];
+        long frameTotal = 0;
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+            frameTotal += getAverageBytes(i);
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(totalBytes[b], totalBytes[a]));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Alocação: %d frames, %.1f KB/frame%n", frames, frameTotal / 1024.0));
+        sb.append(String.format("%-16s %12s %12s%n", "Seção", "KB/frame", "pico KB"));
+        for (int i : order) {
+            if (totalBytes[i] == 0) continue;
+            sb.append(String.format("%-16s %12.2f %12.2f%n", profiler.getName(i),
+                getAverageBytes(i) / 1024.0, peakBytes[i] / 1024.0));
+        }
+        synchronized (pendingGcs) {
+            sb.append(String.format("GC: %d coletas, %dms de pausa | frames acima do orçamento: %d | travadas por GC: %d%n",
+                gcCount, gcPauseMillis, missedFrames, gcHitches));
+            for (String hitch : hitches) {
+                sb.append("  - ").append(hitch).append(String.format("%n"));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR da criação de um chunk sob demanda (Farm.getTileFromChunk)
+ */
+@Name("farmvalley.ChunkCreated")
+@Label("Chunk criado")
+@Description("Chunk do mapa criado e inicializado sob demanda")
+@Category({"FarmValley", "Mundo"})
+public class ChunkCreatedEvent extends jdk.jfr.Event {
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Y")
+    public int chunkY;
+
+    @Label("Tipo inicial")
+    public String tileType;
+
+    @Label("Chunks carregados")
+    public int loadedChunks;
+}
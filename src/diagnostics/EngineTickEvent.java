@@ -0,0 +1,29 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de um tick do GameEngine.update
+ */
+@Name("farmvalley.EngineTick")
+@Label("Tick do motor")
+@Description("Um passo fixo da simulação (GameEngine.update)")
+@Category({"FarmValley", "Simulação"})
+@StackTrace(false)
+public class EngineTickEvent extends jdk.jfr.Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Inimigos")
+    public int enemies;
+
+    @Label("NPCs")
+    public int npcs;
+
+    @Label("Partículas")
+    public int particles;
+}
@@ -0,0 +1,205 @@
+package diagnostics;
+
+import java.util.Arrays;
+
+import jdk.jfr.EventType;
+
+/**
+ * Perfilador de frame por seção (sistemas do tick e camadas da renderização)
+ *
+ * Cada seção acumula o tempo gasto no frame atual; endFrame() copia os totais
+ * para buffers circulares de tamanho fixo. Nada é alocado durante a medição,
+ * então ligar o perfilador não altera os números que ele mede.
+ *
+ * Uso:
+ *   long t = profiler.begin(secao);
+ *   ... trabalho ...
+ *   profiler.end(secao, t);
+ *
+ * Cada seção deve ser medida por uma thread de cada vez (os sistemas paralelos
+ * do SystemScheduler têm seções próprias e a barreira entre fases dá visibilidade).
+ *
+ * Com uma gravação JFR ativa, cada medição também gera um ProfilerSectionEvent,
+ * mesmo com o painel desligado. Com o AllocationTracker ligado, as mesmas seções
+ * medem também os bytes alocados.
+ */
+public class FrameProfiler {
+    public static final int HISTORY = 240;  // 4 segundos a 60 FPS
+    public static final int MAX_SECTIONS = 32;
+    private static final EventType SECTION_EVENT = EventType.getEventType(ProfilerSectionEvent.class);
+
+    private final String[] names;
+    private final long[][] history;  // [seção][frame] em nanossegundos
+    private final long[] current;    // Acumulado do frame atual
+    private final long[] frameTimes; // Intervalo entre frames
+    private final long[] scratch;    // Para percentis (interface e JMX: acesso sincronizado)
+    private final AllocationTracker allocationTracker;
+    private int sectionCount;
+    private int cursor;
+    private int samples;
+    private long lastFrameEnd;
+    private volatile boolean enabled;
+
+    public FrameProfiler() {
+        this.names = new String[MAX_SECTIONS];
+        this.history = new long[MAX_SECTIONS][HISTORY];
+        this.current = new long[MAX_SECTIONS];
+        this.frameTimes = new long[HISTORY];
+        this.scratch = new long[HISTORY];
+        this.allocationTracker = new AllocationTracker();
+        this.enabled = false;
+    }
+
+    /**
+     * Registra uma seção (ou retorna a existente com o mesmo nome)
+     * @return Identificador da seção
+     */
+    public synchronized int register(String name) {
+        for (int i = 0; i < sectionCount; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        if (sectionCount == MAX_SECTIONS) {
+            throw new IllegalStateException("Limite de seções do perfilador atingido: " + name);
+        }
+        names[sectionCount] = name;
+        return sectionCount++;
+    }
+
+    // ===== MEDIÇÃO =====
+
+    /**
+     * Início de uma medição (0 quando perfilador, alocação e JFR estão desligados)
+     */
+    public long begin(int section) {
+        if (allocationTracker.isEnabled()) {
+            allocationTracker.begin(section);
+            return System.nanoTime();
+        }
+        return enabled || SECTION_EVENT.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Fim de uma medição: soma o tempo decorrido à seção
+     */
+    public void end(int section, long start) {
+        if (start == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (allocationTracker.isEnabled()) {
+            allocationTracker.end(section);
+        }
+        if (enabled) {
+            current[section] += elapsed;
+        }
+        if (SECTION_EVENT.isEnabled()) {
+            ProfilerSectionEvent event = new ProfilerSectionEvent();
+            event.section = names[section];
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Fecha o frame atual e o grava no histórico
+     */
+    public void endFrame() {
+        if (allocationTracker.isEnabled()) {
+            allocationTracker.endFrame(sectionCount, System.nanoTime());
+        }
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < sectionCount; i++) {
+            history[i][cursor] = current[i];
+            current[i] = 0;
+        }
+        frameTimes[cursor] = lastFrameEnd == 0 ? 0 : now - lastFrameEnd;
+        lastFrameEnd = now;
+
+        cursor = (cursor + 1) % HISTORY;
+        if (samples < HISTORY) {
+            samples++;
+        }
+    }
+
+    // ===== ESTATÍSTICAS =====
+
+    /**
+     * Média da seção nos frames do histórico (nanossegundos)
+     */
+    public long getAverageNanos(int section) {
+        if (samples == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < samples; i++) {
+            sum += history[section][i];
+        }
+        return sum / samples;
+    }
+
+    /**
+     * Percentil da seção (ex: 0.99), em nanossegundos
+     */
+    public long getPercentileNanos(int section, double percentile) {
+        return percentile(history[section], percentile);
+    }
+
+    /**
+     * Percentil do intervalo entre frames, em nanossegundos
+     */
+    public long getFrameTimePercentileNanos(double percentile) {
+        return percentile(frameTimes, percentile);
+    }
+
+    private synchronized long percentile(long[] values, double percentile) {
+        if (samples == 0) return 0;
+        System.arraycopy(values, 0, scratch, 0, samples);
+        Arrays.sort(scratch, 0, samples);
+        int index = (int) Math.ceil(percentile * samples) - 1;
+        return scratch[Math.max(0, Math.min(samples - 1, index))];
+    }
+
+    /**
+     * Valor da seção em um frame passado (0 = último frame fechado)
+     */
+    public long getSample(int section, int framesAgo) {
+        return history[section][(cursor - 1 - framesAgo + HISTORY * 2) % HISTORY];
+    }
+
+    public long getFrameTime(int framesAgo) {
+        return frameTimes[(cursor - 1 - framesAgo + HISTORY * 2) % HISTORY];
+    }
+
+    /**
+     * Relatório em texto (modo headless e console)
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-16s %9s %9s%n", "Seção", "média ms", "p99 ms"));
+        for (int i = 0; i < sectionCount; i++) {
+            sb.append(String.format("%-16s %9.3f %9.3f%n", names[i],
+                getAverageNanos(i) / 1_000_000.0, getPercentileNanos(i, 0.99) / 1_000_000.0));
+        }
+        return sb.toString();
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            Arrays.fill(current, 0);
+            lastFrameEnd = 0;
+        }
+        this.enabled = enabled;
+    }
+
+    public void toggle() { setEnabled(!enabled); }
+
+    public AllocationTracker getAllocationTracker() { return allocationTracker; }
+    public int getSectionCount() { return sectionCount; }
+    public String getName(int section) { return names[section]; }
+    public int getSampleCount() { return samples; }
+}
@@ -0,0 +1,26 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento JFR de uma seção do FrameProfiler
+ * Cobre cada sistema do tick e cada camada da renderização
+ */
+@Name("farmvalley.Section")
+@Label("Seção do frame")
+@Description("Tempo de um sistema do tick ou de uma camada da renderização")
+@Category({"FarmValley", "Frame"})
+@StackTrace(false)
+public class ProfilerSectionEvent extends jdk.jfr.Event {
+    @Label("Seção")
+    public String section;
+
+    @Label("Tempo")
+    @Timespan(Timespan.NANOSECONDS)
+    public long elapsed;
+}
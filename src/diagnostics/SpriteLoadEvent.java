@@ -0,0 +1,21 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de uma falta no cache de sprites (SpriteLoader.loadSprite)
+ */
+@Name("farmvalley.SpriteLoad")
+@Label("Carga de sprite")
+@Description("Sprite fora do cache lido do disco")
+@Category({"FarmValley", "Recursos"})
+public class SpriteLoadEvent extends jdk.jfr.Event {
+    @Label("Sprite")
+    public String sprite;
+
+    @Label("Encontrado")
+    public boolean found;
+}
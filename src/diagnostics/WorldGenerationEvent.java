@@ -0,0 +1,31 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de uma etapa da geração do mundo
+ * (DecorationManager.generateDecorations, EntityManager.generateEntities)
+ */
+@Name("farmvalley.WorldGeneration")
+@Label("Geração do mundo")
+@Description("Etapa da geração do mundo com a quantidade de objetos criados")
+@Category({"FarmValley", "Mundo"})
+public class WorldGenerationEvent extends jdk.jfr.Event {
+    @Label("Etapa")
+    public String stage;
+
+    @Label("Largura")
+    public int width;
+
+    @Label("Altura")
+    public int height;
+
+    @Label("Objetos gerados")
+    public int generated;
+
+    @Label("Detalhes")
+    public String details;
+}
@@ -13,6 +13,16 @@ public class Crop {
         this.fullyGrown = false;
     }
 
+    /**
+     * Plantação já crescida (ex: chunk lido do disco)
+     */
+    public Crop(CropType type, int daysGrown) {
+        this(type);
+        while (this.daysGrown < daysGrown && !fullyGrown) {
+            grow();
+        }
+    }
+
     public void grow() {
         if (!fullyGrown) {
             daysGrown++;
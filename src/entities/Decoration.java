@@ -1,19 +1,17 @@
 
 package entities;
 
-import javafx.scene.image.Image;
 import types.DecorationType;
 import items.ItemType;
 import items.ResourceType;
-import utils.SpriteLoader;
 
 /**
  * Representa uma decoração no mapa (árvores, arbustos, ruínas, etc)
+ * O sprite é resolvido pelo renderizador a partir de type.getSpriteFile()
  */
 public class Decoration {
     private int x, y;  // Posição no grid
     private DecorationType type;
-    private Image sprite;
     private ResourceType resource;
     private int health;  // Quantas vezes precisa coletar
     private int maxHealth;
@@ -23,25 +21,12 @@ public class Decoration {
         this.x = x;
         this.y = y;
         this.type = type;
-        this.sprite = loadSprite();
         this.resource = getResourceForType(type);
         this.maxHealth = getMaxHealthForType(type);
         this.health = maxHealth;
         this.depleted = false;
     }
     
-    /**
-     * Carrega o sprite da decoração
-     */
-    private Image loadSprite() {
-        try {
-            return SpriteLoader.loadSprite(type.getSpriteFile());
-        } catch (Exception e) {
-            System.out.println("Aviso: Sprite não encontrado para " + type.getSpriteFile());
-            return null;
-        }
-    }
-    
     // ===== GETTERS =====
     
     public int getX() {
@@ -56,10 +41,6 @@ public class Decoration {
         return type;
     }
     
-    public Image getSprite() {
-        return sprite;
-    }
-    
     public boolean isWalkable() {
         return type.isWalkable();
     }
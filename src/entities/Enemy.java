@@ -1,6 +1,9 @@
 package entities;
 
 import java.util.Random;
+import utils.GameRandom;
+import utils.GameClock;
+import utils.TimerWheel;
 
 /**
  * Classe para inimigos
@@ -8,6 +11,7 @@ import java.util.Random;
  */
 public class Enemy {
     private int x, y;
+    private int prevX, prevY; // Posição no tick anterior (interpolação)
     private EnemyType type;
     private int health;
     private int maxHealth;
@@ -21,8 +25,10 @@ public class Enemy {
     private int moveSpeed;
     private int attackCooldown;
     private Random random;
+    private final GameClock clock;
     private boolean isAggressive;
     private int aggroRange; // Distância para detectar jogador
+    private TimerWheel.Timer timer; // Próxima ação agendada pelo EntityManager
     
     // Estado
     private boolean isDead;
@@ -65,9 +71,19 @@ public class Enemy {
         public int getBlue() { return blue; }
     }
     
-    public Enemy(int x, int y, EnemyType type) {
+    public Enemy(int x, int y, EnemyType type, GameClock clock) {
+        this(x, y, type, clock, GameRandom.newRandom("enemy"));
+    }
+    
+    /**
+     * @param random Gerador da IA (ex: derivado da região em mundos em fluxo)
+     */
+    public Enemy(int x, int y, EnemyType type, GameClock clock, Random random) {
+        this.clock = clock;
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.type = type;
         this.maxHealth = type.getBaseHealth();
         this.health = maxHealth;
@@ -77,15 +93,16 @@ public class Enemy {
         this.attackCooldown = 2000; // 2 segundos entre ataques
         this.facing = Direction.DOWN;
         this.animationFrame = 0;
-        this.lastMoveTime = System.currentTimeMillis();
-        this.lastAttackTime = 0;
-        this.random = new Random();
+        this.lastMoveTime = clock.nowMillis();
+        this.lastAttackTime = -attackCooldown; // Pode atacar desde o início
+        this.random = random;
         this.isDead = false;
         this.isAggressive = false;
     }
     
     // Zona segura ao redor do spawn (inimigos não podem entrar)
     private static final int SAFE_ZONE_RADIUS = 8;
+    private static final int SAFE_ZONE_PUSH_DELAY = 1; // Próximo tick
     
     /**
      * Verifica se uma posição está na zona segura (spawn)
@@ -98,15 +115,16 @@ public class Enemy {
     }
     
     /**
-     * Atualiza o inimigo (IA, movimento, ataque)
+     * Executa a IA quando o timer do inimigo vence (agendado pelo EntityManager)
+     * @return Milissegundos até a próxima ação
      */
-    public void update(int playerX, int playerY, int mapWidth, int mapHeight, 
-                       java.util.function.BiPredicate<Integer, Integer> isWalkable) {
-        if (isDead) return;
+    public long act(int playerX, int playerY, int mapWidth, int mapHeight,
+                    java.util.function.BiPredicate<Integer, Integer> isWalkable) {
+        if (isDead) return moveSpeed;
         
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.nowMillis();
         
-        // Se o inimigo está na zona segura, empurrá-lo para fora
+        // Se o inimigo está na zona segura, empurrá-lo para fora (um tile por tick)
         if (isInSafeZone(x, y, mapWidth, mapHeight)) {
             int spawnX = mapWidth / 2;
             int spawnY = mapHeight / 2;
@@ -115,33 +133,52 @@ public class Enemy {
             else if (x > spawnX) x++;
             if (y < spawnY) y--;
             else if (y > spawnY) y++;
-            return;
+            return SAFE_ZONE_PUSH_DELAY;
         }
         
-        // Calcular distância do jogador
-        double distanceToPlayer = Math.sqrt(Math.pow(x - playerX, 2) + Math.pow(y - playerY, 2));
-        
-        // Verificar se jogador está no range de aggro
-        isAggressive = distanceToPlayer <= aggroRange;
+        // Ainda não é hora de mover (acabou de sair da zona segura)
+        long wait = lastMoveTime + moveSpeed - currentTime;
+        if (wait > 0) {
+            return wait;
+        }
         
-        // Verificar se é hora de mover
-        if (currentTime - lastMoveTime >= moveSpeed) {
-            if (isAggressive) {
-                // Perseguir jogador (mas não entrar na zona segura)
-                moveTowardsTarget(playerX, playerY, mapWidth, mapHeight, isWalkable);
-            } else {
-                // Movimento aleatório
-                moveRandomly(mapWidth, mapHeight, isWalkable);
-            }
-            lastMoveTime = currentTime;
+        // Verificar se jogador está no range de aggro (a flag isAggressive é mantida por updateAggro)
+        if (isInAggroRange(playerX, playerY)) {
+            // Perseguir jogador (mas não entrar na zona segura)
+            moveTowardsTarget(playerX, playerY, mapWidth, mapHeight, isWalkable);
+        } else {
+            // Movimento aleatório
+            moveRandomly(mapWidth, mapHeight, isWalkable);
         }
+        lastMoveTime = currentTime;
+        return moveSpeed;
+    }
+    
+    /**
+     * Atualiza o aggro e a animação de ataque
+     * Chamado a cada tick só para inimigos perto do jogador (índice espacial do EntityManager)
+     */
+    public void updateAggro(int playerX, int playerY, int mapWidth, int mapHeight) {
+        if (isDead || isInSafeZone(x, y, mapWidth, mapHeight)) return;
         
-        // Atualizar animação
+        isAggressive = isInAggroRange(playerX, playerY);
         if (isAggressive) {
             animationFrame = (animationFrame + 1) % 4;
         }
     }
     
+    /**
+     * Jogador saiu da área de aggro de todos os inimigos próximos
+     */
+    public void clearAggro() {
+        isAggressive = false;
+    }
+    
+    private boolean isInAggroRange(int playerX, int playerY) {
+        double distanceToPlayer = Math.sqrt(Math.pow(x - playerX, 2) + Math.pow(y - playerY, 2));
+        return distanceToPlayer <= aggroRange;
+    }
+    
     /**
      * Move em direção ao alvo
      */
@@ -237,7 +274,7 @@ public class Enemy {
      * Verifica se pode atacar (cooldown)
      */
     public boolean canAttack() {
-        return System.currentTimeMillis() - lastAttackTime >= attackCooldown;
+        return clock.nowMillis() - lastAttackTime >= attackCooldown;
     }
     
     /**
@@ -245,7 +282,7 @@ public class Enemy {
      */
     public int attack() {
         if (canAttack()) {
-            lastAttackTime = System.currentTimeMillis();
+            lastAttackTime = clock.nowMillis();
             return damage;
         }
         return 0;
@@ -269,6 +306,25 @@ public class Enemy {
         return Math.abs(x - playerX) <= 1 && Math.abs(y - playerY) <= 1 && !(x == playerX && y == playerY);
     }
     
+    /**
+     * Guarda a posição atual como posição do tick anterior
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    /**
+     * Posição interpolada entre os dois últimos ticks (alpha de 0.0 a 1.0)
+     */
+    public double getRenderX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+    
+    public double getRenderY(double alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+    
     // Getters
     public int getX() { return x; }
     public int getY() { return y; }
@@ -280,6 +336,10 @@ public class Enemy {
     public int getAnimationFrame() { return animationFrame; }
     public boolean isDead() { return isDead; }
     public boolean isAggressive() { return isAggressive; }
+    public int getAggroRange() { return aggroRange; }
+    public int getMoveSpeed() { return moveSpeed; }
+    public TimerWheel.Timer getTimer() { return timer; }
+    public void setTimer(TimerWheel.Timer timer) { this.timer = timer; }
     
     public double getHealthPercentage() {
         return (double) health / maxHealth;
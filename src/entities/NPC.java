@@ -2,6 +2,9 @@ package entities;
 
 import java.util.Random;
 import systems.DialogueSystem;
+import utils.GameRandom;
+import utils.GameClock;
+import utils.TimerWheel;
 
 /**
  * Classe base para NPCs (Non-Player Characters)
@@ -9,6 +12,7 @@ import systems.DialogueSystem;
  */
 public class NPC {
     protected int x, y;
+    protected int prevX, prevY; // Posição no tick anterior (interpolação)
     protected int targetX, targetY;
     protected NPCType type;
     protected String name;
@@ -20,6 +24,8 @@ public class NPC {
     protected int moveSpeed; // Delay em ms entre movimentos
     protected boolean isMoving;
     protected Random random;
+    protected final GameClock clock;
+    protected TimerWheel.Timer timer; // Próxima ação agendada pelo EntityManager
     
     // Interação
     protected int interactionCount;
@@ -54,28 +60,39 @@ public class NPC {
         public int getBlue() { return blue; }
     }
     
-    public NPC(int x, int y, NPCType type, String name) {
+    public NPC(int x, int y, NPCType type, String name, GameClock clock) {
+        this(x, y, type, name, clock, GameRandom.newRandom("npc"));
+    }
+    
+    /**
+     * @param random Gerador da IA (ex: derivado da região em mundos em fluxo)
+     */
+    public NPC(int x, int y, NPCType type, String name, GameClock clock, Random random) {
+        this.clock = clock;
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.targetX = x;
         this.targetY = y;
         this.type = type;
         this.name = name;
         this.facing = Direction.DOWN;
         this.animationFrame = 0;
-        this.lastMoveTime = System.currentTimeMillis();
-        this.moveSpeed = 1500 + new Random().nextInt(1000); // 1500-2500ms - movimento mais lento
+        this.lastMoveTime = clock.nowMillis();
+        this.random = random;
+        this.moveSpeed = 1500 + random.nextInt(1000); // 1500-2500ms - movimento mais lento
         this.isMoving = false;
-        this.random = new Random();
         this.canTrade = type.canTrade();
         this.interactionCount = 0;
     }
     
     /**
-     * Atualiza o NPC (movimento, IA, etc.)
+     * Decide o próximo passo quando o timer do NPC vence (agendado pelo EntityManager)
+     * @return Milissegundos até o próximo passo
      */
-    public void update(int mapWidth, int mapHeight, java.util.function.BiPredicate<Integer, Integer> isWalkable) {
-        long currentTime = System.currentTimeMillis();
+    public long act(int mapWidth, int mapHeight, java.util.function.BiPredicate<Integer, Integer> isWalkable) {
+        long currentTime = clock.nowMillis();
         
         // Verificar se é hora de mover
         if (currentTime - lastMoveTime >= moveSpeed) {
@@ -109,6 +126,7 @@ public class NPC {
             
             lastMoveTime = currentTime;
         }
+        return lastMoveTime + moveSpeed - currentTime;
     }
     
     /**
@@ -162,6 +180,25 @@ public class NPC {
         return Math.abs(x - playerX) <= 1 && Math.abs(y - playerY) <= 1;
     }
     
+    /**
+     * Guarda a posição atual como posição do tick anterior
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    /**
+     * Posição interpolada entre os dois últimos ticks (alpha de 0.0 a 1.0)
+     */
+    public double getRenderX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+    
+    public double getRenderY(double alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+    
     // Getters
     public int getX() { return x; }
     public int getY() { return y; }
@@ -171,6 +208,9 @@ public class NPC {
     public int getAnimationFrame() { return animationFrame; }
     public boolean canTrade() { return canTrade; }
     public boolean isMoving() { return isMoving; }
+    public int getMoveSpeed() { return moveSpeed; }
+    public TimerWheel.Timer getTimer() { return timer; }
+    public void setTimer(TimerWheel.Timer timer) { this.timer = timer; }
     
     public String getDisplayName() {
         return name + " (" + type.getTitle() + ")";
@@ -3,10 +3,13 @@ package entities;
 import systems.Inventory;
 import items.ItemType;
 import types.CropType;
+import utils.GameClock;
 
 public class Player {
     private int x;
     private int y;
+    private int prevX; // Posição no tick anterior (interpolação)
+    private int prevY;
     private int money;
     private int energy;
     private int maxEnergy;
@@ -28,10 +31,15 @@ public class Player {
     private int attackDamage;
     private long lastDamageTime;
     private static final long DAMAGE_COOLDOWN = 1000; // 1 segundo de invulnerabilidade
+    
+    private final GameClock clock;
 
-    public Player(int startX, int startY) {
+    public Player(int startX, int startY, GameClock clock) {
+        this.clock = clock;
         this.x = startX;
         this.y = startY;
+        this.prevX = startX;
+        this.prevY = startY;
         this.money = 500;
         this.energy = 100;
         this.maxEnergy = 100;
@@ -40,10 +48,10 @@ public class Player {
         this.selectedSeed = CropType.TOMATO;
         this.facing = Direction.DOWN;
         this.animationFrame = 0;
-        this.lastFrameTime = System.nanoTime();
+        this.lastFrameTime = clock.nowNanos();
         this.isDead = false;
         this.attackDamage = 15;
-        this.lastDamageTime = 0;
+        this.lastDamageTime = -DAMAGE_COOLDOWN; // Vulnerável desde o início
         
         // Criar inventário com 24 slots (6x4 grid)
         this.inventory = new Inventory(24);
@@ -95,7 +103,7 @@ public class Player {
     // ===== SISTEMA DE VIDA =====
     
     public void takeDamage(int amount) {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.nowMillis();
         
         // Verificar invulnerabilidade temporária
         if (currentTime - lastDamageTime < DAMAGE_COOLDOWN) {
@@ -127,17 +135,19 @@ public class Player {
     public void respawn(int spawnX, int spawnY) {
         this.x = spawnX;
         this.y = spawnY;
+        this.prevX = spawnX; // Teleporte: não interpolar a partir da posição da morte
+        this.prevY = spawnY;
         this.health = maxHealth / 2; // Renasce com metade da vida
         this.energy = maxEnergy / 2;  // E metade da energia
         this.isDead = false;
     }
     
     public boolean canTakeDamage() {
-        return System.currentTimeMillis() - lastDamageTime >= DAMAGE_COOLDOWN;
+        return clock.nowMillis() - lastDamageTime >= DAMAGE_COOLDOWN;
     }
     
     public boolean isInvulnerable() {
-        return System.currentTimeMillis() - lastDamageTime < DAMAGE_COOLDOWN;
+        return clock.nowMillis() - lastDamageTime < DAMAGE_COOLDOWN;
     }
     
     // ===== CONSUMÍVEIS =====
@@ -170,7 +180,7 @@ public class Player {
     
     // Atualizar animação (alternar entre frames)
     public void updateAnimation() {
-        long currentTime = System.nanoTime();
+        long currentTime = clock.nowNanos();
         long elapsedTime = currentTime - lastFrameTime;
         
         // Trocar frame a cada 100ms (10 frames por segundo) - animação mais fluida!
@@ -184,6 +194,27 @@ public class Player {
     public void resetAnimation() {
         animationFrame = 0;
     }
+    
+    // ===== INTERPOLAÇÃO =====
+    
+    /**
+     * Guarda a posição atual como posição do tick anterior
+     */
+    public void savePreviousPosition() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    /**
+     * Posição X interpolada entre os dois últimos ticks (alpha de 0.0 a 1.0)
+     */
+    public double getRenderX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+    
+    public double getRenderY(double alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
 
     // Getters
     public int getX() { return x; }
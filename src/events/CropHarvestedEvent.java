@@ -0,0 +1,35 @@
+package events;
+
+import types.CropQuality;
+import types.CropType;
+
+/**
+ * Plantação colhida pelo jogador
+ */
+public class CropHarvestedEvent extends GameEvent {
+    private CropType crop;
+    private CropQuality quality;
+    private int price;
+    private int x, y;
+
+    /**
+     * Preenche o evento para reutilização
+     */
+    public CropHarvestedEvent set(CropType crop, CropQuality quality, int price, int x, int y) {
+        this.crop = crop;
+        this.quality = quality;
+        this.price = price;
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    @Override
+    public EventType getType() { return EventType.CROP_HARVESTED; }
+
+    public CropType getCrop() { return crop; }
+    public CropQuality getQuality() { return quality; }
+    public int getPrice() { return price; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+}
@@ -0,0 +1,21 @@
+package events;
+
+/**
+ * Um novo dia começou (dormindo ou no avanço rápido)
+ */
+public class DayPassedEvent extends GameEvent {
+    private int day;
+
+    /**
+     * Preenche o evento para reutilização
+     */
+    public DayPassedEvent set(int day) {
+        this.day = day;
+        return this;
+    }
+
+    @Override
+    public EventType getType() { return EventType.DAY_PASSED; }
+
+    public int getDay() { return day; }
+}
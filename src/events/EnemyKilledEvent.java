@@ -0,0 +1,26 @@
+package events;
+
+import entities.Enemy;
+
+/**
+ * Inimigo derrotado pelo jogador
+ */
+public class EnemyKilledEvent extends GameEvent {
+    private Enemy enemy;
+    private int xpReward;
+
+    /**
+     * Preenche o evento para reutilização
+     */
+    public EnemyKilledEvent set(Enemy enemy, int xpReward) {
+        this.enemy = enemy;
+        this.xpReward = xpReward;
+        return this;
+    }
+
+    @Override
+    public EventType getType() { return EventType.ENEMY_KILLED; }
+
+    public Enemy getEnemy() { return enemy; }
+    public int getXpReward() { return xpReward; }
+}
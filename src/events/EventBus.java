@@ -0,0 +1,46 @@
+package events;
+
+import java.util.Arrays;
+
+/**
+ * Barramento de eventos tipado do jogo
+ * Os ouvintes de cada tipo ficam em um array (copiado só ao inscrever), então
+ * publicar não aloca nada: apenas percorre o array do tipo do evento.
+ * Deve ser usado na thread da simulação.
+ */
+public class EventBus {
+    private static final EventListener<?>[] NO_LISTENERS = new EventListener<?>[0];
+
+    private final EventListener<?>[][] listeners;
+
+    public EventBus() {
+        listeners = new EventListener<?>[EventType.values().length][];
+        Arrays.fill(listeners, NO_LISTENERS);
+    }
+
+    /**
+     * Inscreve um ouvinte para uma classe de evento
+     */
+    public <E extends GameEvent> void subscribe(Class<E> eventClass, EventListener<? super E> listener) {
+        int index = EventType.of(eventClass).ordinal();
+        EventListener<?>[] current = listeners[index];
+        EventListener<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[index] = updated;
+    }
+
+    /**
+     * Entrega o evento a todos os ouvintes do seu tipo, na ordem de inscrição
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends GameEvent> void publish(E event) {
+        EventListener<?>[] targets = listeners[event.getType().ordinal()];
+        for (int i = 0; i < targets.length; i++) {
+            ((EventListener<E>) targets[i]).onEvent(event);
+        }
+    }
+
+    public int getListenerCount(EventType type) {
+        return listeners[type.ordinal()].length;
+    }
+}
@@ -0,0 +1,9 @@
+package events;
+
+/**
+ * Ouvinte de um tipo de evento
+ */
+@FunctionalInterface
+public interface EventListener<E extends GameEvent> {
+    void onEvent(E event);
+}
@@ -0,0 +1,33 @@
+package events;
+
+/**
+ * Tipos de eventos do jogo
+ * O ordinal indexa diretamente a tabela de ouvintes do EventBus
+ */
+public enum EventType {
+    RESOURCE_HARVESTED(ResourceHarvestedEvent.class),
+    CROP_HARVESTED(CropHarvestedEvent.class),
+    ENEMY_KILLED(EnemyKilledEvent.class),
+    DAY_PASSED(DayPassedEvent.class),
+    MONEY_EARNED(MoneyEarnedEvent.class);
+
+    private final Class<? extends GameEvent> eventClass;
+
+    EventType(Class<? extends GameEvent> eventClass) {
+        this.eventClass = eventClass;
+    }
+
+    public Class<? extends GameEvent> getEventClass() { return eventClass; }
+
+    /**
+     * Encontra o tipo correspondente a uma classe de evento
+     */
+    public static EventType of(Class<? extends GameEvent> eventClass) {
+        for (EventType type : values()) {
+            if (type.eventClass == eventClass) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Evento não registrado: " + eventClass.getSimpleName());
+    }
+}
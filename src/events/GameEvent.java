@@ -0,0 +1,14 @@
+package events;
+
+/**
+ * Base dos eventos do jogo
+ * Eventos são pré-alocados e reutilizados pelo publicador: os ouvintes não
+ * devem guardar a referência depois que onEvent retorna.
+ */
+public abstract class GameEvent {
+
+    /**
+     * Tipo do evento (usado pelo EventBus para despachar sem lookup por hash)
+     */
+    public abstract EventType getType();
+}
@@ -0,0 +1,21 @@
+package events;
+
+/**
+ * Dinheiro ganho pelo jogador (colheita, venda...)
+ */
+public class MoneyEarnedEvent extends GameEvent {
+    private int amount;
+
+    /**
+     * Preenche o evento para reutilização
+     */
+    public MoneyEarnedEvent set(int amount) {
+        this.amount = amount;
+        return this;
+    }
+
+    @Override
+    public EventType getType() { return EventType.MONEY_EARNED; }
+
+    public int getAmount() { return amount; }
+}
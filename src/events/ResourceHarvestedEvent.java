@@ -0,0 +1,33 @@
+package events;
+
+import items.ItemType;
+import items.ResourceType;
+
+/**
+ * Recurso coletado de uma decoração ou tile (madeira, pedra, fibra...)
+ */
+public class ResourceHarvestedEvent extends GameEvent {
+    private ResourceType resource;
+    private int quantity;
+    private int x, y;
+
+    /**
+     * Preenche o evento para reutilização
+     */
+    public ResourceHarvestedEvent set(ResourceType resource, int quantity, int x, int y) {
+        this.resource = resource;
+        this.quantity = quantity;
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    @Override
+    public EventType getType() { return EventType.RESOURCE_HARVESTED; }
+
+    public ResourceType getResource() { return resource; }
+    public ItemType getItem() { return resource.getItemDropped(); }
+    public int getQuantity() { return quantity; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+}
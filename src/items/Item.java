@@ -1,8 +1,5 @@
 package items;
 
-import javafx.scene.image.Image;
-import utils.SpriteLoader;
-
 /**
  * Representa um item no inventário
  * Pode ser empilhável ou não
@@ -118,13 +115,6 @@ public class Item {
         return quantity >= type.getMaxStack();
     }
     
-    /**
-     * Carrega o ícone do item
-     */
-    public Image getIcon() {
-        return SpriteLoader.loadSprite(type.getIconFile());
-    }
-    
     /**
      * Clona o item
      */
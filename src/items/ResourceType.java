@@ -1,5 +1,7 @@
 package items;
 
+import utils.GameRandom;
+
 /**
  * Tipos de recursos que podem ser coletados no jogo
  * Define o que cada decoração/tile dropa quando coletado
@@ -49,7 +51,7 @@ public enum ResourceType {
         if (minQuantity == maxQuantity) {
             return minQuantity;
         }
-        return minQuantity + (int)(Math.random() * (maxQuantity - minQuantity + 1));
+        return minQuantity + GameRandom.shared("loot").nextInt(maxQuantity - minQuantity + 1);
     }
     
     /**
@@ -0,0 +1,182 @@
+package render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import core.RenderSnapshot;
+import world.TileType;
+import entities.Player;
+
+/**
+ * Sistema de minimapa
+ * Mostra visão geral do mapa, jogador, NPCs e inimigos a partir do RenderSnapshot
+ * (os tiles são recapturados pela simulação a cada N frames, conforme a qualidade)
+ */
+public class Minimap {
+    private static final int SIZE = 120;
+    private static final int PADDING = 10;
+    private double scale;
+    
+    // Camada de tiles cacheada (janela da última captura desenhada)
+    private WritableImage tileImage;
+    private int startX, startY, endX, endY;
+    private long drawnVersion;
+    
+    public Minimap() {
+        this.scale = 1.0;
+        this.drawnVersion = -1;
+    }
+    
+    /**
+     * Redesenha na imagem cacheada os tiles capturados ao redor do jogador
+     */
+    private void refreshTiles(RenderSnapshot snapshot) {
+        if (tileImage == null) {
+            tileImage = new WritableImage(SIZE, SIZE);
+        }
+        startX = snapshot.getMinimapStartX();
+        endX = snapshot.getMinimapEndX();
+        startY = snapshot.getMinimapStartY();
+        endY = snapshot.getMinimapEndY();
+        
+        // Recalcular escala para a área visível
+        int visibleWidth = endX - startX;
+        int visibleHeight = endY - startY;
+        scale = Math.min((double) SIZE / visibleWidth, (double) SIZE / visibleHeight);
+        
+        PixelWriter writer = tileImage.getPixelWriter();
+        for (int py = 0; py < SIZE; py++) {
+            for (int px = 0; px < SIZE; px++) {
+                writer.setArgb(px, py, 0);
+            }
+        }
+        for (int tx = startX; tx < endX; tx++) {
+            int px0 = (int) ((tx - startX) * scale);
+            int px1 = Math.min(SIZE, Math.max(px0 + 1, (int) ((tx - startX + 1) * scale)));
+            for (int ty = startY; ty < endY; ty++) {
+                TileType type = snapshot.getMinimapTile(tx, ty);
+                if (type == null) continue;
+                int argb = getTileArgb(type);
+                int py0 = (int) ((ty - startY) * scale);
+                int py1 = Math.min(SIZE, Math.max(py0 + 1, (int) ((ty - startY + 1) * scale)));
+                for (int py = py0; py < py1; py++) {
+                    for (int px = px0; px < px1; px++) {
+                        writer.setArgb(px, py, argb);
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Renderiza o minimapa
+     */
+    public void render(GraphicsContext gc, RenderSnapshot snapshot, int screenWidth, int screenHeight) {
+        
+        // Posição do minimapa (canto superior direito)
+        double x = screenWidth - SIZE - PADDING;
+        double y = PADDING;
+        
+        // Fundo do minimapa
+        gc.setFill(Color.rgb(0, 0, 0, 0.7));
+        gc.fillRoundRect(x - 5, y - 5, SIZE + 10, SIZE + 30, 10, 10);
+        
+        // Borda
+        gc.setStroke(Color.rgb(100, 100, 100));
+        gc.setLineWidth(2);
+        gc.strokeRoundRect(x - 5, y - 5, SIZE + 10, SIZE + 30, 10, 10);
+        
+        // Título
+        gc.setFill(Color.WHITE);
+        gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 10));
+        gc.fillText("MAPA", x + SIZE/2 - 15, y + SIZE + 15);
+        
+        // Tiles em imagem cacheada, redesenhada só quando a simulação recaptura a área
+        // (entre recapturas a janela fica parada e só os marcadores se movem)
+        if (snapshot.getMinimapVersion() != drawnVersion) {
+            refreshTiles(snapshot);
+            drawnVersion = snapshot.getMinimapVersion();
+        }
+        gc.drawImage(tileImage, x, y);
+        
+        int playerX = snapshot.getPlayerX();
+        int playerY = snapshot.getPlayerY();
+        
+        // Desenhar NPCs (azul), já filtrados pela área da última captura
+        gc.setFill(Color.rgb(0, 150, 255));
+        for (int i = 0; i < snapshot.getNpcMarkerCount(); i++) {
+            double npcX = x + (snapshot.getNpcMarkerX(i) - startX) * scale;
+            double npcY = y + (snapshot.getNpcMarkerY(i) - startY) * scale;
+            gc.fillOval(npcX - 2, npcY - 2, 4, 4);
+        }
+        
+        // Desenhar inimigos vivos (vermelho)
+        gc.setFill(Color.rgb(255, 50, 50));
+        for (int i = 0; i < snapshot.getEnemyMarkerCount(); i++) {
+            double enemyX = x + (snapshot.getEnemyMarkerX(i) - startX) * scale;
+            double enemyY = y + (snapshot.getEnemyMarkerY(i) - startY) * scale;
+            gc.fillRect(enemyX - 2, enemyY - 2, 4, 4);
+        }
+        
+        // Desenhar jogador (verde brilhante, maior)
+        double playerMinimapX = x + (playerX - startX) * scale;
+        double playerMinimapY = y + (playerY - startY) * scale;
+        
+        // Círculo externo pulsante
+        double pulse = 1 + 0.3 * Math.sin(System.currentTimeMillis() / 200.0);
+        gc.setFill(Color.rgb(0, 255, 0, 0.3));
+        gc.fillOval(playerMinimapX - 5 * pulse, playerMinimapY - 5 * pulse, 10 * pulse, 10 * pulse);
+        
+        // Círculo interno
+        gc.setFill(Color.rgb(0, 255, 0));
+        gc.fillOval(playerMinimapX - 3, playerMinimapY - 3, 6, 6);
+        
+        // Seta de direção
+        drawDirectionArrow(gc, playerMinimapX, playerMinimapY, snapshot.getPlayerFacing());
+        
+        // Coordenadas do jogador
+        gc.setFill(Color.rgb(200, 200, 200));
+        gc.setFont(javafx.scene.text.Font.font("Arial", 8));
+        gc.fillText("(" + playerX + ", " + playerY + ")", x, y + SIZE + 25);
+    }
+    
+    private int getTileArgb(TileType type) {
+        switch (type) {
+            case GRASS:
+                return argb(60, 120, 60);
+            case DIRT:
+            case PLANTED:
+                return argb(100, 70, 40);
+            case WATER:
+                return argb(50, 100, 180);
+            case STONE:
+                return argb(100, 100, 100);
+            default:
+                return argb(80, 80, 80);
+        }
+    }
+    
+    private static int argb(int r, int g, int b) {
+        return 0xFF000000 | (r << 16) | (g << 8) | b;
+    }
+    
+    private void drawDirectionArrow(GraphicsContext gc, double x, double y, Player.Direction facing) {
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(2);
+        
+        double arrowLength = 8;
+        double endX = x, endY = y;
+        
+        switch (facing) {
+            case UP: endY = y - arrowLength; break;
+            case DOWN: endY = y + arrowLength; break;
+            case LEFT: endX = x - arrowLength; break;
+            case RIGHT: endX = x + arrowLength; break;
+        }
+        
+        gc.strokeLine(x, y, endX, endY);
+    }
+}
+
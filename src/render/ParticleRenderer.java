@@ -0,0 +1,79 @@
+package render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import core.RenderSnapshot;
+
+/**
+ * Desenha as partículas copiadas no RenderSnapshot no canvas JavaFX
+ */
+public class ParticleRenderer {
+
+    /**
+     * Renderiza todas as partículas vivas no momento da captura
+     */
+    public void render(GraphicsContext gc, RenderSnapshot snapshot, int offsetX, int offsetY, int tileSize) {
+        for (int i = 0; i < snapshot.getParticleCount(); i++) {
+            drawParticle(gc, snapshot, i, offsetX, offsetY, tileSize);
+        }
+    }
+
+    private void drawParticle(GraphicsContext gc, RenderSnapshot snapshot, int i, int offsetX, int offsetY, int tileSize) {
+        double screenX = snapshot.getParticleX(i) * tileSize + offsetX;
+        double screenY = snapshot.getParticleY(i) * tileSize + offsetY;
+        double size = snapshot.getParticleSize(i);
+
+        // Fade out
+        double alpha = snapshot.getParticleLife(i);
+
+        // Ajustar cor com alpha
+        int argb = snapshot.getParticleColor(i);
+        Color renderColor = Color.rgb(
+            (argb >> 16) & 0xFF,
+            (argb >> 8) & 0xFF,
+            argb & 0xFF,
+            alpha * (((argb >>> 24) & 0xFF) / 255.0)
+        );
+
+        gc.setFill(renderColor);
+
+        // Forma baseada no tipo
+        switch (snapshot.getParticleType(i)) {
+            case RAIN:
+                // Linha diagonal
+                gc.setStroke(renderColor);
+                gc.setLineWidth(1);
+                gc.strokeLine(screenX, screenY, screenX + 3, screenY + 8);
+                break;
+            case SNOW:
+                // Flocos
+                gc.fillOval(screenX - size/2, screenY - size/2, size, size);
+                break;
+            case LEVELUP:
+                // Estrelas
+                drawStar(gc, screenX, screenY, size, renderColor);
+                break;
+            default:
+                // Círculos
+                double currentSize = size * (0.5 + alpha * 0.5);
+                gc.fillOval(screenX - currentSize/2, screenY - currentSize/2,
+                           currentSize, currentSize);
+        }
+    }
+
+    private void drawStar(GraphicsContext gc, double cx, double cy, double size, Color color) {
+        gc.setFill(color);
+        double[] xPoints = new double[10];
+        double[] yPoints = new double[10];
+
+        for (int i = 0; i < 10; i++) {
+            double angle = Math.PI / 2 + i * Math.PI / 5;
+            double r = (i % 2 == 0) ? size : size / 2;
+            xPoints[i] = cx + r * Math.cos(angle);
+            yPoints[i] = cy - r * Math.sin(angle);
+        }
+
+        gc.fillPolygon(xPoints, yPoints, 10);
+    }
+}
@@ -0,0 +1,156 @@
+package render;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import diagnostics.AllocationTracker;
+import diagnostics.FrameProfiler;
+
+/**
+ * Painel do perfilador de frame (F3)
+ * Tabela com média e p99 de cada seção (e KB/frame com o rastreamento de alocação),
+ * gráfico empilhado dos últimos frames e o nível de qualidade gráfica atual.
+ * Um painel por perfilador (renderização e simulação), lado a lado.
+ * Cores e fonte são pré-alocadas; o texto da tabela é refeito só a cada 30 frames.
+ */
+public class ProfilerOverlay {
+    private static final int WIDTH = 400;
+    private static final int GRAPH_HEIGHT = 100;
+    private static final int LINE_HEIGHT = 14;
+    private static final int TEXT_REFRESH_FRAMES = 30;
+    private static final double BUDGET_NANOS = 1_000_000_000.0 / 60; // 16.6ms
+    private static final double GRAPH_SCALE_NANOS = BUDGET_NANOS * 2; // Topo do gráfico = 33ms
+
+    private static final Color BACKGROUND = Color.rgb(0, 0, 0, 0.75);
+    private static final Color BORDER = Color.rgb(100, 100, 100);
+    private static final Color TEXT = Color.rgb(230, 230, 230);
+    private static final Color BUDGET_LINE = Color.rgb(255, 80, 80);
+    private static final Color FRAME_LINE = Color.rgb(255, 255, 255, 0.5);
+    private static final Font FONT = Font.font("Monospaced", FontWeight.NORMAL, 11);
+    private static final Color[] PALETTE = {
+        Color.rgb(230, 25, 75), Color.rgb(60, 180, 75), Color.rgb(255, 225, 25),
+        Color.rgb(67, 99, 216), Color.rgb(245, 130, 49), Color.rgb(145, 30, 180),
+        Color.rgb(66, 212, 244), Color.rgb(240, 50, 230), Color.rgb(191, 239, 69),
+        Color.rgb(250, 190, 212), Color.rgb(70, 153, 144), Color.rgb(220, 190, 255),
+        Color.rgb(154, 99, 36), Color.rgb(255, 250, 200), Color.rgb(128, 0, 0),
+        Color.rgb(170, 255, 195)
+    };
+
+    private final String title;
+    private final int column;
+    private final String[] lines;
+    private String header;
+    private String qualityLine;
+    private int framesSinceRefresh;
+
+    /**
+     * @param title Nome do perfilador no cabeçalho
+     * @param column Posição do painel (0 = canto inferior esquerdo, 1 = ao lado, ...)
+     */
+    public ProfilerOverlay(String title, int column) {
+        this.title = title;
+        this.column = column;
+        this.lines = new String[FrameProfiler.MAX_SECTIONS];
+        this.header = "";
+        this.qualityLine = "";
+        this.framesSinceRefresh = TEXT_REFRESH_FRAMES;
+    }
+
+    /**
+     * Desenha o painel na parte inferior esquerda
+     * @param quality Governador de qualidade (null = painel sem a linha de qualidade)
+     */
+    public void render(GraphicsContext gc, FrameProfiler profiler, QualityGovernor quality,
+                       int screenWidth, int screenHeight) {
+        int sections = profiler.getSectionCount();
+        if (++framesSinceRefresh >= TEXT_REFRESH_FRAMES) {
+            refreshText(profiler, quality);
+            framesSinceRefresh = 0;
+        }
+
+        double height = GRAPH_HEIGHT + (sections + 2) * LINE_HEIGHT + 20;
+        double x = 10 + column * (WIDTH + 10);
+        double y = screenHeight - height - 90; // Acima da hotbar
+
+        gc.setFill(BACKGROUND);
+        gc.fillRoundRect(x, y, WIDTH, height, 8, 8);
+        gc.setStroke(BORDER);
+        gc.setLineWidth(1);
+        gc.strokeRoundRect(x, y, WIDTH, height, 8, 8);
+
+        drawGraph(gc, profiler, x + 10, y + 10 + GRAPH_HEIGHT);
+
+        // Tabela
+        gc.setFont(FONT);
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        double textY = y + GRAPH_HEIGHT + 15;
+        gc.setFill(TEXT);
+        gc.fillText(header, x + 24, textY);
+        for (int i = 0; i < sections; i++) {
+            textY += LINE_HEIGHT;
+            gc.setFill(PALETTE[i % PALETTE.length]);
+            gc.fillRect(x + 10, textY + 3, 8, 8);
+            if (lines[i] != null) {
+                gc.setFill(TEXT);
+                gc.fillText(lines[i], x + 24, textY);
+            }
+        }
+        gc.setFill(TEXT);
+        gc.fillText(qualityLine, x + 24, textY + LINE_HEIGHT);
+    }
+
+    /**
+     * Gráfico empilhado: uma coluna por frame, mais recente à direita
+     */
+    private void drawGraph(GraphicsContext gc, FrameProfiler profiler, double left, double bottom) {
+        int columns = Math.min(profiler.getSampleCount(), WIDTH - 20);
+        double right = left + WIDTH - 20;
+        double pixelsPerNano = GRAPH_HEIGHT / GRAPH_SCALE_NANOS;
+
+        for (int f = 0; f < columns; f++) {
+            double columnX = right - 1 - f;
+            double stackY = bottom;
+            for (int s = 0; s < profiler.getSectionCount(); s++) {
+                double h = profiler.getSample(s, f) * pixelsPerNano;
+                if (h <= 0) continue;
+                h = Math.min(h, stackY - (bottom - GRAPH_HEIGHT));
+                stackY -= h;
+                gc.setFill(PALETTE[s % PALETTE.length]);
+                gc.fillRect(columnX, stackY, 1, h);
+            }
+
+            // Intervalo real entre frames
+            double frameY = bottom - Math.min(GRAPH_HEIGHT, profiler.getFrameTime(f) * pixelsPerNano);
+            gc.setFill(FRAME_LINE);
+            gc.fillRect(columnX, frameY, 1, 1);
+        }
+
+        // Orçamento de 16.6ms
+        double budgetY = bottom - BUDGET_NANOS * pixelsPerNano;
+        gc.setStroke(BUDGET_LINE);
+        gc.strokeLine(left, budgetY, right, budgetY);
+    }
+
+    private void refreshText(FrameProfiler profiler, QualityGovernor quality) {
+        AllocationTracker tracker = profiler.getAllocationTracker();
+        boolean alloc = tracker.isEnabled();
+        header = String.format("%-13s %7s %7s%s   frame p99 %.1fms", title, "média", "p99",
+            alloc ? "    KB/f" : "", profiler.getFrameTimePercentileNanos(0.99) / 1_000_000.0);
+        for (int i = 0; i < profiler.getSectionCount(); i++) {
+            lines[i] = String.format("%-13s %7.3f %7.3f", profiler.getName(i),
+                profiler.getAverageNanos(i) / 1_000_000.0,
+                profiler.getPercentileNanos(i, 0.99) / 1_000_000.0);
+            if (alloc) {
+                lines[i] += String.format(" %7.1f", tracker.getAverageBytes(i) / 1024.0);
+            }
+        }
+        qualityLine = quality == null ? "" : String.format("%s, frame médio %.1fms, trabalho %.1fms [F7]",
+            quality.describe(), quality.getAverageFrameNanos() / 1_000_000.0,
+            quality.getAverageWorkNanos() / 1_000_000.0);
+    }
+}
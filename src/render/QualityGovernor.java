@@ -0,0 +1,176 @@
+package render;
+
+/**
+ * Ajusta a qualidade gráfica pelo tempo de frame medido
+ *
+ * Guarda médias móveis dos últimos frames e compara com o orçamento (60 FPS):
+ *  - para baixar, o intervalo entre pulsos da janela (frames perdidos aparecem aqui,
+ *    inclusive os atrasados pela rasterização fora da thread do JavaFX);
+ *  - para subir, o tempo de trabalho do frame (renderização + HUD). O JavaFX limita os
+ *    pulsos a 60 Hz, então o intervalo nunca fica abaixo do orçamento e não serve para
+ *    saber se sobra folga.
+ * Histerese para não oscilar entre níveis:
+ *  - limiares diferentes para baixar (intervalo médio acima de 110% do orçamento)
+ *    e para subir (trabalho médio abaixo de 70%);
+ *  - a condição precisa se manter por um tempo (0,5s para baixar, 3s para subir);
+ *  - depois de cada troca, espera a média se encher com frames do novo nível;
+ *  - o nível abandonado por estourar o orçamento fica marcado: voltar a ele exige a
+ *    espera de subida dobrada a cada nova falha (até 10min). O custo da rasterização
+ *    não aparece no tempo de trabalho, então sem isso a qualidade subiria e desceria sem
+ *    parar. A marca some quando o nível se mantém por 1min.
+ */
+public class QualityGovernor {
+    private static final int WINDOW = 60;                  // Frames na média móvel
+    private static final long BUDGET_NANOS = 1_000_000_000L / 60;
+    private static final double DOWNGRADE_RATIO = 1.10;
+    private static final double UPGRADE_RATIO = 0.70;
+    private static final int DOWNGRADE_HOLD_FRAMES = 30;
+    private static final int UPGRADE_HOLD_FRAMES = 180;
+    private static final int MAX_UPGRADE_HOLD_FRAMES = 60 * 60 * 10; // Teto da espera para voltar a um nível que falhou
+    private static final int STABLE_FRAMES = 60 * 60;                 // Tempo num nível para esquecer a falha dele
+    private static final long MAX_SAMPLE_NANOS = 250_000_000L; // Janela arrastada, breakpoint etc.
+
+    private final long[] samples;     // Intervalo entre frames
+    private final long[] workSamples; // Tempo de trabalho de cada frame
+    private long sum;
+    private long workSum;
+    private int cursor;
+    private int count;
+    private int overBudgetFrames;
+    private int underBudgetFrames;
+    private QualityLevel level;
+    private boolean automatic;
+    private int changes;
+    private int framesAtLevel;
+    private QualityLevel failedLevel; // Último nível abandonado por estourar o orçamento (null = nenhum)
+    private int failedLevelHoldFrames; // Espera para subir de volta ao failedLevel
+
+    public QualityGovernor() {
+        this.samples = new long[WINDOW];
+        this.workSamples = new long[WINDOW];
+        this.level = QualityLevel.HIGH;
+        this.automatic = true;
+        this.failedLevelHoldFrames = UPGRADE_HOLD_FRAMES;
+    }
+
+    /**
+     * Registra o último frame e, se preciso, troca de nível
+     * @param frameNanos Intervalo desde o frame anterior
+     * @param workNanos Tempo gasto montando o frame (renderização + HUD)
+     * @return true se o nível mudou neste frame
+     */
+    public boolean recordFrame(long frameNanos, long workNanos) {
+        long sample = Math.min(frameNanos, MAX_SAMPLE_NANOS);
+        sum += sample - samples[cursor];
+        samples[cursor] = sample;
+        long work = Math.min(workNanos, MAX_SAMPLE_NANOS);
+        workSum += work - workSamples[cursor];
+        workSamples[cursor] = work;
+        cursor = (cursor + 1) % WINDOW;
+        framesAtLevel++;
+        if (level == failedLevel && framesAtLevel >= STABLE_FRAMES) {
+            forgetFailure(); // Voltou ao nível e ele se manteve: a falha era passageira
+        }
+        if (count < WINDOW) {
+            count++;
+            return false; // Média ainda incompleta (início ou logo após uma troca)
+        }
+        if (!automatic) {
+            return false;
+        }
+
+        long average = sum / WINDOW;
+        long averageWork = workSum / WINDOW;
+        overBudgetFrames = average > BUDGET_NANOS * DOWNGRADE_RATIO ? overBudgetFrames + 1 : 0;
+        underBudgetFrames = averageWork < BUDGET_NANOS * UPGRADE_RATIO && average <= BUDGET_NANOS * DOWNGRADE_RATIO
+            ? underBudgetFrames + 1 : 0;
+
+        if (overBudgetFrames >= DOWNGRADE_HOLD_FRAMES && level != QualityLevel.MINIMAL) {
+            recordFailure();
+            return changeLevel(level.lower(), "frame médio", average);
+        }
+        if (level != QualityLevel.HIGH && underBudgetFrames >= upgradeHoldFrames(level.higher())) {
+            return changeLevel(level.higher(), "trabalho médio", averageWork);
+        }
+        return false;
+    }
+
+    /**
+     * Frames de folga exigidos para subir ao nível informado
+     */
+    private int upgradeHoldFrames(QualityLevel next) {
+        return next == failedLevel ? failedLevelHoldFrames : UPGRADE_HOLD_FRAMES;
+    }
+
+    /**
+     * Marca o nível atual como falho (dobra a espera se ele já tinha falhado antes)
+     */
+    private void recordFailure() {
+        if (level == failedLevel) {
+            failedLevelHoldFrames = Math.min(failedLevelHoldFrames * 2, MAX_UPGRADE_HOLD_FRAMES);
+        } else {
+            failedLevel = level;
+            failedLevelHoldFrames = UPGRADE_HOLD_FRAMES * 2;
+        }
+    }
+
+    private void forgetFailure() {
+        failedLevel = null;
+        failedLevelHoldFrames = UPGRADE_HOLD_FRAMES;
+    }
+
+    private boolean changeLevel(QualityLevel next, String measure, long average) {
+        System.out.println(String.format("🎚️ Qualidade: %s -> %s (%s %.1fms)",
+            level.getName(), next.getName(), measure, average / 1_000_000.0));
+        level = next;
+        changes++;
+        framesAtLevel = 0;
+        resetWindow();
+        return true;
+    }
+
+    private void resetWindow() {
+        count = 0;
+        overBudgetFrames = 0;
+        underBudgetFrames = 0;
+    }
+
+    /**
+     * Liga/desliga o ajuste automático; desligado, volta para a qualidade máxima
+     */
+    public void toggleAutomatic() {
+        automatic = !automatic;
+        if (!automatic) {
+            level = QualityLevel.HIGH;
+        }
+        forgetFailure();
+        framesAtLevel = 0;
+        resetWindow();
+        System.out.println("🎚️ Qualidade automática " + (automatic ? "ligada" : "desligada (Alta fixa)"));
+    }
+
+    /**
+     * Média móvel do intervalo entre frames (nanossegundos)
+     */
+    public long getAverageFrameNanos() {
+        return count == 0 ? 0 : sum / WINDOW;
+    }
+
+    /**
+     * Média móvel do tempo de trabalho por frame (nanossegundos)
+     */
+    public long getAverageWorkNanos() {
+        return count == 0 ? 0 : workSum / WINDOW;
+    }
+
+    /**
+     * Texto curto para o painel do perfilador
+     */
+    public String describe() {
+        return String.format("qualidade %s (%s, %d trocas)", level.getName(),
+            automatic ? "auto" : "fixa", changes);
+    }
+
+    public QualityLevel getLevel() { return level; }
+    public boolean isAutomatic() { return automatic; }
+}
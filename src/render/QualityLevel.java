@@ -0,0 +1,52 @@
+package render;
+
+/**
+ * Níveis de qualidade gráfica (do mais bonito ao mais leve)
+ * Cada nível define os botões que o QualityGovernor ajusta.
+ */
+public enum QualityLevel {
+    //       nome      partículas  chuva/neve  transições  minimapa  sprites
+    HIGH   ("Alta",    500,        1.0,        true,       1,        true),
+    MEDIUM ("Média",   300,        0.6,        true,       3,        true),
+    LOW    ("Baixa",   150,        0.3,        false,      10,       true),
+    MINIMAL("Mínima",  60,         0.1,        false,      30,       false);
+
+    private final String name;
+    private final int maxParticles;          // Limite do ParticleSystem
+    private final double weatherSpawnRate;   // Fração das gotas/flocos criados
+    private final boolean tileTransitions;   // Mistura nas bordas entre tipos de tile
+    private final int minimapRefreshFrames;  // Frames entre redesenhos dos tiles do minimapa
+    private final boolean entitySprites;     // false = desenho geométrico de jogador, NPCs e inimigos
+
+    QualityLevel(String name, int maxParticles, double weatherSpawnRate, boolean tileTransitions,
+                 int minimapRefreshFrames, boolean entitySprites) {
+        this.name = name;
+        this.maxParticles = maxParticles;
+        this.weatherSpawnRate = weatherSpawnRate;
+        this.tileTransitions = tileTransitions;
+        this.minimapRefreshFrames = minimapRefreshFrames;
+        this.entitySprites = entitySprites;
+    }
+
+    /**
+     * Nível mais leve seguinte (ou o próprio, se já é o mínimo)
+     */
+    public QualityLevel lower() {
+        QualityLevel[] levels = values();
+        return levels[Math.min(levels.length - 1, ordinal() + 1)];
+    }
+
+    /**
+     * Nível mais bonito seguinte (ou o próprio, se já é o máximo)
+     */
+    public QualityLevel higher() {
+        return values()[Math.max(0, ordinal() - 1)];
+    }
+
+    public String getName() { return name; }
+    public int getMaxParticles() { return maxParticles; }
+    public double getWeatherSpawnRate() { return weatherSpawnRate; }
+    public boolean isTileTransitions() { return tileTransitions; }
+    public int getMinimapRefreshFrames() { return minimapRefreshFrames; }
+    public boolean isEntitySprites() { return entitySprites; }
+}
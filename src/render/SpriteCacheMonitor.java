@@ -0,0 +1,40 @@
+package render;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import utils.SpriteLoader;
+
+/**
+ * Publica as estatísticas do SpriteLoader via JMX (só existe com a janela JavaFX)
+ */
+public class SpriteCacheMonitor implements SpriteCacheMonitorMBean {
+    private static final String OBJECT_NAME = "FarmValley:type=SpriteCache";
+
+    public static void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new SpriteCacheMonitor(), name);
+            }
+        } catch (JMException e) {
+            System.out.println("⚠️ JMX indisponível: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int getCacheSize() { return SpriteLoader.getCacheSize(); }
+
+    @Override
+    public long getHits() { return SpriteLoader.getCacheHits(); }
+
+    @Override
+    public long getMisses() { return SpriteLoader.getCacheMisses(); }
+
+    @Override
+    public double getHitRate() { return SpriteLoader.getHitRate(); }
+}
@@ -0,0 +1,11 @@
+package render;
+
+/**
+ * Interface JMX do cache de sprites (FarmValley:type=SpriteCache)
+ */
+public interface SpriteCacheMonitorMBean {
+    int getCacheSize();
+    long getHits();
+    long getMisses();
+    double getHitRate();
+}
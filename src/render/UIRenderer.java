@@ -0,0 +1,454 @@
+package render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+import javafx.geometry.VPos;
+
+import items.Item;
+import items.ItemType;
+import systems.Inventory;
+import systems.UIManager;
+import utils.SpriteLoader;
+
+import static systems.UIManager.SLOT_SIZE;
+import static systems.UIManager.SLOT_PADDING;
+import static systems.UIManager.INVENTORY_COLS;
+import static systems.UIManager.INVENTORY_ROWS;
+import static systems.UIManager.INVENTORY_WIDTH;
+import static systems.UIManager.INVENTORY_HEIGHT;
+
+/**
+ * Renderizador da interface do usuário
+ * Desenha hot bar, inventário, tooltips e loja a partir do estado do UIManager
+ */
+public class UIRenderer {
+    private Image inventoryBackground;
+    private Image slotFrame;
+    
+    public UIRenderer() {
+        loadUISprites();
+    }
+    
+    private void loadUISprites() {
+        // Tentar carregar sprites de UI
+        inventoryBackground = SpriteLoader.loadSprite("ui/inventory_bg.png");
+        slotFrame = SpriteLoader.loadSprite("ui/slot.png");
+    }
+    
+    
+    /**
+     * Renderiza a Hot Bar (barra rápida) sempre visível com efeitos profissionais
+     */
+    public void renderHotBar(GraphicsContext gc, Inventory inventory, int canvasWidth, int canvasHeight) {
+        int hotBarSlots = 6;
+        int hotBarWidth = hotBarSlots * (SLOT_SIZE + SLOT_PADDING) + SLOT_PADDING;
+        int hotBarHeight = SLOT_SIZE + SLOT_PADDING * 2;
+        int hotBarX = (canvasWidth - hotBarWidth) / 2; // Centralizado
+        int hotBarY = canvasHeight - hotBarHeight - 10;
+        
+        // Sombra da hot bar
+        gc.setFill(Color.rgb(0, 0, 0, 0.5));
+        gc.fillRoundRect(hotBarX + 3, hotBarY + 3, hotBarWidth, hotBarHeight, 10, 10);
+        
+        // Fundo da hot bar com gradiente simulado
+        gc.setFill(Color.rgb(25, 25, 30, 0.95));
+        gc.fillRoundRect(hotBarX, hotBarY, hotBarWidth, hotBarHeight, 8, 8);
+        
+        // Borda externa
+        gc.setStroke(Color.rgb(60, 60, 65));
+        gc.setLineWidth(2);
+        gc.strokeRoundRect(hotBarX, hotBarY, hotBarWidth, hotBarHeight, 8, 8);
+        
+        // Borda interna brilhante
+        gc.setStroke(Color.rgb(120, 120, 125, 0.6));
+        gc.setLineWidth(1);
+        gc.strokeRoundRect(hotBarX + 1, hotBarY + 1, hotBarWidth - 2, hotBarHeight - 2, 7, 7);
+        
+        // Desenhar slots da hot bar
+        for (int i = 0; i < hotBarSlots; i++) {
+            int x = hotBarX + SLOT_PADDING + i * (SLOT_SIZE + SLOT_PADDING);
+            int y = hotBarY + SLOT_PADDING;
+            
+            drawHotBarSlot(gc, inventory, i, x, y);
+        }
+    }
+    
+    /**
+     * Desenha um slot da hot bar
+     */
+    private void drawHotBarSlot(GraphicsContext gc, Inventory inventory, int slotIndex, int x, int y) {
+        boolean isSelected = (slotIndex == inventory.getSelectedSlot());
+        
+        // Fundo do slot
+        if (isSelected) {
+            gc.setFill(Color.rgb(255, 215, 0, 0.4));
+            gc.fillRoundRect(x - 3, y - 3, SLOT_SIZE + 6, SLOT_SIZE + 6, 8, 8);
+        }
+        
+        gc.setFill(Color.rgb(50, 50, 50));
+        gc.fillRoundRect(x, y, SLOT_SIZE, SLOT_SIZE, 5, 5);
+        
+        // Borda
+        gc.setStroke(isSelected ? Color.rgb(255, 215, 0) : Color.rgb(80, 80, 80));
+        gc.setLineWidth(isSelected ? 3 : 2);
+        gc.strokeRoundRect(x, y, SLOT_SIZE, SLOT_SIZE, 5, 5);
+        
+        // Número do slot
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 12));
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        gc.fillText(String.valueOf(slotIndex + 1), x + 4, y + 4);
+        
+        // Item no slot
+        Item item = inventory.getItem(slotIndex);
+        if (item != null) {
+            Image icon = SpriteLoader.loadSprite(item.getType().getIconFile());
+            
+            if (icon != null) {
+                int iconSize = SLOT_SIZE - 16;
+                gc.drawImage(icon, x + 8, y + 8, iconSize, iconSize);
+            } else {
+                // Fallback
+                gc.setFill(getItemColor(item.getType()));
+                gc.fillRoundRect(x + 12, y + 12, SLOT_SIZE - 24, SLOT_SIZE - 24, 3, 3);
+            }
+            
+            // Quantidade
+            if (item.isStackable() && item.getQuantity() > 1) {
+                gc.setFill(Color.WHITE);
+                gc.setStroke(Color.BLACK);
+                gc.setLineWidth(2);
+                gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+                gc.setTextAlign(TextAlignment.RIGHT);
+                gc.setTextBaseline(VPos.BOTTOM);
+                
+                String quantityText = String.valueOf(item.getQuantity());
+                gc.strokeText(quantityText, x + SLOT_SIZE - 4, y + SLOT_SIZE - 4);
+                gc.fillText(quantityText, x + SLOT_SIZE - 4, y + SLOT_SIZE - 4);
+            }
+        }
+    }
+    
+    /**
+     * Renderiza o inventário completo
+     */
+    public void renderInventory(GraphicsContext gc, UIManager ui, Inventory inventory, int canvasWidth, int canvasHeight) {
+        if (!ui.isInventoryOpen()) return;
+        
+        int invX = (canvasWidth - INVENTORY_WIDTH) / 2;
+        int invY = (canvasHeight - INVENTORY_HEIGHT) / 2;
+        
+        // Fundo escurecido
+        gc.setFill(Color.rgb(0, 0, 0, 0.7));
+        gc.fillRect(0, 0, canvasWidth, canvasHeight);
+        
+        // Painel do inventário
+        drawInventoryPanel(gc, invX, invY);
+        
+        // Título
+        drawInventoryTitle(gc, invX, invY);
+        
+        // Slots
+        drawInventorySlots(gc, ui, inventory, invX, invY + 60);
+        
+        // Tooltip (se houver slot hovered)
+        int hoveredSlot = ui.getHoveredSlot();
+        if (hoveredSlot >= 0 && hoveredSlot < inventory.getSize()) {
+            Item item = inventory.getItem(hoveredSlot);
+            if (item != null) {
+                drawTooltip(gc, item, canvasWidth, canvasHeight);
+            }
+        }
+        
+        // Instruções
+        drawInventoryInstructions(gc, invX, invY + INVENTORY_HEIGHT - 40);
+    }
+    
+    /**
+     * Renderiza a interface da loja
+     */
+    public void renderShop(GraphicsContext gc, UIManager ui, Inventory inventory, int canvasWidth, int canvasHeight) {
+        if (!ui.isShopOpen()) return;
+        
+        int shopWidth = 500;
+        int shopHeight = 400;
+        int shopX = (canvasWidth - shopWidth) / 2;
+        int shopY = (canvasHeight - shopHeight) / 2;
+        
+        // Fundo escurecido
+        gc.setFill(Color.rgb(0, 0, 0, 0.8));
+        gc.fillRect(0, 0, canvasWidth, canvasHeight);
+        
+        // Painel da loja
+        gc.setFill(Color.rgb(35, 30, 25));
+        gc.fillRoundRect(shopX, shopY, shopWidth, shopHeight, 12, 12);
+        
+        // Borda dourada
+        gc.setStroke(Color.rgb(180, 140, 60));
+        gc.setLineWidth(3);
+        gc.strokeRoundRect(shopX, shopY, shopWidth, shopHeight, 12, 12);
+        
+        // Título
+        gc.setFill(Color.rgb(255, 215, 0));
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 20));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText("🛒 " + ui.getShopMerchantName() + " - Loja", shopX + shopWidth/2, shopY + 30);
+        
+        // Abas
+        int tabWidth = 120;
+        int tabHeight = 35;
+        int tabY = shopY + 50;
+        
+        // Aba Comprar
+        gc.setFill(ui.getShopSelectedTab() == 0 ? Color.rgb(60, 120, 60) : Color.rgb(50, 50, 55));
+        gc.fillRoundRect(shopX + 30, tabY, tabWidth, tabHeight, 8, 8);
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+        gc.fillText("COMPRAR", shopX + 30 + tabWidth/2, tabY + 23);
+        
+        // Aba Vender
+        gc.setFill(ui.getShopSelectedTab() == 1 ? Color.rgb(60, 120, 60) : Color.rgb(50, 50, 55));
+        gc.fillRoundRect(shopX + 160, tabY, tabWidth, tabHeight, 8, 8);
+        gc.setFill(Color.WHITE);
+        gc.fillText("VENDER", shopX + 160 + tabWidth/2, tabY + 23);
+        
+        // Conteúdo baseado na aba
+        int contentY = tabY + 50;
+        gc.setFont(Font.font("Arial", 12));
+        gc.setTextAlign(TextAlignment.LEFT);
+        
+        if (ui.getShopSelectedTab() == 0) {
+            // COMPRAR - lista de itens para comprar
+            String[][] buyItems = {
+                {"Semente de Tomate", "15", "1"},
+                {"Semente de Milho", "20", "2"},
+                {"Poção de Vida", "50", "3"},
+                {"Poção de Energia", "30", "4"}
+            };
+            
+            gc.setFill(Color.rgb(200, 200, 200));
+            gc.fillText("Pressione o número para comprar:", shopX + 30, contentY);
+            contentY += 25;
+            
+            for (String[] item : buyItems) {
+                gc.setFill(Color.WHITE);
+                gc.fillText("[" + item[2] + "] " + item[0], shopX + 40, contentY);
+                gc.setFill(Color.GOLD);
+                gc.fillText("$" + item[1], shopX + 280, contentY);
+                contentY += 28;
+            }
+        } else {
+            // VENDER - itens do inventário
+            gc.setFill(Color.rgb(200, 200, 200));
+            gc.fillText("Seus itens para vender:", shopX + 30, contentY);
+            contentY += 25;
+            
+            ItemType[] sellables = {ItemType.TOMATO, ItemType.CORN, ItemType.WOOD, ItemType.STONE};
+            int idx = 1;
+            for (ItemType type : sellables) {
+                int count = inventory.getItemCount(type);
+                if (count > 0) {
+                    gc.setFill(Color.WHITE);
+                    gc.fillText("[" + idx + "] " + type.getDisplayName() + " x" + count, shopX + 40, contentY);
+                    gc.setFill(Color.GOLD);
+                    int price = (int)(type.getValue() * 0.7); // 70% do valor
+                    gc.fillText("$" + price + " cada", shopX + 280, contentY);
+                    contentY += 28;
+                }
+                idx++;
+            }
+            
+            if (contentY == tabY + 75) {
+                gc.setFill(Color.rgb(150, 150, 150));
+                gc.fillText("Nenhum item para vender", shopX + 40, contentY);
+            }
+        }
+        
+        // Dinheiro do jogador
+        gc.setFill(Color.rgb(50, 50, 55));
+        gc.fillRoundRect(shopX + shopWidth - 150, shopY + shopHeight - 50, 130, 35, 8, 8);
+        gc.setFill(Color.GOLD);
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+        gc.setTextAlign(TextAlignment.CENTER);
+        // O dinheiro será passado como parâmetro
+        
+        // Instruções
+        gc.setFill(Color.rgb(150, 150, 150));
+        gc.setFont(Font.font("Arial", 11));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.fillText("TAB: Trocar aba | ESC: Fechar | 1-6: Comprar/Vender", shopX + shopWidth/2, shopY + shopHeight - 15);
+    }
+    
+    /**
+     * Desenha o painel de fundo do inventário
+     */
+    private void drawInventoryPanel(GraphicsContext gc, int x, int y) {
+        if (inventoryBackground != null) {
+            gc.drawImage(inventoryBackground, x, y, INVENTORY_WIDTH, INVENTORY_HEIGHT);
+        } else {
+            // Fallback: painel gradiente
+            gc.setFill(Color.rgb(40, 35, 30));
+            gc.fillRoundRect(x, y, INVENTORY_WIDTH, INVENTORY_HEIGHT, 10, 10);
+            
+            // Borda
+            gc.setStroke(Color.rgb(139, 90, 43));
+            gc.setLineWidth(4);
+            gc.strokeRoundRect(x, y, INVENTORY_WIDTH, INVENTORY_HEIGHT, 10, 10);
+            
+            // Borda interna brilhante
+            gc.setStroke(Color.rgb(205, 133, 63));
+            gc.setLineWidth(2);
+            gc.strokeRoundRect(x + 2, y + 2, INVENTORY_WIDTH - 4, INVENTORY_HEIGHT - 4, 8, 8);
+        }
+    }
+    
+    /**
+     * Desenha o título do inventário
+     */
+    private void drawInventoryTitle(GraphicsContext gc, int x, int y) {
+        gc.setFill(Color.rgb(255, 215, 0));
+        gc.setFont(Font.font("Arial", FontWeight.BOLD, 24));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.TOP);
+        gc.fillText("INVENTÁRIO", x + INVENTORY_WIDTH / 2, y + 15);
+    }
+    
+    /**
+     * Desenha os slots do inventário
+     */
+    private void drawInventorySlots(GraphicsContext gc, UIManager ui, Inventory inventory, int startX, int startY) {
+        for (int row = 0; row < INVENTORY_ROWS; row++) {
+            for (int col = 0; col < INVENTORY_COLS; col++) {
+                int slotIndex = row * INVENTORY_COLS + col;
+                int x = startX + SLOT_PADDING + col * (SLOT_SIZE + SLOT_PADDING);
+                int y = startY + SLOT_PADDING + row * (SLOT_SIZE + SLOT_PADDING);
+                
+                drawSlot(gc, ui, inventory, slotIndex, x, y);
+            }
+        }
+    }
+    
+    /**
+     * Desenha um slot individual
+     */
+    private void drawSlot(GraphicsContext gc, UIManager ui, Inventory inventory, int slotIndex, int x, int y) {
+        boolean isSelected = (slotIndex == inventory.getSelectedSlot());
+        boolean isHovered = (slotIndex == ui.getHoveredSlot());
+        
+        // Fundo do slot
+        if (isSelected) {
+            gc.setFill(Color.rgb(255, 215, 0, 0.3));
+            gc.fillRoundRect(x - 2, y - 2, SLOT_SIZE + 4, SLOT_SIZE + 4, 5, 5);
+        }
+        
+        if (slotFrame != null) {
+            gc.drawImage(slotFrame, x, y, SLOT_SIZE, SLOT_SIZE);
+        } else {
+            // Fallback: desenhar slot
+            gc.setFill(Color.rgb(20, 20, 20, 0.8));
+            gc.fillRoundRect(x, y, SLOT_SIZE, SLOT_SIZE, 5, 5);
+            
+            gc.setStroke(isSelected ? Color.rgb(255, 215, 0) : Color.rgb(100, 100, 100));
+            gc.setLineWidth(isSelected ? 3 : 2);
+            gc.strokeRoundRect(x, y, SLOT_SIZE, SLOT_SIZE, 5, 5);
+        }
+        
+        // Item no slot
+        Item item = inventory.getItem(slotIndex);
+        if (item != null) {
+            Image icon = SpriteLoader.loadSprite(item.getType().getIconFile());
+            
+            if (icon != null) {
+                // Desenhar ícone
+                int iconSize = SLOT_SIZE - 12;
+                gc.drawImage(icon, x + 6, y + 6, iconSize, iconSize);
+            } else {
+                // Fallback: desenhar quadrado colorido
+                gc.setFill(getItemColor(item.getType()));
+                gc.fillRoundRect(x + 10, y + 10, SLOT_SIZE - 20, SLOT_SIZE - 20, 3, 3);
+            }
+            
+            // Quantidade (se empilhável e > 1)
+            if (item.isStackable() && item.getQuantity() > 1) {
+                gc.setFill(Color.WHITE);
+                gc.setStroke(Color.BLACK);
+                gc.setLineWidth(2);
+                gc.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+                gc.setTextAlign(TextAlignment.RIGHT);
+                gc.setTextBaseline(VPos.BOTTOM);
+                
+                String quantityText = String.valueOf(item.getQuantity());
+                gc.strokeText(quantityText, x + SLOT_SIZE - 6, y + SLOT_SIZE - 4);
+                gc.fillText(quantityText, x + SLOT_SIZE - 6, y + SLOT_SIZE - 4);
+            }
+        }
+        
+        // Destaque ao passar o mouse
+        if (isHovered) {
+            gc.setStroke(Color.rgb(255, 255, 255, 0.5));
+            gc.setLineWidth(2);
+            gc.strokeRoundRect(x, y, SLOT_SIZE, SLOT_SIZE, 5, 5);
+        }
+    }
+    
+    /**
+     * Desenha tooltip de um item
+     */
+    private void drawTooltip(GraphicsContext gc, Item item, int canvasWidth, int canvasHeight) {
+        String[] lines = item.getFullDescription().split("\n");
+        
+        int tooltipWidth = 250;
+        int lineHeight = 20;
+        int tooltipHeight = lines.length * lineHeight + 20;
+        int tooltipX = (canvasWidth - tooltipWidth) / 2;
+        int tooltipY = canvasHeight - tooltipHeight - 60;
+        
+        // Fundo
+        gc.setFill(Color.rgb(30, 30, 30, 0.95));
+        gc.fillRoundRect(tooltipX, tooltipY, tooltipWidth, tooltipHeight, 5, 5);
+        
+        // Borda
+        gc.setStroke(Color.rgb(200, 200, 200));
+        gc.setLineWidth(2);
+        gc.strokeRoundRect(tooltipX, tooltipY, tooltipWidth, tooltipHeight, 5, 5);
+        
+        // Texto
+        gc.setFill(Color.WHITE);
+        gc.setFont(Font.font("Arial", FontWeight.NORMAL, 14));
+        gc.setTextAlign(TextAlignment.LEFT);
+        gc.setTextBaseline(VPos.TOP);
+        
+        for (int i = 0; i < lines.length; i++) {
+            Color lineColor = (i == 0) ? Color.rgb(255, 215, 0) : Color.WHITE;
+            gc.setFill(lineColor);
+            gc.fillText(lines[i], tooltipX + 10, tooltipY + 10 + i * lineHeight);
+        }
+    }
+    
+    /**
+     * Desenha instruções de uso
+     */
+    private void drawInventoryInstructions(GraphicsContext gc, int x, int y) {
+        gc.setFill(Color.rgb(200, 200, 200));
+        gc.setFont(Font.font("Arial", FontWeight.NORMAL, 12));
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.TOP);
+        gc.fillText("[I] Fechar  |  [1-6] Selecionar Slot", x + INVENTORY_WIDTH / 2, y);
+    }
+    
+    /**
+     * Obtém cor fallback para um tipo de item
+     */
+    private Color getItemColor(ItemType type) {
+        if (type.isSeed()) return Color.rgb(139, 98, 57);
+        if (type.isCrop()) return Color.rgb(144, 238, 144);
+        if (type.isTool()) return Color.rgb(192, 192, 192);
+        if (type.isResource()) return Color.rgb(160, 82, 45);
+        return Color.rgb(100, 100, 100);
+    }
+}
@@ -3,24 +3,45 @@ package systems;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import entities.Decoration;
 import types.DecorationType;
 import world.Farm;
-import world.Tile;
 import world.TileType;
+import world.WorldSettings;
+import utils.GameRandom;
+import utils.LongMap;
+import diagnostics.WorldGenerationEvent;
 
 /**
  * Gerencia todas as decorações do mapa
  * Responsável por geração, renderização e colisão
+ *
+ * A geração divide o mapa em regiões de 64x64, cada uma com a semente da sua coordenada
+ * (o resultado só depende da semente mestre). Mundos pequenos geram todas as regiões em
+ * paralelo; mundos em fluxo geram cada região quando o jogador se aproxima. Um índice por
+ * tile responde colisão e walkability em tempo constante e as listas por região respondem
+ * as consultas por área da renderização.
  */
 public class DecorationManager {
+    public static final int REGION_SIZE = 64;    // Múltiplo do chunk: cada chunk pertence a uma só região
+    private static final int TILE_SIZE = 60;     // Deve corresponder ao TILE_SIZE do GameWindow
+    
     private List<Decoration> decorations;
-    private Random random;
+    private LongMap<Decoration> index;           // Decoração que ocupa cada tile
+    
+    // ===== REGIÕES =====
+    private Farm farm;
+    private int regionsX, regionsY;
+    private List<Decoration>[] regionDecorations; // Decorações de cada região, em ordem de geração
+    private boolean[] generatedRegions;
+    private int treeCount, bushCount, ruinCount;  // Totais do mapa (divididos pela área de cada região)
     
     public DecorationManager() {
         this.decorations = new ArrayList<>();
-        this.random = new Random();
+        this.index = new LongMap<>();
     }
     
     /**
@@ -28,194 +49,398 @@ public class DecorationManager {
      * Quantidade escalona com tamanho do mapa
      */
     public void generateDecorations(Farm farm) {
+        generateDecorations(farm, WorldSettings.AUTO);
+    }
+    
+    /**
+     * Gera decorações aleatórias no mapa
+     * @param total Total desejado (mesma proporção entre árvores, arbustos e ruínas) ou AUTO
+     */
+    public void generateDecorations(Farm farm, int total) {
+        generate(farm, total, 1.0, false);
+    }
+    
+    /**
+     * Gera as decorações do mundo (ou só planeja as regiões, se o mundo é em fluxo)
+     */
+    public void generateDecorations(Farm farm, WorldSettings settings) {
+        generate(farm, settings.getDecorationCount(), settings.getDecorationDensity(), settings.isStreamed());
+    }
+    
+    private void generate(Farm farm, int total, double density, boolean streamed) {
+        WorldGenerationEvent event = new WorldGenerationEvent();
+        event.begin();
         int width = farm.getWidth();
         int height = farm.getHeight();
-        int mapArea = width * height;
-        
-        // Limpar decorações existentes
-        decorations.clear();
+        long mapArea = (long) width * height;
         
         // Calcular quantidade baseada no tamanho do mapa - MUITO DENSO!
         // Para mapa 150x150 = 22500, queremos um mundo bem populado
-        int treeCount = Math.max(200, mapArea / 35);      // ~640 árvores para 150x150
-        int bushCount = Math.max(300, mapArea / 20);      // ~1125 arbustos para 150x150
-        int ruinCount = Math.max(15, mapArea / 1200);     // ~18 ruínas para 150x150
+        treeCount = Math.max(200, (int) (mapArea / 35 * density));      // ~640 árvores para 150x150
+        bushCount = Math.max(300, (int) (mapArea / 20 * density));      // ~1125 arbustos para 150x150
+        ruinCount = Math.max(15, (int) (mapArea / 1200 * density));     // ~18 ruínas para 150x150
+        
+        // Total fixo: 36% árvores, 1% ruínas, o resto arbustos
+        if (total != WorldSettings.AUTO) {
+            treeCount = total * 36 / 100;
+            ruinCount = Math.max(1, total / 100);
+            bushCount = Math.max(0, total - treeCount - ruinCount);
+        }
         
         System.out.println("🌳 Gerando decorações para mapa " + width + "x" + height + "...");
         System.out.println("   - Árvores: " + treeCount);
         System.out.println("   - Arbustos: " + bushCount);
         System.out.println("   - Ruínas: " + ruinCount);
         
-        // Gerar árvores (esparsas)
-        generateTrees(farm, width, height, treeCount);
-        
-        // Gerar arbustos (mais densos)
-        generateBushes(farm, width, height, bushCount);
+        // Limpar decorações existentes
+        this.farm = farm;
+        this.regionsX = (width + REGION_SIZE - 1) / REGION_SIZE;
+        this.regionsY = (height + REGION_SIZE - 1) / REGION_SIZE;
+        decorations.clear();
+        index.clear();
+        createRegionLists();
         
-        // Gerar algumas ruínas (raras)
-        generateRuins(farm, width, height, ruinCount);
+        if (streamed) {
+            System.out.println("✅ Decorações em fluxo: " + regionsX * regionsY + " regiões geradas conforme o jogador se aproxima");
+        } else {
+            generateAllRegions();
+            System.out.println("✅ Decorações geradas: " + decorations.size() + " objetos (" + regionsX * regionsY + " regiões)");
+        }
         
-        System.out.println("✅ Decorações geradas: " + decorations.size() + " objetos");
+        event.end();
+        if (event.shouldCommit()) {
+            event.stage = "decorações";
+            event.width = width;
+            event.height = height;
+            event.generated = decorations.size();
+            event.details = "árvores=" + treeCount + " arbustos=" + bushCount + " ruínas=" + ruinCount;
+            event.commit();
+        }
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"}) // Array genérico: new List<Decoration>[] não compila
+    private void createRegionLists() {
+        regionDecorations = new List[regionsX * regionsY];
+        generatedRegions = new boolean[regionsX * regionsY];
     }
     
     /**
-     * Gera árvores aleatórias com distribuição mais natural
+     * Gera todas as regiões ainda não geradas (em paralelo)
      */
-    private void generateTrees(Farm farm, int width, int height, int count) {
-        int attempts = 0;
-        int maxAttempts = count * 15; // Mais tentativas para mais sucesso
-        int generated = 0;
-        
-        while (generated < count && attempts < maxAttempts) {
-            attempts++;
-            
-            int x = random.nextInt(width - 4) + 2;
-            int y = random.nextInt(height - 4) + 2;
-            
-            // Obter tipo da árvore antes de verificar posição
-            DecorationType treeType = DecorationType.getRandomTree();
-            
-            // Verificar se a posição é válida (incluindo toda a área ocupada)
-            if (isValidPosition(farm, x, y, false, treeType)) {
-                decorations.add(new Decoration(x, y, treeType));
-                generated++;
-                
-                // Chance de criar um pequeno grupo de árvores (floresta)
-                if (random.nextDouble() < 0.3) { // 30% chance de cluster
-                    for (int i = 0; i < random.nextInt(3) + 1; i++) {
-                        int clusterX = x + random.nextInt(5) - 2;
-                        int clusterY = y + random.nextInt(5) - 2;
-                        DecorationType clusterTree = DecorationType.getRandomTree();
-                        if (isValidPosition(farm, clusterX, clusterY, false, clusterTree)) {
-                            decorations.add(new Decoration(clusterX, clusterY, clusterTree));
-                            generated++;
-                        }
-                    }
+    private void generateAllRegions() {
+        List<Region> regions = new ArrayList<>();
+        for (int ry = 0; ry < regionsY; ry++) {
+            for (int rx = 0; rx < regionsX; rx++) {
+                if (!generatedRegions[ry * regionsX + rx]) {
+                    regions.add(newRegion(rx, ry));
                 }
             }
         }
+        
+        // Regiões não se sobrepõem: geram em paralelo sem trocar informação
+        if (regions.size() == 1) {
+            regions.get(0).compute();
+        } else {
+            ForkJoinTask.invokeAll(regions);
+        }
+        
+        for (Region region : regions) {
+            merge(region);
+        }
     }
     
     /**
-     * Gera arbustos aleatórios com distribuição mais densa
+     * Gera uma região do mundo em fluxo (na thread que chamou)
+     * @return false se a região já existia ou está fora do mapa
      */
-    private void generateBushes(Farm farm, int width, int height, int count) {
-        int attempts = 0;
-        int maxAttempts = count * 12;
-        int generated = 0;
-        
-        while (generated < count && attempts < maxAttempts) {
-            attempts++;
-            
-            int x = random.nextInt(width - 4) + 2;
-            int y = random.nextInt(height - 4) + 2;
-            
-            // Obter tipo do arbusto antes de verificar posição
-            DecorationType bushType = DecorationType.getRandomBush();
-            
-            // Verificar se a posição é válida (incluindo toda a área ocupada)
-            if (isValidPosition(farm, x, y, true, bushType)) {
-                decorations.add(new Decoration(x, y, bushType));
-                generated++;
-                
-                // Chance maior de criar grupos de arbustos
-                if (random.nextDouble() < 0.4) { // 40% chance de cluster
-                    for (int i = 0; i < random.nextInt(4) + 1; i++) {
-                        int clusterX = x + random.nextInt(3) - 1;
-                        int clusterY = y + random.nextInt(3) - 1;
-                        DecorationType clusterBush = DecorationType.getRandomBush();
-                        if (isValidPosition(farm, clusterX, clusterY, true, clusterBush)) {
-                            decorations.add(new Decoration(clusterX, clusterY, clusterBush));
-                            generated++;
-                        }
-                    }
-                }
-            }
+    public boolean generateRegion(int rx, int ry) {
+        if (!isRegionPending(rx, ry)) {
+            return false;
         }
+        Region region = newRegion(rx, ry);
+        region.compute();
+        merge(region);
+        return true;
     }
     
     /**
-     * Gera ruínas aleatórias
+     * A região existe e ainda não foi gerada
      */
-    private void generateRuins(Farm farm, int width, int height, int count) {
-        int attempts = 0;
-        int maxAttempts = count * 20;
+    public boolean isRegionPending(int rx, int ry) {
+        return generatedRegions != null && rx >= 0 && rx < regionsX && ry >= 0 && ry < regionsY &&
+               !generatedRegions[ry * regionsX + rx];
+    }
+    
+    private Region newRegion(int rx, int ry) {
+        int width = farm.getWidth();
+        int height = farm.getHeight();
+        int x0 = rx * REGION_SIZE;
+        int y0 = ry * REGION_SIZE;
+        int x1 = Math.min(width, x0 + REGION_SIZE);
+        int y1 = Math.min(height, y0 + REGION_SIZE);
         
-        while (decorations.stream().filter(d -> d.getType().getSpriteFile().contains("ruins")).count() < count && attempts < maxAttempts) {
-            attempts++;
-            
-            int x = random.nextInt(width);
-            int y = random.nextInt(height);
-            
-            // Obter tipo da ruína antes de verificar posição
-            DecorationType ruinType = DecorationType.getRandomRuin();
-            
-            // Verificar se a posição é válida (incluindo toda a área ocupada)
-            if (isValidPosition(farm, x, y, false, ruinType)) {
-                decorations.add(new Decoration(x, y, ruinType));
+        Region region = new Region(farm, x0, y0, x1, y1, GameRandom.forCell("decorations", rx, ry));
+        // Cota proporcional à área (a soma das cotas é exatamente o total)
+        region.trees = regionShare(treeCount, rx, ry, width, height);
+        region.bushes = regionShare(bushCount, rx, ry, width, height);
+        region.ruins = regionShare(ruinCount, rx, ry, width, height);
+        region.id = ry * regionsX + rx;
+        return region;
+    }
+    
+    private void merge(Region region) {
+        regionDecorations[region.id] = region.placed;
+        generatedRegions[region.id] = true;
+        for (Decoration deco : region.placed) {
+            add(deco);
+        }
+    }
+    
+    /**
+     * Parte de um total que cabe à região, proporcional à área dela
+     * As partes de todas as regiões somam exatamente o total.
+     */
+    public static int regionShare(int count, int rx, int ry, int width, int height) {
+        int x0 = rx * REGION_SIZE;
+        int y0 = ry * REGION_SIZE;
+        int x1 = Math.min(width, x0 + REGION_SIZE);
+        int y1 = Math.min(height, y0 + REGION_SIZE);
+        // Área das regiões anteriores em ordem de linhas (só a última linha e a última coluna são menores)
+        long areaBefore = (long) y0 * width + (long) x0 * (y1 - y0);
+        long areaAfter = areaBefore + (long) (x1 - x0) * (y1 - y0);
+        long mapArea = (long) width * height;
+        return (int) (count * areaAfter / mapArea - count * areaBefore / mapArea);
+    }
+    
+    /**
+     * Registra a decoração no índice de cada tile que ela ocupa
+     */
+    private void add(Decoration deco) {
+        decorations.add(deco);
+        int widthInTiles = widthInTiles(deco.getType());
+        int heightInTiles = heightInTiles(deco.getType());
+        for (int dx = 0; dx < widthInTiles; dx++) {
+            for (int dy = 0; dy < heightInTiles; dy++) {
+                index.put(LongMap.key(deco.getX() + dx, deco.getY() + dy), deco);
             }
         }
     }
     
+    // Quantos tiles a decoração ocupa (Math.ceil: decorações grandes ocupam tiles adicionais)
+    private static int widthInTiles(DecorationType type) {
+        return (int) Math.ceil((double) type.getWidth() / TILE_SIZE);
+    }
+    
+    private static int heightInTiles(DecorationType type) {
+        return (int) Math.ceil((double) type.getHeight() / TILE_SIZE);
+    }
+    
     /**
-     * Verifica se uma posição é válida para colocar uma decoração
-     * @param decoType Tipo da decoração (para calcular área ocupada)
+     * Uma região do mapa gerada de forma independente
+     * Só aceita decorações que cabem inteiras dentro dela, então a colisão é checada
+     * num grid local e regiões vizinhas nunca disputam os mesmos tiles (nem os mesmos chunks).
      */
-    private boolean isValidPosition(Farm farm, int x, int y, boolean canBeOnDirt, DecorationType decoType) {
-        // Tamanho do tile em pixels (deve corresponder ao TILE_SIZE do GameWindow)
-        final int TILE_SIZE = 60;
+    private static class Region extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
         
-        // Calcular quantos tiles a decoração ocupa
-        int widthInTiles = (int) Math.ceil((double) decoType.getWidth() / TILE_SIZE);
-        int heightInTiles = (int) Math.ceil((double) decoType.getHeight() / TILE_SIZE);
+        private final Farm farm;
+        private final int x0, y0, x1, y1;
+        private final Random random;
+        private final boolean[] occupied;
+        private final List<Decoration> placed;
+        private int trees, bushes, ruins;
+        private int id;
         
-        // Verificar se toda a área cabe no mapa
-        if (x < 2 || x + widthInTiles >= farm.getWidth() - 2 || 
-            y < 2 || y + heightInTiles >= farm.getHeight() - 2) {
-            return false;
+        Region(Farm farm, int x0, int y0, int x1, int y1, Random random) {
+            this.farm = farm;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+            this.random = random;
+            this.occupied = new boolean[(x1 - x0) * (y1 - y0)];
+            this.placed = new ArrayList<>();
         }
         
-        // Não colocar perto do spawn do player (centro do mapa)
-        int centerX = farm.getWidth() / 2;
-        int centerY = farm.getHeight() / 2;
-        double distanceFromCenter = Math.sqrt(Math.pow(x - centerX, 2) + Math.pow(y - centerY, 2));
-        if (distanceFromCenter < 5) {
-            return false;
+        @Override
+        protected void compute() {
+            // Gerar árvores (esparsas)
+            generateTrees(trees);
+            
+            // Gerar arbustos (mais densos)
+            generateBushes(bushes);
+            
+            // Gerar algumas ruínas (raras)
+            generateRuins(ruins);
         }
         
-        // Verificar se todos os tiles da área ocupada são válidos
-        for (int dx = 0; dx < widthInTiles; dx++) {
-            for (int dy = 0; dy < heightInTiles; dy++) {
-                int checkX = x + dx;
-                int checkY = y + dy;
+        private int randomX() { return x0 + random.nextInt(x1 - x0); }
+        private int randomY() { return y0 + random.nextInt(y1 - y0); }
+        
+        /**
+         * Gera árvores aleatórias com distribuição mais natural
+         */
+        private void generateTrees(int count) {
+            int attempts = 0;
+            int maxAttempts = count * 15; // Mais tentativas para mais sucesso
+            int generated = 0;
+            
+            while (generated < count && attempts < maxAttempts) {
+                attempts++;
                 
-                // Verificar limites do mapa
-                if (checkX >= farm.getWidth() || checkY >= farm.getHeight()) {
-                    return false;
-                }
+                int x = randomX();
+                int y = randomY();
                 
-                Tile tile = farm.getTile(checkX, checkY);
+                // Obter tipo da árvore antes de verificar posição
+                DecorationType treeType = DecorationType.getRandomTree(random);
                 
-                // Não colocar na água
-                if (tile.getType() == TileType.WATER) {
-                    return false;
+                // Verificar se a posição é válida (incluindo toda a área ocupada)
+                if (tryPlace(x, y, false, treeType)) {
+                    generated++;
+                    
+                    // Chance de criar um pequeno grupo de árvores (floresta)
+                    if (random.nextDouble() < 0.3) { // 30% chance de cluster
+                        for (int i = 0; i < random.nextInt(3) + 1; i++) {
+                            int clusterX = x + random.nextInt(5) - 2;
+                            int clusterY = y + random.nextInt(5) - 2;
+                            DecorationType clusterTree = DecorationType.getRandomTree(random);
+                            if (tryPlace(clusterX, clusterY, false, clusterTree)) {
+                                generated++;
+                            }
+                        }
+                    }
                 }
+            }
+        }
+        
+        /**
+         * Gera arbustos aleatórios com distribuição mais densa
+         */
+        private void generateBushes(int count) {
+            int attempts = 0;
+            int maxAttempts = count * 12;
+            int generated = 0;
+            
+            while (generated < count && attempts < maxAttempts) {
+                attempts++;
                 
-                // Verificar se já existe uma decoração nesta posição
-                for (Decoration deco : decorations) {
-                    if (deco.collidesWith(checkX, checkY)) {
-                        return false;
+                int x = randomX();
+                int y = randomY();
+                
+                // Obter tipo do arbusto antes de verificar posição
+                DecorationType bushType = DecorationType.getRandomBush(random);
+                
+                // Verificar se a posição é válida (incluindo toda a área ocupada)
+                if (tryPlace(x, y, true, bushType)) {
+                    generated++;
+                    
+                    // Chance maior de criar grupos de arbustos
+                    if (random.nextDouble() < 0.4) { // 40% chance de cluster
+                        for (int i = 0; i < random.nextInt(4) + 1; i++) {
+                            int clusterX = x + random.nextInt(3) - 1;
+                            int clusterY = y + random.nextInt(3) - 1;
+                            DecorationType clusterBush = DecorationType.getRandomBush(random);
+                            if (tryPlace(clusterX, clusterY, true, clusterBush)) {
+                                generated++;
+                            }
+                        }
                     }
                 }
+            }
+        }
+        
+        /**
+         * Gera ruínas aleatórias
+         */
+        private void generateRuins(int count) {
+            int attempts = 0;
+            int maxAttempts = count * 20;
+            int generated = 0;
+            
+            while (generated < count && attempts < maxAttempts) {
+                attempts++;
                 
-                // Árvores e ruínas só em grass (verificar cada tile)
-                if (!canBeOnDirt && tile.getType() != TileType.GRASS) {
-                    return false;
+                int x = randomX();
+                int y = randomY();
+                
+                // Obter tipo da ruína antes de verificar posição
+                DecorationType ruinType = DecorationType.getRandomRuin(random);
+                
+                // Verificar se a posição é válida (incluindo toda a área ocupada)
+                if (tryPlace(x, y, false, ruinType)) {
+                    generated++;
                 }
             }
         }
         
-        return true;
+        /**
+         * Coloca a decoração se a posição for válida
+         * @return true se foi colocada
+         */
+        private boolean tryPlace(int x, int y, boolean canBeOnDirt, DecorationType decoType) {
+            int widthInTiles = widthInTiles(decoType);
+            int heightInTiles = heightInTiles(decoType);
+            if (!isValidPosition(x, y, canBeOnDirt, widthInTiles, heightInTiles)) {
+                return false;
+            }
+            for (int dx = 0; dx < widthInTiles; dx++) {
+                for (int dy = 0; dy < heightInTiles; dy++) {
+                    occupied[(x + dx - x0) * (y1 - y0) + (y + dy - y0)] = true;
+                }
+            }
+            placed.add(new Decoration(x, y, decoType));
+            return true;
+        }
+        
+        /**
+         * Verifica se uma posição é válida para colocar uma decoração
+         */
+        private boolean isValidPosition(int x, int y, boolean canBeOnDirt, int widthInTiles, int heightInTiles) {
+            // Verificar se toda a área cabe no mapa
+            if (x < 2 || x + widthInTiles >= farm.getWidth() - 2 || 
+                y < 2 || y + heightInTiles >= farm.getHeight() - 2) {
+                return false;
+            }
+            
+            // E dentro da região
+            if (x < x0 || x + widthInTiles > x1 || y < y0 || y + heightInTiles > y1) {
+                return false;
+            }
+            
+            // Não colocar perto do spawn do player (centro do mapa)
+            int distanceX = x - farm.getWidth() / 2;
+            int distanceY = y - farm.getHeight() / 2;
+            if (distanceX * distanceX + distanceY * distanceY < 25) {
+                return false;
+            }
+            
+            // Verificar se todos os tiles da área ocupada são válidos
+            for (int dx = 0; dx < widthInTiles; dx++) {
+                for (int dy = 0; dy < heightInTiles; dy++) {
+                    int checkX = x + dx;
+                    int checkY = y + dy;
+                    
+                    // Verificar se já existe uma decoração nesta posição
+                    if (occupied[(checkX - x0) * (y1 - y0) + (checkY - y0)]) {
+                        return false;
+                    }
+                    
+                    TileType type = farm.getTileType(checkX, checkY);
+                    
+                    // Não colocar na água
+                    if (type == TileType.WATER) {
+                        return false;
+                    }
+                    
+                    // Árvores e ruínas só em grass (verificar cada tile)
+                    if (!canBeOnDirt && type != TileType.GRASS) {
+                        return false;
+                    }
+                }
+            }
+            
+            return true;
+        }
     }
     
     /**
@@ -232,15 +457,51 @@ public class DecorationManager {
     }
     
     /**
-     * Verifica se uma posição pode ser andada (considerando decorações)
+     * Decorações de uma layer com a âncora dentro da área (em ordem de geração)
+     * Só percorre as regiões que cruzam a área, não o mapa inteiro.
+     * @param out Lista reutilizada pelo chamador (é limpa antes)
      */
-    public boolean isPositionWalkable(int x, int y) {
-        for (Decoration deco : decorations) {
-            if (deco.collidesWith(x, y) && !deco.isWalkable()) {
-                return false;
+    public List<Decoration> getDecorationsInArea(int minX, int minY, int maxX, int maxY, int layer,
+                                                 List<Decoration> out) {
+        out.clear();
+        if (regionDecorations == null) {
+            return out;
+        }
+        int rx0 = Math.max(0, minX / REGION_SIZE);
+        int ry0 = Math.max(0, minY / REGION_SIZE);
+        int rx1 = Math.min(regionsX - 1, maxX / REGION_SIZE);
+        int ry1 = Math.min(regionsY - 1, maxY / REGION_SIZE);
+        for (int ry = ry0; ry <= ry1; ry++) {
+            for (int rx = rx0; rx <= rx1; rx++) {
+                List<Decoration> region = regionDecorations[ry * regionsX + rx];
+                if (region == null) {
+                    continue;
+                }
+                for (int i = 0; i < region.size(); i++) {
+                    Decoration deco = region.get(i);
+                    if (deco.getLayer() == layer && deco.getX() >= minX && deco.getX() < maxX &&
+                        deco.getY() >= minY && deco.getY() < maxY) {
+                        out.add(deco);
+                    }
+                }
             }
         }
-        return true;
+        return out;
+    }
+    
+    /**
+     * Verifica se uma posição pode ser andada (considerando decorações)
+     */
+    public boolean isPositionWalkable(int x, int y) {
+        Decoration deco = index.get(LongMap.key(x, y));
+        return deco == null || deco.isWalkable();
+    }
+    
+    /**
+     * Decoração que ocupa o tile (ou null)
+     */
+    public Decoration getDecorationAt(int x, int y) {
+        return index.get(LongMap.key(x, y));
     }
     
     /**
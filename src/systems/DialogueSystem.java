@@ -1,5 +1,6 @@
 package systems;
 
+import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -7,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import utils.GameRandom;
 
 /**
  * Sistema de diálogos carregados de JSON
@@ -31,7 +33,7 @@ public class DialogueSystem {
     private static final String[] DEFAULT_TIPS = {"Dica: Explore o mundo!"};
     
     private DialogueSystem() {
-        this.random = new Random();
+        this.random = GameRandom.newRandom("dialogue");
         this.greetings = new HashMap<>();
         this.dialogues = new HashMap<>();
         this.tips = new ArrayList<>();
@@ -43,7 +45,7 @@ public class DialogueSystem {
         loadDialogues();
     }
     
-    public static DialogueSystem getInstance() {
+    public static synchronized DialogueSystem getInstance() {
         if (instance == null) {
             instance = new DialogueSystem();
         }
@@ -67,7 +69,7 @@ public class DialogueSystem {
     
     private String readFile(String path) throws IOException {
         StringBuilder content = new StringBuilder();
-        try (FileReader reader = new FileReader(path)) {
+        try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
             int ch;
             while ((ch = reader.read()) != -1) {
                 content.append((char) ch);
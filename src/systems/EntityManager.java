@@ -4,21 +4,48 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.function.BiPredicate;
 
 import entities.NPC;
 import entities.NPC.NPCType;
 import entities.Enemy;
 import entities.Enemy.EnemyType;
 import world.Farm;
+import world.WorldSettings;
+import utils.GameClock;
+import utils.GameRandom;
+import utils.LongMap;
+import utils.TimerWheel;
+import diagnostics.WorldGenerationEvent;
 
 /**
  * Gerencia todos os NPCs e inimigos do jogo
+ *
+ * Cada entidade agenda a próxima ação numa TimerWheel; o tick só processa os timers
+ * vencidos. Um índice de ocupação por tile substitui as varreduras das listas, e o
+ * aggro é recalculado apenas para os inimigos ao alcance do jogador. Assim o custo
+ * por tick acompanha os eventos devidos, não o total de entidades.
  */
 public class EntityManager {
     private List<NPC> npcs;
     private List<Enemy> enemies;
     private Random random;
     private Farm farm;
+    private GameClock clock;
+    private int updateRadius; // Entidades mais longe do jogador (em tiles) ficam paradas
+    
+    // ===== AGENDAMENTO E ÍNDICES =====
+    private final TimerWheel timers;             // Próxima ação de cada NPC e inimigo
+    private final LongMap<Object> occupants;     // NPC ou inimigo em cada tile
+    private final List<NPC> movedNPCs;           // Andaram no último tick (interpolação)
+    private final List<Enemy> movedEnemies;
+    private final List<Enemy> aggressiveEnemies; // Com aggro ativo no último tick
+    private final BiPredicate<Integer, Integer> walkable;
+    private int playerX, playerY;                // Posição do jogador no tick atual
+    
+    public static final int UNLIMITED_RADIUS = Integer.MAX_VALUE;
+    private static final long DORMANT_DELAY = 2000; // ms entre verificações de quem está fora do raio
+    private static final int AGGRO_SCAN_RADIUS = maxAggroRange();
     
     // Nomes aleatórios para NPCs
     private static final String[] MERCHANT_NAMES = {"Pedro", "Maria", "João", "Ana", "Carlos"};
@@ -26,24 +53,91 @@ public class EntityManager {
     private static final String[] VILLAGER_NAMES = {"Lucas", "Julia", "Gabriel", "Sofia", "Miguel"};
     private static final String[] WANDERER_NAMES = {"Wanderley", "Aurora", "Dante", "Luna", "Felix"};
     
-    public EntityManager(Farm farm) {
+    public EntityManager(Farm farm, GameClock clock) {
         this.farm = farm;
+        this.clock = clock;
         this.npcs = new ArrayList<>();
         this.enemies = new ArrayList<>();
-        this.random = new Random();
+        this.random = GameRandom.newRandom("entities");
+        this.updateRadius = UNLIMITED_RADIUS;
+        this.timers = new TimerWheel(clock.nowMillis());
+        this.occupants = new LongMap<>();
+        this.movedNPCs = new ArrayList<>();
+        this.movedEnemies = new ArrayList<>();
+        this.aggressiveEnemies = new ArrayList<>();
+        this.walkable = (x, y) -> farm.isWalkable(x, y) && !isPositionOccupied(x, y);
+    }
+    
+    private static int maxAggroRange() {
+        int range = 0;
+        for (EnemyType type : EnemyType.values()) {
+            range = Math.max(range, type.getAggroRange());
+        }
+        return range;
     }
     
     /**
      * Gera NPCs e inimigos baseado no tamanho do mapa
      */
     public void generateEntities() {
+        generateEntities(WorldSettings.AUTO, WorldSettings.AUTO);
+    }
+    
+    /**
+     * Gera as entidades do mundo
+     * Em mundos em fluxo só os NPCs do spawn; o resto vem com cada região (populateRegion).
+     */
+    public void generateEntities(WorldSettings world) {
+        if (!world.isStreamed()) {
+            generateEntities(npcTotal(world), enemyTotal(world));
+            return;
+        }
+        System.out.println("👥 Gerando entidades (em fluxo: " + npcTotal(world) + " NPCs e " +
+                           enemyTotal(world) + " inimigos no mapa inteiro)...");
+        generateNPCsNearSpawn(farm.getWidth(), farm.getHeight(), 3);
+    }
+    
+    /**
+     * NPCs espalhados no mapa inteiro (densidade do preset aplicada às contagens AUTO)
+     */
+    public static int npcTotal(WorldSettings world) {
+        if (world.getNpcCount() != WorldSettings.AUTO) {
+            return world.getNpcCount();
+        }
+        long mapArea = (long) world.getWidth() * world.getHeight();
+        return Math.max(12, (int) (mapArea / 1500 * world.getNpcDensity()));
+    }
+    
+    /**
+     * Inimigos no mapa inteiro (densidade do preset aplicada às contagens AUTO)
+     */
+    public static int enemyTotal(WorldSettings world) {
+        if (world.getEnemyCount() != WorldSettings.AUTO) {
+            return world.getEnemyCount();
+        }
+        long mapArea = (long) world.getWidth() * world.getHeight();
+        return Math.max(20, (int) (mapArea / 1000 * world.getEnemyDensity()));
+    }
+    
+    /**
+     * Gera NPCs e inimigos
+     * @param npcCount NPCs espalhados (além dos do spawn) ou AUTO
+     * @param enemyCount Inimigos ou AUTO
+     */
+    public void generateEntities(int npcCount, int enemyCount) {
+        WorldGenerationEvent event = new WorldGenerationEvent();
+        event.begin();
         int width = farm.getWidth();
         int height = farm.getHeight();
         int mapArea = width * height;
         
         // Calcular quantidade baseada no tamanho do mapa - AUMENTADO!
-        int npcCount = Math.max(12, mapArea / 1500);      // ~15 NPCs para 150x150
-        int enemyCount = Math.max(20, mapArea / 1000);    // ~22 inimigos para 150x150
+        if (npcCount == WorldSettings.AUTO) {
+            npcCount = Math.max(12, mapArea / 1500);      // ~15 NPCs para 150x150
+        }
+        if (enemyCount == WorldSettings.AUTO) {
+            enemyCount = Math.max(20, mapArea / 1000);    // ~22 inimigos para 150x150
+        }
         
         System.out.println("👥 Gerando entidades...");
         System.out.println("   - NPCs: " + npcCount);
@@ -59,6 +153,16 @@ public class EntityManager {
         generateEnemies(width, height, enemyCount);
         
         System.out.println("✅ Entidades geradas: " + npcs.size() + " NPCs, " + enemies.size() + " inimigos");
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.stage = "entidades";
+            event.width = width;
+            event.height = height;
+            event.generated = npcs.size() + enemies.size();
+            event.details = "npcs=" + npcs.size() + " inimigos=" + enemies.size();
+            event.commit();
+        }
     }
     
     /**
@@ -85,10 +189,10 @@ public class EntityManager {
                 farm.isWalkable(x, y) && !isPositionOccupied(x, y)) {
                 
                 // Comerciante sempre perto do spawn
-                NPCType type = (i == 0) ? NPCType.MERCHANT : getRandomNPCType();
-                String name = getRandomName(type);
+                NPCType type = (i == 0) ? NPCType.MERCHANT : getRandomNPCType(random);
+                String name = getRandomName(type, random);
                 
-                npcs.add(new NPC(x, y, type, name));
+                addNPC(new NPC(x, y, type, name, clock));
                 System.out.println("   📍 " + type.getTitle() + " " + name + " gerado perto do spawn em (" + x + ", " + y + ")");
             }
         }
@@ -114,10 +218,10 @@ public class EntityManager {
                     farm.isWalkable(x, y) && !isPositionOccupied(x, y)) {
                     
                     // Escolher tipo aleatório
-                    NPCType type = getRandomNPCType();
-                    String name = getRandomName(type);
+                    NPCType type = getRandomNPCType(random);
+                    String name = getRandomName(type, random);
                     
-                    npcs.add(new NPC(x, y, type, name));
+                    addNPC(new NPC(x, y, type, name, clock));
                     break;
                 }
                 attempts++;
@@ -155,8 +259,8 @@ public class EntityManager {
                 // Verificar limites e posição válida
                 if (x >= 2 && x < width - 2 && y >= 2 && y < height - 2 &&
                     farm.isWalkable(x, y) && !isPositionOccupied(x, y)) {
-                    EnemyType type = getRandomEnemyType();
-                    enemies.add(new Enemy(x, y, type));
+                    EnemyType type = getRandomEnemyType(random);
+                    addEnemy(new Enemy(x, y, type, clock));
                     break;
                 }
                 attempts++;
@@ -164,7 +268,47 @@ public class EntityManager {
         }
     }
     
-    private NPCType getRandomNPCType() {
+    /**
+     * Povoa uma região de um mundo em fluxo (chamar depois de gerar as decorações dela)
+     * @param random Gerador da região: o resultado não depende da ordem das regiões. A IA de
+     *               cada entidade também sai dele (e não do contador global de criação),
+     *               então as entidades da região se comportam igual por qualquer caminho.
+     */
+    public void populateRegion(int x0, int y0, int x1, int y1, Random random, int npcCount, int enemyCount) {
+        int width = farm.getWidth();
+        int height = farm.getHeight();
+        int centerX = width / 2;
+        int centerY = height / 2;
+        
+        for (int i = 0; i < enemyCount; i++) {
+            for (int attempts = 0; attempts < 100; attempts++) {
+                int x = x0 + random.nextInt(x1 - x0);
+                int y = y0 + random.nextInt(y1 - y0);
+                // Longe do spawn e dentro das bordas
+                if ((Math.abs(x - centerX) >= 12 || Math.abs(y - centerY) >= 12) &&
+                    x >= 2 && x < width - 2 && y >= 2 && y < height - 2 &&
+                    farm.isWalkable(x, y) && !isPositionOccupied(x, y)) {
+                    addEnemy(new Enemy(x, y, getRandomEnemyType(random), clock, new Random(random.nextLong())));
+                    break;
+                }
+            }
+        }
+        
+        for (int i = 0; i < npcCount; i++) {
+            for (int attempts = 0; attempts < 100; attempts++) {
+                int x = x0 + random.nextInt(x1 - x0);
+                int y = y0 + random.nextInt(y1 - y0);
+                if (x >= 2 && x < width - 2 && y >= 2 && y < height - 2 &&
+                    farm.isWalkable(x, y) && !isPositionOccupied(x, y)) {
+                    NPCType type = getRandomNPCType(random);
+                    addNPC(new NPC(x, y, type, getRandomName(type, random), clock, new Random(random.nextLong())));
+                    break;
+                }
+            }
+        }
+    }
+    
+    private static NPCType getRandomNPCType(Random random) {
         NPCType[] types = NPCType.values();
         // Mais chance de fazendeiros e aldeões
         double roll = random.nextDouble();
@@ -174,7 +318,7 @@ public class EntityManager {
         return NPCType.WANDERER;
     }
     
-    private EnemyType getRandomEnemyType() {
+    private static EnemyType getRandomEnemyType(Random random) {
         // Distribuição: 50% Slime, 30% Goblin, 20% Skeleton
         double roll = random.nextDouble();
         if (roll < 0.5) return EnemyType.SLIME;
@@ -182,7 +326,7 @@ public class EntityManager {
         return EnemyType.SKELETON;
     }
     
-    private String getRandomName(NPCType type) {
+    private static String getRandomName(NPCType type, Random random) {
         switch (type) {
             case MERCHANT:
                 return MERCHANT_NAMES[random.nextInt(MERCHANT_NAMES.length)];
@@ -198,46 +342,160 @@ public class EntityManager {
     }
     
     private boolean isPositionOccupied(int x, int y) {
-        for (NPC npc : npcs) {
-            if (npc.getX() == x && npc.getY() == y) return true;
+        return occupants.containsKey(LongMap.key(x, y));
+    }
+    
+    // ===== REGISTRO E AGENDAMENTO =====
+    
+    private void addNPC(NPC npc) {
+        npcs.add(npc);
+        occupy(npc, npc.getX(), npc.getY());
+        npc.setTimer(new TimerWheel.Timer(() -> actNPC(npc)));
+        timers.schedule(npc.getTimer(), clock.nowMillis() + npc.getMoveSpeed());
+    }
+    
+    private void addEnemy(Enemy enemy) {
+        enemies.add(enemy);
+        occupy(enemy, enemy.getX(), enemy.getY());
+        enemy.setTimer(new TimerWheel.Timer(() -> actEnemy(enemy)));
+        timers.schedule(enemy.getTimer(), clock.nowMillis() + enemy.getMoveSpeed());
+    }
+    
+    private void removeEnemy(Enemy enemy) {
+        enemies.remove(enemy);
+        aggressiveEnemies.remove(enemy);
+        vacate(enemy, enemy.getX(), enemy.getY());
+        timers.cancel(enemy.getTimer());
+    }
+    
+    private void occupy(Object entity, int x, int y) {
+        long key = LongMap.key(x, y);
+        if (!occupants.containsKey(key)) {
+            occupants.put(key, entity);
         }
-        for (Enemy enemy : enemies) {
-            if (enemy.getX() == x && enemy.getY() == y) return true;
+    }
+    
+    private void vacate(Object entity, int x, int y) {
+        long key = LongMap.key(x, y);
+        if (occupants.get(key) == entity) {
+            occupants.remove(key);
         }
-        return false;
     }
     
     /**
-     * Atualiza todos os NPCs e inimigos
+     * Timer de um NPC venceu
+     */
+    private void actNPC(NPC npc) {
+        long now = clock.nowMillis();
+        if (!isInUpdateRadius(npc.getX(), npc.getY(), playerX, playerY)) {
+            timers.schedule(npc.getTimer(), now + DORMANT_DELAY); // Parado longe do jogador
+            return;
+        }
+        int oldX = npc.getX();
+        int oldY = npc.getY();
+        long delay = npc.act(farm.getWidth(), farm.getHeight(), walkable);
+        if (npc.getX() != oldX || npc.getY() != oldY) {
+            vacate(npc, oldX, oldY);
+            occupy(npc, npc.getX(), npc.getY());
+            movedNPCs.add(npc);
+        }
+        timers.schedule(npc.getTimer(), now + delay);
+    }
+    
+    /**
+     * Timer de um inimigo venceu
+     */
+    private void actEnemy(Enemy enemy) {
+        long now = clock.nowMillis();
+        if (!isInUpdateRadius(enemy.getX(), enemy.getY(), playerX, playerY)) {
+            timers.schedule(enemy.getTimer(), now + DORMANT_DELAY);
+            return;
+        }
+        int oldX = enemy.getX();
+        int oldY = enemy.getY();
+        long delay = enemy.act(playerX, playerY, farm.getWidth(), farm.getHeight(), walkable);
+        if (enemy.getX() != oldX || enemy.getY() != oldY) {
+            vacate(enemy, oldX, oldY);
+            occupy(enemy, enemy.getX(), enemy.getY());
+            movedEnemies.add(enemy);
+        }
+        timers.schedule(enemy.getTimer(), now + delay);
+    }
+    
+    /**
+     * Guarda a posição das entidades que andaram no tick anterior (interpolação)
+     * As demais já têm posição anterior igual à atual.
+     */
+    public void savePreviousPositions() {
+        for (int i = 0; i < movedNPCs.size(); i++) {
+            movedNPCs.get(i).savePreviousPosition();
+        }
+        for (int i = 0; i < movedEnemies.size(); i++) {
+            movedEnemies.get(i).savePreviousPosition();
+        }
+        movedNPCs.clear();
+        movedEnemies.clear();
+    }
+    
+    /**
+     * Avança os NPCs e inimigos cujo timer venceu
      */
     public void update(int playerX, int playerY) {
-        int width = farm.getWidth();
-        int height = farm.getHeight();
+        this.playerX = playerX;
+        this.playerY = playerY;
         
-        // Atualizar NPCs
-        for (NPC npc : npcs) {
-            npc.update(width, height, (x, y) -> farm.isWalkable(x, y) && !isPositionOccupied(x, y));
+        refreshAggro();
+        timers.advanceTo(clock.nowMillis());
+    }
+    
+    /**
+     * Recalcula o aggro dos inimigos ao alcance do jogador (varre só os tiles em volta)
+     */
+    private void refreshAggro() {
+        for (int i = 0; i < aggressiveEnemies.size(); i++) {
+            aggressiveEnemies.get(i).clearAggro();
         }
+        aggressiveEnemies.clear();
         
-        // Atualizar inimigos
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDead()) {
-                enemy.update(playerX, playerY, width, height, 
-                    (x, y) -> farm.isWalkable(x, y) && !isPositionOccupied(x, y));
+        int width = farm.getWidth();
+        int height = farm.getHeight();
+        int radius = Math.min(AGGRO_SCAN_RADIUS, updateRadius);
+        for (int dy = -radius; dy <= radius; dy++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                Object occupant = occupants.get(LongMap.key(playerX + dx, playerY + dy));
+                if (occupant instanceof Enemy) {
+                    Enemy enemy = (Enemy) occupant;
+                    enemy.updateAggro(playerX, playerY, width, height);
+                    if (enemy.isAggressive()) {
+                        aggressiveEnemies.add(enemy);
+                    }
+                }
             }
         }
-        
-        // Remover inimigos mortos (após um tempo)
-        // enemies.removeIf(e -> e.isDead());
     }
     
+    private boolean isInUpdateRadius(int x, int y, int playerX, int playerY) {
+        return Math.max(Math.abs(x - playerX), Math.abs(y - playerY)) <= updateRadius;
+    }
+    
+    /**
+     * Raio de simulação em tiles ao redor do jogador (UNLIMITED_RADIUS = todas as entidades)
+     */
+    public void setUpdateRadius(int updateRadius) {
+        this.updateRadius = Math.max(1, updateRadius);
+    }
+    
+    public int getUpdateRadius() { return updateRadius; }
+    
     /**
      * Verifica se há inimigo adjacente ao jogador
      */
     public Enemy getAdjacentEnemy(int playerX, int playerY) {
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDead() && enemy.isAdjacentTo(playerX, playerY)) {
-                return enemy;
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if ((dx != 0 || dy != 0) && hasEnemyAt(playerX + dx, playerY + dy)) {
+                    return (Enemy) occupants.get(LongMap.key(playerX + dx, playerY + dy));
+                }
             }
         }
         return null;
@@ -261,6 +519,9 @@ public class EntityManager {
     public boolean attackEnemy(Enemy enemy, int damage) {
         if (enemy != null && !enemy.isDead()) {
             enemy.takeDamage(damage);
+            if (enemy.isDead()) {
+                removeEnemy(enemy); // Já não é desenhado nem atualizado
+            }
             return true;
         }
         return false;
@@ -271,6 +532,7 @@ public class EntityManager {
     public List<Enemy> getEnemies() { return enemies; }
     public int getNPCCount() { return npcs.size(); }
     public int getEnemyCount() { return enemies.size(); }
+    public int getScheduledTimerCount() { return timers.size(); }
     public int getAliveEnemyCount() { 
         return (int) enemies.stream().filter(e -> !e.isDead()).count(); 
     }
@@ -279,12 +541,8 @@ public class EntityManager {
      * Verifica se há um inimigo vivo na posição especificada
      */
     public boolean hasEnemyAt(int x, int y) {
-        for (Enemy enemy : enemies) {
-            if (!enemy.isDead() && enemy.getX() == x && enemy.getY() == y) {
-                return true;
-            }
-        }
-        return false;
+        Object occupant = occupants.get(LongMap.key(x, y));
+        return occupant instanceof Enemy && !((Enemy) occupant).isDead();
     }
 }
 
@@ -3,6 +3,13 @@ package systems;
 import java.util.HashMap;
 import java.util.Map;
 import types.CropType;
+import utils.GameClock;
+import items.ItemType;
+import events.EventBus;
+import events.ResourceHarvestedEvent;
+import events.CropHarvestedEvent;
+import events.MoneyEarnedEvent;
+import events.DayPassedEvent;
 
 /**
  * Sistema de Estatísticas do Jogo
@@ -22,6 +29,7 @@ public class GameStats {
     
     // Estatísticas de tempo
     private long gameStartTime;
+    private GameClock clock;
     private int totalDaysPlayed;
     private int totalStepsTaken;
     
@@ -35,10 +43,11 @@ public class GameStats {
     private int totalTreesChopped;
     private int totalRocksDestroyed;
     
-    public GameStats() {
+    public GameStats(GameClock clock) {
+        this.clock = clock;
         this.cropsPlantedByType = new HashMap<>();
         this.cropsHarvestedByType = new HashMap<>();
-        this.gameStartTime = System.currentTimeMillis();
+        this.gameStartTime = clock.nowMillis();
         
         // Inicializar contadores por tipo
         for (CropType type : CropType.values()) {
@@ -47,6 +56,21 @@ public class GameStats {
         }
     }
     
+    /**
+     * Inscreve as estatísticas nos eventos do jogo
+     */
+    public void registerListeners(EventBus bus) {
+        bus.subscribe(ResourceHarvestedEvent.class, e -> {
+            ItemType item = e.getItem();
+            if (item == ItemType.WOOD) recordWoodCollected(e.getQuantity());
+            else if (item == ItemType.STONE) recordStoneCollected(e.getQuantity());
+            else if (item == ItemType.FIBER) recordFiberCollected(e.getQuantity());
+        });
+        bus.subscribe(CropHarvestedEvent.class, e -> recordCropHarvested(e.getCrop()));
+        bus.subscribe(MoneyEarnedEvent.class, e -> recordMoneyEarned(e.getAmount()));
+        bus.subscribe(DayPassedEvent.class, e -> recordDayPassed());
+    }
+    
     // ===== CULTIVOS =====
     
     public void recordCropPlanted(CropType type) {
@@ -139,7 +163,7 @@ public class GameStats {
      * Retorna tempo de jogo formatado
      */
     public String getPlayTimeFormatted() {
-        long elapsed = System.currentTimeMillis() - gameStartTime;
+        long elapsed = clock.nowMillis() - gameStartTime;
         long seconds = elapsed / 1000;
         long minutes = seconds / 60;
         long hours = minutes / 60;
@@ -7,6 +7,8 @@ import entities.Decoration;
 import items.Item;
 import items.ItemType;
 import items.ResourceType;
+import events.EventBus;
+import events.ResourceHarvestedEvent;
 
 /**
  * Sistema de coleta de recursos
@@ -15,10 +17,13 @@ import items.ResourceType;
 public class HarvestSystem {
     private Farm farm;
     private Player player;
+    private EventBus eventBus;
+    private final ResourceHarvestedEvent harvestedEvent = new ResourceHarvestedEvent(); // Reutilizado
     
-    public HarvestSystem(Farm farm, Player player) {
+    public HarvestSystem(Farm farm, Player player, EventBus eventBus) {
         this.farm = farm;
         this.player = player;
+        this.eventBus = eventBus;
     }
     
     /**
@@ -83,50 +88,48 @@ public class HarvestSystem {
      * Tenta coletar de decoração
      */
     private String harvestDecoration(int x, int y, ItemType tool) {
-        DecorationManager decorManager = farm.getDecorationManager();
-        
-        for (Decoration deco : decorManager.getAllDecorations()) {
-            if (deco.collidesWith(x, y) && deco.canHarvest()) {
-                // Verificar energia antes de coletar
-                int energyCost = getEnergyCost(deco.getResource(), tool);
-                if (!player.hasEnergy(energyCost)) {
-                    return "Sem energia! Descanse [Z]";
-                }
-                
-                ResourceType resource = deco.harvest(tool);
-                
-                if (resource == null) {
-                    // Ferramenta errada
-                    ItemType requiredTool = deco.getResource().getRequiredTool();
-                    if (requiredTool != null) {
-                        return "Você precisa de: " + requiredTool.getDisplayName();
-                    }
-                    return "Não pode coletar isso!";
-                }
-                
-                // Consumir energia
-                player.useEnergy(energyCost);
-                
-                // Coletar recursos
-                int quantity = resource.getRandomQuantity();
-                boolean added = player.getInventory().addItem(resource.getItemDropped(), quantity);
-                
-                if (!added) {
-                    return "Inventário cheio!";
-                }
-                
-                // Mensagem de sucesso
-                String itemName = resource.getItemDropped().getDisplayName();
-                String statusMsg = "+" + quantity + " " + itemName;
-                
-                if (deco.isDepleted()) {
-                    statusMsg += " (Coletado!) -" + energyCost + " ⚡";
-                } else {
-                    statusMsg += " (" + deco.getHealth() + "/" + deco.getMaxHealth() + ") -" + energyCost + " ⚡";
+        Decoration deco = farm.getDecorationManager().getDecorationAt(x, y);
+        if (deco != null && deco.canHarvest()) {
+            // Verificar energia antes de coletar
+            int energyCost = getEnergyCost(deco.getResource(), tool);
+            if (!player.hasEnergy(energyCost)) {
+                return "Sem energia! Descanse [Z]";
+            }
+            
+            ResourceType resource = deco.harvest(tool);
+            
+            if (resource == null) {
+                // Ferramenta errada
+                ItemType requiredTool = deco.getResource().getRequiredTool();
+                if (requiredTool != null) {
+                    return "Você precisa de: " + requiredTool.getDisplayName();
                 }
-                
-                return statusMsg;
+                return "Não pode coletar isso!";
             }
+            
+            // Consumir energia
+            player.useEnergy(energyCost);
+            
+            // Coletar recursos
+            int quantity = resource.getRandomQuantity();
+            boolean added = player.getInventory().addItem(resource.getItemDropped(), quantity);
+            
+            if (!added) {
+                return "Inventário cheio!";
+            }
+            eventBus.publish(harvestedEvent.set(resource, quantity, x, y));
+            
+            // Mensagem de sucesso
+            String itemName = resource.getItemDropped().getDisplayName();
+            String statusMsg = "+" + quantity + " " + itemName;
+            
+            if (deco.isDepleted()) {
+                statusMsg += " (Coletado!) -" + energyCost + " ⚡";
+            } else {
+                statusMsg += " (" + deco.getHealth() + "/" + deco.getMaxHealth() + ") -" + energyCost + " ⚡";
+            }
+            
+            return statusMsg;
         }
         
         return null;
@@ -166,6 +169,7 @@ public class HarvestSystem {
             if (!added) {
                 return "Inventário cheio!";
             }
+            eventBus.publish(harvestedEvent.set(resource, quantity, x, y));
             
             // Mensagem de sucesso
             String itemName = resource.getItemDropped().getDisplayName();
@@ -217,11 +221,9 @@ public class HarvestSystem {
      */
     public boolean hasHarvestableAt(int x, int y) {
         // Verificar decoração
-        DecorationManager decorManager = farm.getDecorationManager();
-        for (Decoration deco : decorManager.getAllDecorations()) {
-            if (deco.collidesWith(x, y) && deco.canHarvest()) {
-                return true;
-            }
+        Decoration deco = farm.getDecorationManager().getDecorationAt(x, y);
+        if (deco != null && deco.canHarvest()) {
+            return true;
         }
         
         // Verificar tile
@@ -238,14 +240,12 @@ public class HarvestSystem {
      */
     public String getResourceInfoAt(int x, int y) {
         // Verificar decoração
-        DecorationManager decorManager = farm.getDecorationManager();
-        for (Decoration deco : decorManager.getAllDecorations()) {
-            if (deco.collidesWith(x, y) && deco.canHarvest()) {
-                ResourceType res = deco.getResource();
-                ItemType tool = res.getRequiredTool();
-                String toolName = (tool != null) ? tool.getDisplayName() : "Mãos";
-                return res.getDisplayName() + " (Ferramenta: " + toolName + ")";
-            }
+        Decoration deco = farm.getDecorationManager().getDecorationAt(x, y);
+        if (deco != null && deco.canHarvest()) {
+            ResourceType res = deco.getResource();
+            ItemType tool = res.getRequiredTool();
+            String toolName = (tool != null) ? tool.getDisplayName() : "Mãos";
+            return res.getDisplayName() + " (Ferramenta: " + toolName + ")";
         }
         
         // Verificar tile
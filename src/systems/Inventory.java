@@ -321,6 +321,24 @@ public class Inventory {
         }
     }
     
+    /**
+     * Copia os slots e a seleção de outro inventário do mesmo tamanho (cópia para a renderização)
+     * Os itens desta cópia são reaproveitados quando o tipo não mudou.
+     */
+    public void copyFrom(Inventory other) {
+        for (int i = 0; i < size; i++) {
+            Item source = other.slots[i];
+            if (source == null) {
+                slots[i] = null;
+            } else if (slots[i] != null && slots[i].getType() == source.getType()) {
+                slots[i].setQuantity(source.getQuantity());
+            } else {
+                slots[i] = new Item(source.getType(), source.getQuantity());
+            }
+        }
+        selectedSlot = other.selectedSlot;
+    }
+
     /**
      * Retorna lista de todos os itens (para debug)
      */
@@ -1,5 +1,11 @@
 package systems;
 
+import items.ItemType;
+import events.EventBus;
+import events.ResourceHarvestedEvent;
+import events.CropHarvestedEvent;
+import events.EnemyKilledEvent;
+
 /**
  * Sistema de Níveis e Experiência
  * Jogador ganha XP por ações e sobe de nível
@@ -70,6 +76,18 @@ public class LevelSystem {
         cropQualityBonus = (level - 1) * 0.03;
     }
     
+    /**
+     * Inscreve o sistema de XP nos eventos do jogo
+     */
+    public void registerListeners(EventBus bus) {
+        bus.subscribe(ResourceHarvestedEvent.class, e -> {
+            if (e.getItem() == ItemType.WOOD) onChopTree();
+            else if (e.getItem() == ItemType.STONE) onMineRock();
+        });
+        bus.subscribe(CropHarvestedEvent.class, e -> onHarvest());
+        bus.subscribe(EnemyKilledEvent.class, e -> addXP(e.getXpReward()));
+    }
+    
     // ===== MÉTODOS DE XP POR AÇÃO =====
     
     public boolean onPlant() {
@@ -4,22 +4,28 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
-
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
+import utils.GameRandom;
+import items.ItemType;
+import events.EventBus;
+import events.ResourceHarvestedEvent;
+import events.CropHarvestedEvent;
+import events.EnemyKilledEvent;
 
 /**
  * Sistema de partículas para efeitos visuais
  * Cria efeitos de colheita, dano, level up, clima, etc.
+ * Apenas simulação: o desenho fica em render.ParticleRenderer
  */
 public class ParticleSystem {
     private List<Particle> particles;
     private Random random;
-    private static final int MAX_PARTICLES = 500;
+    public static final int MAX_PARTICLES = 500;
+    private int maxParticles; // Ajustado pela qualidade gráfica (chuva e neve)
     
     public ParticleSystem() {
         this.particles = new ArrayList<>();
-        this.random = new Random();
+        this.random = GameRandom.newRandom("particles");
+        this.maxParticles = MAX_PARTICLES;
     }
     
     /**
@@ -37,12 +43,31 @@ public class ParticleSystem {
     }
     
     /**
-     * Renderiza todas as partículas
+     * Partículas vivas (somente leitura, usada pelo renderizador)
      */
-    public void render(GraphicsContext gc, int offsetX, int offsetY, int tileSize) {
-        for (Particle p : particles) {
-            p.render(gc, offsetX, offsetY, tileSize);
-        }
+    public List<Particle> getParticles() {
+        return particles;
+    }
+    
+    /**
+     * Empacota uma cor RGBA em um int 0xAARRGGBB
+     */
+    private static int rgb(int r, int g, int b) {
+        return rgb(r, g, b, 1.0);
+    }
+    
+    private static int rgb(int r, int g, int b, double opacity) {
+        int a = (int) Math.round(opacity * 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+    
+    /**
+     * Inscreve os efeitos visuais nos eventos do jogo
+     */
+    public void registerListeners(EventBus bus) {
+        bus.subscribe(ResourceHarvestedEvent.class, e -> spawnResourceEffect(e.getX(), e.getY(), e.getItem()));
+        bus.subscribe(CropHarvestedEvent.class, e -> spawnHarvestEffect(e.getX(), e.getY()));
+        bus.subscribe(EnemyKilledEvent.class, e -> spawnHarvestEffect(e.getEnemy().getX(), e.getEnemy().getY()));
     }
     
     // ===== EFEITOS ESPECÍFICOS =====
@@ -57,9 +82,9 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = -1 - random.nextDouble() * 2; // Sempre sobe
             
-            Color color = random.nextBoolean() ? 
-                Color.rgb(255, 215, 0) : // Dourado
-                Color.rgb(255, 255, 100); // Amarelo claro
+            int color = random.nextBoolean() ? 
+                rgb(255, 215, 0) : // Dourado
+                rgb(255, 255, 100); // Amarelo claro
             
             particles.add(new Particle(
                 tileX + 0.5, tileY + 0.5,
@@ -82,7 +107,7 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed;
             
-            Color color = Color.rgb(
+            int color = rgb(
                 200 + random.nextInt(55),
                 random.nextInt(50),
                 random.nextInt(50)
@@ -109,11 +134,11 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = Math.sin(angle) * speed;
             
-            Color[] colors = {
-                Color.rgb(255, 215, 0),   // Dourado
-                Color.rgb(255, 255, 255), // Branco
-                Color.rgb(255, 165, 0),   // Laranja
-                Color.rgb(255, 255, 100)  // Amarelo
+            int[] colors = {
+                rgb(255, 215, 0),   // Dourado
+                rgb(255, 255, 255), // Branco
+                rgb(255, 165, 0),   // Laranja
+                rgb(255, 255, 100)  // Amarelo
             };
             
             particles.add(new Particle(
@@ -130,23 +155,20 @@ public class ParticleSystem {
     /**
      * Efeito de coleta de recurso - partículas do tipo do recurso
      */
-    public void spawnResourceEffect(int tileX, int tileY, String resourceType) {
-        Color color;
-        switch (resourceType.toLowerCase()) {
-            case "wood":
-            case "madeira":
-                color = Color.rgb(139, 90, 43);
+    public void spawnResourceEffect(int tileX, int tileY, ItemType item) {
+        int color;
+        switch (item) {
+            case WOOD:
+                color = rgb(139, 90, 43);
                 break;
-            case "stone":
-            case "pedra":
-                color = Color.rgb(128, 128, 128);
+            case STONE:
+                color = rgb(128, 128, 128);
                 break;
-            case "fiber":
-            case "fibra":
-                color = Color.rgb(50, 150, 50);
+            case FIBER:
+                color = rgb(50, 150, 50);
                 break;
             default:
-                color = Color.rgb(200, 200, 200);
+                color = rgb(200, 200, 200);
         }
         
         for (int i = 0; i < 10; i++) {
@@ -174,9 +196,9 @@ public class ParticleSystem {
             double vx = Math.cos(angle) * speed;
             double vy = -0.5 - random.nextDouble(); // Sobe devagar
             
-            Color color = random.nextBoolean() ?
-                Color.rgb(100, 255, 100) : // Verde claro
-                Color.rgb(255, 150, 200);  // Rosa
+            int color = random.nextBoolean() ?
+                rgb(100, 255, 100) : // Verde claro
+                rgb(255, 150, 200);  // Rosa
             
             particles.add(new Particle(
                 tileX + random.nextDouble() - 0.5, 
@@ -194,14 +216,14 @@ public class ParticleSystem {
      * Efeito de chuva
      */
     public void spawnRainDrop(int screenWidth, int screenHeight, int tileSize) {
-        if (particles.size() < MAX_PARTICLES) {
+        if (particles.size() < maxParticles) {
             double x = random.nextDouble() * (screenWidth / (double)tileSize + 4) - 2;
             double y = -1;
             
             particles.add(new Particle(
                 x, y,
                 -0.5, 8, // Cai diagonal
-                Color.rgb(100, 150, 255, 0.6),
+                rgb(100, 150, 255, 0.6),
                 2,
                 60,
                 ParticleType.RAIN
@@ -213,7 +235,7 @@ public class ParticleSystem {
      * Efeito de neve
      */
     public void spawnSnowflake(int screenWidth, int screenHeight, int tileSize) {
-        if (particles.size() < MAX_PARTICLES) {
+        if (particles.size() < maxParticles) {
             double x = random.nextDouble() * (screenWidth / (double)tileSize + 4) - 2;
             double y = -1;
             
@@ -221,7 +243,7 @@ public class ParticleSystem {
                 x, y,
                 (random.nextDouble() - 0.5) * 0.5, // Leve movimento horizontal
                 1 + random.nextDouble(), // Cai devagar
-                Color.rgb(255, 255, 255, 0.8),
+                rgb(255, 255, 255, 0.8),
                 3 + random.nextInt(3),
                 120,
                 ParticleType.SNOW
@@ -249,7 +271,7 @@ public class ParticleSystem {
                 tileX + 0.5, tileY + 0.5,
                 Math.cos(angle) * speed,
                 Math.sin(angle) * speed,
-                Color.rgb(255, 255, 255, 0.9),
+                rgb(255, 255, 255, 0.9),
                 2 + random.nextInt(2),
                 10 + random.nextInt(10),
                 ParticleType.ATTACK
@@ -261,16 +283,25 @@ public class ParticleSystem {
         return particles.size();
     }
     
+    /**
+     * Limite de partículas de clima (as existentes morrem naturalmente)
+     */
+    public void setMaxParticles(int maxParticles) {
+        this.maxParticles = Math.max(0, Math.min(MAX_PARTICLES, maxParticles));
+    }
+    
+    public int getMaxParticles() { return maxParticles; }
+    
     // ===== CLASSES INTERNAS =====
     
     public enum ParticleType {
         HARVEST, DAMAGE, LEVELUP, RESOURCE, HEAL, RAIN, SNOW, ATTACK
     }
     
-    private class Particle {
+    public class Particle {
         double x, y;
         double vx, vy;
-        Color color;
+        int color; // 0xAARRGGBB
         double size;
         int lifetime;
         int maxLifetime;
@@ -279,7 +310,7 @@ public class ParticleSystem {
         double friction;
         
         public Particle(double x, double y, double vx, double vy, 
-                       Color color, double size, int lifetime, ParticleType type) {
+                       int color, double size, int lifetime, ParticleType type) {
             this.x = x;
             this.y = y;
             this.vx = vx;
@@ -332,65 +363,22 @@ public class ParticleSystem {
             lifetime--;
         }
         
-        public void render(GraphicsContext gc, int offsetX, int offsetY, int tileSize) {
-            double screenX = x * tileSize + offsetX;
-            double screenY = y * tileSize + offsetY;
-            
-            // Fade out
-            double alpha = (double) lifetime / maxLifetime;
-            
-            // Ajustar cor com alpha
-            Color renderColor = Color.rgb(
-                (int)(color.getRed() * 255),
-                (int)(color.getGreen() * 255),
-                (int)(color.getBlue() * 255),
-                alpha * color.getOpacity()
-            );
-            
-            gc.setFill(renderColor);
-            
-            // Forma baseada no tipo
-            switch (type) {
-                case RAIN:
-                    // Linha diagonal
-                    gc.setStroke(renderColor);
-                    gc.setLineWidth(1);
-                    gc.strokeLine(screenX, screenY, screenX + 3, screenY + 8);
-                    break;
-                case SNOW:
-                    // Flocos
-                    gc.fillOval(screenX - size/2, screenY - size/2, size, size);
-                    break;
-                case LEVELUP:
-                    // Estrelas
-                    drawStar(gc, screenX, screenY, size, renderColor);
-                    break;
-                default:
-                    // Círculos
-                    double currentSize = size * (0.5 + alpha * 0.5);
-                    gc.fillOval(screenX - currentSize/2, screenY - currentSize/2, 
-                               currentSize, currentSize);
-            }
+        public boolean isDead() {
+            return lifetime <= 0;
         }
         
-        private void drawStar(GraphicsContext gc, double cx, double cy, double size, Color color) {
-            gc.setFill(color);
-            double[] xPoints = new double[10];
-            double[] yPoints = new double[10];
-            
-            for (int i = 0; i < 10; i++) {
-                double angle = Math.PI / 2 + i * Math.PI / 5;
-                double r = (i % 2 == 0) ? size : size / 2;
-                xPoints[i] = cx + r * Math.cos(angle);
-                yPoints[i] = cy - r * Math.sin(angle);
-            }
-            
-            gc.fillPolygon(xPoints, yPoints, 10);
+        /**
+         * Fração de vida restante (1.0 = recém-criada, usada para fade out)
+         */
+        public double getLifeFraction() {
+            return (double) lifetime / maxLifetime;
         }
         
-        public boolean isDead() {
-            return lifetime <= 0;
-        }
+        public double getX() { return x; }
+        public double getY() { return y; }
+        public int getColor() { return color; }
+        public double getSize() { return size; }
+        public ParticleType getType() { return type; }
     }
 }
 
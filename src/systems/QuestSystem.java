@@ -3,6 +3,14 @@ package systems;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import utils.GameRandom;
+import items.ItemType;
+import events.EventBus;
+import events.ResourceHarvestedEvent;
+import events.CropHarvestedEvent;
+import events.EnemyKilledEvent;
+import events.MoneyEarnedEvent;
+import events.DayPassedEvent;
 
 /**
  * Sistema de missões/quests do jogo
@@ -25,7 +33,7 @@ public class QuestSystem {
         this.availableQuests = new ArrayList<>();
         this.activeQuests = new ArrayList<>();
         this.completedQuests = new ArrayList<>();
-        this.random = new Random();
+        this.random = GameRandom.newRandom("quests");
         
         initializeQuests();
     }
@@ -175,6 +183,20 @@ public class QuestSystem {
         }
     }
     
+    /**
+     * Inscreve as missões nos eventos do jogo
+     */
+    public void registerListeners(EventBus bus) {
+        bus.subscribe(ResourceHarvestedEvent.class, e -> {
+            if (e.getItem() == ItemType.WOOD) onWoodCollected(e.getQuantity());
+            else if (e.getItem() == ItemType.STONE) onStoneCollected(e.getQuantity());
+        });
+        bus.subscribe(CropHarvestedEvent.class, e -> onCropHarvested());
+        bus.subscribe(EnemyKilledEvent.class, e -> onEnemyKilled());
+        bus.subscribe(MoneyEarnedEvent.class, e -> onMoneyEarned(e.getAmount()));
+        bus.subscribe(DayPassedEvent.class, e -> onDayPassed());
+    }
+    
     /**
      * Registra eventos do jogo para atualizar missões
      */
@@ -1,6 +1,8 @@
 package systems;
 
 import java.util.Random;
+import utils.GameClock;
+import utils.GameRandom;
 
 /**
  * Sistema de clima do jogo
@@ -12,6 +14,7 @@ public class WeatherSystem {
     private double transitionProgress;
     private double intensity;
     private Random random;
+    private GameClock clock;
     
     // Temporizadores
     private long weatherDuration;
@@ -41,13 +44,14 @@ public class WeatherSystem {
         public int getParticleLevel() { return particleLevel; }
     }
     
-    public WeatherSystem() {
-        this.random = new Random();
+    public WeatherSystem(GameClock clock) {
+        this.clock = clock;
+        this.random = GameRandom.newRandom("weather");
         this.currentWeather = WeatherType.SUNNY;
         this.nextWeather = WeatherType.SUNNY;
         this.transitionProgress = 1.0;
         this.intensity = 1.0;
-        this.weatherStartTime = System.currentTimeMillis();
+        this.weatherStartTime = clock.nowMillis();
         this.weatherDuration = MIN_WEATHER_DURATION + random.nextLong() % (MAX_WEATHER_DURATION - MIN_WEATHER_DURATION);
     }
     
@@ -55,7 +59,7 @@ public class WeatherSystem {
      * Atualiza o sistema de clima
      */
     public void update() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.nowMillis();
         
         // Verificar se é hora de mudar o clima
         if (currentTime - weatherStartTime >= weatherDuration) {
@@ -81,7 +85,7 @@ public class WeatherSystem {
     public void changeWeather() {
         nextWeather = getRandomWeather();
         transitionProgress = 0.0;
-        weatherStartTime = System.currentTimeMillis();
+        weatherStartTime = clock.nowMillis();
         weatherDuration = MIN_WEATHER_DURATION + random.nextLong() % (MAX_WEATHER_DURATION - MIN_WEATHER_DURATION);
         
         System.out.println("🌤️ Clima mudando para: " + nextWeather.getName());
@@ -104,7 +108,7 @@ public class WeatherSystem {
     public void setWeather(WeatherType weather) {
         this.nextWeather = weather;
         this.transitionProgress = 0.0;
-        this.weatherStartTime = System.currentTimeMillis();
+        this.weatherStartTime = clock.nowMillis();
     }
     
     /**
@@ -0,0 +1,112 @@
+package systems;
+
+import world.Farm;
+import world.WorldSettings;
+import utils.GameRandom;
+
+/**
+ * Povoa um mundo em fluxo ao redor do jogador
+ * Cada região de 64x64 recebe as suas decorações e depois os seus NPCs e inimigos
+ * (cotas proporcionais à área) quando entra no raio de povoamento. O raio cobre a
+ * tela e o raio de simulação das entidades com folga, então nada aparece do nada.
+ *
+ * Roda como sistema do tick (nunca na renderização): a ordem de geração segue o
+ * caminho do jogador e cada região usa o gerador da sua coordenada.
+ */
+public class WorldStreamer {
+    private static final int REGION_SIZE = DecorationManager.REGION_SIZE;
+    private static final int VIEW_RADIUS = 32;          // Meia tela em tiles (1920px / 60px)
+    private static final int MAX_REGIONS_PER_TICK = 1;  // Espalha o custo quando o jogador anda
+
+    private final Farm farm;
+    private final DecorationManager decorations;
+    private final EntityManager entities;
+    private final int radius;
+    private final int npcTotal;
+    private final int enemyTotal;
+    private final int regionsX, regionsY;
+    private int generatedRegions;
+
+    public WorldStreamer(Farm farm, EntityManager entities, WorldSettings world) {
+        this.farm = farm;
+        this.decorations = farm.getDecorationManager();
+        this.entities = entities;
+        int simulated = Math.min(world.getEntityUpdateRadius(), Math.max(farm.getWidth(), farm.getHeight()));
+        this.radius = Math.max(simulated, VIEW_RADIUS) + REGION_SIZE / 2;
+        this.npcTotal = EntityManager.npcTotal(world);
+        this.enemyTotal = EntityManager.enemyTotal(world);
+        this.regionsX = (farm.getWidth() + REGION_SIZE - 1) / REGION_SIZE;
+        this.regionsY = (farm.getHeight() + REGION_SIZE - 1) / REGION_SIZE;
+    }
+
+    /**
+     * Povoa todas as regiões pendentes no raio (inicialização)
+     * @return Regiões geradas
+     */
+    public int populateAround(int x, int y) {
+        int generated = stream(x, y, Integer.MAX_VALUE);
+        System.out.println("🧭 Regiões povoadas ao redor do spawn: " + generated + " de " + regionsX * regionsY);
+        return generated;
+    }
+
+    /**
+     * Povoa as regiões pendentes mais próximas do jogador (no máximo uma por tick)
+     */
+    public void update(int playerX, int playerY) {
+        stream(playerX, playerY, MAX_REGIONS_PER_TICK);
+    }
+
+    private int stream(int x, int y, int limit) {
+        int rx0 = Math.max(0, (x - radius) / REGION_SIZE);
+        int ry0 = Math.max(0, (y - radius) / REGION_SIZE);
+        int rx1 = Math.min(regionsX - 1, (x + radius) / REGION_SIZE);
+        int ry1 = Math.min(regionsY - 1, (y + radius) / REGION_SIZE);
+
+        int generated = 0;
+        while (generated < limit) {
+            // Região pendente mais próxima (empate: ordem de linhas)
+            int bestX = -1, bestY = -1;
+            long bestDistance = Long.MAX_VALUE;
+            for (int ry = ry0; ry <= ry1; ry++) {
+                for (int rx = rx0; rx <= rx1; rx++) {
+                    if (decorations.isRegionPending(rx, ry)) {
+                        long dx = rx * REGION_SIZE + REGION_SIZE / 2 - x;
+                        long dy = ry * REGION_SIZE + REGION_SIZE / 2 - y;
+                        long distance = dx * dx + dy * dy;
+                        if (distance < bestDistance) {
+                            bestDistance = distance;
+                            bestX = rx;
+                            bestY = ry;
+                        }
+                    }
+                }
+            }
+            if (bestX < 0) {
+                break;
+            }
+            populate(bestX, bestY);
+            generated++;
+        }
+        return generated;
+    }
+
+    private void populate(int rx, int ry) {
+        int width = farm.getWidth();
+        int height = farm.getHeight();
+        decorations.generateRegion(rx, ry);
+        int x0 = rx * REGION_SIZE;
+        int y0 = ry * REGION_SIZE;
+        entities.populateRegion(x0, y0, Math.min(width, x0 + REGION_SIZE), Math.min(height, y0 + REGION_SIZE),
+                                GameRandom.forCell("entities", rx, ry),
+                                DecorationManager.regionShare(npcTotal, rx, ry, width, height),
+                                DecorationManager.regionShare(enemyTotal, rx, ry, width, height));
+        generatedRegions++;
+    }
+
+    /**
+     * Regiões já povoadas
+     */
+    public int getGeneratedRegionCount() {
+        return generatedRegions;
+    }
+}
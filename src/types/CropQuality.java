@@ -1,5 +1,7 @@
 package types;
 
+import utils.GameRandom;
+
 /**
  * Qualidade dos cultivos colhidos
  * Afeta preço de venda e aparência
@@ -34,7 +36,7 @@ public enum CropQuality {
      * @return Qualidade determinada
      */
     public static CropQuality determineQuality(double qualityBonus) {
-        double roll = Math.random();
+        double roll = GameRandom.shared("cropQuality").nextDouble();
         
         // Chances base: Normal 60%, Prata 25%, Ouro 12%, Irídio 3%
         // Bônus aumenta chance de qualidades superiores
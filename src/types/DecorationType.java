@@ -1,5 +1,7 @@
 package types;
 
+import java.util.Random;
+
 /**
  * Tipos de decorações disponíveis no jogo
  * Cada tipo define sprite, walkability e layer de renderização
@@ -95,37 +97,37 @@ public enum DecorationType {
     /**
      * Retorna uma árvore aleatória
      */
-    public static DecorationType getRandomTree() {
+    public static DecorationType getRandomTree(Random random) {
         DecorationType[] trees = {
             TREE_1, TREE_2, TREE_3,
             FRUIT_TREE_1, FRUIT_TREE_2, FRUIT_TREE_3,
             AUTUMN_TREE_1, AUTUMN_TREE_2,
             PALM_TREE_1, PALM_TREE_2
         };
-        return trees[(int)(Math.random() * trees.length)];
+        return trees[random.nextInt(trees.length)];
     }
     
     /**
      * Retorna um arbusto aleatório
      */
-    public static DecorationType getRandomBush() {
+    public static DecorationType getRandomBush(Random random) {
         DecorationType[] bushes = {
             BUSH_SIMPLE_1, BUSH_SIMPLE_2, BUSH_SIMPLE_3,
             BUSH_RED_FLOWERS, BUSH_BLUE_FLOWERS, BUSH_PINK_FLOWERS, BUSH_ORANGE_FLOWERS,
             FERN_1, FERN_2
         };
-        return bushes[(int)(Math.random() * bushes.length)];
+        return bushes[random.nextInt(bushes.length)];
     }
     
     /**
      * Retorna uma ruína aleatória
      */
-    public static DecorationType getRandomRuin() {
+    public static DecorationType getRandomRuin(Random random) {
         DecorationType[] ruins = {
             RUINS_BROWN_1, RUINS_BROWN_2, RUINS_BROWN_3,
             RUINS_SAND_1, RUINS_SAND_2
         };
-        return ruins[(int)(Math.random() * ruins.length)];
+        return ruins[random.nextInt(ruins.length)];
     }
 }
 
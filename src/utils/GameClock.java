@@ -0,0 +1,67 @@
+package utils;
+
+/**
+ * Relógio da simulação
+ * Amostrado uma vez por tick pelo GameEngine e compartilhado por todos os sistemas.
+ * O tempo é totalmente virtual: só avança quando a simulação avança, respeitando
+ * pausa e escala de tempo. Nada aqui consulta o relógio do sistema operacional.
+ */
+public class GameClock {
+    private long nowNanos;
+    private double timeScale;
+    private boolean paused;
+
+    public GameClock() {
+        this.nowNanos = 0;
+        this.timeScale = 1.0;
+        this.paused = false;
+    }
+
+    /**
+     * Avança o relógio em um tick
+     * @param dt Duração do tick em segundos (antes da escala)
+     * @return Tempo efetivamente avançado em segundos (0 se pausado)
+     */
+    public double advance(double dt) {
+        if (paused) {
+            return 0;
+        }
+        double scaled = dt * timeScale;
+        nowNanos += (long) (scaled * 1_000_000_000L);
+        return scaled;
+    }
+
+    /**
+     * Tempo virtual atual em nanossegundos desde o início da simulação
+     */
+    public long nowNanos() {
+        return nowNanos;
+    }
+
+    /**
+     * Tempo virtual atual em milissegundos desde o início da simulação
+     */
+    public long nowMillis() {
+        return nowNanos / 1_000_000L;
+    }
+
+    /**
+     * Define o tempo diretamente (testes, carregamento de save)
+     */
+    public void setTime(long nanos) {
+        this.nowNanos = nanos;
+    }
+
+    public boolean isPaused() { return paused; }
+    public void setPaused(boolean paused) { this.paused = paused; }
+    public void togglePause() { this.paused = !paused; }
+
+    public double getTimeScale() { return timeScale; }
+
+    /**
+     * Define a escala de tempo (1.0 = normal, 2.0 = dobro da velocidade)
+     */
+    public void setTimeScale(double timeScale) {
+        this.timeScale = Math.max(0.0, timeScale);
+    }
+}
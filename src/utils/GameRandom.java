@@ -0,0 +1,83 @@
+package utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Serviço de números aleatórios com semente
+ * Cada subsistema pede um fluxo pelo nome ("enemy", "weather", ...). A semente de
+ * cada fluxo é derivada da semente mestre, do nome e de um contador, então a
+ * mesma semente mestre reproduz exatamente a mesma sessão, independentemente
+ * de quantos números outros subsistemas consumiram.
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static long masterSeed = System.nanoTime();
+    private static final Map<String, Integer> streamCounters = new HashMap<>();
+    private static final Map<String, Random> sharedStreams = new HashMap<>();
+
+    /**
+     * Define a semente mestre e reinicia todos os fluxos
+     * Deve ser chamado antes de criar o mundo e os sistemas
+     */
+    public static synchronized void setSeed(long seed) {
+        masterSeed = seed;
+        streamCounters.clear();
+        sharedStreams.clear();
+    }
+
+    public static synchronized long getSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Cria um novo gerador para um fluxo
+     * Chamadas sucessivas com o mesmo nome (ex: um por inimigo) recebem sementes distintas
+     */
+    public static synchronized Random newRandom(String stream) {
+        int index = streamCounters.merge(stream, 1, Integer::sum) - 1;
+        return new Random(deriveSeed(stream, index));
+    }
+
+    /**
+     * Gerador compartilhado de um fluxo (substitui Math.random em código estático)
+     */
+    public static synchronized Random shared(String stream) {
+        Random random = sharedStreams.get(stream);
+        if (random == null) {
+            random = new Random(deriveSeed(stream, -1));
+            sharedStreams.put(stream, random);
+        }
+        return random;
+    }
+
+    /**
+     * Gerador de uma célula do mapa (ex: região de decorações)
+     * Só depende da semente mestre, do fluxo e da coordenada, então as células podem
+     * ser geradas em qualquer ordem ou sob demanda com o mesmo resultado.
+     */
+    public static synchronized Random forCell(String stream, int cellX, int cellY) {
+        long h = deriveSeed(stream, -2);
+        h = mix(h + GOLDEN_GAMMA * (cellX + 1L));
+        h = mix(h + GOLDEN_GAMMA * (cellY + 1L));
+        return new Random(h);
+    }
+
+    private static long deriveSeed(String stream, int index) {
+        long h = masterSeed;
+        h = mix(h + GOLDEN_GAMMA * (stream.hashCode() + 1L));
+        h = mix(h + GOLDEN_GAMMA * (index + 2L));
+        return h;
+    }
+
+    /**
+     * Finalizador do SplitMix64
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
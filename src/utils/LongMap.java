@@ -0,0 +1,144 @@
+package utils;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de chave long para objeto, sem boxing
+ * Endereçamento aberto com sondagem linear; pensado para coordenadas empacotadas
+ * (ver key(x, y)) consultadas a cada tick, onde um HashMap<Long, V> criaria lixo.
+ */
+public class LongMap<V> {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values; // null = slot livre
+    private int mask;
+    private int size;
+
+    public LongMap() {
+        this(16);
+    }
+
+    public LongMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Empacota uma coordenada de tile numa chave
+     */
+    public static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int indexOf(long key) {
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int i = indexOf(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Associa o valor à chave
+     * @return Valor anterior ou null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("LongMap não aceita valores nulos");
+        }
+        int i = hash(key) & mask;
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V old = (V) values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > values.length * LOAD_FACTOR) {
+            resize(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Remove a chave
+     * @return Valor removido ou null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        V old = (V) values[i];
+        values[i] = null;
+        size--;
+
+        // Reposiciona os seguintes do mesmo agrupamento para não quebrar a sondagem
+        int j = (i + 1) & mask;
+        while (values[j] != null) {
+            int home = hash(keys[j]) & mask;
+            // Move se o slot vago estiver entre a posição ideal e a atual (ciclicamente)
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                values[j] = null;
+                i = j;
+            }
+            j = (j + 1) & mask;
+        }
+        return old;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int j = hash(oldKeys[i]) & mask;
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -1,44 +1,87 @@
 package utils;
 
 import javafx.scene.image.Image;
+import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import diagnostics.SpriteLoadEvent;
 
 public class SpriteLoader {
     private static final String SPRITES_FOLDER = "assets/sprites/";
     private static Map<String, Image> spriteCache = new HashMap<>();
+    private static long cacheHits;
+    private static long cacheMisses;
     
-    // Carregar sprite do arquivo
+    // Carregar sprite do arquivo (sprites ausentes também ficam em cache, como null)
     public static Image loadSprite(String filename) {
         // Verificar se já está em cache
         if (spriteCache.containsKey(filename)) {
+            cacheHits++;
             return spriteCache.get(filename);
         }
+        cacheMisses++;
         
-        try {
+        SpriteLoadEvent event = new SpriteLoadEvent();
+        event.begin();
+        event.sprite = filename;
+        try (FileInputStream in = new FileInputStream(SPRITES_FOLDER + filename)) {
             // Tentar carregar do arquivo
-            Image image = new Image(new FileInputStream(SPRITES_FOLDER + filename));
+            Image image = new Image(in);
             spriteCache.put(filename, image);
+            event.found = true;
             return image;
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             // Sprite não encontrado - usando fallback silenciosamente
+            spriteCache.put(filename, null);
+            event.found = false;
             return null;
+        } finally {
+            event.commit();
+        }
+    }
+    
+    /**
+     * Carrega todos os sprites da pasta para o cache (estágio "sprites" da inicialização)
+     * Evita travadas nos primeiros frames, quando cada sprite seria lido do disco na hora.
+     * @return Quantidade de sprites carregados
+     */
+    public static int preloadAll() {
+        Path root = Paths.get(SPRITES_FOLDER);
+        if (!Files.isDirectory(root)) {
+            return 0;
         }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(p -> p.toString().endsWith(".png")).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            System.out.println("⚠️ Não foi possível listar os sprites: " + e.getMessage());
+            return 0;
+        }
+        int loaded = 0;
+        for (Path file : files) {
+            String name = root.relativize(file).toString().replace('\\', '/');
+            if (loadSprite(name) != null) {
+                loaded++;
+            }
+        }
+        return loaded;
     }
     
     // Verificar se sprite existe
     public static boolean spriteExists(String filename) {
         if (spriteCache.containsKey(filename)) {
-            return true;
-        }
-        try {
-            new FileInputStream(SPRITES_FOLDER + filename);
-            return true;
-        } catch (FileNotFoundException e) {
-            return false;
+            return spriteCache.get(filename) != null;
         }
+        return new File(SPRITES_FOLDER + filename).isFile();
     }
     
     // Limpar cache (útil para recarregar sprites)
@@ -46,6 +89,16 @@ public class SpriteLoader {
         spriteCache.clear();
     }
     
+    // Estatísticas do cache (monitoramento)
+    public static int getCacheSize() { return spriteCache.size(); }
+    public static long getCacheHits() { return cacheHits; }
+    public static long getCacheMisses() { return cacheMisses; }
+    
+    public static double getHitRate() {
+        long total = cacheHits + cacheMisses;
+        return total == 0 ? 0 : (double) cacheHits / total;
+    }
+    
     // ===== MÉTODOS AUXILIARES PARA SPRITES DE PERSONAGENS =====
     
     /**
@@ -0,0 +1,187 @@
+package utils;
+
+/**
+ * Agendador de timers em roda hierárquica (hierarchical hashed timing wheel)
+ *
+ * Em vez de cada entidade perguntar a cada tick "já deu a minha hora?", ela agenda
+ * o próximo evento e a roda só visita os timers que venceram. O custo por tick
+ * depende dos eventos devidos, não do total de timers agendados.
+ *
+ * Tempo em milissegundos do GameClock. O nível 0 tem 64 slots de 16ms (~1 tick);
+ * cada nível acima cobre 64 slots do nível de baixo (~1s, ~65s, ~70min, ~74h).
+ * Timers mais distantes descem de nível ("cascata") conforme o tempo passa.
+ * Um timer dispara no primeiro advanceTo() com tempo >= prazo, nunca antes.
+ *
+ * Não é thread-safe: agendar, cancelar e avançar na thread da simulação.
+ */
+public class TimerWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int RESOLUTION_SHIFT = 4;                        // Slots de 16ms
+    private static final long MAX_DELTA = (1L << (LEVELS * SLOT_BITS)) - 1; // Em slots do nível 0
+
+    /**
+     * Timer reutilizável (normalmente um por entidade, reagendado a cada disparo)
+     */
+    public static final class Timer {
+        private final Runnable task;
+        private long deadline;
+        private Timer prev, next;
+
+        public Timer(Runnable task) {
+            this.task = task;
+        }
+
+        public boolean isScheduled() { return next != null; }
+        public long getDeadline() { return deadline; }
+    }
+
+    private final Timer[][] wheels; // Sentinelas das listas circulares de cada slot
+    private final Timer pending;    // Timers retirados de um slot, esperando para serem reinseridos
+    private long currentSlot;       // Slot do nível 0 correspondente ao último advanceTo()
+    private int size;
+
+    public TimerWheel(long startMillis) {
+        this.wheels = new Timer[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheels[level][i] = sentinel();
+            }
+        }
+        this.pending = sentinel();
+        this.currentSlot = startMillis >> RESOLUTION_SHIFT;
+    }
+
+    private static Timer sentinel() {
+        Timer head = new Timer(null);
+        head.prev = head;
+        head.next = head;
+        return head;
+    }
+
+    /**
+     * Agenda (ou reagenda) um timer para um instante absoluto
+     * @param deadlineMillis Tempo do GameClock em que o timer vence
+     */
+    public void schedule(Timer timer, long deadlineMillis) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            size--;
+        }
+        timer.deadline = deadlineMillis;
+        insert(timer);
+        size++;
+    }
+
+    /**
+     * Cancela um timer agendado (sem efeito se não estiver agendado)
+     */
+    public void cancel(Timer timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    /**
+     * Avança a roda até o instante informado, disparando os timers vencidos
+     * As tarefas podem agendar e cancelar timers (inclusive o próprio).
+     */
+    public void advanceTo(long nowMillis) {
+        long target = nowMillis >> RESOLUTION_SHIFT;
+        if (size == 0) {
+            currentSlot = Math.max(currentSlot, target);
+            return;
+        }
+        while (true) {
+            fireSlot(wheels[0][(int) (currentSlot & SLOT_MASK)], nowMillis);
+            if (currentSlot >= target) {
+                break;
+            }
+            currentSlot++;
+            if ((currentSlot & SLOT_MASK) == 0) {
+                cascade();
+            }
+        }
+    }
+
+    /**
+     * Ao entrar num novo bloco, redistribui o slot correspondente dos níveis de cima
+     * Só roda na virada do bloco (bits de baixo de currentSlot zerados): o slot do nível L
+     * guarda timers de até 64 blocos à frente, e os do bloco seguinte ao atual caem no mesmo
+     * índice até a roda dar a volta. Redistribuir fora da virada os devolveria ao mesmo slot.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ((currentSlot >> (level * SLOT_BITS)) & SLOT_MASK);
+            Timer head = wheels[level][index];
+            // Esvaziar o slot antes de reinserir (como em fireSlot)
+            while (head.next != head) {
+                Timer timer = head.next;
+                unlink(timer);
+                link(pending, timer);
+            }
+            while (pending.next != pending) {
+                Timer timer = pending.next;
+                unlink(timer);
+                insert(timer);
+            }
+            if (index != 0) {
+                break; // O nível de cima só vira quando este dá a volta
+            }
+        }
+    }
+
+    private void fireSlot(Timer head, long nowMillis) {
+        while (head.next != head) {
+            Timer timer = head.next;
+            unlink(timer);
+            if (timer.deadline <= nowMillis) {
+                size--;
+                timer.task.run();
+            } else {
+                link(pending, timer); // Mesmo slot, mas alguns milissegundos à frente
+            }
+        }
+        while (pending.next != pending) {
+            Timer timer = pending.next;
+            unlink(timer);
+            insert(timer);
+        }
+    }
+
+    private void insert(Timer timer) {
+        long slot = Math.max(timer.deadline >> RESOLUTION_SHIFT, currentSlot);
+        long delta = Math.min(slot - currentSlot, MAX_DELTA);
+        slot = currentSlot + delta; // Prazos além do último nível voltam a subir na cascata
+        int level = 0;
+        while (delta >= 1L << ((level + 1) * SLOT_BITS)) {
+            level++;
+        }
+        int index = (int) ((slot >> (level * SLOT_BITS)) & SLOT_MASK);
+        link(wheels[level][index], timer);
+    }
+
+    private static void link(Timer head, Timer timer) {
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+    }
+
+    private static void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * Quantidade de timers agendados
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -1,53 +1,122 @@
 package world;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import entities.Crop;
+import items.ItemType;
+import items.ResourceType;
 import types.CropType;
 
 /**
  * Representa um chunk (pedaço) do mapa
  * Chunks permitem carregar/descarregar partes do mapa sob demanda
  * Tamanho padrão: 32x32 tiles
+ *
+ * Armazenamento em arrays primitivos (um byte por tile para o tipo) em vez de um objeto
+ * Tile por posição: recursos só existem em chunks com pedra e plantações ficam numa
+ * tabela esparsa. Tile é apenas uma visão (chunk + índice) sobre estes arrays.
  */
 public class Chunk {
     private static final int CHUNK_SIZE = 32;
-    
-    private Tile[][] tiles;
-    private int chunkX; // Posição do chunk no mapa global
-    private int chunkY;
+    private static final int AREA = CHUNK_SIZE * CHUNK_SIZE;
+    private static final int STONE_HEALTH = 3;
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+    private static final CropType[] CROP_TYPES = CropType.values();
+    private static final int HEADER_BYTES = 4;  // Flag de recursos, reservado, quantidade de plantações
+    private static final int CROP_BYTES = 5;    // Índice (short), tipo (byte), dias de crescimento (short)
+
+    /**
+     * Tipo do terreno em cada posição do mundo
+     */
+    public interface TerrainSource {
+        TileType typeAt(int worldX, int worldY);
+    }
+
+    // Índice local = x + y * CHUNK_SIZE (linhas contíguas, na ordem em que o mapa é percorrido)
+    private final byte[] types;
+    private final byte[] resources;      // Ordinal de ResourceType + 1 (0 = sem recurso); null se o chunk não tem nenhum
+    private final byte[] resourceHealth; // Recurso esgotado quando chega a 0
+
+    // Plantações (poucas por chunk): índices locais e plantas em paralelo
+    private short[] cropCells;
+    private Crop[] crops;
+    private int cropCount;
+    private boolean modified; // Diferente do terreno gerado (ou do que foi lido do disco)
+
+    private final int chunkX; // Posição do chunk no mapa global
+    private final int chunkY;
     private boolean isLoaded;
-    
-    public Chunk(int chunkX, int chunkY) {
-        this.chunkX = chunkX;
-        this.chunkY = chunkY;
-        this.tiles = new Tile[CHUNK_SIZE][CHUNK_SIZE];
-        this.isLoaded = false;
+
+    // Vizinhos já criados (ligados pelo ChunkDirectory; null = ainda não existe)
+    private volatile Chunk north, south, west, east;
+
+    /**
+     * Cria o chunk com tiles padrão
+     */
+    public Chunk(int chunkX, int chunkY, TileType defaultType) {
+        this(chunkX, chunkY, (worldX, worldY) -> defaultType);
     }
-    
+
     /**
-     * Inicializa o chunk com tiles padrão
+     * Cria o chunk consultando o terreno tile a tile
+     * O resultado não depende de qual tile do chunk foi acessado primeiro. Os arrays são
+     * preenchidos aqui e guardados em campos final, então outra thread que veja a referência
+     * do chunk vê o terreno completo.
      */
-    public void initialize(TileType defaultType) {
-        for (int x = 0; x < CHUNK_SIZE; x++) {
-            for (int y = 0; y < CHUNK_SIZE; y++) {
-                int worldX = chunkX * CHUNK_SIZE + x;
-                int worldY = chunkY * CHUNK_SIZE + y;
-                tiles[x][y] = new Tile(worldX, worldY, defaultType);
+    public Chunk(int chunkX, int chunkY, TerrainSource terrain) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+
+        byte[] types = new byte[AREA];
+        byte[] resources = null;
+        byte[] resourceHealth = null;
+        int baseX = chunkX * CHUNK_SIZE;
+        int baseY = chunkY * CHUNK_SIZE;
+        for (int y = 0; y < CHUNK_SIZE; y++) {
+            for (int x = 0; x < CHUNK_SIZE; x++) {
+                int index = x + y * CHUNK_SIZE;
+                TileType type = terrain.typeAt(baseX + x, baseY + y);
+                types[index] = (byte) type.ordinal();
+                // Tiles de pedra têm recursos
+                if (type == TileType.STONE) {
+                    if (resources == null) {
+                        resources = new byte[AREA];
+                        resourceHealth = new byte[AREA];
+                    }
+                    resources[index] = (byte) (ResourceType.STONE_COMMON.ordinal() + 1);
+                    resourceHealth[index] = STONE_HEALTH;
+                }
             }
         }
-        isLoaded = true;
+        this.types = types;
+        this.resources = resources;
+        this.resourceHealth = resourceHealth;
+        this.isLoaded = true;
+    }
+
+    private Chunk(int chunkX, int chunkY, byte[] types, byte[] resources, byte[] resourceHealth) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+        this.types = types;
+        this.resources = resources;
+        this.resourceHealth = resourceHealth;
+        this.isLoaded = true;
     }
-    
+
     /**
      * Obtém um tile local dentro do chunk
      */
     public Tile getLocalTile(int localX, int localY) {
-        if (localX >= 0 && localX < CHUNK_SIZE && 
+        if (localX >= 0 && localX < CHUNK_SIZE &&
             localY >= 0 && localY < CHUNK_SIZE) {
-            return tiles[localX][localY];
+            return new Tile(this, localX + localY * CHUNK_SIZE,
+                            chunkX * CHUNK_SIZE + localX, chunkY * CHUNK_SIZE + localY);
         }
         return null;
     }
-    
+
     /**
      * Converte coordenadas do mundo para coordenadas locais do chunk
      */
@@ -56,7 +125,243 @@ public class Chunk {
         int localY = worldY - (chunkY * CHUNK_SIZE);
         return getLocalTile(localX, localY);
     }
-    
+
+    /**
+     * Tipo do tile em coordenadas do mundo (sem criar a visão Tile)
+     */
+    public TileType getWorldType(int worldX, int worldY) {
+        return TILE_TYPES[types[indexOf(worldX, worldY)]];
+    }
+
+    private int indexOf(int worldX, int worldY) {
+        return (worldX - chunkX * CHUNK_SIZE) + (worldY - chunkY * CHUNK_SIZE) * CHUNK_SIZE;
+    }
+
+    // ===== ACESSO POR ÍNDICE (usado por Tile) =====
+
+    TileType getType(int index) {
+        return TILE_TYPES[types[index]];
+    }
+
+    void setType(int index, TileType type) {
+        types[index] = (byte) type.ordinal();
+        modified = true;
+    }
+
+    ResourceType getResource(int index) {
+        int resource = resources != null ? resources[index] : 0;
+        return resource == 0 ? null : RESOURCES[resource - 1];
+    }
+
+    int getResourceHealth(int index) {
+        return resourceHealth != null ? resourceHealth[index] : 0;
+    }
+
+    boolean hasResource(int index) {
+        return resources != null && resources[index] != 0 && resourceHealth[index] > 0;
+    }
+
+    /**
+     * Tenta coletar o recurso do tile
+     * @return ResourceType se coletou com sucesso, null caso contrário
+     */
+    ResourceType harvestResource(int index, ItemType tool) {
+        if (!hasResource(index)) {
+            return null;
+        }
+
+        // Verificar ferramenta correta
+        ResourceType resource = RESOURCES[resources[index] - 1];
+        if (resource.requiresTool() && tool != resource.getRequiredTool()) {
+            return null;
+        }
+
+        // Diminuir saúde; se chegou a 0, o recurso fica esgotado
+        resourceHealth[index]--;
+        modified = true;
+        if (resourceHealth[index] <= 0 && types[index] == TileType.STONE.ordinal()) {
+            types[index] = (byte) TileType.GRASS.ordinal(); // Pedra vira grama quando quebrada
+        }
+
+        return resource;
+    }
+
+    // ===== PLANTAÇÕES =====
+
+    Crop getCrop(int index) {
+        for (int i = 0; i < cropCount; i++) {
+            if (cropCells[i] == index) {
+                return crops[i];
+            }
+        }
+        return null;
+    }
+
+    void plantCrop(int index, CropType cropType) {
+        if (types[index] != TileType.DIRT.ordinal() || getCrop(index) != null) {
+            return;
+        }
+        if (crops == null) {
+            cropCells = new short[4];
+            crops = new Crop[4];
+        } else if (cropCount == crops.length) {
+            cropCells = Arrays.copyOf(cropCells, cropCount * 2);
+            crops = Arrays.copyOf(crops, cropCount * 2);
+        }
+        cropCells[cropCount] = (short) index;
+        crops[cropCount] = new Crop(cropType);
+        cropCount++;
+        types[index] = (byte) TileType.PLANTED.ordinal();
+        modified = true;
+    }
+
+    Crop harvestCrop(int index) {
+        for (int i = 0; i < cropCount; i++) {
+            if (cropCells[i] == index) {
+                Crop harvested = crops[i];
+                if (!harvested.isFullyGrown()) {
+                    return null;
+                }
+                // Remover trocando pelo último
+                cropCount--;
+                cropCells[i] = cropCells[cropCount];
+                crops[i] = crops[cropCount];
+                crops[cropCount] = null;
+                types[index] = (byte) TileType.DIRT.ordinal();
+                modified = true;
+                return harvested;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cresce todas as plantações do chunk (só percorre a tabela esparsa)
+     */
+    public void growCrops() {
+        for (int i = 0; i < cropCount; i++) {
+            crops[i].grow();
+        }
+        if (cropCount > 0) {
+            modified = true;
+        }
+    }
+
+    public int getCropCount() {
+        return cropCount;
+    }
+
+    /**
+     * O chunk mudou desde que foi gerado ou lido do disco (precisa ser gravado antes de sair da memória)
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    // ===== SERIALIZAÇÃO (RegionStore) =====
+
+    /**
+     * Bytes ocupados por serialize()
+     */
+    int serializedSize() {
+        return HEADER_BYTES + AREA * (resources != null ? 3 : 1) + cropCount * CROP_BYTES;
+    }
+
+    /**
+     * Grava o chunk no buffer a partir da posição absoluta offset
+     * O espaço (serializedSize()) precisa ter sido conferido pelo chamador.
+     */
+    void serialize(ByteBuffer buffer, int offset) {
+        buffer.put(offset, (byte) (resources != null ? 1 : 0));
+        buffer.putShort(offset + 2, (short) cropCount);
+        int position = offset + HEADER_BYTES;
+        buffer.put(position, types);
+        position += AREA;
+        if (resources != null) {
+            buffer.put(position, resources);
+            buffer.put(position + AREA, resourceHealth);
+            position += AREA * 2;
+        }
+        for (int i = 0; i < cropCount; i++, position += CROP_BYTES) {
+            buffer.putShort(position, cropCells[i]);
+            buffer.put(position + 2, (byte) crops[i].getType().ordinal());
+            buffer.putShort(position + 3, (short) crops[i].getDaysGrown());
+        }
+        modified = false;
+    }
+
+    /**
+     * Lê um chunk gravado por serialize()
+     */
+    static Chunk deserialize(int chunkX, int chunkY, ByteBuffer buffer, int offset) {
+        boolean hasResources = buffer.get(offset) != 0;
+        int crops = buffer.getShort(offset + 2);
+        int position = offset + HEADER_BYTES;
+        byte[] types = new byte[AREA];
+        buffer.get(position, types);
+        position += AREA;
+        byte[] resources = null;
+        byte[] resourceHealth = null;
+        if (hasResources) {
+            resources = new byte[AREA];
+            resourceHealth = new byte[AREA];
+            buffer.get(position, resources);
+            buffer.get(position + AREA, resourceHealth);
+            position += AREA * 2;
+        }
+        Chunk chunk = new Chunk(chunkX, chunkY, types, resources, resourceHealth);
+        if (crops > 0) {
+            chunk.cropCells = new short[crops];
+            chunk.crops = new Crop[crops];
+            for (int i = 0; i < crops; i++, position += CROP_BYTES) {
+                chunk.cropCells[i] = buffer.getShort(position);
+                chunk.crops[i] = new Crop(CROP_TYPES[buffer.get(position + 2)], buffer.getShort(position + 3));
+            }
+            chunk.cropCount = crops;
+        }
+        return chunk;
+    }
+
+    // ===== VIZINHOS =====
+
+    /**
+     * Liga este chunk aos vizinhos e os vizinhos a ele (qualquer um pode ser null)
+     */
+    void link(Chunk north, Chunk south, Chunk west, Chunk east) {
+        this.north = north;
+        this.south = south;
+        this.west = west;
+        this.east = east;
+        if (north != null) north.south = this;
+        if (south != null) south.north = this;
+        if (west != null) west.east = this;
+        if (east != null) east.west = this;
+    }
+
+    /**
+     * Desliga o chunk dos vizinhos (antes de sair do diretório)
+     */
+    void unlink() {
+        if (north != null) north.south = null;
+        if (south != null) south.north = null;
+        if (west != null) west.east = null;
+        if (east != null) east.west = null;
+        north = south = west = east = null;
+    }
+
+    /**
+     * Vizinho imediato na direção (dx, dy), ou null se não é adjacente ou ainda não existe
+     */
+    public Chunk getNeighbor(int dx, int dy) {
+        if (dy == 0) {
+            return dx == 1 ? east : dx == -1 ? west : null;
+        }
+        if (dx == 0) {
+            return dy == 1 ? south : dy == -1 ? north : null;
+        }
+        return null;
+    }
+
     /**
      * Verifica se uma coordenada do mundo está neste chunk
      */
@@ -66,21 +371,22 @@ public class Chunk {
         return worldX >= chunkWorldX && worldX < chunkWorldX + CHUNK_SIZE &&
                worldY >= chunkWorldY && worldY < chunkWorldY + CHUNK_SIZE;
     }
-    
+
     public boolean isLoaded() {
         return isLoaded;
     }
-    
+
+    /**
+     * Marca o chunk como fora do diretório (gravado em disco ou descartado)
+     */
     public void unload() {
-        // Liberar memória se necessário
-        // Por enquanto, manter tiles mas marcar como não carregado
         isLoaded = false;
     }
-    
+
     public int getChunkX() { return chunkX; }
     public int getChunkY() { return chunkY; }
     public static int getChunkSize() { return CHUNK_SIZE; }
-    
+
     /**
      * Obtém coordenada do chunk a partir de coordenadas do mundo
      */
@@ -88,6 +394,3 @@ public class Chunk {
         return worldCoord < 0 ? (worldCoord / CHUNK_SIZE) - 1 : worldCoord / CHUNK_SIZE;
     }
 }
-
-
-
@@ -0,0 +1,147 @@
+package world;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Diretório dos chunks de um mapa limitado
+ *
+ * Um array plano com uma posição por chunk (chunkX + chunkY * chunksX), criado sob demanda.
+ * A consulta não aloca nada: primeiro o último chunk acessado, depois os vizinhos ligados a
+ * ele (quem anda pelo mapa quase sempre cai em um dos dois) e só então o array.
+ * Regiões de decoração criam chunks em paralelo, então a criação é por compareAndSet. O
+ * último chunk acessado é um campo comum: o terreno do Chunk é final, então mesmo uma
+ * leitura desatualizada de outra thread devolve um chunk válido e completo.
+ */
+public class ChunkDirectory {
+
+    /**
+     * Cria e inicializa o chunk de uma posição (pode ser chamada em paralelo)
+     */
+    public interface ChunkFactory {
+        Chunk create(int chunkX, int chunkY);
+    }
+
+    private final AtomicReferenceArray<Chunk> chunks;
+    private final int chunksX;
+    private final int chunksY;
+    private final ChunkFactory factory;
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private Chunk last; // Último chunk acessado (dica; qualquer valor visto é um chunk válido)
+
+    public ChunkDirectory(int width, int height, ChunkFactory factory) {
+        int chunkSize = Chunk.getChunkSize();
+        this.chunksX = (width + chunkSize - 1) / chunkSize;
+        this.chunksY = (height + chunkSize - 1) / chunkSize;
+        this.chunks = new AtomicReferenceArray<>(chunksX * chunksY);
+        this.factory = factory;
+    }
+
+    /**
+     * Chunk que contém a posição do mundo (criado se ainda não existe)
+     * A posição precisa estar dentro do mapa.
+     */
+    public Chunk get(int worldX, int worldY) {
+        int chunkX = Chunk.worldToChunkCoord(worldX);
+        int chunkY = Chunk.worldToChunkCoord(worldY);
+
+        Chunk cached = last;
+        if (cached != null) {
+            int dx = chunkX - cached.getChunkX();
+            int dy = chunkY - cached.getChunkY();
+            if (dx == 0 && dy == 0) {
+                return cached;
+            }
+            Chunk neighbor = cached.getNeighbor(dx, dy);
+            if (neighbor != null) {
+                last = neighbor;
+                return neighbor;
+            }
+        }
+
+        int index = chunkX + chunkY * chunksX;
+        Chunk chunk = chunks.get(index);
+        if (chunk == null) {
+            chunk = create(index, chunkX, chunkY);
+        }
+        last = chunk;
+        return chunk;
+    }
+
+    private Chunk create(int index, int chunkX, int chunkY) {
+        Chunk chunk = factory.create(chunkX, chunkY);
+        if (!chunks.compareAndSet(index, null, chunk)) {
+            return chunks.get(index); // Outra thread criou o mesmo chunk
+        }
+        loadedCount.incrementAndGet();
+        link(chunk);
+        return chunk;
+    }
+
+    /**
+     * Liga o chunk novo aos vizinhos já criados (nos dois sentidos)
+     */
+    private synchronized void link(Chunk chunk) {
+        int chunkX = chunk.getChunkX();
+        int chunkY = chunk.getChunkY();
+        chunk.link(getLoaded(chunkX, chunkY - 1), getLoaded(chunkX, chunkY + 1),
+                   getLoaded(chunkX - 1, chunkY), getLoaded(chunkX + 1, chunkY));
+    }
+
+    /**
+     * Chunk já criado nas coordenadas de chunk, ou null (não cria)
+     */
+    public Chunk getLoaded(int chunkX, int chunkY) {
+        if (chunkX < 0 || chunkX >= chunksX || chunkY < 0 || chunkY >= chunksY) {
+            return null;
+        }
+        return chunks.get(chunkX + chunkY * chunksX);
+    }
+
+    /**
+     * Tira o chunk do diretório (o próximo acesso à posição cria ou recarrega outro)
+     * Só pode ser chamado pela thread dona do mundo, fora de consultas em paralelo.
+     */
+    public void remove(Chunk chunk) {
+        int index = chunk.getChunkX() + chunk.getChunkY() * chunksX;
+        if (!chunks.compareAndSet(index, chunk, null)) {
+            return;
+        }
+        loadedCount.decrementAndGet();
+        synchronized (this) {
+            chunk.unlink();
+        }
+        if (last == chunk) {
+            last = null;
+        }
+        chunk.unload();
+    }
+
+    /**
+     * Chunk na posição do array (índice = chunkX + chunkY * chunksX), ou null
+     */
+    public Chunk getAt(int index) {
+        return chunks.get(index);
+    }
+
+    public int getCapacity() {
+        return chunks.length();
+    }
+
+    /**
+     * Percorre os chunks já criados, em ordem de linha
+     */
+    public void forEachLoaded(Consumer<Chunk> action) {
+        for (int i = 0; i < chunks.length(); i++) {
+            Chunk chunk = chunks.get(i);
+            if (chunk != null) {
+                action.accept(chunk);
+            }
+        }
+    }
+
+    public int getLoadedCount() { return loadedCount.get(); }
+    public int getChunksX() { return chunksX; }
+    public int getChunksY() { return chunksY; }
+}
@@ -3,80 +3,56 @@ package world;
 import systems.DecorationManager;
 import entities.Crop;
 import types.CropType;
+import diagnostics.ChunkCreatedEvent;
+import utils.GameRandom;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 public class Farm {
-    // Opção 1: Array simples (para mapas pequenos/médios < 200x200)
-    private Tile[][] tiles;
+    public static final int UNLIMITED_CHUNKS = 0;
+    private static final int KEEP_RADIUS = 4; // Chunks ao redor do jogador que nunca saem da memória (128 tiles)
     
-    // Opção 2: Sistema de chunks (para mapas grandes)
-    private Map<String, Chunk> chunks;
-    private boolean useChunks;
+    // Chunks de 32x32 criados sob demanda, em qualquer tamanho de mapa
+    private ChunkDirectory chunks;
+    
+    // Chunks fora da memória (mundos com orçamento de chunks residentes)
+    private RegionStore regionStore;
+    private int residentChunkBudget;
+    private long[] evictionOrder; // Distância² << 32 | índice no diretório
+    private int evictedChunks;
+    private int cropDay; // Dias de crescimento já aplicados (growAllCrops)
     
     private int width;
     private int height;
     private DecorationManager decorationManager;
+    private WorldGenerator generator; // Terreno de cada chunk, gerado no primeiro acesso
 
     public Farm(int width, int height) {
-        this.width = width;
-        this.height = height;
-        this.decorationManager = new DecorationManager();
-        
-        // Usar chunks apenas se o mapa for muito grande
-        this.useChunks = (width * height) > 10000; // 100x100 ou maior
-        
-        if (useChunks) {
-            this.chunks = new HashMap<>();
-            System.out.println("🗺️  Usando sistema de chunks para mapa grande (" + width + "x" + height + ")");
-        } else {
-            this.tiles = new Tile[width][height];
-        }
-        
-        initializeFarm();
-        
-        // Gerar decorações após criar o mapa
-        decorationManager.generateDecorations(this);
+        this(new WorldSettings(width, height));
+    }
+    
+    public Farm(WorldSettings settings) {
+        this(settings, true);
     }
     
     /**
-     * Versão otimizada: cria tiles sob demanda para mapas grandes
+     * @param generateDecorations false = só o terreno; o chamador gera as decorações depois
+     *                            (inicialização em estágios do GameEngine)
      */
-    private void initializeFarmOptimized() {
-        // Para mapas grandes, não inicializar todos os tiles de uma vez
-        // Apenas inicializar chunks quando necessário
-        int chunkSize = Chunk.getChunkSize();
-        int chunksX = (width + chunkSize - 1) / chunkSize;
-        int chunksY = (height + chunkSize - 1) / chunkSize;
+    public Farm(WorldSettings settings, boolean generateDecorations) {
+        this.width = settings.getWidth();
+        this.height = settings.getHeight();
+        this.decorationManager = new DecorationManager();
+        this.generator = new WorldGenerator(GameRandom.getSeed());
+        this.chunks = new ChunkDirectory(width, height, this::createChunk);
+        this.regionStore = new RegionStore(chunks.getChunksX(), chunks.getChunksY());
+        setResidentChunkBudget(settings.getResidentChunkBudget());
         
-        System.out.println("📦 Mapa dividido em " + chunksX + "x" + chunksY + " chunks");
-    }
-
-    private void initializeFarm() {
-        if (useChunks) {
-            // Para mapas grandes, inicializar chunks sob demanda
-            initializeFarmOptimized();
-            // Chunks serão criados quando necessário
-            return;
-        }
+        System.out.println("📦 Mapa dividido em " + chunks.getChunksX() + "x" + chunks.getChunksY() + " chunks");
         
-        // Mapa pequeno: inicializar tudo de uma vez
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                // Borda de água
-                if (x == 0 || y == 0 || x == width - 1 || y == height - 1) {
-                    tiles[x][y] = new Tile(x, y, TileType.WATER);
-                }
-                // Alguns obstáculos (pedras)
-                else if ((x == 5 && y == 5) || (x == 10 && y == 8)) {
-                    tiles[x][y] = new Tile(x, y, TileType.STONE);
-                }
-                // Resto é grama
-                else {
-                    tiles[x][y] = new Tile(x, y, TileType.GRASS);
-                }
-            }
+        // Gerar decorações após criar o mapa
+        if (generateDecorations) {
+            decorationManager.generateDecorations(this, settings);
         }
     }
 
@@ -85,59 +61,53 @@ public class Farm {
             return null;
         }
         
-        if (useChunks) {
-            // Sistema de chunks: carregar chunk se necessário
-            return getTileFromChunk(x, y);
-        } else {
-            // Sistema simples: array direto
-            return tiles[x][y];
-        }
+        return chunks.get(x, y).getWorldTile(x, y);
     }
     
     /**
-     * Obtém tile usando sistema de chunks (carregamento sob demanda)
+     * Tipo do tile na posição, sem criar a visão Tile (caminhos quentes e varreduras)
+     * @return null fora do mapa
      */
-    private Tile getTileFromChunk(int x, int y) {
-        int chunkX = Chunk.worldToChunkCoord(x);
-        int chunkY = Chunk.worldToChunkCoord(y);
-        String chunkKey = chunkX + "," + chunkY;
-        
-        Chunk chunk = chunks.get(chunkKey);
-        if (chunk == null) {
-            // Criar chunk sob demanda
-            chunk = new Chunk(chunkX, chunkY);
-            
-            // Inicializar chunk com tipo padrão baseado na posição
-            TileType defaultType = determineTileType(x, y);
-            chunk.initialize(defaultType);
-            
-            chunks.put(chunkKey, chunk);
+    public TileType getTileType(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return null;
         }
-        
-        return chunk.getWorldTile(x, y);
+        return chunks.get(x, y).getWorldType(x, y);
     }
     
     /**
-     * Determina o tipo de tile baseado na posição (para geração procedura)
+     * Cria um chunk na primeira vez que um tile dele é acessado (terreno do WorldGenerator)
+     * Chunks que saíram da memória modificados voltam do arquivo de região.
      */
-    private TileType determineTileType(int x, int y) {
-        // Borda de água
-        if (x == 0 || y == 0 || x == width - 1 || y == height - 1) {
-            return TileType.WATER;
-        }
-        // Alguns obstáculos (pedras) - gerar mais aleatoriamente
-        else if ((x + y) % 23 == 0 && (x * y) % 17 == 0) {
-            return TileType.STONE;
+    private Chunk createChunk(int chunkX, int chunkY) {
+        Chunk stored = regionStore.load(chunkX, chunkY, cropDay);
+        if (stored != null) {
+            return stored;
         }
-        // Resto é grama
-        else {
-            return TileType.GRASS;
+        
+        ChunkCreatedEvent event = new ChunkCreatedEvent();
+        event.begin();
+        
+        int size = Chunk.getChunkSize();
+        int baseX = chunkX * size;
+        int baseY = chunkY * size;
+        TileType[] terrain = generator.generateChunk(chunkX, chunkY, width, height);
+        Chunk chunk = new Chunk(chunkX, chunkY, (x, y) -> terrain[(x - baseX) + (y - baseY) * size]);
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.chunkX = chunkX;
+            event.chunkY = chunkY;
+            event.tileType = terrain[0].name();
+            event.loadedChunks = chunks.getLoadedCount() + 1;
+            event.commit();
         }
+        return chunk;
     }
-
+    
     public boolean isWalkable(int x, int y) {
-        Tile tile = getTile(x, y);
-        if (tile == null || !tile.getType().isWalkable()) {
+        TileType type = getTileType(x, y);
+        if (type == null || !type.isWalkable()) {
             return false;
         }
         // Verificar se há decoração bloqueando
@@ -169,38 +139,75 @@ public class Farm {
     }
 
     public void growAllCrops() {
-        if (useChunks) {
-            // Para chunks: crescer apenas em chunks carregados
-            for (Chunk chunk : chunks.values()) {
-                if (chunk.isLoaded()) {
-                    int chunkX = chunk.getChunkX();
-                    int chunkY = chunk.getChunkY();
-                    int chunkSize = Chunk.getChunkSize();
-                    
-                    for (int x = 0; x < chunkSize; x++) {
-                        for (int y = 0; y < chunkSize; y++) {
-                            Tile tile = chunk.getLocalTile(x, y);
-                            if (tile != null) {
-                                tile.growCrop();
-                            }
-                        }
-                    }
-                }
+        // Só os chunks na memória; os do disco recebem os dias perdidos ao recarregar
+        chunks.forEachLoaded(Chunk::growCrops);
+        cropDay++;
+    }
+
+    // ===== CHUNKS FORA DA MEMÓRIA =====
+
+    /**
+     * Tira da memória os chunks mais distantes do jogador quando há mais que o orçamento
+     * Desce até 3/4 do orçamento de uma vez, para não gravar a cada passo do jogador.
+     * Chunks modificados vão para o arquivo de região; os intactos são só descartados
+     * (o terreno é gerado de novo igual). Roda no tick, fora de consultas em paralelo.
+     * @return Chunks tirados da memória
+     */
+    public int evictDistantChunks(int playerX, int playerY) {
+        int budget = residentChunkBudget;
+        if (budget == UNLIMITED_CHUNKS || chunks.getLoadedCount() <= budget) {
+            return 0;
+        }
+        
+        // Candidatos: fora do raio protegido, ordenados pela distância ao jogador
+        int centerX = Chunk.worldToChunkCoord(playerX);
+        int centerY = Chunk.worldToChunkCoord(playerY);
+        if (evictionOrder == null) {
+            evictionOrder = new long[chunks.getCapacity()];
+        }
+        int candidates = 0;
+        for (int i = 0; i < chunks.getCapacity(); i++) {
+            Chunk chunk = chunks.getAt(i);
+            if (chunk == null) {
+                continue;
             }
-        } else {
-            // Sistema simples
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    if (tiles[x][y] != null) {
-                        tiles[x][y].growCrop();
-                    }
-                }
+            long dx = chunk.getChunkX() - centerX;
+            long dy = chunk.getChunkY() - centerY;
+            if (Math.abs(dx) > KEEP_RADIUS || Math.abs(dy) > KEEP_RADIUS) {
+                evictionOrder[candidates++] = (dx * dx + dy * dy) << 32 | i;
+            }
+        }
+        Arrays.sort(evictionOrder, 0, candidates);
+        
+        int target = budget - budget / 4;
+        int evicted = 0;
+        for (int c = candidates - 1; c >= 0 && chunks.getLoadedCount() > target; c--) {
+            Chunk chunk = chunks.getAt((int) evictionOrder[c]);
+            if (chunk.isModified() && !regionStore.save(chunk, cropDay)) {
+                continue; // Não cabe no slot (muitas plantações): fica na memória
             }
+            chunks.remove(chunk);
+            evicted++;
         }
+        evictedChunks += evicted;
+        return evicted;
     }
+    
+    /**
+     * Máximo de chunks na memória (UNLIMITED_CHUNKS = sem limite)
+     * O raio protegido ao redor do jogador é mantido mesmo com um orçamento menor.
+     */
+    public void setResidentChunkBudget(int budget) {
+        this.residentChunkBudget = Math.max(UNLIMITED_CHUNKS, budget);
+    }
+    
+    public int getResidentChunkBudget() { return residentChunkBudget; }
+    public int getEvictedChunkCount() { return evictedChunks; }
+    public RegionStore getRegionStore() { return regionStore; }
 
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     public DecorationManager getDecorationManager() { return decorationManager; }
+    public int getLoadedChunkCount() { return chunks.getLoadedCount(); }
 }
 
@@ -0,0 +1,201 @@
+package world;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Arquivos de região para os chunks que saíram da memória
+ *
+ * Cada arquivo guarda 16x16 chunks em posições fixas (slot = x + y * 16 dentro da região),
+ * com SLOT_SIZE bytes por chunk, e é lido e escrito por um MappedByteBuffer: gravar ou
+ * recarregar um chunk é uma cópia de memória, sem chamadas de I/O. O canal é fechado logo
+ * depois de mapear, então só o mapeamento fica aberto.
+ *
+ * Plantações continuam crescendo fora da memória: o slot guarda o dia da gravação e, ao
+ * recarregar, o chunk recebe os crescimentos diários que perdeu.
+ *
+ * Os arquivos são temporários (o jogo não tem save): ficam numa pasta criada na primeira
+ * gravação. Ao sair o jogo tenta apagá-los, mas o Windows não apaga arquivos ainda mapeados,
+ * então a limpeza garantida é na próxima execução: a primeira RegionStore apaga as pastas
+ * de sessões anteriores. Cada sessão trava um arquivo de lock na própria pasta enquanto
+ * roda, e só pastas sem dono (lock livre) são apagadas; outro jogo aberto ao mesmo tempo
+ * não perde os chunks dele. Só a thread dona do mundo grava e lê.
+ */
+public class RegionStore {
+    private static final int REGION_CHUNKS = 16;
+    private static final int SLOTS = REGION_CHUNKS * REGION_CHUNKS;
+    private static final int SLOT_SIZE = 4096;
+    private static final int SLOT_HEADER = 8; // Byte 0: 1 = slot gravado; bytes 4-7: dia das plantações na gravação
+    static final int MAX_CHUNK_BYTES = SLOT_SIZE - SLOT_HEADER;
+    private static final String DIRECTORY_PREFIX = "farmvalley-regions-";
+    private static final String LOCK_FILE = "sessao.lock";
+
+    private static boolean staleDirectoriesDeleted; // Limpeza feita uma vez por execução
+
+    private final MappedByteBuffer[] regions; // null = arquivo ainda não criado
+    private final int regionsX;
+    private Path directory;
+    private FileChannel lockChannel; // Aberto (e travado) enquanto a sessão usa a pasta
+    private int chunksWritten;
+    private int chunksRead;
+
+    public RegionStore(int chunksX, int chunksY) {
+        this.regionsX = (chunksX + REGION_CHUNKS - 1) / REGION_CHUNKS;
+        int regionsY = (chunksY + REGION_CHUNKS - 1) / REGION_CHUNKS;
+        this.regions = new MappedByteBuffer[regionsX * regionsY];
+        deleteStaleDirectories();
+    }
+
+    /**
+     * Apaga as pastas de regiões deixadas por execuções anteriores (uma vez por execução)
+     */
+    private static synchronized void deleteStaleDirectories() {
+        if (staleDirectoriesDeleted) {
+            return;
+        }
+        staleDirectoriesDeleted = true;
+        Path temp = Paths.get(System.getProperty("java.io.tmpdir"));
+        int deleted = 0;
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(temp, DIRECTORY_PREFIX + "*")) {
+            for (Path directory : directories) {
+                if (Files.isDirectory(directory) && deleteIfUnused(directory)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Não foi possível limpar as regiões antigas: " + e.getMessage());
+        }
+        if (deleted > 0) {
+            System.out.println("🧹 " + deleted + " pasta(s) de regiões de execuções anteriores apagada(s)");
+        }
+    }
+
+    /**
+     * Apaga a pasta se nenhuma sessão em andamento segura o lock dela
+     * @return true se a pasta foi apagada
+     */
+    private static boolean deleteIfUnused(Path directory) {
+        Path lock = directory.resolve(LOCK_FILE);
+        try {
+            try (FileChannel channel = FileChannel.open(lock, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock held = channel.tryLock()) {
+                if (held == null) {
+                    return false; // Outro jogo aberto está usando a pasta
+                }
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                    for (Path file : files) {
+                        if (!file.equals(lock)) {
+                            Files.deleteIfExists(file);
+                        }
+                    }
+                }
+            }
+            Files.deleteIfExists(lock);
+            Files.deleteIfExists(directory);
+            return true;
+        } catch (OverlappingFileLockException e) {
+            return false; // Esta mesma execução está usando a pasta
+        } catch (IOException e) {
+            return false; // Arquivo ainda aberto ou sem permissão: fica para a próxima
+        }
+    }
+
+    /**
+     * Grava o chunk no slot dele
+     * @param cropDay Dia atual das plantações (Farm.growAllCrops)
+     * @return false se o chunk não cabe no slot (muitas plantações) e precisa continuar na memória
+     */
+    public boolean save(Chunk chunk, int cropDay) {
+        if (chunk.serializedSize() > MAX_CHUNK_BYTES) {
+            return false;
+        }
+        MappedByteBuffer region = region(chunk.getChunkX(), chunk.getChunkY(), true);
+        int offset = slotOffset(chunk.getChunkX(), chunk.getChunkY());
+        chunk.serialize(region, offset + SLOT_HEADER);
+        region.putInt(offset + 4, cropDay);
+        region.put(offset, (byte) 1);
+        chunksWritten++;
+        return true;
+    }
+
+    /**
+     * Lê o chunk gravado nas coordenadas de chunk
+     * @param cropDay Dia atual das plantações: as do chunk crescem os dias que ficaram em disco
+     * @return Chunk ou null se ele nunca foi gravado
+     */
+    public Chunk load(int chunkX, int chunkY, int cropDay) {
+        MappedByteBuffer region = region(chunkX, chunkY, false);
+        if (region == null) {
+            return null;
+        }
+        int offset = slotOffset(chunkX, chunkY);
+        if (region.get(offset) == 0) {
+            return null;
+        }
+        chunksRead++;
+        Chunk chunk = Chunk.deserialize(chunkX, chunkY, region, offset + SLOT_HEADER);
+        if (chunk.getCropCount() > 0) {
+            for (int day = region.getInt(offset + 4); day < cropDay; day++) {
+                chunk.growCrops();
+            }
+        }
+        return chunk;
+    }
+
+    private int slotOffset(int chunkX, int chunkY) {
+        int slot = (chunkX % REGION_CHUNKS) + (chunkY % REGION_CHUNKS) * REGION_CHUNKS;
+        return slot * SLOT_SIZE;
+    }
+
+    private MappedByteBuffer region(int chunkX, int chunkY, boolean create) {
+        int rx = chunkX / REGION_CHUNKS;
+        int ry = chunkY / REGION_CHUNKS;
+        int index = rx + ry * regionsX;
+        if (regions[index] == null && create) {
+            regions[index] = map(rx, ry);
+        }
+        return regions[index];
+    }
+
+    private MappedByteBuffer map(int rx, int ry) {
+        try {
+            if (directory == null) {
+                directory = Files.createTempDirectory(DIRECTORY_PREFIX);
+                directory.toFile().deleteOnExit();
+                Path lock = directory.resolve(LOCK_FILE);
+                lockChannel = FileChannel.open(lock, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                lockChannel.lock(); // Liberado quando o processo termina
+                lock.toFile().deleteOnExit();
+                System.out.println("💽 Chunks fora da memória em " + directory);
+            }
+            Path file = directory.resolve("r." + rx + "." + ry + ".bin");
+            file.toFile().deleteOnExit(); // Registrado depois da pasta: apagado antes dela
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SLOTS * SLOT_SIZE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar o arquivo de região " + rx + "," + ry, e);
+        }
+    }
+
+    public int getRegionFileCount() {
+        int count = 0;
+        for (MappedByteBuffer region : regions) {
+            if (region != null) count++;
+        }
+        return count;
+    }
+
+    public int getChunksWritten() { return chunksWritten; }
+    public int getChunksRead() { return chunksRead; }
+}
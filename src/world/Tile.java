@@ -5,67 +5,50 @@ import items.ResourceType;
 import items.ItemType;
 import types.CropType;
 
+/**
+ * Visão de um tile do mapa
+ * Os dados ficam nos arrays do Chunk; este objeto só guarda onde procurá-los.
+ * Alterações feitas pela visão valem para todas as outras visões da mesma posição.
+ */
 public class Tile {
-    private TileType type;
-    private Crop crop;
-    private int x;
-    private int y;
-    private ResourceType resource;
-    private int resourceHealth;
-    private boolean resourceDepleted;
-
-    public Tile(int x, int y, TileType type) {
+    private final Chunk chunk;
+    private final int index; // Índice local no chunk
+    private final int x;
+    private final int y;
+
+    Tile(Chunk chunk, int index, int x, int y) {
+        this.chunk = chunk;
+        this.index = index;
         this.x = x;
         this.y = y;
-        this.type = type;
-        this.crop = null;
-        
-        // Tiles de pedra têm recursos
-        if (type == TileType.STONE) {
-            this.resource = ResourceType.STONE_COMMON;
-            this.resourceHealth = 3;
-            this.resourceDepleted = false;
-        } else {
-            this.resource = null;
-            this.resourceHealth = 0;
-            this.resourceDepleted = true;
-        }
     }
 
     public TileType getType() {
-        return type;
+        return chunk.getType(index);
     }
 
     public void setType(TileType type) {
-        this.type = type;
+        chunk.setType(index, type);
     }
 
     public boolean hasCrop() {
-        return crop != null;
+        return chunk.getCrop(index) != null;
     }
 
     public Crop getCrop() {
-        return crop;
+        return chunk.getCrop(index);
     }
 
     public void plantCrop(CropType cropType) {
-        if (type == TileType.DIRT && crop == null) {
-            crop = new Crop(cropType);
-            type = TileType.PLANTED;
-        }
+        chunk.plantCrop(index, cropType);
     }
 
     public Crop harvestCrop() {
-        if (crop != null && crop.isFullyGrown()) {
-            Crop harvested = crop;
-            crop = null;
-            type = TileType.DIRT;
-            return harvested;
-        }
-        return null;
+        return chunk.harvestCrop(index);
     }
 
     public void growCrop() {
+        Crop crop = chunk.getCrop(index);
         if (crop != null) {
             crop.grow();
         }
@@ -73,48 +56,27 @@ public class Tile {
 
     public int getX() { return x; }
     public int getY() { return y; }
-    
+
     // ===== SISTEMA DE RECURSOS =====
-    
+
     /**
      * Tenta coletar recurso deste tile
      * @param tool Ferramenta sendo usada
      * @return ResourceType se coletou com sucesso, null caso contrário
      */
     public ResourceType harvestResource(ItemType tool) {
-        if (resourceDepleted || resource == null) {
-            return null;
-        }
-        
-        // Verificar ferramenta correta
-        if (resource.requiresTool() && tool != resource.getRequiredTool()) {
-            return null;
-        }
-        
-        // Diminuir saúde
-        resourceHealth--;
-        
-        // Se chegou a 0, remover pedra e marcar como depletado
-        if (resourceHealth <= 0) {
-            resourceDepleted = true;
-            if (type == TileType.STONE) {
-                type = TileType.GRASS; // Pedra vira grama quando quebrada
-            }
-        }
-        
-        return resource;
+        return chunk.harvestResource(index, tool);
     }
-    
+
     public boolean hasResource() {
-        return !resourceDepleted && resource != null;
+        return chunk.hasResource(index);
     }
-    
+
     public ResourceType getResource() {
-        return resource;
+        return chunk.getResource(index);
     }
-    
+
     public int getResourceHealth() {
-        return resourceHealth;
+        return chunk.getResourceHealth(index);
     }
 }
-
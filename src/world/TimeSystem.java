@@ -1,5 +1,7 @@
 package world;
 
+import utils.GameClock;
+
 /**
  * Sistema de Tempo Completo
  * Gerencia dia, hora, estação e ano
@@ -13,10 +15,12 @@ public class TimeSystem {
     private static final int DUSK_START = 1080;   // 18:00
     private static final int NIGHT_START = 1200;  // 20:00
     
-    // Velocidade do tempo (minutos de jogo por tick real)
+    // Velocidade do tempo (minutos de jogo a cada intervalo)
     private int timeSpeed = 1;
     private long lastTimeUpdate;
-    private static final long TIME_UPDATE_INTERVAL = 50_000_000; // 50ms
+    private static final long TIME_UPDATE_INTERVAL = 50_000_000; // 50ms de simulação
+    private final GameClock clock;
+    private boolean midnightPassed; // Sinaliza a virada da meia-noite desde a última consulta
     
     // Calendário
     private int currentDay;
@@ -30,33 +34,47 @@ public class TimeSystem {
     // Dias da semana
     private static final String[] WEEKDAYS = {"Dom", "Seg", "Ter", "Qua", "Qui", "Sex", "Sáb"};
 
-    public TimeSystem() {
+    public TimeSystem(GameClock clock) {
+        this.clock = clock;
         this.currentDay = 1;
         this.seasonIndex = 0;
         this.dayOfSeason = 1;
         this.year = 1;
         this.timeOfDay = 360; // Começa às 6:00
-        this.lastTimeUpdate = System.nanoTime();
+        this.lastTimeUpdate = clock.nowNanos();
+        this.midnightPassed = false;
     }
     
     /**
-     * Atualiza o tempo do jogo (chamar a cada frame)
+     * Atualiza o tempo do jogo (chamar a cada tick)
+     * Avança um passo por intervalo decorrido, sem acumular atraso entre ticks
      */
     public void update() {
-        long currentTime = System.nanoTime();
-        if (currentTime - lastTimeUpdate >= TIME_UPDATE_INTERVAL) {
+        long currentTime = clock.nowNanos();
+        while (currentTime - lastTimeUpdate >= TIME_UPDATE_INTERVAL) {
             timeOfDay += timeSpeed;
             
             // Verificar se passou da meia-noite
             if (timeOfDay >= MINUTES_PER_DAY) {
                 timeOfDay = timeOfDay % MINUTES_PER_DAY;
                 // Não avança dia automaticamente - jogador precisa dormir
+                // (o GameEngine decide, ex: no modo de avanço rápido)
+                midnightPassed = true;
             }
             
-            lastTimeUpdate = currentTime;
+            lastTimeUpdate += TIME_UPDATE_INTERVAL;
         }
     }
 
+    /**
+     * Retorna e limpa o sinal de virada da meia-noite
+     */
+    public boolean consumeMidnightPassed() {
+        boolean passed = midnightPassed;
+        midnightPassed = false;
+        return passed;
+    }
+
     public void nextDay() {
         currentDay++;
         dayOfSeason++;
@@ -176,6 +194,8 @@ public class TimeSystem {
         this.timeSpeed = Math.max(0, Math.min(10, speed));
     }
     
+    public int getTimeSpeed() { return timeSpeed; }
+    
     public void setTimeOfDay(int minutes) {
         this.timeOfDay = Math.max(0, Math.min(MINUTES_PER_DAY - 1, minutes));
     }
@@ -1,22 +1,44 @@
 package world;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Gerador procedural de mundo
  * Usa Perlin Noise simplificado para criar terrenos naturais
+ * Não guarda estado entre chamadas: o Farm gera chunks em paralelo com a mesma instância.
+ *
+ * O mapa inteiro é gerado em faixas de linhas num ForkJoinPool. Cada faixa é uma área
+ * independente (com o próprio halo), então o resultado é o mesmo com qualquer número de
+ * threads e em qualquer ordem. Internamente os tiles são bytes (ordinal de TileType) e o
+ * ruído é calculado linha a linha em laços sobre arrays primitivos.
  */
 public class WorldGenerator {
-    private Random random;
+    private static final int SAFE_RADIUS = 8;   // Área segura ao redor do spawn
+    private static final int SMOOTH_PASSES = 2; // Também é a margem (halo) gerada ao redor de cada área
+    private static final int BAND_ROWS = 64;    // Linhas por tarefa (o halo repete 2 * SMOOTH_PASSES linhas)
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final byte GRASS = (byte) TileType.GRASS.ordinal();
+    private static final byte WATER = (byte) TileType.WATER.ordinal();
+    private static final byte STONE = (byte) TileType.STONE.ordinal();
+    
     private long seed;
+    private final ForkJoinPool pool;
     
     // Parâmetros de geração
     private double elevationScale = 0.05;  // Escala do ruído de elevação
-    private double moistureScale = 0.08;   // Escala do ruído de umidade
     
-    public WorldGenerator(long seed) {
+    /**
+     * @param pool Threads que geram o mapa inteiro (generateTerrain)
+     */
+    public WorldGenerator(long seed, ForkJoinPool pool) {
         this.seed = seed;
-        this.random = new Random(seed);
+        this.pool = pool;
+    }
+    
+    public WorldGenerator(long seed) {
+        this(seed, ForkJoinPool.commonPool());
     }
     
     public WorldGenerator() {
@@ -24,94 +46,194 @@ public class WorldGenerator {
     }
     
     /**
-     * Gera um array de tipos de tile para o mapa
+     * Gera um array de tipos de tile para o mapa (em paralelo, por faixas de linhas)
      */
     public TileType[][] generateTerrain(int width, int height) {
         TileType[][] terrain = new TileType[width][height];
+        Band all = new Band(terrain, 0, height);
+        if (height <= BAND_ROWS) {
+            all.compute();
+        } else {
+            pool.invoke(all);
+        }
+        return terrain;
+    }
+    
+    /**
+     * Faixa de linhas do mapa inteiro: divide ao meio até BAND_ROWS linhas e gera cada parte
+     * como uma área separada. As faixas escrevem em linhas diferentes de terrain.
+     */
+    private class Band extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
         
-        // Calcular centro para área inicial
-        int centerX = width / 2;
-        int centerY = height / 2;
-        int safeRadius = 8; // Área segura ao redor do spawn
+        private final TileType[][] terrain;
+        private final int y0;
+        private final int rows;
         
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                // Borda do mapa é sempre água
-                if (x == 0 || y == 0 || x == width - 1 || y == height - 1) {
-                    terrain[x][y] = TileType.WATER;
-                    continue;
-                }
-                
-                // Área inicial é sempre grama limpa
-                double distFromCenter = Math.sqrt(Math.pow(x - centerX, 2) + Math.pow(y - centerY, 2));
-                if (distFromCenter < safeRadius) {
-                    terrain[x][y] = TileType.GRASS;
-                    continue;
+        Band(TileType[][] terrain, int y0, int rows) {
+            this.terrain = terrain;
+            this.y0 = y0;
+            this.rows = rows;
+        }
+        
+        @Override
+        protected void compute() {
+            if (rows > BAND_ROWS) {
+                int half = (rows / 2 + BAND_ROWS - 1) / BAND_ROWS * BAND_ROWS;
+                invokeAll(new Band(terrain, y0, half), new Band(terrain, y0 + half, rows - half));
+                return;
+            }
+            int width = terrain.length;
+            int height = width > 0 ? terrain[0].length : 0;
+            byte[] area = generateOrdinals(0, y0, width, rows, width, height);
+            for (int x = 0; x < width; x++) {
+                TileType[] column = terrain[x];
+                for (int y = 0; y < rows; y++) {
+                    column[y0 + y] = TILE_TYPES[area[x + y * width]];
                 }
-                
-                // Gerar ruído para elevação e umidade
-                double elevation = generateNoise(x, y, elevationScale, seed);
-                double moisture = generateNoise(x, y, moistureScale, seed + 1000);
-                
-                // Determinar bioma e tipo de tile
-                BiomeType biome = BiomeType.fromNoise(elevation, moisture);
-                terrain[x][y] = biomeToTile(biome, elevation);
             }
         }
-        
-        // Suavizar o terreno (remover tiles isolados)
-        smoothTerrain(terrain, width, height);
-        
-        return terrain;
     }
     
     /**
-     * Converte bioma para tipo de tile
+     * Gera o terreno de um chunk (índice = x + y * tamanho do chunk)
+     * Posições fora do mapa (chunks da borda) são água.
      */
-    private TileType biomeToTile(BiomeType biome, double elevation) {
-        switch (biome) {
-            case LAKE:
-                return TileType.WATER;
-            case MOUNTAIN:
-                // Pedras em altitudes muito altas
-                return elevation > 0.9 ? TileType.STONE : TileType.GRASS;
-            case DESERT:
-            case SWAMP:
-            case FOREST:
-            case PLAINS:
-            default:
-                return TileType.GRASS;
+    public TileType[] generateChunk(int chunkX, int chunkY, int mapWidth, int mapHeight) {
+        int size = Chunk.getChunkSize();
+        return generateArea(chunkX * size, chunkY * size, size, size, mapWidth, mapHeight);
+    }
+    
+    /**
+     * Gera o terreno de uma área retangular do mapa (índice = x + y * w)
+     */
+    public TileType[] generateArea(int x0, int y0, int w, int h, int mapWidth, int mapHeight) {
+        byte[] ordinals = generateOrdinals(x0, y0, w, h, mapWidth, mapHeight);
+        TileType[] area = new TileType[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            area[i] = TILE_TYPES[ordinals[i]];
         }
+        return area;
     }
     
     /**
-     * Ruído Perlin simplificado (Value Noise)
+     * Ordinais de TileType de uma área retangular do mapa (índice = x + y * w)
+     * Cada tile só depende da semente, do tamanho do mapa e dos tiles a até SMOOTH_PASSES de
+     * distância: a área é gerada com essa margem (halo) e as passadas de suavização leem
+     * só a passada anterior, então áreas vizinhas geradas separadamente (ou em qualquer
+     * ordem) se encaixam sem costura.
      */
-    private double generateNoise(int x, int y, double scale, long noiseSeed) {
-        // Usar função hash para gerar valor pseudo-aleatório
-        double nx = x * scale;
-        double ny = y * scale;
+    private byte[] generateOrdinals(int x0, int y0, int w, int h, int mapWidth, int mapHeight) {
+        int halo = SMOOTH_PASSES;
+        int bw = w + halo * 2;
+        int bh = h + halo * 2;
+        int left = x0 - halo;
+        int top = y0 - halo;
         
-        int xi = (int) Math.floor(nx);
-        int yi = (int) Math.floor(ny);
+        byte[] current = new byte[bw * bh];
+        double[] elevation = new double[bw];
+        for (int j = 0; j < bh; j++) {
+            baseRow(current, j * bw, left, bw, top + j, elevation, mapWidth, mapHeight);
+        }
         
-        double xf = nx - xi;
-        double yf = ny - yi;
+        // Suavizar o terreno (remover tiles isolados); cada passada perde um anel da margem.
+        // Só o interior do mapa é suavizado: a borda e o que está fora dela são copiados.
+        int from = Math.max(1 - left, 0);
+        int to = Math.min(mapWidth - 1 - left, bw);
+        byte[] next = new byte[bw * bh];
+        for (int pass = 1; pass <= SMOOTH_PASSES; pass++) {
+            int start = Math.max(from, pass);
+            int end = Math.min(to, bw - pass);
+            for (int j = pass; j < bh - pass; j++) {
+                int y = top + j;
+                int row = j * bw;
+                System.arraycopy(current, row + pass, next, row + pass, bw - pass * 2);
+                if (y >= 1 && y < mapHeight - 1) {
+                    for (int i = start; i < end; i++) {
+                        next[row + i] = smoothTile(current, bw, row + i);
+                    }
+                }
+            }
+            byte[] swap = current;
+            current = next;
+            next = swap;
+        }
         
-        // Valores nos 4 cantos
-        double v00 = hash(xi, yi, noiseSeed);
-        double v10 = hash(xi + 1, yi, noiseSeed);
-        double v01 = hash(xi, yi + 1, noiseSeed);
-        double v11 = hash(xi + 1, yi + 1, noiseSeed);
+        byte[] area = new byte[w * h];
+        for (int y = 0; y < h; y++) {
+            System.arraycopy(current, halo + (y + halo) * bw, area, y * w, w);
+        }
+        return area;
+    }
+    
+    /**
+     * Tipos de uma linha antes da suavização
+     * @param elevation Espaço de trabalho com pelo menos count posições
+     */
+    private void baseRow(byte[] out, int offset, int x0, int count, int y,
+                         double[] elevation, int width, int height) {
+        // Fora do mapa e borda do mapa são sempre água
+        if (y <= 0 || y >= height - 1) {
+            Arrays.fill(out, offset, offset + count, WATER);
+            return;
+        }
         
-        // Interpolação suave
-        double sx = smoothstep(xf);
-        double sy = smoothstep(yf);
+        noiseRow(elevation, x0, count, y, elevationScale, seed);
         
-        double nx0 = lerp(v00, v10, sx);
-        double nx1 = lerp(v01, v11, sx);
+        // Área inicial é sempre grama limpa (dx² + dy² < raio², em inteiros)
+        int centerX = width / 2;
+        int dy = y - height / 2;
+        int safeDx2 = SAFE_RADIUS * SAFE_RADIUS - dy * dy;
+        for (int i = 0; i < count; i++) {
+            int x = x0 + i;
+            int dx = x - centerX;
+            byte type;
+            if (x <= 0 || x >= width - 1) {
+                type = WATER;
+            } else if (dx * dx < safeDx2) {
+                type = GRASS;
+            } else {
+                type = elevationToTile(elevation[i]);
+            }
+            out[offset + i] = type;
+        }
+    }
+    
+    /**
+     * Tipo do tile pela elevação
+     * Terras baixas viram lago, as muito altas viram pedra e o resto é grama.
+     */
+    private static byte elevationToTile(double elevation) {
+        if (elevation < 0.2) return WATER;  // Lagos nas áreas baixas
+        if (elevation > 0.9) return STONE;  // Pedras em altitudes muito altas
+        return GRASS;
+    }
+    
+    /**
+     * Ruído Perlin simplificado (Value Noise) de uma linha inteira
+     * Com y fixo a parte vertical é calculada uma vez, e os 4 cantos só mudam quando o
+     * tile entra em outra célula do ruído (a cada 1/scale tiles).
+     */
+    private void noiseRow(double[] out, int x0, int count, int y, double scale, long noiseSeed) {
+        double ny = y * scale;
+        int yi = (int) Math.floor(ny);
+        double sy = smoothstep(ny - yi);
         
-        return lerp(nx0, nx1, sy);
+        int cell = Integer.MIN_VALUE;
+        double v00 = 0, v10 = 0, v01 = 0, v11 = 0;
+        for (int i = 0; i < count; i++) {
+            double nx = (x0 + i) * scale;
+            int xi = (int) Math.floor(nx);
+            if (xi != cell) {
+                cell = xi;
+                v00 = hash(xi, yi, noiseSeed);
+                v10 = hash(xi + 1, yi, noiseSeed);
+                v01 = hash(xi, yi + 1, noiseSeed);
+                v11 = hash(xi + 1, yi + 1, noiseSeed);
+            }
+            double sx = smoothstep(nx - xi);
+            out[i] = lerp(lerp(v00, v10, sx), lerp(v01, v11, sx), sy);
+        }
     }
     
     /**
@@ -138,56 +260,31 @@ public class WorldGenerator {
     }
     
     /**
-     * Suaviza o terreno removendo tiles isolados
-     */
-    private void smoothTerrain(TileType[][] terrain, int width, int height) {
-        for (int pass = 0; pass < 2; pass++) {
-            for (int x = 1; x < width - 1; x++) {
-                for (int y = 1; y < height - 1; y++) {
-                    // Contar vizinhos do mesmo tipo
-                    TileType current = terrain[x][y];
-                    int sameCount = 0;
-                    
-                    for (int dx = -1; dx <= 1; dx++) {
-                        for (int dy = -1; dy <= 1; dy++) {
-                            if (dx == 0 && dy == 0) continue;
-                            if (terrain[x + dx][y + dy] == current) {
-                                sameCount++;
-                            }
-                        }
-                    }
-                    
-                    // Se muito isolado, converter para tipo dominante
-                    if (sameCount < 2) {
-                        // Encontrar tipo mais comum entre vizinhos
-                        terrain[x][y] = findDominantNeighbor(terrain, x, y);
-                    }
-                }
-            }
-        }
-    }
-    
-    /**
-     * Encontra o tipo de tile mais comum entre vizinhos
+     * Tile suavizado: se tem menos de 2 vizinhos iguais, vira o tipo dominante entre eles
+     * @param k Índice do tile em terrain (stride = largura da linha)
      */
-    private TileType findDominantNeighbor(TileType[][] terrain, int x, int y) {
+    private static byte smoothTile(byte[] terrain, int stride, int k) {
+        byte current = terrain[k];
+        int sameCount = 0;
         int grassCount = 0;
         int waterCount = 0;
         int stoneCount = 0;
         
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                if (dx == 0 && dy == 0) continue;
-                TileType neighbor = terrain[x + dx][y + dy];
-                if (neighbor == TileType.GRASS) grassCount++;
-                else if (neighbor == TileType.WATER) waterCount++;
-                else if (neighbor == TileType.STONE) stoneCount++;
+        for (int row = k - stride; row <= k + stride; row += stride) {
+            for (int n = row - 1; n <= row + 1; n++) {
+                if (n == k) continue;
+                byte neighbor = terrain[n];
+                if (neighbor == current) sameCount++;
+                if (neighbor == GRASS) grassCount++;
+                else if (neighbor == WATER) waterCount++;
+                else if (neighbor == STONE) stoneCount++;
             }
         }
         
-        if (waterCount > grassCount && waterCount > stoneCount) return TileType.WATER;
-        if (stoneCount > grassCount) return TileType.STONE;
-        return TileType.GRASS;
+        if (sameCount >= 2) return current;
+        if (waterCount > grassCount && waterCount > stoneCount) return WATER;
+        if (stoneCount > grassCount) return STONE;
+        return GRASS;
     }
     
     public long getSeed() { return seed; }
@@ -0,0 +1,74 @@
+package world;
+
+import java.text.Normalizer;
+
+import systems.EntityManager;
+
+/**
+ * Tamanhos de mundo pré-definidos (do menor ao maior)
+ * Cada preset define o tamanho, as densidades (1.0 = densidade do mundo padrão), o
+ * raio de simulação das entidades e quantos chunks ficam na memória.
+ *
+ * Mundos em fluxo (streamed) não geram decorações e entidades no mapa inteiro: cada
+ * região de 64x64 é povoada quando o jogador se aproxima, com semente própria, então o
+ * conteúdo não depende da ordem em que as regiões são visitadas.
+ */
+public enum WorldPreset {
+    //         nome        largura altura  decorações inimigos npcs  fluxo  raio                            chunks residentes
+    SMALL     ("pequeno",  100,    100,    1.0,       1.0,     1.0,  false, EntityManager.UNLIMITED_RADIUS, Farm.UNLIMITED_CHUNKS),
+    MEDIUM    ("médio",    150,    150,    1.0,       1.0,     1.0,  false, EntityManager.UNLIMITED_RADIUS, Farm.UNLIMITED_CHUNKS),
+    LARGE     ("grande",   500,    500,    0.8,       1.0,     1.0,  false, 64,                             Farm.UNLIMITED_CHUNKS),
+    HUGE      ("enorme",   2000,   2000,   0.6,       0.8,     0.5,  true,  48,                             1024),
+    COLOSSAL  ("colossal", 10000,  10000,  0.5,       0.6,     0.25, true,  48,                             1024);
+
+    private final String displayName;
+    private final int width;
+    private final int height;
+    private final double decorationDensity; // Multiplicador das decorações por tile
+    private final double enemyDensity;      // Multiplicador dos inimigos por tile
+    private final double npcDensity;        // Multiplicador dos NPCs por tile
+    private final boolean streamed;         // Povoa as regiões conforme o jogador se aproxima
+    private final int entityUpdateRadius;   // Tiles ao redor do jogador em que as entidades agem
+    private final int residentChunkBudget;  // Chunks na memória; o resto vai para arquivos de região
+
+    WorldPreset(String displayName, int width, int height, double decorationDensity, double enemyDensity,
+                double npcDensity, boolean streamed, int entityUpdateRadius, int residentChunkBudget) {
+        this.displayName = displayName;
+        this.width = width;
+        this.height = height;
+        this.decorationDensity = decorationDensity;
+        this.enemyDensity = enemyDensity;
+        this.npcDensity = npcDensity;
+        this.streamed = streamed;
+        this.entityUpdateRadius = entityUpdateRadius;
+        this.residentChunkBudget = residentChunkBudget;
+    }
+
+    /**
+     * Procura pelo nome do enum ou pelo nome em português, sem diferenciar maiúsculas nem acentos
+     * @return Preset ou null
+     */
+    public static WorldPreset byName(String name) {
+        String wanted = stripAccents(name);
+        for (WorldPreset preset : values()) {
+            if (preset.name().equalsIgnoreCase(wanted) || stripAccents(preset.displayName).equalsIgnoreCase(wanted)) {
+                return preset;
+            }
+        }
+        return null;
+    }
+
+    private static String stripAccents(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+
+    public String getDisplayName() { return displayName; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public double getDecorationDensity() { return decorationDensity; }
+    public double getEnemyDensity() { return enemyDensity; }
+    public double getNpcDensity() { return npcDensity; }
+    public boolean isStreamed() { return streamed; }
+    public int getEntityUpdateRadius() { return entityUpdateRadius; }
+    public int getResidentChunkBudget() { return residentChunkBudget; }
+}
@@ -0,0 +1,136 @@
+package world;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import systems.EntityManager;
+
+/**
+ * Parâmetros de geração do mundo: tamanho do mapa e quantidade de objetos
+ * Contagens com valor AUTO escalonam com a área do mapa (comportamento padrão),
+ * multiplicadas pela densidade do preset.
+ */
+public class WorldSettings {
+    public static final int AUTO = -1;
+    public static final String CONFIG_FILE = "farmvalley.properties";
+
+    private final int width;
+    private final int height;
+    private final int decorationCount;
+    private final int enemyCount;
+    private final int npcCount;
+    private final double decorationDensity;
+    private final double enemyDensity;
+    private final double npcDensity;
+    private final boolean streamed;
+    private final int entityUpdateRadius;
+    private final int residentChunkBudget;
+    private final WorldPreset preset; // null = tamanho personalizado
+
+    public WorldSettings(int width, int height) {
+        this(width, height, AUTO, AUTO, AUTO);
+    }
+
+    /**
+     * @param decorationCount Total de decorações (árvores, arbustos e ruínas) ou AUTO
+     * @param enemyCount Quantidade de inimigos ou AUTO
+     * @param npcCount Quantidade de NPCs espalhados (além dos do spawn) ou AUTO
+     */
+    public WorldSettings(int width, int height, int decorationCount, int enemyCount, int npcCount) {
+        this(width, height, decorationCount, enemyCount, npcCount, 1.0, 1.0, 1.0,
+             false, EntityManager.UNLIMITED_RADIUS, Farm.UNLIMITED_CHUNKS, null);
+    }
+
+    private WorldSettings(int width, int height, int decorationCount, int enemyCount, int npcCount,
+                          double decorationDensity, double enemyDensity, double npcDensity,
+                          boolean streamed, int entityUpdateRadius, int residentChunkBudget, WorldPreset preset) {
+        if (width < 10 || height < 10) {
+            throw new IllegalArgumentException("Mapa muito pequeno: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.decorationCount = decorationCount;
+        this.enemyCount = enemyCount;
+        this.npcCount = npcCount;
+        this.decorationDensity = decorationDensity;
+        this.enemyDensity = enemyDensity;
+        this.npcDensity = npcDensity;
+        this.streamed = streamed;
+        this.entityUpdateRadius = entityUpdateRadius;
+        this.residentChunkBudget = residentChunkBudget;
+        this.preset = preset;
+    }
+
+    /**
+     * Mundo de um preset (contagens automáticas com as densidades do preset)
+     */
+    public static WorldSettings fromPreset(WorldPreset preset) {
+        return new WorldSettings(preset.getWidth(), preset.getHeight(), AUTO, AUTO, AUTO,
+                                 preset.getDecorationDensity(), preset.getEnemyDensity(), preset.getNpcDensity(),
+                                 preset.isStreamed(), preset.getEntityUpdateRadius(), preset.getResidentChunkBudget(), preset);
+    }
+
+    /**
+     * Mundo padrão do jogo (preset médio: 150x150, densidades automáticas)
+     */
+    public static WorldSettings standard() {
+        return fromPreset(WorldPreset.MEDIUM);
+    }
+
+    /**
+     * Mundo escolhido na linha de comando ou no arquivo farmvalley.properties (chave "preset")
+     * @param presetArg Valor de --preset=nome ou null; tem prioridade sobre o arquivo
+     */
+    public static WorldSettings fromConfig(String presetArg) {
+        String name = presetArg;
+        if (name == null) {
+            Properties config = new Properties();
+            try (InputStream in = new FileInputStream(CONFIG_FILE)) {
+                config.load(in);
+                name = config.getProperty("preset");
+            } catch (IOException e) {
+                // Sem arquivo de configuração: mundo padrão
+            }
+        }
+        if (name == null) {
+            return standard();
+        }
+        WorldPreset preset = WorldPreset.byName(name.trim());
+        if (preset == null) {
+            System.out.println("⚠️ Preset desconhecido: " + name + " (usando o médio)");
+            return standard();
+        }
+        return fromPreset(preset);
+    }
+
+    /**
+     * Decorações e entidades geradas por região, conforme o jogador se aproxima
+     */
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getDecorationCount() { return decorationCount; }
+    public int getEnemyCount() { return enemyCount; }
+    public int getNpcCount() { return npcCount; }
+    public double getDecorationDensity() { return decorationDensity; }
+    public double getEnemyDensity() { return enemyDensity; }
+    public double getNpcDensity() { return npcDensity; }
+    public int getEntityUpdateRadius() { return entityUpdateRadius; }
+    /** Farm.UNLIMITED_CHUNKS = todos os chunks ficam na memória */
+    public int getResidentChunkBudget() { return residentChunkBudget; }
+    public WorldPreset getPreset() { return preset; }
+
+    @Override
+    public String toString() {
+        return (preset != null ? preset.getDisplayName() + " " : "") + width + "x" + height +
+               " decorações=" + (decorationCount == AUTO ? "auto" : decorationCount) +
+               " inimigos=" + (enemyCount == AUTO ? "auto" : enemyCount) +
+               " npcs=" + (npcCount == AUTO ? "auto" : npcCount) +
+               (streamed ? " (em fluxo)" : "");
+    }
+}